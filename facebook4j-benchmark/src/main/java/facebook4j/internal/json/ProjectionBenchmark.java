@@ -0,0 +1,154 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import facebook4j.FacebookException;
+import facebook4j.Post;
+import facebook4j.Reading;
+import facebook4j.ResponseList;
+import facebook4j.User;
+import facebook4j.conf.Configuration;
+import facebook4j.conf.ConfigurationBuilder;
+import facebook4j.internal.http.HttpResponse;
+
+/**
+ * Compares full decodes of a page of posts and of a user with decodes projected on the fields a caller
+ * typically asks for with {@link Reading#fields(String...)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectionBenchmark {
+
+    @Param({"tree", "streaming"})
+    public String decoder;
+
+    private Configuration conf;
+    private byte[] posts;
+    private byte[] user;
+    private Set<String> postFields;
+    private Set<String> userFields;
+
+    @Setup
+    public void setUp() throws Exception {
+        conf = new ConfigurationBuilder().setJSONStreamingEnabled(decoder.equals("streaming")).build();
+        StringBuilder page = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < 25; i++) {
+            if (i > 0) {
+                page.append(',');
+            }
+            page.append(post(i));
+        }
+        page.append("],\"paging\":{\"next\":\"https://graph.facebook.com/4/feed?until=1\"}}");
+        posts = page.toString().getBytes("UTF-8");
+        user = USER.getBytes("UTF-8");
+        postFields = new Reading().fields("id", "created_time").getFields();
+        userFields = new Reading().fields("id", "name", "hometown").getFields();
+    }
+
+    @Benchmark
+    public ResponseList<Post> fullPosts() throws FacebookException {
+        return PostJSONImpl.createPostList(response(posts), conf, null);
+    }
+
+    @Benchmark
+    public ResponseList<Post> projectedPosts() throws FacebookException {
+        return PostJSONImpl.createPostList(response(posts), conf, postFields);
+    }
+
+    @Benchmark
+    public User fullUser() throws FacebookException {
+        return UserJSONImpl.createUser(response(user), conf, null);
+    }
+
+    @Benchmark
+    public User projectedUser() throws FacebookException {
+        return UserJSONImpl.createUser(response(user), conf, userFields);
+    }
+
+    private static final String USER = "{\"id\":\"4\",\"name\":\"Mark Zuckerberg\",\"first_name\":\"Mark\","
+            + "\"last_name\":\"Zuckerberg\",\"gender\":\"male\",\"locale\":\"en_US\",\"link\":\"http://www.facebook.com/zuck\","
+            + "\"username\":\"zuck\",\"timezone\":-7,\"updated_time\":\"2012-06-21T16:56:49+0000\",\"verified\":true,"
+            + "\"hometown\":{\"id\":\"105506396148790\",\"name\":\"Dobbs Ferry, New York\"},"
+            + "\"location\":{\"id\":\"104022926303756\",\"name\":\"Palo Alto, California\"},"
+            + "\"languages\":[{\"id\":\"106059522759137\",\"name\":\"English\"},{\"id\":\"108106272550772\",\"name\":\"French\"}],"
+            + "\"education\":[{\"school\":{\"id\":\"105930651606\",\"name\":\"Harvard University\"},\"type\":\"College\","
+            + "\"concentration\":[{\"id\":\"104076956295773\",\"name\":\"Computer Science\"}]}],"
+            + "\"work\":[{\"employer\":{\"id\":\"20531316728\",\"name\":\"Facebook\"},"
+            + "\"position\":{\"id\":\"130876190275425\",\"name\":\"Founder and CEO\"},\"start_date\":\"2004-02\"}],"
+            + "\"favorite_teams\":[{\"id\":\"105467526174389\",\"name\":\"New York Yankees\"}],"
+            + "\"picture\":{\"data\":{\"url\":\"http://example.com/p.jpg\",\"is_silhouette\":false}},"
+            + "\"website\":\"http://www.facebook.com/zuck\"}";
+
+    private static String post(int i) {
+        return "{\"id\":\"4_" + i + "\",\"from\":{\"id\":\"4\",\"name\":\"Mark Zuckerberg\"},"
+                + "\"to\":{\"data\":[{\"id\":\"5\",\"name\":\"Chris Hughes\"},{\"id\":\"6\",\"name\":\"Dustin Moskovitz\"}]},"
+                + "\"message\":\"Status update number " + i + "\",\"picture\":\"http://example.com/" + i + ".jpg\","
+                + "\"link\":\"http://example.com/" + i + "\",\"type\":\"link\","
+                + "\"actions\":[{\"name\":\"Comment\",\"link\":\"http://www.facebook.com/4/posts/" + i + "\"},"
+                + "{\"name\":\"Like\",\"link\":\"http://www.facebook.com/4/posts/" + i + "\"}],"
+                + "\"privacy\":{\"description\":\"Public\",\"value\":\"EVERYONE\"},"
+                + "\"likes\":{\"data\":[{\"id\":\"5\",\"name\":\"Chris Hughes\"}],\"count\":1},"
+                + "\"comments\":{\"data\":[{\"id\":\"4_" + i + "_1\",\"from\":{\"id\":\"5\",\"name\":\"Chris Hughes\"},"
+                + "\"message\":\"Nice\",\"created_time\":\"2012-06-21T16:56:49+0000\"}],\"count\":1},"
+                + "\"created_time\":\"2012-06-21T16:56:49+0000\",\"updated_time\":\"2012-06-21T17:01:02+0000\"}";
+    }
+
+    private HttpResponse response(final byte[] body) {
+        return new HttpResponse(conf) {
+            {
+                statusCode = 200;
+                is = new ByteArrayInputStream(body);
+            }
+
+            @Override
+            public String getResponseHeader(String name) {
+                return null;
+            }
+
+            @Override
+            public Map<String, List<String>> getResponseHeaderFields() {
+                return null;
+            }
+
+            @Override
+            public void disconnect() {
+            }
+        };
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import facebook4j.FacebookException;
+import facebook4j.Post;
+import facebook4j.ResponseList;
+import facebook4j.conf.Configuration;
+import facebook4j.conf.ConfigurationBuilder;
+import facebook4j.internal.http.HttpResponse;
+
+/**
+ * Compares round trips of a page of posts through Java serialization, through {@link BinaryCodec} and through
+ * the raw JSON of the response, as a cache of responses would do them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    private Configuration conf;
+    private String rawJSON;
+    private ResponseList<Post> posts;
+
+    @Setup
+    public void setUp() throws Exception {
+        conf = new ConfigurationBuilder().build();
+        StringBuilder page = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < 25; i++) {
+            if (i > 0) {
+                page.append(',');
+            }
+            page.append(post(i));
+        }
+        page.append("],\"paging\":{\"next\":\"https://graph.facebook.com/4/feed?until=1\"}}");
+        rawJSON = page.toString();
+        posts = PostJSONImpl.createPostList(response(rawJSON.getBytes("UTF-8")), conf);
+    }
+
+    @Benchmark
+    public Object javaSerialization() throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(posts);
+        out.close();
+        return new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+    }
+
+    @Benchmark
+    public Object binary() throws IOException {
+        return BinaryCodec.decode(BinaryCodec.encode(posts));
+    }
+
+    @Benchmark
+    public ResponseList<Post> rawJSON() throws IOException, FacebookException {
+        return PostJSONImpl.createPostList(response(rawJSON.getBytes("UTF-8")), conf);
+    }
+
+    private static String post(int i) {
+        return "{\"id\":\"4_" + i + "\",\"from\":{\"id\":\"4\",\"name\":\"Mark Zuckerberg\"},"
+                + "\"to\":{\"data\":[{\"id\":\"5\",\"name\":\"Chris Hughes\"},{\"id\":\"6\",\"name\":\"Dustin Moskovitz\"}]},"
+                + "\"message\":\"Status update number " + i + "\",\"picture\":\"http://example.com/" + i + ".jpg\","
+                + "\"link\":\"http://example.com/" + i + "\",\"type\":\"link\","
+                + "\"actions\":[{\"name\":\"Comment\",\"link\":\"http://www.facebook.com/4/posts/" + i + "\"},"
+                + "{\"name\":\"Like\",\"link\":\"http://www.facebook.com/4/posts/" + i + "\"}],"
+                + "\"privacy\":{\"description\":\"Public\",\"value\":\"EVERYONE\"},"
+                + "\"likes\":{\"data\":[{\"id\":\"5\",\"name\":\"Chris Hughes\"}],\"count\":1},"
+                + "\"comments\":{\"data\":[{\"id\":\"4_" + i + "_1\",\"from\":{\"id\":\"5\",\"name\":\"Chris Hughes\"},"
+                + "\"message\":\"Nice\",\"created_time\":\"2012-06-21T16:56:49+0000\"}],\"count\":1},"
+                + "\"created_time\":\"2012-06-21T16:56:49+0000\",\"updated_time\":\"2012-06-21T17:01:02+0000\"}";
+    }
+
+    private HttpResponse response(final byte[] body) {
+        return new HttpResponse(conf) {
+            {
+                statusCode = 200;
+                is = new ByteArrayInputStream(body);
+            }
+
+            @Override
+            public String getResponseHeader(String name) {
+                return null;
+            }
+
+            @Override
+            public Map<String, List<String>> getResponseHeaderFields() {
+                return null;
+            }
+
+            @Override
+            public void disconnect() {
+            }
+        };
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.util;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the hand-written date-time parser with the SimpleDateFormat it replaced, on the form Facebook returns.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ISO8601DateBenchmark {
+
+    public String dateString = "2012-06-21T16:56:49+0000";
+
+    @Benchmark
+    public Date simpleDateFormat() {
+        // the former implementation
+        try {
+            return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ").parse(dateString);
+        } catch (ParseException e1) {
+            try {
+                return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss").parse(dateString);
+            } catch (ParseException e2) {
+                return null;
+            }
+        }
+    }
+
+    @Benchmark
+    public Date date() {
+        return z_F4JInternalParseUtil.getISO8601Datetime(dateString);
+    }
+
+    @Benchmark
+    public Instant instant() {
+        return z_F4JInternalParseUtil.getISO8601Instant(dateString);
+    }
+
+    @Benchmark
+    public long millis() {
+        return z_F4JInternalParseUtil.parseISO8601Millis(dateString);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import facebook4j.api.AccountMethodsAsync;
+import facebook4j.api.ActivityMethodsAsync;
+import facebook4j.api.AlbumMethodsAsync;
+import facebook4j.api.BatchRequestsMethodsAsync;
+import facebook4j.api.CheckinMethodsAsync;
+import facebook4j.api.CommentMethodsAsync;
+import facebook4j.api.DomainMethodsAsync;
+import facebook4j.api.EventMethodsAsync;
+import facebook4j.api.FQLMethodsAsync;
+import facebook4j.api.FamilyMethodsAsync;
+import facebook4j.api.FavoriteMethodsAsync;
+import facebook4j.api.FriendMethodsAsync;
+import facebook4j.api.GameMethodsAsync;
+import facebook4j.api.GroupMethodsAsync;
+import facebook4j.api.InsightMethodsAsync;
+import facebook4j.api.LikeMethodsAsync;
+import facebook4j.api.LinkMethodsAsync;
+import facebook4j.api.LocationMethodsAsync;
+import facebook4j.api.MessageMethodsAsync;
+import facebook4j.api.NoteMethodsAsync;
+import facebook4j.api.NotificationMethodsAsync;
+import facebook4j.api.PermissionMethodsAsync;
+import facebook4j.api.PhotoMethodsAsync;
+import facebook4j.api.PokeMethodsAsync;
+import facebook4j.api.PostMethodsAsync;
+import facebook4j.api.QuestionMethodsAsync;
+import facebook4j.api.SearchMethodsAsync;
+import facebook4j.api.SubscribeMethodsAsync;
+import facebook4j.api.TestUserMethodsAsync;
+import facebook4j.api.UserMethodsAsync;
+import facebook4j.api.VideoMethodsAsync;
+import facebook4j.auth.OAuthSupport;
+
+/**
+ * Asynchronous counterpart of {@link Facebook}.<br>
+ * Every Graph API method returns a {@link java.util.concurrent.CompletableFuture} immediately and runs the call on the executor
+ * this instance was created with. {@link #shutdown()} waits for the calls in flight before releasing resources.
+ *
+ * @see FacebookFactory#getAsyncInstance()
+ */
+public interface AsyncFacebook extends
+    OAuthSupport,
+    FacebookBase,
+    UserMethodsAsync,
+    AccountMethodsAsync,
+    ActivityMethodsAsync,
+    AlbumMethodsAsync,
+    CheckinMethodsAsync,
+    CommentMethodsAsync,
+    DomainMethodsAsync,
+    EventMethodsAsync,
+    FamilyMethodsAsync,
+    FavoriteMethodsAsync,
+    FriendMethodsAsync,
+    GameMethodsAsync,
+    GroupMethodsAsync,
+    LikeMethodsAsync,
+    LinkMethodsAsync,
+    LocationMethodsAsync,
+    MessageMethodsAsync,
+    NoteMethodsAsync,
+    NotificationMethodsAsync,
+    PermissionMethodsAsync,
+    PhotoMethodsAsync,
+    PokeMethodsAsync,
+    PostMethodsAsync,
+    QuestionMethodsAsync,
+    SubscribeMethodsAsync,
+    VideoMethodsAsync,
+    InsightMethodsAsync,
+    SearchMethodsAsync,
+    TestUserMethodsAsync,
+    FQLMethodsAsync,
+    BatchRequestsMethodsAsync {
+}
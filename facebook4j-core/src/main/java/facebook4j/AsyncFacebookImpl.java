@@ -0,0 +1,3480 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import java.io.File;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import facebook4j.auth.AccessToken;
+import facebook4j.auth.Authorization;
+import facebook4j.conf.Configuration;
+import facebook4j.internal.org.json.JSONArray;
+import facebook4j.internal.org.json.JSONObject;
+
+/**
+ * A java reference implementation of the asynchronous Facebook API.<br>
+ * Each call is delegated to a blocking {@link Facebook} instance on the executor given at construction,
+ * so that callers can fan out many requests without waiting for each round trip in turn.
+ */
+class AsyncFacebookImpl implements AsyncFacebook {
+    private final Facebook facebook;
+    private final ExecutorService executor;
+    // true if the executor was created by this instance and has to be shut down with it
+    private final boolean ownExecutor;
+
+    private final Object lock = new Object();
+    private int inFlight = 0;
+    private boolean shutdown = false;
+
+    /*package*/ AsyncFacebookImpl(Facebook facebook, ExecutorService executor) {
+        this.facebook = facebook;
+        if (executor == null) {
+            this.executor = Executors.newFixedThreadPool(facebook.getConfiguration().getAsyncNumThreads(), new DispatcherThreadFactory());
+            this.ownExecutor = true;
+        } else {
+            this.executor = executor;
+            this.ownExecutor = false;
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(final Callable<T> task) {
+        final CompletableFuture<T> future = new CompletableFuture<T>();
+        synchronized (lock) {
+            if (shutdown) {
+                future.completeExceptionally(new IllegalStateException("AsyncFacebook has already been shut down."));
+                return future;
+            }
+            inFlight++;
+        }
+        try {
+            executor.execute(new Runnable() {
+                public void run() {
+                    try {
+                        future.complete(task.call());
+                    } catch (Throwable t) {
+                        future.completeExceptionally(t);
+                    } finally {
+                        finished();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException ree) {
+            finished();
+            future.completeExceptionally(ree);
+        }
+        return future;
+    }
+
+    private void finished() {
+        synchronized (lock) {
+            inFlight--;
+            if (inFlight == 0) {
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * Calls made after this method has been invoked complete exceptionally with IllegalStateException.
+     * This method blocks until the calls in flight have completed.
+     */
+    public void shutdown() {
+        synchronized (lock) {
+            shutdown = true;
+            while (inFlight > 0) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        if (ownExecutor) {
+            executor.shutdown();
+        }
+        facebook.shutdown();
+    }
+
+    private static final class DispatcherThreadFactory implements ThreadFactory {
+        private static final AtomicInteger count = new AtomicInteger();
+
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "Facebook4J Async Dispatcher[" + count.getAndIncrement() + "]");
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    // methods declared in FacebookBase interface
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getId() throws FacebookException, IllegalStateException {
+        return facebook.getId();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getName() throws FacebookException, IllegalStateException {
+        return facebook.getName();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getEmail() throws FacebookException, IllegalStateException {
+        return facebook.getEmail();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Authorization getAuthorization() {
+        return facebook.getAuthorization();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Configuration getConfiguration() {
+        return facebook.getConfiguration();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <T> ResponseList<T> fetchNext(Paging<T> paging) throws FacebookException {
+        return facebook.fetchNext(paging);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <T> ResponseList<T> fetchPrevious(Paging<T> paging) throws FacebookException {
+        return facebook.fetchPrevious(paging);
+    }
+
+    // methods declared in OAuthSupport interface
+
+    /**
+     * {@inheritDoc}
+     */
+    public void setOAuthAppId(String appId, String appSecret) {
+        facebook.setOAuthAppId(appId, appSecret);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void setOAuthPermissions(String permissions) {
+        facebook.setOAuthPermissions(permissions);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getOAuthAuthorizationURL(String callbackURL) {
+        return facebook.getOAuthAuthorizationURL(callbackURL);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getOAuthAuthorizationURL(String callbackURL, String state) {
+        return facebook.getOAuthAuthorizationURL(callbackURL, state);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public AccessToken getOAuthAccessToken() {
+        return facebook.getOAuthAccessToken();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public AccessToken getOAuthAccessToken(String oauthCode) throws FacebookException {
+        return facebook.getOAuthAccessToken(oauthCode);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public AccessToken getOAuthAppAccessToken() throws FacebookException {
+        return facebook.getOAuthAppAccessToken();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void setOAuthAccessToken(AccessToken accessToken) {
+        facebook.setOAuthAccessToken(accessToken);
+    }
+
+    /* User Methods */
+
+    public CompletableFuture<User> getMe() {
+        return submit(new Callable<User>() {
+            public User call() throws Exception {
+                return facebook.getMe();
+            }
+        });
+    }
+
+    public CompletableFuture<User> getMe(final Reading reading) {
+        return submit(new Callable<User>() {
+            public User call() throws Exception {
+                return facebook.getMe(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<User> getUser(final String userId) {
+        return submit(new Callable<User>() {
+            public User call() throws Exception {
+                return facebook.getUser(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<User> getUser(final String userId, final Reading reading) {
+        return submit(new Callable<User>() {
+            public User call() throws Exception {
+                return facebook.getUser(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<URL> getPictureURL() {
+        return submit(new Callable<URL>() {
+            public URL call() throws Exception {
+                return facebook.getPictureURL();
+            }
+        });
+    }
+
+    public CompletableFuture<URL> getPictureURL(final PictureSize size) {
+        return submit(new Callable<URL>() {
+            public URL call() throws Exception {
+                return facebook.getPictureURL(size);
+            }
+        });
+    }
+
+    public CompletableFuture<URL> getPictureURL(final String userId) {
+        return submit(new Callable<URL>() {
+            public URL call() throws Exception {
+                return facebook.getPictureURL(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<URL> getPictureURL(final String userId, final PictureSize size) {
+        return submit(new Callable<URL>() {
+            public URL call() throws Exception {
+                return facebook.getPictureURL(userId, size);
+            }
+        });
+    }
+
+    public CompletableFuture<List<User>> getUsers(final String... ids) {
+        return submit(new Callable<List<User>>() {
+            public List<User> call() throws Exception {
+                return facebook.getUsers(ids);
+            }
+        });
+    }
+
+    /* Account Methods */
+
+    public CompletableFuture<ResponseList<Account>> getAccounts() {
+        return submit(new Callable<ResponseList<Account>>() {
+            public ResponseList<Account> call() throws Exception {
+                return facebook.getAccounts();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Account>> getAccounts(final Reading reading) {
+        return submit(new Callable<ResponseList<Account>>() {
+            public ResponseList<Account> call() throws Exception {
+                return facebook.getAccounts(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Account>> getAccounts(final String userId) {
+        return submit(new Callable<ResponseList<Account>>() {
+            public ResponseList<Account> call() throws Exception {
+                return facebook.getAccounts(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Account>> getAccounts(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Account>>() {
+            public ResponseList<Account> call() throws Exception {
+                return facebook.getAccounts(userId, reading);
+            }
+        });
+    }
+
+    /* Activity Methods */
+
+    public CompletableFuture<ResponseList<Activity>> getActivities() {
+        return submit(new Callable<ResponseList<Activity>>() {
+            public ResponseList<Activity> call() throws Exception {
+                return facebook.getActivities();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Activity>> getActivities(final Reading reading) {
+        return submit(new Callable<ResponseList<Activity>>() {
+            public ResponseList<Activity> call() throws Exception {
+                return facebook.getActivities(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Activity>> getActivities(final String userId) {
+        return submit(new Callable<ResponseList<Activity>>() {
+            public ResponseList<Activity> call() throws Exception {
+                return facebook.getActivities(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Activity>> getActivities(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Activity>>() {
+            public ResponseList<Activity> call() throws Exception {
+                return facebook.getActivities(userId, reading);
+            }
+        });
+    }
+
+    /* Album Methods */
+
+    public CompletableFuture<ResponseList<Album>> getAlbums() {
+        return submit(new Callable<ResponseList<Album>>() {
+            public ResponseList<Album> call() throws Exception {
+                return facebook.getAlbums();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Album>> getAlbums(final Reading reading) {
+        return submit(new Callable<ResponseList<Album>>() {
+            public ResponseList<Album> call() throws Exception {
+                return facebook.getAlbums(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Album>> getAlbums(final String userId) {
+        return submit(new Callable<ResponseList<Album>>() {
+            public ResponseList<Album> call() throws Exception {
+                return facebook.getAlbums(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Album>> getAlbums(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Album>>() {
+            public ResponseList<Album> call() throws Exception {
+                return facebook.getAlbums(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> createAlbum(final AlbumCreate albumCreate) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.createAlbum(albumCreate);
+            }
+        });
+    }
+
+    public CompletableFuture<String> createAlbum(final String userId, final AlbumCreate albumCreate) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.createAlbum(userId, albumCreate);
+            }
+        });
+    }
+
+    public CompletableFuture<Album> getAlbum(final String albumId) {
+        return submit(new Callable<Album>() {
+            public Album call() throws Exception {
+                return facebook.getAlbum(albumId);
+            }
+        });
+    }
+
+    public CompletableFuture<Album> getAlbum(final String albumId, final Reading reading) {
+        return submit(new Callable<Album>() {
+            public Album call() throws Exception {
+                return facebook.getAlbum(albumId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Photo>> getAlbumPhotos(final String albumId) {
+        return submit(new Callable<ResponseList<Photo>>() {
+            public ResponseList<Photo> call() throws Exception {
+                return facebook.getAlbumPhotos(albumId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Photo>> getAlbumPhotos(final String albumId, final Reading reading) {
+        return submit(new Callable<ResponseList<Photo>>() {
+            public ResponseList<Photo> call() throws Exception {
+                return facebook.getAlbumPhotos(albumId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> addAlbumPhoto(final String albumId, final Media source) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.addAlbumPhoto(albumId, source);
+            }
+        });
+    }
+
+    public CompletableFuture<String> addAlbumPhoto(final String albumId, final Media source, final String message) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.addAlbumPhoto(albumId, source, message);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Comment>> getAlbumComments(final String albumId) {
+        return submit(new Callable<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws Exception {
+                return facebook.getAlbumComments(albumId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Comment>> getAlbumComments(final String albumId, final Reading reading) {
+        return submit(new Callable<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws Exception {
+                return facebook.getAlbumComments(albumId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> commentAlbum(final String albumId, final String message) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.commentAlbum(albumId, message);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Like>> getAlbumLikes(final String albumId) {
+        return submit(new Callable<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws Exception {
+                return facebook.getAlbumLikes(albumId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Like>> getAlbumLikes(final String albumId, final Reading reading) {
+        return submit(new Callable<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws Exception {
+                return facebook.getAlbumLikes(albumId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> likeAlbum(final String albumId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.likeAlbum(albumId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> unlikeAlbum(final String albumId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.unlikeAlbum(albumId);
+            }
+        });
+    }
+
+    public CompletableFuture<URL> getAlbumCoverPhoto(final String albumId) {
+        return submit(new Callable<URL>() {
+            public URL call() throws Exception {
+                return facebook.getAlbumCoverPhoto(albumId);
+            }
+        });
+    }
+
+    /* Checkin Methods */
+
+    public CompletableFuture<ResponseList<Checkin>> getCheckins() {
+        return submit(new Callable<ResponseList<Checkin>>() {
+            public ResponseList<Checkin> call() throws Exception {
+                return facebook.getCheckins();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Checkin>> getCheckins(final Reading reading) {
+        return submit(new Callable<ResponseList<Checkin>>() {
+            public ResponseList<Checkin> call() throws Exception {
+                return facebook.getCheckins(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Checkin>> getCheckins(final String userId) {
+        return submit(new Callable<ResponseList<Checkin>>() {
+            public ResponseList<Checkin> call() throws Exception {
+                return facebook.getCheckins(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Checkin>> getCheckins(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Checkin>>() {
+            public ResponseList<Checkin> call() throws Exception {
+                return facebook.getCheckins(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> checkin(final CheckinCreate checkinCreate) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.checkin(checkinCreate);
+            }
+        });
+    }
+
+    public CompletableFuture<String> checkin(final String userId, final CheckinCreate checkinCreate) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.checkin(userId, checkinCreate);
+            }
+        });
+    }
+
+    public CompletableFuture<Checkin> getCheckin(final String checkinId) {
+        return submit(new Callable<Checkin>() {
+            public Checkin call() throws Exception {
+                return facebook.getCheckin(checkinId);
+            }
+        });
+    }
+
+    public CompletableFuture<Checkin> getCheckin(final String checkinId, final Reading reading) {
+        return submit(new Callable<Checkin>() {
+            public Checkin call() throws Exception {
+                return facebook.getCheckin(checkinId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Comment>> getCheckinComments(final String checkinId) {
+        return submit(new Callable<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws Exception {
+                return facebook.getCheckinComments(checkinId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Comment>> getCheckinComments(final String checkinId, final Reading reading) {
+        return submit(new Callable<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws Exception {
+                return facebook.getCheckinComments(checkinId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> commentCheckin(final String checkinId, final String message) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.commentCheckin(checkinId, message);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Like>> getCheckinLikes(final String checkinId) {
+        return submit(new Callable<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws Exception {
+                return facebook.getCheckinLikes(checkinId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Like>> getCheckinLikes(final String checkinId, final Reading reading) {
+        return submit(new Callable<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws Exception {
+                return facebook.getCheckinLikes(checkinId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> likeCheckin(final String checkinId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.likeCheckin(checkinId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> unlikeCheckin(final String checkinId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.unlikeCheckin(checkinId);
+            }
+        });
+    }
+
+    /* Comment Methods */
+
+    public CompletableFuture<Comment> getComment(final String commentId) {
+        return submit(new Callable<Comment>() {
+            public Comment call() throws Exception {
+                return facebook.getComment(commentId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> deleteComment(final String commentId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.deleteComment(commentId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Like>> getCommentLikes(final String commentId) {
+        return submit(new Callable<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws Exception {
+                return facebook.getCommentLikes(commentId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Like>> getCommentLikes(final String commentId, final Reading reading) {
+        return submit(new Callable<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws Exception {
+                return facebook.getCommentLikes(commentId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> likeComment(final String commentId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.likeComment(commentId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> unlikeComment(final String commentId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.unlikeComment(commentId);
+            }
+        });
+    }
+
+    /* Domain Methods */
+
+    public CompletableFuture<Domain> getDomain(final String domainId) {
+        return submit(new Callable<Domain>() {
+            public Domain call() throws Exception {
+                return facebook.getDomain(domainId);
+            }
+        });
+    }
+
+    public CompletableFuture<Domain> getDomainByName(final String domainName) {
+        return submit(new Callable<Domain>() {
+            public Domain call() throws Exception {
+                return facebook.getDomainByName(domainName);
+            }
+        });
+    }
+
+    public CompletableFuture<List<Domain>> getDomainsByName(final String... domainName) {
+        return submit(new Callable<List<Domain>>() {
+            public List<Domain> call() throws Exception {
+                return facebook.getDomainsByName(domainName);
+            }
+        });
+    }
+
+    /* Event Methods */
+
+    public CompletableFuture<ResponseList<Event>> getEvents() {
+        return submit(new Callable<ResponseList<Event>>() {
+            public ResponseList<Event> call() throws Exception {
+                return facebook.getEvents();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Event>> getEvents(final Reading reading) {
+        return submit(new Callable<ResponseList<Event>>() {
+            public ResponseList<Event> call() throws Exception {
+                return facebook.getEvents(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Event>> getEvents(final String userId) {
+        return submit(new Callable<ResponseList<Event>>() {
+            public ResponseList<Event> call() throws Exception {
+                return facebook.getEvents(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Event>> getEvents(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Event>>() {
+            public ResponseList<Event> call() throws Exception {
+                return facebook.getEvents(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> createEvent(final EventUpdate eventUpdate) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.createEvent(eventUpdate);
+            }
+        });
+    }
+
+    public CompletableFuture<String> createEvent(final String userId, final EventUpdate eventUpdate) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.createEvent(userId, eventUpdate);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> editEvent(final String eventId, final EventUpdate eventUpdate) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.editEvent(eventId, eventUpdate);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> deleteEvent(final String eventId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.deleteEvent(eventId);
+            }
+        });
+    }
+
+    public CompletableFuture<Event> getEvent(final String eventId) {
+        return submit(new Callable<Event>() {
+            public Event call() throws Exception {
+                return facebook.getEvent(eventId);
+            }
+        });
+    }
+
+    public CompletableFuture<Event> getEvent(final String eventId, final Reading reading) {
+        return submit(new Callable<Event>() {
+            public Event call() throws Exception {
+                return facebook.getEvent(eventId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getEventFeed(final String eventId) {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getEventFeed(eventId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getEventFeed(final String eventId, final Reading reading) {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getEventFeed(eventId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postEventFeed(final String eventId, final PostUpdate postUpdate) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postEventFeed(eventId, postUpdate);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postEventLink(final String eventId, final URL link) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postEventLink(eventId, link);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postEventLink(final String eventId, final URL link, final String message) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postEventLink(eventId, link, message);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postEventStatusMessage(final String eventId, final String message) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postEventStatusMessage(eventId, message);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<RSVPStatus>> getRSVPStatusAsNoreply(final String eventId) {
+        return submit(new Callable<ResponseList<RSVPStatus>>() {
+            public ResponseList<RSVPStatus> call() throws Exception {
+                return facebook.getRSVPStatusAsNoreply(eventId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<RSVPStatus>> getRSVPStatusAsNoreply(final String eventId, final String userId) {
+        return submit(new Callable<ResponseList<RSVPStatus>>() {
+            public ResponseList<RSVPStatus> call() throws Exception {
+                return facebook.getRSVPStatusAsNoreply(eventId, userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<RSVPStatus>> getRSVPStatusAsInvited(final String eventId) {
+        return submit(new Callable<ResponseList<RSVPStatus>>() {
+            public ResponseList<RSVPStatus> call() throws Exception {
+                return facebook.getRSVPStatusAsInvited(eventId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<RSVPStatus>> getRSVPStatusAsInvited(final String eventId, final String userId) {
+        return submit(new Callable<ResponseList<RSVPStatus>>() {
+            public ResponseList<RSVPStatus> call() throws Exception {
+                return facebook.getRSVPStatusAsInvited(eventId, userId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> inviteToEvent(final String eventId, final String userId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.inviteToEvent(eventId, userId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> inviteToEvent(final String eventId, final String[] userIds) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.inviteToEvent(eventId, userIds);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> uninviteFromEvent(final String eventId, final String userId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.uninviteFromEvent(eventId, userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<RSVPStatus>> getRSVPStatusInAttending(final String eventId) {
+        return submit(new Callable<ResponseList<RSVPStatus>>() {
+            public ResponseList<RSVPStatus> call() throws Exception {
+                return facebook.getRSVPStatusInAttending(eventId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<RSVPStatus>> getRSVPStatusInAttending(final String eventId, final String userId) {
+        return submit(new Callable<ResponseList<RSVPStatus>>() {
+            public ResponseList<RSVPStatus> call() throws Exception {
+                return facebook.getRSVPStatusInAttending(eventId, userId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> rsvpEventAsAttending(final String eventId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.rsvpEventAsAttending(eventId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<RSVPStatus>> getRSVPStatusInMaybe(final String eventId) {
+        return submit(new Callable<ResponseList<RSVPStatus>>() {
+            public ResponseList<RSVPStatus> call() throws Exception {
+                return facebook.getRSVPStatusInMaybe(eventId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<RSVPStatus>> getRSVPStatusInMaybe(final String eventId, final String userId) {
+        return submit(new Callable<ResponseList<RSVPStatus>>() {
+            public ResponseList<RSVPStatus> call() throws Exception {
+                return facebook.getRSVPStatusInMaybe(eventId, userId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> rsvpEventAsMaybe(final String eventId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.rsvpEventAsMaybe(eventId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<RSVPStatus>> getRSVPStatusInDeclined(final String eventId) {
+        return submit(new Callable<ResponseList<RSVPStatus>>() {
+            public ResponseList<RSVPStatus> call() throws Exception {
+                return facebook.getRSVPStatusInDeclined(eventId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<RSVPStatus>> getRSVPStatusInDeclined(final String eventId, final String userId) {
+        return submit(new Callable<ResponseList<RSVPStatus>>() {
+            public ResponseList<RSVPStatus> call() throws Exception {
+                return facebook.getRSVPStatusInDeclined(eventId, userId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> rsvpEventAsDeclined(final String eventId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.rsvpEventAsDeclined(eventId);
+            }
+        });
+    }
+
+    public CompletableFuture<URL> getEventPictureURL(final String eventId) {
+        return submit(new Callable<URL>() {
+            public URL call() throws Exception {
+                return facebook.getEventPictureURL(eventId);
+            }
+        });
+    }
+
+    public CompletableFuture<URL> getEventPictureURL(final String eventId, final PictureSize size) {
+        return submit(new Callable<URL>() {
+            public URL call() throws Exception {
+                return facebook.getEventPictureURL(eventId, size);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> updateEventPicture(final String eventId, final Media source) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.updateEventPicture(eventId, source);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> deleteEventPicture(final String eventId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.deleteEventPicture(eventId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Photo>> getEventPhotos(final String eventId) {
+        return submit(new Callable<ResponseList<Photo>>() {
+            public ResponseList<Photo> call() throws Exception {
+                return facebook.getEventPhotos(eventId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Photo>> getEventPhotos(final String eventId, final Reading reading) {
+        return submit(new Callable<ResponseList<Photo>>() {
+            public ResponseList<Photo> call() throws Exception {
+                return facebook.getEventPhotos(eventId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postEventPhoto(final String eventId, final Media source) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postEventPhoto(eventId, source);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postEventPhoto(final String eventId, final Media source, final String message) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postEventPhoto(eventId, source, message);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Video>> getEventVideos(final String eventId) {
+        return submit(new Callable<ResponseList<Video>>() {
+            public ResponseList<Video> call() throws Exception {
+                return facebook.getEventVideos(eventId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Video>> getEventVideos(final String eventId, final Reading reading) {
+        return submit(new Callable<ResponseList<Video>>() {
+            public ResponseList<Video> call() throws Exception {
+                return facebook.getEventVideos(eventId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postEventVideo(final String eventId, final Media source) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postEventVideo(eventId, source);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postEventVideo(final String eventId, final Media source, final String title, final String description) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postEventVideo(eventId, source, title, description);
+            }
+        });
+    }
+
+    /* Family Methods */
+
+    public CompletableFuture<ResponseList<Family>> getFamily() {
+        return submit(new Callable<ResponseList<Family>>() {
+            public ResponseList<Family> call() throws Exception {
+                return facebook.getFamily();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Family>> getFamily(final Reading reading) {
+        return submit(new Callable<ResponseList<Family>>() {
+            public ResponseList<Family> call() throws Exception {
+                return facebook.getFamily(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Family>> getFamily(final String userId) {
+        return submit(new Callable<ResponseList<Family>>() {
+            public ResponseList<Family> call() throws Exception {
+                return facebook.getFamily(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Family>> getFamily(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Family>>() {
+            public ResponseList<Family> call() throws Exception {
+                return facebook.getFamily(userId, reading);
+            }
+        });
+    }
+
+    /* Favorite Methods */
+
+    public CompletableFuture<ResponseList<Book>> getBooks() {
+        return submit(new Callable<ResponseList<Book>>() {
+            public ResponseList<Book> call() throws Exception {
+                return facebook.getBooks();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Book>> getBooks(final Reading reading) {
+        return submit(new Callable<ResponseList<Book>>() {
+            public ResponseList<Book> call() throws Exception {
+                return facebook.getBooks(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Book>> getBooks(final String userId) {
+        return submit(new Callable<ResponseList<Book>>() {
+            public ResponseList<Book> call() throws Exception {
+                return facebook.getBooks(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Book>> getBooks(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Book>>() {
+            public ResponseList<Book> call() throws Exception {
+                return facebook.getBooks(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Game>> getGames() {
+        return submit(new Callable<ResponseList<Game>>() {
+            public ResponseList<Game> call() throws Exception {
+                return facebook.getGames();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Game>> getGames(final Reading reading) {
+        return submit(new Callable<ResponseList<Game>>() {
+            public ResponseList<Game> call() throws Exception {
+                return facebook.getGames(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Game>> getGames(final String userId) {
+        return submit(new Callable<ResponseList<Game>>() {
+            public ResponseList<Game> call() throws Exception {
+                return facebook.getGames(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Game>> getGames(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Game>>() {
+            public ResponseList<Game> call() throws Exception {
+                return facebook.getGames(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Movie>> getMovies() {
+        return submit(new Callable<ResponseList<Movie>>() {
+            public ResponseList<Movie> call() throws Exception {
+                return facebook.getMovies();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Movie>> getMovies(final Reading reading) {
+        return submit(new Callable<ResponseList<Movie>>() {
+            public ResponseList<Movie> call() throws Exception {
+                return facebook.getMovies(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Movie>> getMovies(final String userId) {
+        return submit(new Callable<ResponseList<Movie>>() {
+            public ResponseList<Movie> call() throws Exception {
+                return facebook.getMovies(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Movie>> getMovies(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Movie>>() {
+            public ResponseList<Movie> call() throws Exception {
+                return facebook.getMovies(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Music>> getMusic() {
+        return submit(new Callable<ResponseList<Music>>() {
+            public ResponseList<Music> call() throws Exception {
+                return facebook.getMusic();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Music>> getMusic(final Reading reading) {
+        return submit(new Callable<ResponseList<Music>>() {
+            public ResponseList<Music> call() throws Exception {
+                return facebook.getMusic(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Music>> getMusic(final String userId) {
+        return submit(new Callable<ResponseList<Music>>() {
+            public ResponseList<Music> call() throws Exception {
+                return facebook.getMusic(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Music>> getMusic(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Music>>() {
+            public ResponseList<Music> call() throws Exception {
+                return facebook.getMusic(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Television>> getTelevision() {
+        return submit(new Callable<ResponseList<Television>>() {
+            public ResponseList<Television> call() throws Exception {
+                return facebook.getTelevision();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Television>> getTelevision(final Reading reading) {
+        return submit(new Callable<ResponseList<Television>>() {
+            public ResponseList<Television> call() throws Exception {
+                return facebook.getTelevision(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Television>> getTelevision(final String userId) {
+        return submit(new Callable<ResponseList<Television>>() {
+            public ResponseList<Television> call() throws Exception {
+                return facebook.getTelevision(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Television>> getTelevision(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Television>>() {
+            public ResponseList<Television> call() throws Exception {
+                return facebook.getTelevision(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Interest>> getInterests() {
+        return submit(new Callable<ResponseList<Interest>>() {
+            public ResponseList<Interest> call() throws Exception {
+                return facebook.getInterests();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Interest>> getInterests(final Reading reading) {
+        return submit(new Callable<ResponseList<Interest>>() {
+            public ResponseList<Interest> call() throws Exception {
+                return facebook.getInterests(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Interest>> getInterests(final String userId) {
+        return submit(new Callable<ResponseList<Interest>>() {
+            public ResponseList<Interest> call() throws Exception {
+                return facebook.getInterests(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Interest>> getInterests(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Interest>>() {
+            public ResponseList<Interest> call() throws Exception {
+                return facebook.getInterests(userId, reading);
+            }
+        });
+    }
+
+    /* Friend Methods */
+
+    public CompletableFuture<ResponseList<Friend>> getFriends() {
+        return submit(new Callable<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws Exception {
+                return facebook.getFriends();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Friend>> getFriends(final Reading reading) {
+        return submit(new Callable<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws Exception {
+                return facebook.getFriends(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Friend>> getFriends(final String userId) {
+        return submit(new Callable<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws Exception {
+                return facebook.getFriends(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Friend>> getFriends(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws Exception {
+                return facebook.getFriends(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Friend>> getBelongsFriend(final String friendId) {
+        return submit(new Callable<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws Exception {
+                return facebook.getBelongsFriend(friendId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Friend>> getBelongsFriend(final String friendId, final Reading reading) {
+        return submit(new Callable<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws Exception {
+                return facebook.getBelongsFriend(friendId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Friend>> getBelongsFriend(final String userId, final String friendId) {
+        return submit(new Callable<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws Exception {
+                return facebook.getBelongsFriend(userId, friendId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Friend>> getBelongsFriend(final String userId, final String friendId, final Reading reading) {
+        return submit(new Callable<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws Exception {
+                return facebook.getBelongsFriend(userId, friendId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Friendlist>> getFriendlists() {
+        return submit(new Callable<ResponseList<Friendlist>>() {
+            public ResponseList<Friendlist> call() throws Exception {
+                return facebook.getFriendlists();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Friendlist>> getFriendlists(final Reading reading) {
+        return submit(new Callable<ResponseList<Friendlist>>() {
+            public ResponseList<Friendlist> call() throws Exception {
+                return facebook.getFriendlists(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Friendlist>> getFriendlists(final String userId) {
+        return submit(new Callable<ResponseList<Friendlist>>() {
+            public ResponseList<Friendlist> call() throws Exception {
+                return facebook.getFriendlists(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Friendlist>> getFriendlists(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Friendlist>>() {
+            public ResponseList<Friendlist> call() throws Exception {
+                return facebook.getFriendlists(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> createFriendlist(final String friendlistName) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.createFriendlist(friendlistName);
+            }
+        });
+    }
+
+    public CompletableFuture<String> createFriendlist(final String userId, final String friendlistName) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.createFriendlist(userId, friendlistName);
+            }
+        });
+    }
+
+    public CompletableFuture<Friendlist> getFriendlist(final String friendlistId) {
+        return submit(new Callable<Friendlist>() {
+            public Friendlist call() throws Exception {
+                return facebook.getFriendlist(friendlistId);
+            }
+        });
+    }
+
+    public CompletableFuture<Friendlist> getFriendlist(final String friendlistId, final Reading reading) {
+        return submit(new Callable<Friendlist>() {
+            public Friendlist call() throws Exception {
+                return facebook.getFriendlist(friendlistId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> deleteFriendlist(final String friendlistId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.deleteFriendlist(friendlistId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Friend>> getFriendlistMembers(final String friendlistId) {
+        return submit(new Callable<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws Exception {
+                return facebook.getFriendlistMembers(friendlistId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> addFriendlistMember(final String friendlistId, final String userId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.addFriendlistMember(friendlistId, userId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> removeFriendlistMember(final String friendlistId, final String userId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.removeFriendlistMember(friendlistId, userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<FriendRequest>> getFriendRequests() {
+        return submit(new Callable<ResponseList<FriendRequest>>() {
+            public ResponseList<FriendRequest> call() throws Exception {
+                return facebook.getFriendRequests();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<FriendRequest>> getFriendRequests(final Reading reading) {
+        return submit(new Callable<ResponseList<FriendRequest>>() {
+            public ResponseList<FriendRequest> call() throws Exception {
+                return facebook.getFriendRequests(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<FriendRequest>> getFriendRequests(final String userId) {
+        return submit(new Callable<ResponseList<FriendRequest>>() {
+            public ResponseList<FriendRequest> call() throws Exception {
+                return facebook.getFriendRequests(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<FriendRequest>> getFriendRequests(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<FriendRequest>>() {
+            public ResponseList<FriendRequest> call() throws Exception {
+                return facebook.getFriendRequests(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Friend>> getMutualFriends(final String friendUserId) {
+        return submit(new Callable<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws Exception {
+                return facebook.getMutualFriends(friendUserId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Friend>> getMutualFriends(final String friendUserId, final Reading reading) {
+        return submit(new Callable<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws Exception {
+                return facebook.getMutualFriends(friendUserId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Friend>> getMutualFriends(final String userId1, final String userId2) {
+        return submit(new Callable<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws Exception {
+                return facebook.getMutualFriends(userId1, userId2);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Friend>> getMutualFriends(final String userId1, final String userId2, final Reading reading) {
+        return submit(new Callable<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws Exception {
+                return facebook.getMutualFriends(userId1, userId2, reading);
+            }
+        });
+    }
+
+    /* Game Methods */
+
+    public CompletableFuture<ResponseList<Achievement>> getAchievements() {
+        return submit(new Callable<ResponseList<Achievement>>() {
+            public ResponseList<Achievement> call() throws Exception {
+                return facebook.getAchievements();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Achievement>> getAchievements(final Reading reading) {
+        return submit(new Callable<ResponseList<Achievement>>() {
+            public ResponseList<Achievement> call() throws Exception {
+                return facebook.getAchievements(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Achievement>> getAchievements(final String userId) {
+        return submit(new Callable<ResponseList<Achievement>>() {
+            public ResponseList<Achievement> call() throws Exception {
+                return facebook.getAchievements(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Achievement>> getAchievements(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Achievement>>() {
+            public ResponseList<Achievement> call() throws Exception {
+                return facebook.getAchievements(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postAchievement(final URL achievementURL) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postAchievement(achievementURL);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postAchievement(final String userId, final URL achievementURL) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postAchievement(userId, achievementURL);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> deleteAchievement(final URL achievementURL) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.deleteAchievement(achievementURL);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> deleteAchievement(final String userId, final URL achievementURL) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.deleteAchievement(userId, achievementURL);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Score>> getScores() {
+        return submit(new Callable<ResponseList<Score>>() {
+            public ResponseList<Score> call() throws Exception {
+                return facebook.getScores();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Score>> getScores(final Reading reading) {
+        return submit(new Callable<ResponseList<Score>>() {
+            public ResponseList<Score> call() throws Exception {
+                return facebook.getScores(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Score>> getScores(final String userId) {
+        return submit(new Callable<ResponseList<Score>>() {
+            public ResponseList<Score> call() throws Exception {
+                return facebook.getScores(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Score>> getScores(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Score>>() {
+            public ResponseList<Score> call() throws Exception {
+                return facebook.getScores(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> postScore(final int scoreValue) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.postScore(scoreValue);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> postScore(final String userId, final int scoreValue) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.postScore(userId, scoreValue);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> deleteScore() {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.deleteScore();
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> deleteScore(final String userId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.deleteScore(userId);
+            }
+        });
+    }
+
+    /* Group Methods */
+
+    public CompletableFuture<ResponseList<Group>> getGroups() {
+        return submit(new Callable<ResponseList<Group>>() {
+            public ResponseList<Group> call() throws Exception {
+                return facebook.getGroups();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Group>> getGroups(final Reading reading) {
+        return submit(new Callable<ResponseList<Group>>() {
+            public ResponseList<Group> call() throws Exception {
+                return facebook.getGroups(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Group>> getGroups(final String userId) {
+        return submit(new Callable<ResponseList<Group>>() {
+            public ResponseList<Group> call() throws Exception {
+                return facebook.getGroups(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Group>> getGroups(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Group>>() {
+            public ResponseList<Group> call() throws Exception {
+                return facebook.getGroups(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<Group> getGroup(final String groupId) {
+        return submit(new Callable<Group>() {
+            public Group call() throws Exception {
+                return facebook.getGroup(groupId);
+            }
+        });
+    }
+
+    public CompletableFuture<Group> getGroup(final String groupId, final Reading reading) {
+        return submit(new Callable<Group>() {
+            public Group call() throws Exception {
+                return facebook.getGroup(groupId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getGroupFeed(final String groupId) {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getGroupFeed(groupId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getGroupFeed(final String groupId, final Reading reading) {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getGroupFeed(groupId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postGroupFeed(final String groupId, final PostUpdate postUpdate) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postGroupFeed(groupId, postUpdate);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postGroupLink(final String groupId, final URL link) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postGroupLink(groupId, link);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postGroupLink(final String groupId, final URL link, final String message) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postGroupLink(groupId, link, message);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postGroupStatusMessage(final String groupId, final String message) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postGroupStatusMessage(groupId, message);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<GroupMember>> getGroupMembers(final String groupId) {
+        return submit(new Callable<ResponseList<GroupMember>>() {
+            public ResponseList<GroupMember> call() throws Exception {
+                return facebook.getGroupMembers(groupId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<GroupMember>> getGroupMembers(final String groupId, final Reading reading) {
+        return submit(new Callable<ResponseList<GroupMember>>() {
+            public ResponseList<GroupMember> call() throws Exception {
+                return facebook.getGroupMembers(groupId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<URL> getGroupPictureURL(final String groupId) {
+        return submit(new Callable<URL>() {
+            public URL call() throws Exception {
+                return facebook.getGroupPictureURL(groupId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<GroupDoc>> getGroupDocs(final String groupId) {
+        return submit(new Callable<ResponseList<GroupDoc>>() {
+            public ResponseList<GroupDoc> call() throws Exception {
+                return facebook.getGroupDocs(groupId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<GroupDoc>> getGroupDocs(final String groupId, final Reading reading) {
+        return submit(new Callable<ResponseList<GroupDoc>>() {
+            public ResponseList<GroupDoc> call() throws Exception {
+                return facebook.getGroupDocs(groupId, reading);
+            }
+        });
+    }
+
+    /* Like Methods */
+
+    public CompletableFuture<ResponseList<Like>> getUserLikes() {
+        return submit(new Callable<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws Exception {
+                return facebook.getUserLikes();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Like>> getUserLikes(final Reading reading) {
+        return submit(new Callable<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws Exception {
+                return facebook.getUserLikes(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Like>> getUserLikes(final String userId) {
+        return submit(new Callable<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws Exception {
+                return facebook.getUserLikes(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Like>> getUserLikes(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws Exception {
+                return facebook.getUserLikes(userId, reading);
+            }
+        });
+    }
+
+    /* Link Methods */
+
+    public CompletableFuture<Link> getLink(final String linkId) {
+        return submit(new Callable<Link>() {
+            public Link call() throws Exception {
+                return facebook.getLink(linkId);
+            }
+        });
+    }
+
+    public CompletableFuture<Link> getLink(final String linkId, final Reading reading) {
+        return submit(new Callable<Link>() {
+            public Link call() throws Exception {
+                return facebook.getLink(linkId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Comment>> getLinkComments(final String linkId) {
+        return submit(new Callable<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws Exception {
+                return facebook.getLinkComments(linkId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Comment>> getLinkComments(final String linkId, final Reading reading) {
+        return submit(new Callable<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws Exception {
+                return facebook.getLinkComments(linkId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> commentLink(final String linkId, final String message) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.commentLink(linkId, message);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Like>> getLinkLikes(final String linkId) {
+        return submit(new Callable<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws Exception {
+                return facebook.getLinkLikes(linkId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Like>> getLinkLikes(final String linkId, final Reading reading) {
+        return submit(new Callable<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws Exception {
+                return facebook.getLinkLikes(linkId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> likeLink(final String linkId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.likeLink(linkId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> unlikeLink(final String linkId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.unlikeLink(linkId);
+            }
+        });
+    }
+
+    /* Location Methods */
+
+    public CompletableFuture<ResponseList<Location>> getLocations() {
+        return submit(new Callable<ResponseList<Location>>() {
+            public ResponseList<Location> call() throws Exception {
+                return facebook.getLocations();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Location>> getLocations(final Reading reading) {
+        return submit(new Callable<ResponseList<Location>>() {
+            public ResponseList<Location> call() throws Exception {
+                return facebook.getLocations(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Location>> getLocations(final String userId) {
+        return submit(new Callable<ResponseList<Location>>() {
+            public ResponseList<Location> call() throws Exception {
+                return facebook.getLocations(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Location>> getLocations(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Location>>() {
+            public ResponseList<Location> call() throws Exception {
+                return facebook.getLocations(userId, reading);
+            }
+        });
+    }
+
+    /* Message Methods */
+
+    public CompletableFuture<InboxResponseList<Inbox>> getInbox() {
+        return submit(new Callable<InboxResponseList<Inbox>>() {
+            public InboxResponseList<Inbox> call() throws Exception {
+                return facebook.getInbox();
+            }
+        });
+    }
+
+    public CompletableFuture<InboxResponseList<Inbox>> getInbox(final Reading reading) {
+        return submit(new Callable<InboxResponseList<Inbox>>() {
+            public InboxResponseList<Inbox> call() throws Exception {
+                return facebook.getInbox(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<InboxResponseList<Inbox>> getInbox(final String userId) {
+        return submit(new Callable<InboxResponseList<Inbox>>() {
+            public InboxResponseList<Inbox> call() throws Exception {
+                return facebook.getInbox(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<InboxResponseList<Inbox>> getInbox(final String userId, final Reading reading) {
+        return submit(new Callable<InboxResponseList<Inbox>>() {
+            public InboxResponseList<Inbox> call() throws Exception {
+                return facebook.getInbox(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Message>> getOutbox() {
+        return submit(new Callable<ResponseList<Message>>() {
+            public ResponseList<Message> call() throws Exception {
+                return facebook.getOutbox();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Message>> getOutbox(final Reading reading) {
+        return submit(new Callable<ResponseList<Message>>() {
+            public ResponseList<Message> call() throws Exception {
+                return facebook.getOutbox(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Message>> getOutbox(final String userId) {
+        return submit(new Callable<ResponseList<Message>>() {
+            public ResponseList<Message> call() throws Exception {
+                return facebook.getOutbox(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Message>> getOutbox(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Message>>() {
+            public ResponseList<Message> call() throws Exception {
+                return facebook.getOutbox(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Message>> getUpdates() {
+        return submit(new Callable<ResponseList<Message>>() {
+            public ResponseList<Message> call() throws Exception {
+                return facebook.getUpdates();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Message>> getUpdates(final Reading reading) {
+        return submit(new Callable<ResponseList<Message>>() {
+            public ResponseList<Message> call() throws Exception {
+                return facebook.getUpdates(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Message>> getUpdates(final String userId) {
+        return submit(new Callable<ResponseList<Message>>() {
+            public ResponseList<Message> call() throws Exception {
+                return facebook.getUpdates(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Message>> getUpdates(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Message>>() {
+            public ResponseList<Message> call() throws Exception {
+                return facebook.getUpdates(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<Message> getMessage(final String messageId) {
+        return submit(new Callable<Message>() {
+            public Message call() throws Exception {
+                return facebook.getMessage(messageId);
+            }
+        });
+    }
+
+    public CompletableFuture<Message> getMessage(final String messageId, final Reading reading) {
+        return submit(new Callable<Message>() {
+            public Message call() throws Exception {
+                return facebook.getMessage(messageId, reading);
+            }
+        });
+    }
+
+    /* Note Methods */
+
+    public CompletableFuture<ResponseList<Note>> getNotes() {
+        return submit(new Callable<ResponseList<Note>>() {
+            public ResponseList<Note> call() throws Exception {
+                return facebook.getNotes();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Note>> getNotes(final Reading reading) {
+        return submit(new Callable<ResponseList<Note>>() {
+            public ResponseList<Note> call() throws Exception {
+                return facebook.getNotes(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Note>> getNotes(final String userId) {
+        return submit(new Callable<ResponseList<Note>>() {
+            public ResponseList<Note> call() throws Exception {
+                return facebook.getNotes(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Note>> getNotes(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Note>>() {
+            public ResponseList<Note> call() throws Exception {
+                return facebook.getNotes(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> createNote(final String subject, final String message) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.createNote(subject, message);
+            }
+        });
+    }
+
+    public CompletableFuture<String> createNote(final String userId, final String subject, final String message) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.createNote(userId, subject, message);
+            }
+        });
+    }
+
+    public CompletableFuture<Note> getNote(final String noteId) {
+        return submit(new Callable<Note>() {
+            public Note call() throws Exception {
+                return facebook.getNote(noteId);
+            }
+        });
+    }
+
+    public CompletableFuture<Note> getNote(final String noteId, final Reading reading) {
+        return submit(new Callable<Note>() {
+            public Note call() throws Exception {
+                return facebook.getNote(noteId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Comment>> getNoteComments(final String noteId) {
+        return submit(new Callable<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws Exception {
+                return facebook.getNoteComments(noteId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Comment>> getNoteComments(final String noteId, final Reading reading) {
+        return submit(new Callable<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws Exception {
+                return facebook.getNoteComments(noteId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> commentNote(final String noteId, final String message) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.commentNote(noteId, message);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Like>> getNoteLikes(final String noteId) {
+        return submit(new Callable<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws Exception {
+                return facebook.getNoteLikes(noteId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Like>> getNoteLikes(final String noteId, final Reading reading) {
+        return submit(new Callable<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws Exception {
+                return facebook.getNoteLikes(noteId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> likeNote(final String noteId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.likeNote(noteId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> unlikeNote(final String noteId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.unlikeNote(noteId);
+            }
+        });
+    }
+
+    /* Notification Methods */
+
+    public CompletableFuture<ResponseList<Notification>> getNotifications() {
+        return submit(new Callable<ResponseList<Notification>>() {
+            public ResponseList<Notification> call() throws Exception {
+                return facebook.getNotifications();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Notification>> getNotifications(final boolean includeRead) {
+        return submit(new Callable<ResponseList<Notification>>() {
+            public ResponseList<Notification> call() throws Exception {
+                return facebook.getNotifications(includeRead);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Notification>> getNotifications(final Reading reading) {
+        return submit(new Callable<ResponseList<Notification>>() {
+            public ResponseList<Notification> call() throws Exception {
+                return facebook.getNotifications(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Notification>> getNotifications(final Reading reading, final boolean includeRead) {
+        return submit(new Callable<ResponseList<Notification>>() {
+            public ResponseList<Notification> call() throws Exception {
+                return facebook.getNotifications(reading, includeRead);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Notification>> getNotifications(final String userId) {
+        return submit(new Callable<ResponseList<Notification>>() {
+            public ResponseList<Notification> call() throws Exception {
+                return facebook.getNotifications(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Notification>> getNotifications(final String userId, final boolean includeRead) {
+        return submit(new Callable<ResponseList<Notification>>() {
+            public ResponseList<Notification> call() throws Exception {
+                return facebook.getNotifications(userId, includeRead);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Notification>> getNotifications(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Notification>>() {
+            public ResponseList<Notification> call() throws Exception {
+                return facebook.getNotifications(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Notification>> getNotifications(final String userId, final Reading reading, final boolean includeRead) {
+        return submit(new Callable<ResponseList<Notification>>() {
+            public ResponseList<Notification> call() throws Exception {
+                return facebook.getNotifications(userId, reading, includeRead);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> markNotificationAsRead(final String notificationId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.markNotificationAsRead(notificationId);
+            }
+        });
+    }
+
+    /* Permission Methods */
+
+    public CompletableFuture<List<Permission>> getPermissions() {
+        return submit(new Callable<List<Permission>>() {
+            public List<Permission> call() throws Exception {
+                return facebook.getPermissions();
+            }
+        });
+    }
+
+    public CompletableFuture<List<Permission>> getPermissions(final String userId) {
+        return submit(new Callable<List<Permission>>() {
+            public List<Permission> call() throws Exception {
+                return facebook.getPermissions(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> revokePermission(final String permissionName) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.revokePermission(permissionName);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> revokePermission(final String userId, final String permissionName) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.revokePermission(userId, permissionName);
+            }
+        });
+    }
+
+    /* Photo Methods */
+
+    public CompletableFuture<ResponseList<Photo>> getPhotos() {
+        return submit(new Callable<ResponseList<Photo>>() {
+            public ResponseList<Photo> call() throws Exception {
+                return facebook.getPhotos();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Photo>> getPhotos(final Reading reading) {
+        return submit(new Callable<ResponseList<Photo>>() {
+            public ResponseList<Photo> call() throws Exception {
+                return facebook.getPhotos(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Photo>> getPhotos(final String userId) {
+        return submit(new Callable<ResponseList<Photo>>() {
+            public ResponseList<Photo> call() throws Exception {
+                return facebook.getPhotos(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Photo>> getPhotos(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Photo>>() {
+            public ResponseList<Photo> call() throws Exception {
+                return facebook.getPhotos(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postPhoto(final Media source) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postPhoto(source);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postPhoto(final Media source, final String message, final String place, final boolean noStory) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postPhoto(source, message, place, noStory);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postPhoto(final String userId, final Media source) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postPhoto(userId, source);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postPhoto(final String userId, final Media source, final String message, final String place, final boolean noStory) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postPhoto(userId, source, message, place, noStory);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> deletePhoto(final String photoId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.deletePhoto(photoId);
+            }
+        });
+    }
+
+    public CompletableFuture<Photo> getPhoto(final String photoId) {
+        return submit(new Callable<Photo>() {
+            public Photo call() throws Exception {
+                return facebook.getPhoto(photoId);
+            }
+        });
+    }
+
+    public CompletableFuture<Photo> getPhoto(final String photoId, final Reading reading) {
+        return submit(new Callable<Photo>() {
+            public Photo call() throws Exception {
+                return facebook.getPhoto(photoId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Comment>> getPhotoComments(final String photoId) {
+        return submit(new Callable<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws Exception {
+                return facebook.getPhotoComments(photoId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Comment>> getPhotoComments(final String photoId, final Reading reading) {
+        return submit(new Callable<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws Exception {
+                return facebook.getPhotoComments(photoId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> commentPhoto(final String photoId, final String message) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.commentPhoto(photoId, message);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Like>> getPhotoLikes(final String photoId) {
+        return submit(new Callable<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws Exception {
+                return facebook.getPhotoLikes(photoId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Like>> getPhotoLikes(final String photoId, final Reading reading) {
+        return submit(new Callable<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws Exception {
+                return facebook.getPhotoLikes(photoId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> likePhoto(final String photoId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.likePhoto(photoId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> unlikePhoto(final String photoId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.unlikePhoto(photoId);
+            }
+        });
+    }
+
+    public CompletableFuture<URL> getPhotoURL(final String photoId) {
+        return submit(new Callable<URL>() {
+            public URL call() throws Exception {
+                return facebook.getPhotoURL(photoId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Tag>> getTagsOnPhoto(final String photoId) {
+        return submit(new Callable<ResponseList<Tag>>() {
+            public ResponseList<Tag> call() throws Exception {
+                return facebook.getTagsOnPhoto(photoId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Tag>> getTagsOnPhoto(final String photoId, final Reading reading) {
+        return submit(new Callable<ResponseList<Tag>>() {
+            public ResponseList<Tag> call() throws Exception {
+                return facebook.getTagsOnPhoto(photoId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> addTagToPhoto(final String photoId, final String toUserId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.addTagToPhoto(photoId, toUserId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> addTagToPhoto(final String photoId, final List<String> toUserIds) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.addTagToPhoto(photoId, toUserIds);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> addTagToPhoto(final String photoId, final TagUpdate tagUpdate) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.addTagToPhoto(photoId, tagUpdate);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> updateTagOnPhoto(final String photoId, final String toUserId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.updateTagOnPhoto(photoId, toUserId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> updateTagOnPhoto(final String photoId, final TagUpdate tagUpdate) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.updateTagOnPhoto(photoId, tagUpdate);
+            }
+        });
+    }
+
+    /* Poke Methods */
+
+    public CompletableFuture<ResponseList<Poke>> getPokes() {
+        return submit(new Callable<ResponseList<Poke>>() {
+            public ResponseList<Poke> call() throws Exception {
+                return facebook.getPokes();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Poke>> getPokes(final Reading reading) {
+        return submit(new Callable<ResponseList<Poke>>() {
+            public ResponseList<Poke> call() throws Exception {
+                return facebook.getPokes(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Poke>> getPokes(final String userId) {
+        return submit(new Callable<ResponseList<Poke>>() {
+            public ResponseList<Poke> call() throws Exception {
+                return facebook.getPokes(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Poke>> getPokes(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Poke>>() {
+            public ResponseList<Poke> call() throws Exception {
+                return facebook.getPokes(userId, reading);
+            }
+        });
+    }
+
+    /* Post Methods */
+
+    public CompletableFuture<ResponseList<Post>> getFeed() {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getFeed();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getFeed(final Reading reading) {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getFeed(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getFeed(final String userId) {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getFeed(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getFeed(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getFeed(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getHome() {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getHome();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getHome(final Reading reading) {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getHome(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Link>> getLinks() {
+        return submit(new Callable<ResponseList<Link>>() {
+            public ResponseList<Link> call() throws Exception {
+                return facebook.getLinks();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Link>> getLinks(final Reading reading) {
+        return submit(new Callable<ResponseList<Link>>() {
+            public ResponseList<Link> call() throws Exception {
+                return facebook.getLinks(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Link>> getLinks(final String userId) {
+        return submit(new Callable<ResponseList<Link>>() {
+            public ResponseList<Link> call() throws Exception {
+                return facebook.getLinks(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Link>> getLinks(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Link>>() {
+            public ResponseList<Link> call() throws Exception {
+                return facebook.getLinks(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getPosts() {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getPosts();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getPosts(final Reading reading) {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getPosts(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getPosts(final String userId) {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getPosts(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getPosts(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getPosts(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getStatuses() {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getStatuses();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getStatuses(final Reading reading) {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getStatuses(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getStatuses(final String userId) {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getStatuses(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getStatuses(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getStatuses(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getTagged() {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getTagged();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getTagged(final Reading reading) {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getTagged(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getTagged(final String userId) {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getTagged(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> getTagged(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.getTagged(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<Post> getPost(final String postId) {
+        return submit(new Callable<Post>() {
+            public Post call() throws Exception {
+                return facebook.getPost(postId);
+            }
+        });
+    }
+
+    public CompletableFuture<Post> getPost(final String postId, final Reading reading) {
+        return submit(new Callable<Post>() {
+            public Post call() throws Exception {
+                return facebook.getPost(postId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Comment>> getPostComments(final String postId) {
+        return submit(new Callable<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws Exception {
+                return facebook.getPostComments(postId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Comment>> getPostComments(final String postId, final Reading reading) {
+        return submit(new Callable<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws Exception {
+                return facebook.getPostComments(postId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> commentPost(final String postId, final String message) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.commentPost(postId, message);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Like>> getPostLikes(final String postId) {
+        return submit(new Callable<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws Exception {
+                return facebook.getPostLikes(postId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Like>> getPostLikes(final String postId, final Reading reading) {
+        return submit(new Callable<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws Exception {
+                return facebook.getPostLikes(postId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> likePost(final String postId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.likePost(postId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> unlikePost(final String postId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.unlikePost(postId);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postFeed(final PostUpdate postUpdate) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postFeed(postUpdate);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postFeed(final String userId, final PostUpdate postUpdate) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postFeed(userId, postUpdate);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postLink(final URL link) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postLink(link);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postLink(final URL link, final String message) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postLink(link, message);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postLink(final String userId, final URL link) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postLink(userId, link);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postLink(final String userId, final URL link, final String message) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postLink(userId, link, message);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postStatusMessage(final String message) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postStatusMessage(message);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postStatusMessage(final String userId, final String message) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postStatusMessage(userId, message);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> deletePost(final String postId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.deletePost(postId);
+            }
+        });
+    }
+
+    /* Question Methods */
+
+    public CompletableFuture<ResponseList<Question>> getQuestions() {
+        return submit(new Callable<ResponseList<Question>>() {
+            public ResponseList<Question> call() throws Exception {
+                return facebook.getQuestions();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Question>> getQuestions(final Reading reading) {
+        return submit(new Callable<ResponseList<Question>>() {
+            public ResponseList<Question> call() throws Exception {
+                return facebook.getQuestions(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Question>> getQuestions(final String userId) {
+        return submit(new Callable<ResponseList<Question>>() {
+            public ResponseList<Question> call() throws Exception {
+                return facebook.getQuestions(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Question>> getQuestions(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Question>>() {
+            public ResponseList<Question> call() throws Exception {
+                return facebook.getQuestions(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> createQuestion(final String question) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.createQuestion(question);
+            }
+        });
+    }
+
+    public CompletableFuture<String> createQuestion(final String question, final List<String> options, final boolean allowNewOptions) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.createQuestion(question, options, allowNewOptions);
+            }
+        });
+    }
+
+    public CompletableFuture<String> createQuestion(final String userId, final String question) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.createQuestion(userId, question);
+            }
+        });
+    }
+
+    public CompletableFuture<String> createQuestion(final String userId, final String question, final List<String> options, final boolean allowNewOptions) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.createQuestion(userId, question, options, allowNewOptions);
+            }
+        });
+    }
+
+    public CompletableFuture<Question> getQuestion(final String questionId) {
+        return submit(new Callable<Question>() {
+            public Question call() throws Exception {
+                return facebook.getQuestion(questionId);
+            }
+        });
+    }
+
+    public CompletableFuture<Question> getQuestion(final String questionId, final Reading reading) {
+        return submit(new Callable<Question>() {
+            public Question call() throws Exception {
+                return facebook.getQuestion(questionId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> deleteQuestion(final String questionId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.deleteQuestion(questionId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Question.Option>> getQuestionOptions(final String questionId) {
+        return submit(new Callable<ResponseList<Question.Option>>() {
+            public ResponseList<Question.Option> call() throws Exception {
+                return facebook.getQuestionOptions(questionId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Question.Option>> getQuestionOptions(final String questionId, final Reading reading) {
+        return submit(new Callable<ResponseList<Question.Option>>() {
+            public ResponseList<Question.Option> call() throws Exception {
+                return facebook.getQuestionOptions(questionId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> addQuestionOption(final String questionId, final String optionDescription) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.addQuestionOption(questionId, optionDescription);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<QuestionVotes>> getQuestionOptionVotes(final String questionId) {
+        return submit(new Callable<ResponseList<QuestionVotes>>() {
+            public ResponseList<QuestionVotes> call() throws Exception {
+                return facebook.getQuestionOptionVotes(questionId);
+            }
+        });
+    }
+
+    /* Subscribe Methods */
+
+    public CompletableFuture<ResponseList<Subscribedto>> getSubscribedto() {
+        return submit(new Callable<ResponseList<Subscribedto>>() {
+            public ResponseList<Subscribedto> call() throws Exception {
+                return facebook.getSubscribedto();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Subscribedto>> getSubscribedto(final Reading reading) {
+        return submit(new Callable<ResponseList<Subscribedto>>() {
+            public ResponseList<Subscribedto> call() throws Exception {
+                return facebook.getSubscribedto(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Subscribedto>> getSubscribedto(final String userId) {
+        return submit(new Callable<ResponseList<Subscribedto>>() {
+            public ResponseList<Subscribedto> call() throws Exception {
+                return facebook.getSubscribedto(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Subscribedto>> getSubscribedto(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Subscribedto>>() {
+            public ResponseList<Subscribedto> call() throws Exception {
+                return facebook.getSubscribedto(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Subscriber>> getSubscribers() {
+        return submit(new Callable<ResponseList<Subscriber>>() {
+            public ResponseList<Subscriber> call() throws Exception {
+                return facebook.getSubscribers();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Subscriber>> getSubscribers(final Reading reading) {
+        return submit(new Callable<ResponseList<Subscriber>>() {
+            public ResponseList<Subscriber> call() throws Exception {
+                return facebook.getSubscribers(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Subscriber>> getSubscribers(final String userId) {
+        return submit(new Callable<ResponseList<Subscriber>>() {
+            public ResponseList<Subscriber> call() throws Exception {
+                return facebook.getSubscribers(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Subscriber>> getSubscribers(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Subscriber>>() {
+            public ResponseList<Subscriber> call() throws Exception {
+                return facebook.getSubscribers(userId, reading);
+            }
+        });
+    }
+
+    /* Video Methods */
+
+    public CompletableFuture<ResponseList<Video>> getVideos() {
+        return submit(new Callable<ResponseList<Video>>() {
+            public ResponseList<Video> call() throws Exception {
+                return facebook.getVideos();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Video>> getVideos(final Reading reading) {
+        return submit(new Callable<ResponseList<Video>>() {
+            public ResponseList<Video> call() throws Exception {
+                return facebook.getVideos(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Video>> getVideos(final String userId) {
+        return submit(new Callable<ResponseList<Video>>() {
+            public ResponseList<Video> call() throws Exception {
+                return facebook.getVideos(userId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Video>> getVideos(final String userId, final Reading reading) {
+        return submit(new Callable<ResponseList<Video>>() {
+            public ResponseList<Video> call() throws Exception {
+                return facebook.getVideos(userId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postVideo(final Media source) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postVideo(source);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postVideo(final Media source, final String title, final String description) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postVideo(source, title, description);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postVideo(final String userId, final Media source) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postVideo(userId, source);
+            }
+        });
+    }
+
+    public CompletableFuture<String> postVideo(final String userId, final Media source, final String title, final String description) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.postVideo(userId, source, title, description);
+            }
+        });
+    }
+
+    public CompletableFuture<VideoUploadSession> startVideoUpload(final String userId, final File video, final String title, final String description) {
+        return submit(new Callable<VideoUploadSession>() {
+            public VideoUploadSession call() throws Exception {
+                return facebook.startVideoUpload(userId, video, title, description);
+            }
+        });
+    }
+
+    public CompletableFuture<String> resumeVideoUpload(final VideoUploadSession session, final VideoUploadListener listener) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.resumeVideoUpload(session, listener);
+            }
+        });
+    }
+
+    public CompletableFuture<Video> getVideo(final String videoId) {
+        return submit(new Callable<Video>() {
+            public Video call() throws Exception {
+                return facebook.getVideo(videoId);
+            }
+        });
+    }
+
+    public CompletableFuture<Video> getVideo(final String videoId, final Reading reading) {
+        return submit(new Callable<Video>() {
+            public Video call() throws Exception {
+                return facebook.getVideo(videoId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Like>> getVideoLikes(final String videoId) {
+        return submit(new Callable<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws Exception {
+                return facebook.getVideoLikes(videoId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Like>> getVideoLikes(final String videoId, final Reading reading) {
+        return submit(new Callable<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws Exception {
+                return facebook.getVideoLikes(videoId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> likeVideo(final String videoId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.likeVideo(videoId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> unlikeVideo(final String videoId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.unlikeVideo(videoId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Comment>> getVideoComments(final String videoId) {
+        return submit(new Callable<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws Exception {
+                return facebook.getVideoComments(videoId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Comment>> getVideoComments(final String videoId, final Reading reading) {
+        return submit(new Callable<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws Exception {
+                return facebook.getVideoComments(videoId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<String> commentVideo(final String videoId, final String message) {
+        return submit(new Callable<String>() {
+            public String call() throws Exception {
+                return facebook.commentVideo(videoId, message);
+            }
+        });
+    }
+
+    public CompletableFuture<URL> getVideoCover(final String videoId) {
+        return submit(new Callable<URL>() {
+            public URL call() throws Exception {
+                return facebook.getVideoCover(videoId);
+            }
+        });
+    }
+
+    /* Insight Methods */
+
+    public CompletableFuture<ResponseList<Insight>> getInsights(final String objectId, final String metric) {
+        return submit(new Callable<ResponseList<Insight>>() {
+            public ResponseList<Insight> call() throws Exception {
+                return facebook.getInsights(objectId, metric);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Insight>> getInsights(final String objectId, final String metric, final Reading reading) {
+        return submit(new Callable<ResponseList<Insight>>() {
+            public ResponseList<Insight> call() throws Exception {
+                return facebook.getInsights(objectId, metric, reading);
+            }
+        });
+    }
+
+    /* Search Methods */
+
+    public CompletableFuture<ResponseList<Post>> searchPosts(final String query) {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.searchPosts(query);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Post>> searchPosts(final String query, final Reading reading) {
+        return submit(new Callable<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws Exception {
+                return facebook.searchPosts(query, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<User>> searchUsers(final String query) {
+        return submit(new Callable<ResponseList<User>>() {
+            public ResponseList<User> call() throws Exception {
+                return facebook.searchUsers(query);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<User>> searchUsers(final String query, final Reading reading) {
+        return submit(new Callable<ResponseList<User>>() {
+            public ResponseList<User> call() throws Exception {
+                return facebook.searchUsers(query, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Event>> searchEvents(final String query) {
+        return submit(new Callable<ResponseList<Event>>() {
+            public ResponseList<Event> call() throws Exception {
+                return facebook.searchEvents(query);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Event>> searchEvents(final String query, final Reading reading) {
+        return submit(new Callable<ResponseList<Event>>() {
+            public ResponseList<Event> call() throws Exception {
+                return facebook.searchEvents(query, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Group>> searchGroups(final String query) {
+        return submit(new Callable<ResponseList<Group>>() {
+            public ResponseList<Group> call() throws Exception {
+                return facebook.searchGroups(query);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Group>> searchGroups(final String query, final Reading reading) {
+        return submit(new Callable<ResponseList<Group>>() {
+            public ResponseList<Group> call() throws Exception {
+                return facebook.searchGroups(query, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Place>> searchPlaces(final String query) {
+        return submit(new Callable<ResponseList<Place>>() {
+            public ResponseList<Place> call() throws Exception {
+                return facebook.searchPlaces(query);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Place>> searchPlaces(final String query, final Reading reading) {
+        return submit(new Callable<ResponseList<Place>>() {
+            public ResponseList<Place> call() throws Exception {
+                return facebook.searchPlaces(query, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Place>> searchPlaces(final String query, final GeoLocation center, final int distance) {
+        return submit(new Callable<ResponseList<Place>>() {
+            public ResponseList<Place> call() throws Exception {
+                return facebook.searchPlaces(query, center, distance);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Place>> searchPlaces(final String query, final GeoLocation center, final int distance, final Reading reading) {
+        return submit(new Callable<ResponseList<Place>>() {
+            public ResponseList<Place> call() throws Exception {
+                return facebook.searchPlaces(query, center, distance, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Checkin>> searchCheckins() {
+        return submit(new Callable<ResponseList<Checkin>>() {
+            public ResponseList<Checkin> call() throws Exception {
+                return facebook.searchCheckins();
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Checkin>> searchCheckins(final Reading reading) {
+        return submit(new Callable<ResponseList<Checkin>>() {
+            public ResponseList<Checkin> call() throws Exception {
+                return facebook.searchCheckins(reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Location>> searchLocations(final GeoLocation center, final int distance) {
+        return submit(new Callable<ResponseList<Location>>() {
+            public ResponseList<Location> call() throws Exception {
+                return facebook.searchLocations(center, distance);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Location>> searchLocations(final GeoLocation center, final int distance, final Reading reading) {
+        return submit(new Callable<ResponseList<Location>>() {
+            public ResponseList<Location> call() throws Exception {
+                return facebook.searchLocations(center, distance, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Location>> searchLocations(final String placeId) {
+        return submit(new Callable<ResponseList<Location>>() {
+            public ResponseList<Location> call() throws Exception {
+                return facebook.searchLocations(placeId);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<Location>> searchLocations(final String placeId, final Reading reading) {
+        return submit(new Callable<ResponseList<Location>>() {
+            public ResponseList<Location> call() throws Exception {
+                return facebook.searchLocations(placeId, reading);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<JSONObject>> search(final String query) {
+        return submit(new Callable<ResponseList<JSONObject>>() {
+            public ResponseList<JSONObject> call() throws Exception {
+                return facebook.search(query);
+            }
+        });
+    }
+
+    public CompletableFuture<ResponseList<JSONObject>> search(final String query, final Reading reading) {
+        return submit(new Callable<ResponseList<JSONObject>>() {
+            public ResponseList<JSONObject> call() throws Exception {
+                return facebook.search(query, reading);
+            }
+        });
+    }
+
+    /* TestUser Methods */
+
+    public CompletableFuture<TestUser> createTestUser(final String appId) {
+        return submit(new Callable<TestUser>() {
+            public TestUser call() throws Exception {
+                return facebook.createTestUser(appId);
+            }
+        });
+    }
+
+    public CompletableFuture<TestUser> createTestUser(final String appId, final String name, final String locale, final String permissions) {
+        return submit(new Callable<TestUser>() {
+            public TestUser call() throws Exception {
+                return facebook.createTestUser(appId, name, locale, permissions);
+            }
+        });
+    }
+
+    public CompletableFuture<List<TestUser>> getTestUsers(final String appId) {
+        return submit(new Callable<List<TestUser>>() {
+            public List<TestUser> call() throws Exception {
+                return facebook.getTestUsers(appId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> deleteTestUser(final String testUserId) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.deleteTestUser(testUserId);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> makeFriendTestUser(final TestUser testUser1, final TestUser testUser2) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return facebook.makeFriendTestUser(testUser1, testUser2);
+            }
+        });
+    }
+
+    /* FQL Methods */
+
+    public CompletableFuture<JSONArray> executeFQL(final String query) {
+        return submit(new Callable<JSONArray>() {
+            public JSONArray call() throws Exception {
+                return facebook.executeFQL(query);
+            }
+        });
+    }
+
+    public CompletableFuture<Map<String, JSONArray>> executeMultiFQL(final Map<String, String> queries) {
+        return submit(new Callable<Map<String, JSONArray>>() {
+            public Map<String, JSONArray> call() throws Exception {
+                return facebook.executeMultiFQL(queries);
+            }
+        });
+    }
+
+
+    /* Batch Requests Methods */
+
+    public CompletableFuture<List<BatchResponse>> executeBatch(final BatchRequests requests) {
+        return submit(new Callable<List<BatchResponse>>() {
+            public List<BatchResponse> call() throws Exception {
+                return facebook.executeBatch(requests);
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncFacebookImpl{" +
+                "facebook=" + facebook +
+                ", executor=" + executor +
+                '}';
+    }
+}
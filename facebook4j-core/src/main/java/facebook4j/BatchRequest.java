@@ -0,0 +1,198 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import facebook4j.internal.http.HttpParameter;
+import facebook4j.internal.http.RequestMethod;
+import facebook4j.internal.org.json.JSONException;
+import facebook4j.internal.org.json.JSONObject;
+
+/**
+ * A request in a batch.
+ *
+ * @see BatchRequests
+ * @see <a href="https://developers.facebook.com/docs/reference/api/batch/">Batch Requests - Facebook Developers</a>
+ */
+public class BatchRequest implements java.io.Serializable {
+    private static final long serialVersionUID = -3297185418446404413L;
+
+    private final RequestMethod method;
+    private final String relativeUrl;
+    private final List<HttpParameter> parameters = new ArrayList<HttpParameter>();
+    private String name;
+    private String dependsOn;
+    private boolean omitResponseOnSuccess = true;
+
+    public BatchRequest(RequestMethod method, String relativeUrl) {
+        if (method == null) {
+            throw new NullPointerException("method is null");
+        }
+        if (relativeUrl == null) {
+            throw new NullPointerException("relativeUrl is null");
+        }
+        this.method = method;
+        this.relativeUrl = relativeUrl;
+    }
+
+    public BatchRequest(RequestMethod method, String relativeUrl, HttpParameter[] parameters) {
+        this(method, relativeUrl);
+        if (parameters != null) {
+            for (HttpParameter parameter : parameters) {
+                this.parameters.add(parameter);
+            }
+        }
+    }
+
+    /**
+     * Returns a reference to the result of an earlier request in the same batch, to be used in a relative url or a parameter.<br>
+     * The earlier request must be named, and the referring request should depend on it.
+     *
+     * @param name the name of the earlier request
+     * @param jsonPath JSONPath expression into its result, e.g. "$.data.*.id"
+     * @return the reference expression
+     */
+    public static String result(String name, String jsonPath) {
+        return "{result=" + name + ":" + jsonPath + "}";
+    }
+
+    public RequestMethod getMethod() {
+        return method;
+    }
+
+    public String getRelativeUrl() {
+        return relativeUrl;
+    }
+
+    public List<HttpParameter> getParameters() {
+        return parameters;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public BatchRequest name(String name) {
+        setName(name);
+        return this;
+    }
+
+    public String getDependsOn() {
+        return dependsOn;
+    }
+
+    public void setDependsOn(String dependsOn) {
+        this.dependsOn = dependsOn;
+    }
+
+    public BatchRequest dependsOn(String dependsOn) {
+        setDependsOn(dependsOn);
+        return this;
+    }
+
+    public boolean isOmitResponseOnSuccess() {
+        return omitResponseOnSuccess;
+    }
+
+    /**
+     * Facebook omits the response of a named request by default once another request depends on it.
+     *
+     * @param omitResponseOnSuccess false to receive the response of this request as well
+     */
+    public void setOmitResponseOnSuccess(boolean omitResponseOnSuccess) {
+        this.omitResponseOnSuccess = omitResponseOnSuccess;
+    }
+
+    public BatchRequest omitResponseOnSuccess(boolean omitResponseOnSuccess) {
+        setOmitResponseOnSuccess(omitResponseOnSuccess);
+        return this;
+    }
+
+    public BatchRequest parameter(String name, String value) {
+        parameters.add(new HttpParameter(name, value));
+        return this;
+    }
+
+    /*package*/ JSONObject asJSONObject() {
+        JSONObject json = new JSONObject();
+        try {
+            json.put("method", method.name());
+            json.put("relative_url", relativeUrl);
+            if (parameters.size() > 0) {
+                json.put("body", HttpParameter.encodeParameters(parameters.toArray(new HttpParameter[parameters.size()])));
+            }
+            if (name != null) {
+                json.put("name", name);
+            }
+            if (dependsOn != null) {
+                json.put("depends_on", dependsOn);
+            }
+            if (!omitResponseOnSuccess) {
+                json.put("omit_response_on_success", false);
+            }
+        } catch (JSONException jsone) {
+            throw new AssertionError(jsone);
+        }
+        return json;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        BatchRequest that = (BatchRequest) o;
+
+        if (omitResponseOnSuccess != that.omitResponseOnSuccess) return false;
+        if (dependsOn != null ? !dependsOn.equals(that.dependsOn) : that.dependsOn != null) return false;
+        if (!method.equals(that.method)) return false;
+        if (name != null ? !name.equals(that.name) : that.name != null) return false;
+        if (!parameters.equals(that.parameters)) return false;
+        if (!relativeUrl.equals(that.relativeUrl)) return false;
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = method.hashCode();
+        result = 31 * result + relativeUrl.hashCode();
+        result = 31 * result + parameters.hashCode();
+        result = 31 * result + (name != null ? name.hashCode() : 0);
+        result = 31 * result + (dependsOn != null ? dependsOn.hashCode() : 0);
+        result = 31 * result + (omitResponseOnSuccess ? 1 : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchRequest{" +
+                "method=" + method +
+                ", relativeUrl='" + relativeUrl + '\'' +
+                ", parameters=" + parameters +
+                ", name='" + name + '\'' +
+                ", dependsOn='" + dependsOn + '\'' +
+                ", omitResponseOnSuccess=" + omitResponseOnSuccess +
+                '}';
+    }
+}
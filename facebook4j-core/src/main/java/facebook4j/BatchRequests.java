@@ -0,0 +1,163 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import facebook4j.internal.http.HttpParameter;
+import facebook4j.internal.http.RequestMethod;
+import facebook4j.internal.org.json.JSONArray;
+
+/**
+ * A builder that packs up to {@value #MAX_REQUESTS} Graph API requests into a single HTTP round trip.
+ * <pre>
+ * BatchRequests batch = new BatchRequests();
+ * batch.get("me", "friends", new Reading().limit(5)).name("get-friends").omitResponseOnSuccess(false);
+ * batch.add(new BatchRequest(RequestMethod.GET, "?ids=" + BatchRequest.result("get-friends", "$.data.*.id"))
+ *      .dependsOn("get-friends"));
+ * List&lt;BatchResponse&gt; responses = facebook.executeBatch(batch);
+ * </pre>
+ *
+ * @see Facebook#executeBatch(BatchRequests)
+ * @see <a href="https://developers.facebook.com/docs/reference/api/batch/">Batch Requests - Facebook Developers</a>
+ */
+public class BatchRequests implements java.io.Serializable {
+    private static final long serialVersionUID = 4290536618271366219L;
+
+    /**
+     * The maximum number of requests Facebook accepts in a batch.
+     */
+    public static final int MAX_REQUESTS = 50;
+
+    private final List<BatchRequest> requests = new ArrayList<BatchRequest>();
+
+    /**
+     * Adds a request to this batch.
+     *
+     * @param request the request
+     * @return this instance
+     * @throws IllegalStateException if this batch already holds {@value #MAX_REQUESTS} requests
+     */
+    public BatchRequests add(BatchRequest request) {
+        if (request == null) {
+            throw new NullPointerException("request is null");
+        }
+        if (requests.size() >= MAX_REQUESTS) {
+            throw new IllegalStateException("A batch cannot hold more than " + MAX_REQUESTS + " requests.");
+        }
+        requests.add(request);
+        return this;
+    }
+
+    public BatchRequest get(String id) {
+        return get(id, null, null);
+    }
+
+    public BatchRequest get(String id, Reading reading) {
+        return get(id, null, reading);
+    }
+
+    /**
+     * Adds a GET request to this batch.
+     *
+     * @param id the ID of the object
+     * @param connection the connection of the object, or null for the object itself
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return the added request
+     */
+    public BatchRequest get(String id, String connection, Reading reading) {
+        BatchRequest request = new BatchRequest(RequestMethod.GET, buildRelativeUrl(id, connection, reading));
+        add(request);
+        return request;
+    }
+
+    /**
+     * Adds a POST request to this batch.
+     *
+     * @param id the ID of the object
+     * @param connection the connection to publish to, or null to update the object itself
+     * @param parameters the parameters
+     * @return the added request
+     */
+    public BatchRequest post(String id, String connection, HttpParameter[] parameters) {
+        BatchRequest request = new BatchRequest(RequestMethod.POST, buildRelativeUrl(id, connection, null), parameters);
+        add(request);
+        return request;
+    }
+
+    public BatchRequest post(String id, String connection, PostUpdate postUpdate) {
+        return post(id, connection, postUpdate.asHttpParameterArray());
+    }
+
+    public BatchRequest delete(String id) {
+        return delete(id, null);
+    }
+
+    public BatchRequest delete(String id, String connection) {
+        BatchRequest request = new BatchRequest(RequestMethod.DELETE, buildRelativeUrl(id, connection, null));
+        add(request);
+        return request;
+    }
+
+    public List<BatchRequest> getRequests() {
+        return Collections.unmodifiableList(requests);
+    }
+
+    public int size() {
+        return requests.size();
+    }
+
+    private String buildRelativeUrl(String id, String connection, Reading reading) {
+        return id
+                + (connection == null ? "" : "/" + connection)
+                + (reading == null ? "" : "?" + reading.getQuery());
+    }
+
+    /*package*/ String asJSONArray() {
+        JSONArray array = new JSONArray();
+        for (BatchRequest request : requests) {
+            array.put(request.asJSONObject());
+        }
+        return array.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        BatchRequests that = (BatchRequests) o;
+
+        if (!requests.equals(that.requests)) return false;
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return requests.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "BatchRequests{" +
+                "requests=" + requests +
+                '}';
+    }
+}
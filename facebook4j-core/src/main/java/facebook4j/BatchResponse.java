@@ -0,0 +1,76 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import java.util.List;
+import java.util.Map;
+
+import facebook4j.internal.org.json.JSONObject;
+
+/**
+ * A result of a single request in a batch.<br>
+ * Each response carries its own status code, headers and body; a failed request does not fail the whole batch.
+ *
+ * @see Facebook#executeBatch(BatchRequests)
+ */
+public interface BatchResponse {
+    int getStatusCode();
+
+    String getResponseHeader(String name);
+
+    Map<String, List<String>> getResponseHeaderFields();
+
+    /**
+     * Returns the response body.
+     *
+     * @return the response body
+     */
+    String asString();
+
+    /**
+     * Returns the response body as JSONObject.
+     *
+     * @return the response body
+     * @throws FacebookException when this request failed, or the body is not a json object
+     */
+    JSONObject asJSONObject() throws FacebookException;
+
+    /**
+     * Decodes the response body into a single object.
+     *
+     * @param type the type of the object, e.g. Post.class or User.class
+     * @return the object
+     * @throws FacebookException when this request failed, or the type is not supported
+     */
+    <T> T asObject(Class<T> type) throws FacebookException;
+
+    /**
+     * Decodes the response body into a list.
+     *
+     * @param type the type of the elements, e.g. Post.class or Comment.class
+     * @return the list
+     * @throws FacebookException when this request failed, or the type is not supported
+     */
+    <T> ResponseList<T> asResponseList(Class<T> type) throws FacebookException;
+
+    /**
+     * Returns the error returned for this request.
+     *
+     * @return the error, or null if this request succeeded
+     */
+    FacebookException getException();
+}
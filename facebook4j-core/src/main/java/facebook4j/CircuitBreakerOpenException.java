@@ -0,0 +1,51 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+/**
+ * An exception class that will be thrown without sending the request when the circuit breaker of the endpoint is open,
+ * because the recent calls of the endpoint mostly failed or were slow.
+ *
+ * @see facebook4j.conf.Configuration#isCircuitBreakerEnabled()
+ */
+public class CircuitBreakerOpenException extends FacebookException {
+    private static final long serialVersionUID = 4181245903357246190L;
+
+    private final String endpoint;
+    private final long waitMillis;
+
+    public CircuitBreakerOpenException(String endpoint, long waitMillis) {
+        super("Circuit breaker of " + endpoint + " is open");
+        this.endpoint = endpoint;
+        this.waitMillis = waitMillis;
+    }
+
+    /**
+     * @return the endpoint, e.g. "insights"
+     * @see facebook4j.internal.http.HttpRequest#getEndpoint(String)
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return the time until the circuit lets a trial call through
+     */
+    public long getWaitMillis() {
+        return waitMillis;
+    }
+}
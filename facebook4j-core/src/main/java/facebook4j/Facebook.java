@@ -19,6 +19,7 @@ package facebook4j;
 import facebook4j.api.AccountMethods;
 import facebook4j.api.ActivityMethods;
 import facebook4j.api.AlbumMethods;
+import facebook4j.api.BatchRequestsMethods;
 import facebook4j.api.CheckinMethods;
 import facebook4j.api.CommentMethods;
 import facebook4j.api.DomainMethods;
@@ -83,5 +84,6 @@ public interface Facebook extends java.io.Serializable,
     InsightMethods,
     SearchMethods,
     TestUserMethods,
-    FQLMethods {
+    FQLMethods,
+    BatchRequestsMethods {
 }
@@ -16,10 +16,17 @@
 package facebook4j;
 
 import facebook4j.conf.ConfigurationContext;
+import facebook4j.internal.http.CircuitBreaker;
+import facebook4j.internal.http.HttpConnectionPool;
+import facebook4j.internal.http.RateLimiter;
 import facebook4j.internal.logging.Logger;
 import facebook4j.management.APIStatistics;
 import facebook4j.management.APIStatisticsMBean;
 import facebook4j.management.APIStatisticsOpenMBean;
+import facebook4j.management.CircuitBreakerStatisticsMBean;
+import facebook4j.management.ConnectionPoolStatisticsMBean;
+import facebook4j.management.ObjectCacheStatisticsMBean;
+import facebook4j.management.RateLimitStatisticsMBean;
 
 import javax.management.InstanceAlreadyExistsException;
 import javax.management.MBeanRegistrationException;
@@ -78,6 +85,14 @@ public class FacebookAPIMonitor {
                 APIStatisticsOpenMBean openMBean = new APIStatisticsOpenMBean(STATISTICS);
                 mbs.registerMBean(openMBean, oName);
             }
+            mbs.registerMBean(HttpConnectionPool.getInstance().getStatistics(),
+                    new ObjectName("facebook4j.mbean:type=ConnectionPoolStatistics"));
+            mbs.registerMBean(RateLimiter.getInstance().getStatistics(),
+                    new ObjectName("facebook4j.mbean:type=RateLimitStatistics"));
+            mbs.registerMBean(CircuitBreaker.getStatistics(),
+                    new ObjectName("facebook4j.mbean:type=CircuitBreakerStatistics"));
+            mbs.registerMBean(ObjectCache.getStatistics(),
+                    new ObjectName("facebook4j.mbean:type=ObjectCacheStatistics"));
         } catch (InstanceAlreadyExistsException e) {
             e.printStackTrace();
             logger.error(e.getMessage());
@@ -107,6 +122,22 @@ public class FacebookAPIMonitor {
         return STATISTICS;
     }
 
+    public ConnectionPoolStatisticsMBean getConnectionPoolStatistics() {
+        return HttpConnectionPool.getInstance().getStatistics();
+    }
+
+    public CircuitBreakerStatisticsMBean getCircuitBreakerStatistics() {
+        return CircuitBreaker.getStatistics();
+    }
+
+    public RateLimitStatisticsMBean getRateLimitStatistics() {
+        return RateLimiter.getInstance().getStatistics();
+    }
+
+    public ObjectCacheStatisticsMBean getObjectCacheStatistics() {
+        return ObjectCache.getStatistics();
+    }
+
     void methodCalled(String twitterUrl, long elapsedTime, boolean success) {
         Matcher matcher = pattern.matcher(twitterUrl);
         if (matcher.matches() && matcher.groupCount() > 0) {
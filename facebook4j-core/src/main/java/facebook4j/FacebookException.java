@@ -36,6 +36,7 @@ public class FacebookException extends Exception {
     private String errorType;
     private String errorMessage;
     private int errorCode = -1;
+    private boolean errorTransient;
 
     public FacebookException(String message, Throwable cause) {
         super(message, cause);
@@ -70,6 +71,7 @@ public class FacebookException extends Exception {
                     this.errorType = error.getString("type");
                     this.errorMessage = error.getString("message");
                     this.errorCode = error.getInt("code");
+                    this.errorTransient = error.optBoolean("is_transient");
                 }
             } catch (JSONException ignore) {
             }
@@ -96,7 +98,7 @@ public class FacebookException extends Exception {
         String value = null;
         if (response != null) {
             List<String> header = response.getResponseHeaderFields().get(name);
-            if (header.size() > 0) {
+            if (header != null && header.size() > 0) {
                 value = header.get(0);
             }
         }
@@ -112,6 +114,35 @@ public class FacebookException extends Exception {
         return getCause() instanceof java.io.IOException;
     }
 
+    /**
+     * Tests if the request was rejected by the rate limiting of Facebook
+     * (error code 4, 17, 32, 341 or 613)
+     *
+     * @return if the request was throttled
+     * @see <a href="https://developers.facebook.com/docs/graph-api/using-graph-api/error-handling">Handling Errors - Facebook Developers</a>
+     */
+    public boolean isThrottled() {
+        switch (errorCode) {
+            case 4:
+            case 17:
+            case 32:
+            case 341:
+            case 613:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Tests if Facebook reported the error as temporary (error code 1, 2 or <code>is_transient</code>)
+     *
+     * @return if the same request may succeed later
+     */
+    public boolean isTransient() {
+        return errorTransient || errorCode == 1 || errorCode == 2;
+    }
+
     /**
      * Tests if the exception is caused by non-existing resource
      *
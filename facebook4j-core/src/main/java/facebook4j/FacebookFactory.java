@@ -19,6 +19,7 @@ package facebook4j;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
 
 import facebook4j.auth.AccessToken;
 import facebook4j.auth.Authorization;
@@ -130,6 +131,10 @@ public final class FacebookFactory implements java.io.Serializable {
      * @since Twitter4J 2.1.9
      */
     public Facebook getInstance(AccessToken accessToken) {
+        return getInstance(getOAuthAuthorization(accessToken));
+    }
+
+    private OAuthAuthorization getOAuthAuthorization(AccessToken accessToken) {
         String appId = conf.getOAuthAppId();
         String appSecret = conf.getOAuthAppSecret();
         if (null == appId && null == appSecret) {
@@ -137,7 +142,7 @@ public final class FacebookFactory implements java.io.Serializable {
         }
         OAuthAuthorization oauth = new OAuthAuthorization(conf);
         oauth.setOAuthAccessToken(accessToken);
-        return getInstance(oauth);
+        return oauth;
     }
 
     public Facebook getInstance(Authorization auth) {
@@ -152,6 +157,44 @@ public final class FacebookFactory implements java.io.Serializable {
         }
     }
 
+    /**
+     * Returns an AsyncFacebook instance associated with the configuration bound to this factory.<br>
+     * Calls run on a pool of {@link Configuration#getAsyncNumThreads()} threads, which is shut down with the instance.
+     *
+     * @return an AsyncFacebook instance
+     */
+    public AsyncFacebook getAsyncInstance() {
+        return getAsyncInstance(AuthorizationFactory.getInstance(conf));
+    }
+
+    /**
+     * Returns an OAuth Authenticated AsyncFacebook instance.<br>
+     * app Id and app Secret must be provided by facebook4j.properties, or system properties.
+     *
+     * @param accessToken access token
+     * @return an AsyncFacebook instance
+     */
+    public AsyncFacebook getAsyncInstance(AccessToken accessToken) {
+        return getAsyncInstance(getOAuthAuthorization(accessToken));
+    }
+
+    public AsyncFacebook getAsyncInstance(Authorization auth) {
+        return getAsyncInstance(auth, null);
+    }
+
+    /**
+     * Returns an AsyncFacebook instance running its calls on the given executor.<br>
+     * The executor can be a bounded pool or a virtual-thread-per-task executor. It is not shut down by
+     * {@link AsyncFacebook#shutdown()}; the caller remains responsible for it.
+     *
+     * @param auth authorization
+     * @param executor the executor to run calls on, or null to use a pool of {@link Configuration#getAsyncNumThreads()} threads
+     * @return an AsyncFacebook instance
+     */
+    public AsyncFacebook getAsyncInstance(Authorization auth, ExecutorService executor) {
+        return new AsyncFacebookImpl(getInstance(auth), executor);
+    }
+
     /**
      * Returns default singleton Facebook instance.
      *
@@ -18,6 +18,7 @@ package facebook4j;
 
 import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
 
+import java.io.File;
 import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -29,9 +30,11 @@ import java.util.Map;
 
 import facebook4j.Question.Option;
 import facebook4j.auth.Authorization;
+import facebook4j.auth.OAuthAuthorization;
 import facebook4j.conf.Configuration;
 import facebook4j.internal.http.HttpParameter;
 import facebook4j.internal.http.HttpResponse;
+import facebook4j.internal.http.RequestMethod;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
@@ -47,6 +50,9 @@ import facebook4j.internal.util.z_F4JInternalStringUtil;
 class FacebookImpl extends FacebookBaseImpl implements Facebook {
     private static final long serialVersionUID = 6277119018105563020L;
 
+    private transient IdsCoalescer idsCoalescer;
+    private transient ObjectCache objectCache;
+
     /*package*/
     FacebookImpl(Configuration conf, Authorization auth) {
         super(conf, auth);
@@ -100,7 +106,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public User getMe(Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        User user = factory.createUser(get(buildURL("me", reading)));
+        User user = factory.createUser(get(buildURL("me", reading)), reading);
         return user;
     }
     
@@ -109,7 +115,14 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public User getUser(String userId, Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        User user = factory.createUser(get(buildURL(userId, reading)));
+        User user = getCachedObject(User.class, userId, reading);
+        long cacheVersion = getCacheVersion();
+        if (user == null) {
+            HttpResponse res = getObject(userId, reading);
+            int weight = getCacheWeight(res);
+            user = factory.createUser(res, reading);
+            cacheObject(User.class, userId, reading, user, weight, cacheVersion);
+        }
         return user;
     }
     
@@ -448,12 +461,19 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public Event getEvent(String eventId, Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        HttpResponse res = get(buildURL(eventId, reading));
+        Event event = getCachedObject(Event.class, eventId, reading);
+        long cacheVersion = getCacheVersion();
+        if (event != null) {
+            return event;
+        }
+        HttpResponse res = getObject(eventId, reading);
         String resStr = res.asString().trim();
         if (resStr.equals("false")) {
             return null;
         }
-        return factory.createEvent(res);
+        event = factory.createEvent(res);
+        cacheObject(Event.class, eventId, reading, event, getCacheWeight(res), cacheVersion);
+        return event;
     }
 
     public boolean editEvent(String eventId, EventUpdate eventUpdate) throws FacebookException {
@@ -473,7 +493,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public ResponseList<Post> getEventFeed(String eventId, Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        return factory.createPostList(get(buildURL(eventId, reading)));
+        return factory.createPostList(get(buildURL(eventId, reading)), reading);
     }
 
     public String postEventFeed(String eventId, PostUpdate postUpdate) throws FacebookException {
@@ -673,7 +693,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public ResponseList<Post> getFeed(String userId, Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        return factory.createPostList(get(buildURL(userId, "feed", reading)));
+        return factory.createPostList(get(buildURL(userId, "feed", reading)), reading);
     }
 
     public ResponseList<Post> getHome() throws FacebookException {
@@ -681,7 +701,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public ResponseList<Post> getHome(Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        return factory.createPostList(get(buildURL("me", "home", reading)));
+        return factory.createPostList(get(buildURL("me", "home", reading)), reading);
     }
 
     public ResponseList<Post> getPosts() throws FacebookException {
@@ -695,7 +715,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public ResponseList<Post> getPosts(String userId, Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        return factory.createPostList(get(buildURL(userId, "posts", reading)));
+        return factory.createPostList(get(buildURL(userId, "posts", reading)), reading);
     }
 
     public ResponseList<Post> getStatuses() throws FacebookException {
@@ -709,7 +729,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public ResponseList<Post> getStatuses(String userId, Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        return factory.createPostList(get(buildURL(userId, "statuses", reading)));
+        return factory.createPostList(get(buildURL(userId, "statuses", reading)), reading);
     }
 
     public Post getPost(String postId) throws FacebookException {
@@ -717,7 +737,15 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public Post getPost(String postId, Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        return factory.createPost(get(buildURL(postId, reading)));
+        Post post = getCachedObject(Post.class, postId, reading);
+        long cacheVersion = getCacheVersion();
+        if (post == null) {
+            HttpResponse res = getObject(postId, reading);
+            int weight = getCacheWeight(res);
+            post = factory.createPost(res, reading);
+            cacheObject(Post.class, postId, reading, post, weight, cacheVersion);
+        }
+        return post;
     }
 
     public boolean deletePost(String postId) throws FacebookException {
@@ -790,7 +818,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public ResponseList<Post> getTagged(String userId, Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        return factory.createPostList(get(buildURL(userId, "tagged", reading)));
+        return factory.createPostList(get(buildURL(userId, "tagged", reading)), reading);
     }
 
     public ResponseList<Friendlist> getFriendlists() throws FacebookException {
@@ -999,7 +1027,15 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public Group getGroup(String groupId, Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        return factory.createGroup(get(buildURL(groupId, reading)));
+        Group group = getCachedObject(Group.class, groupId, reading);
+        long cacheVersion = getCacheVersion();
+        if (group == null) {
+            HttpResponse res = get(buildURL(groupId, reading));
+            int weight = getCacheWeight(res);
+            group = factory.createGroup(res);
+            cacheObject(Group.class, groupId, reading, group, weight, cacheVersion);
+        }
+        return group;
     }
 
     public ResponseList<Post> getGroupFeed(String groupId) throws FacebookException {
@@ -1007,7 +1043,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public ResponseList<Post> getGroupFeed(String groupId, Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        return factory.createPostList(get(buildURL(groupId, "feed", reading)));
+        return factory.createPostList(get(buildURL(groupId, "feed", reading)), reading);
     }
 
     public ResponseList<GroupMember> getGroupMembers(String groupId) throws FacebookException {
@@ -1411,7 +1447,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public Photo getPhoto(String photoId, Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        return factory.createPhoto(get(buildURL(photoId, reading)));
+        return factory.createPhoto(getObject(photoId, reading));
     }
 
     public ResponseList<Comment> getPhotoComments(String photoId) throws FacebookException {
@@ -1727,6 +1763,55 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
         return getRawString("id", json);
     }
 
+    public VideoUploadSession startVideoUpload(String userId, File video, String title, String description) throws FacebookException {
+        ensureAuthorizationEnabled();
+        long fileSize = video.length();
+        JSONObject json = post(buildVideoURL(userId, "videos"), new HttpParameter[]{
+                new HttpParameter("upload_phase", "start"),
+                new HttpParameter("file_size", fileSize)
+        }).asJSONObject();
+        return new VideoUploadSession(userId, video, fileSize, title, description,
+                getRawString("upload_session_id", json), getRawString("video_id", json),
+                getPrimitiveLong("start_offset", json), getPrimitiveLong("end_offset", json));
+    }
+
+    public String resumeVideoUpload(VideoUploadSession session, VideoUploadListener listener) throws FacebookException {
+        ensureAuthorizationEnabled();
+        String url = buildVideoURL(session.getUserId(), "videos");
+        // Facebook returns the range of the next chunk with each transfer, so chunks are sent one after another
+        while (!session.isTransferred()) {
+            _transferVideoChunk(url, session);
+            if (listener != null) {
+                listener.onProgress(session);
+            }
+        }
+        List<HttpParameter> params = new ArrayList<HttpParameter>();
+        params.add(new HttpParameter("upload_phase", "finish"));
+        params.add(new HttpParameter("upload_session_id", session.getUploadSessionId()));
+        if (session.getTitle() != null) {
+            params.add(new HttpParameter("title", session.getTitle()));
+        }
+        if (session.getDescription() != null) {
+            params.add(new HttpParameter("description", session.getDescription()));
+        }
+        JSONObject json = post(url, params.toArray(new HttpParameter[params.size()])).asJSONObject();
+        if (!getBoolean("success", json)) {
+            throw new FacebookException("Failed to finish the video upload: " + json);
+        }
+        return session.getVideoId();
+    }
+
+    private void _transferVideoChunk(String url, VideoUploadSession session) throws FacebookException {
+        // the chunk is a range of the file, read again on each retry of the HttpClient
+        JSONObject json = post(url, new HttpParameter[]{
+                new HttpParameter("upload_phase", "transfer"),
+                new HttpParameter("upload_session_id", session.getUploadSessionId()),
+                new HttpParameter("start_offset", session.getStartOffset()),
+                session.getChunk("video_file_chunk")
+        }).asJSONObject();
+        session.setOffsets(getPrimitiveLong("start_offset", json), getPrimitiveLong("end_offset", json));
+    }
+
     public Video getVideo(String videoId) throws FacebookException {
         return getVideo(videoId, null);
     }
@@ -1788,7 +1873,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
 
     public ResponseList<Post> searchPosts(String query, Reading reading) throws FacebookException {
-        return factory.createPostList(get(buildSearchURL(query, "post", reading)));
+        return factory.createPostList(get(buildSearchURL(query, "post", reading)), reading);
     }
 
     public ResponseList<User> searchUsers(String query) throws FacebookException {
@@ -1796,7 +1881,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
 
     public ResponseList<User> searchUsers(String query, Reading reading) throws FacebookException {
-        return factory.createUserList(get(buildSearchURL(query, "user", reading)));
+        return factory.createUserList(get(buildSearchURL(query, "user", reading)), reading);
     }
 
     public ResponseList<Event> searchEvents(String query) throws FacebookException {
@@ -1971,6 +2056,20 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
         return Boolean.valueOf(res.asString().trim());
     }
     
+    /* Batch Requests Methods */
+
+    public List<BatchResponse> executeBatch(BatchRequests requests) throws FacebookException {
+        ensureAuthorizationEnabled();
+        HttpResponse res;
+        try {
+            res = post(conf.getRestBaseURL(),
+                    new HttpParameter[]{new HttpParameter("batch", requests.asJSONArray())});
+        } finally {
+            invalidateObjects(requests);
+        }
+        return factory.createBatchResponseList(res);
+    }
+
     /* Paging */
 
     @SuppressWarnings("unchecked")
@@ -2090,6 +2189,117 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     
     /* http methods */
     
+    private HttpResponse getObject(String id, Reading reading) throws FacebookException {
+        if (!conf.isIdsCoalescingEnabled()) {
+            return get(buildURL(id, reading));
+        }
+        return getIdsCoalescer().get(id, reading);
+    }
+
+    private synchronized IdsCoalescer getIdsCoalescer() {
+        if (idsCoalescer == null) {
+            idsCoalescer = new IdsCoalescer(conf, new IdsCoalescer.Fetcher() {
+                public HttpResponse get(String url) throws FacebookException {
+                    return FacebookImpl.this.get(url);
+                }
+            });
+        }
+        return idsCoalescer;
+    }
+
+    private <T> T getCachedObject(Class<T> type, String id, Reading reading) {
+        if (!conf.isObjectCacheEnabled()) {
+            return null;
+        }
+        return getObjectCache().get(type, id, reading);
+    }
+
+    /**
+     * Buffers the body of a response whose object is to be cached, before it is decoded.
+     *
+     * @return the weight of the object in the cache, i.e. the length of the body, or 0 if the cache is disabled
+     */
+    private int getCacheWeight(HttpResponse res) throws FacebookException {
+        if (!conf.isObjectCacheEnabled()) {
+            return 0;
+        }
+        String body = res.asString();
+        return body != null ? body.length() : 0;
+    }
+
+    /**
+     * @return the version of the cache to pass to {@link #cacheObject}, taken before the object is requested
+     */
+    private long getCacheVersion() {
+        if (!conf.isObjectCacheEnabled()) {
+            return 0;
+        }
+        return getObjectCache().getVersion();
+    }
+
+    private void cacheObject(Class<?> type, String id, Reading reading, Object object, int weight, long version) {
+        if (!conf.isObjectCacheEnabled()) {
+            return;
+        }
+        getObjectCache().put(type, id, reading, object, weight, version);
+    }
+
+    /**
+     * Drops the cached objects a POST or DELETE to the given url may have changed,
+     * i.e. those of the first path segment of the url (e.g. the post of /{post-id}/likes).
+     * Called once the write is over, so that a read made meanwhile cannot cache the object as it was before,
+     * and also when the write failed, as it may have been applied all the same.
+     */
+    private void invalidateObject(String url) {
+        if (!conf.isObjectCacheEnabled()) {
+            return;
+        }
+        if (url.startsWith(conf.getRestBaseURL())) {
+            invalidatePath(url.substring(conf.getRestBaseURL().length()));
+        } else if (url.startsWith(conf.getVideoBaseURL())) {
+            invalidatePath(url.substring(conf.getVideoBaseURL().length()));
+        }
+    }
+
+    /**
+     * Drops the cached objects the writes of a batch may have changed.
+     */
+    private void invalidateObjects(BatchRequests requests) {
+        if (!conf.isObjectCacheEnabled()) {
+            return;
+        }
+        for (BatchRequest request : requests.getRequests()) {
+            if (request.getMethod() != RequestMethod.GET && request.getRelativeUrl() != null) {
+                String path = request.getRelativeUrl();
+                invalidatePath(path.startsWith("/") ? path.substring(1) : path);
+            }
+        }
+    }
+
+    private void invalidatePath(String path) {
+        int end = path.length();
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == '/' || c == '?') {
+                end = i;
+                break;
+            }
+        }
+        if (end > 0) {
+            getObjectCache().invalidate(path.substring(0, end));
+        }
+    }
+
+    private synchronized ObjectCache getObjectCache() {
+        if (objectCache == null) {
+            objectCache = new ObjectCache(conf);
+        }
+        // objects read with another access token must not be served
+        objectCache.setOwner(auth instanceof OAuthAuthorization && auth.isEnabled()
+                ? ((OAuthAuthorization) auth).getOAuthAccessToken().getToken() : null);
+        return objectCache;
+    }
+
     private HttpResponse get(String url) throws FacebookException {
         if (!conf.isMBeanEnabled()) {
             return http.get(url, auth);
@@ -2142,70 +2352,86 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
 
     private HttpResponse post(String url) throws FacebookException {
-        if (!conf.isMBeanEnabled()) {
-            return http.post(url, auth);
-        } else {
-            // intercept HTTP call for monitoring purposes
-            HttpResponse response = null;
-            long start = System.currentTimeMillis();
-            try {
-                response = http.post(url, auth);
-            } finally {
-                long elapsedTime = System.currentTimeMillis() - start;
-                FacebookAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
+        try {
+            if (!conf.isMBeanEnabled()) {
+                return http.post(url, auth);
+            } else {
+                // intercept HTTP call for monitoring purposes
+                HttpResponse response = null;
+                long start = System.currentTimeMillis();
+                try {
+                    response = http.post(url, auth);
+                } finally {
+                    long elapsedTime = System.currentTimeMillis() - start;
+                    FacebookAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
+                }
+                return response;
             }
-            return response;
+        } finally {
+            invalidateObject(url);
         }
     }
 
     private HttpResponse post(String url, HttpParameter[] parameters) throws FacebookException {
-        if (!conf.isMBeanEnabled()) {
-            return http.post(url, parameters, (containsAccessToken(parameters) ? null : auth));
-        } else {
-            // intercept HTTP call for monitoring purposes
-            HttpResponse response = null;
-            long start = System.currentTimeMillis();
-            try {
-                response = http.post(url, parameters, (containsAccessToken(parameters) ? null : auth));
-            } finally {
-                long elapsedTime = System.currentTimeMillis() - start;
-                FacebookAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
+        try {
+            if (!conf.isMBeanEnabled()) {
+                return http.post(url, parameters, (containsAccessToken(parameters) ? null : auth));
+            } else {
+                // intercept HTTP call for monitoring purposes
+                HttpResponse response = null;
+                long start = System.currentTimeMillis();
+                try {
+                    response = http.post(url, parameters, (containsAccessToken(parameters) ? null : auth));
+                } finally {
+                    long elapsedTime = System.currentTimeMillis() - start;
+                    FacebookAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
+                }
+                return response;
             }
-            return response;
+        } finally {
+            invalidateObject(url);
         }
     }
 
     private HttpResponse delete(String url) throws FacebookException {
-        if (!conf.isMBeanEnabled()) {
-            return http.delete(url, auth);
-        } else {
-            // intercept HTTP call for monitoring purposes
-            HttpResponse response = null;
-            long start = System.currentTimeMillis();
-            try {
-                response = http.delete(url, auth);
-            } finally {
-                long elapsedTime = System.currentTimeMillis() - start;
-                FacebookAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
+        try {
+            if (!conf.isMBeanEnabled()) {
+                return http.delete(url, auth);
+            } else {
+                // intercept HTTP call for monitoring purposes
+                HttpResponse response = null;
+                long start = System.currentTimeMillis();
+                try {
+                    response = http.delete(url, auth);
+                } finally {
+                    long elapsedTime = System.currentTimeMillis() - start;
+                    FacebookAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
+                }
+                return response;
             }
-            return response;
+        } finally {
+            invalidateObject(url);
         }
     }
 
     private HttpResponse delete(String url, HttpParameter[] parameters) throws FacebookException {
-        if (!conf.isMBeanEnabled()) {
-            return http.delete(url, (containsAccessToken(parameters) ? null : auth));
-        } else {
-            // intercept HTTP call for monitoring purposes
-            HttpResponse response = null;
-            long start = System.currentTimeMillis();
-            try {
-                response = http.delete(url, parameters, (containsAccessToken(parameters) ? null : auth));
-            } finally {
-                long elapsedTime = System.currentTimeMillis() - start;
-                FacebookAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
+        try {
+            if (!conf.isMBeanEnabled()) {
+                return http.delete(url, (containsAccessToken(parameters) ? null : auth));
+            } else {
+                // intercept HTTP call for monitoring purposes
+                HttpResponse response = null;
+                long start = System.currentTimeMillis();
+                try {
+                    response = http.delete(url, parameters, (containsAccessToken(parameters) ? null : auth));
+                } finally {
+                    long elapsedTime = System.currentTimeMillis() - start;
+                    FacebookAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
+                }
+                return response;
             }
-            return response;
+        } finally {
+            invalidateObject(url);
         }
     }
     
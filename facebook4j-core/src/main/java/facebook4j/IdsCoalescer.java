@@ -0,0 +1,221 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import facebook4j.conf.Configuration;
+import facebook4j.internal.http.BufferedHttpResponse;
+import facebook4j.internal.http.HttpParameter;
+import facebook4j.internal.http.HttpResponse;
+import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.util.z_F4JInternalStringUtil;
+
+/**
+ * Merges concurrent single-object GETs that share the same reading options into one multi-id request (<code>?ids=a,b,c</code>)
+ * and hands each caller its own part of the result.<br>
+ * A caller that finds no other request of this coalescer in flight sends its own right away, so a lone GET is not
+ * delayed. Otherwise it opens a batch, waits for {@link Configuration#getIdsCoalescingWindowMillis()}, or until
+ * {@link Configuration#getIdsCoalescingMaxIds()} ids are pending, and then sends the request on behalf of all of them.
+ * If the multi-id request fails, each caller falls back to its own request so that one bad id does not fail the others.
+ * The same goes when the sending thread dies of an unexpected exception, which only that thread sees.
+ */
+/*package*/ final class IdsCoalescer {
+
+    /*package*/ interface Fetcher {
+        HttpResponse get(String url) throws FacebookException;
+    }
+
+    private final Configuration conf;
+    private final Fetcher fetcher;
+    // batches still accepting ids, keyed by reading query
+    private final Map<String, Batch> openBatches = new HashMap<String, Batch>();
+    // batches being filled or sent, guarded by openBatches
+    private int activeBatches = 0;
+
+    /*package*/ IdsCoalescer(Configuration conf, Fetcher fetcher) {
+        this.conf = conf;
+        this.fetcher = fetcher;
+    }
+
+    /*package*/ HttpResponse get(String id, Reading reading) throws FacebookException {
+        String query = reading == null ? "" : reading.getQuery();
+        Batch batch;
+        boolean leader = false;
+        synchronized (openBatches) {
+            batch = openBatches.get(query);
+            if (batch == null) {
+                batch = new Batch(query);
+                if (activeBatches == 0) {
+                    // nothing is in flight for other callers to join, waiting would only delay this one
+                    batch.closed = true;
+                } else {
+                    openBatches.put(query, batch);
+                }
+                activeBatches++;
+                leader = true;
+            }
+            batch.ids.add(id);
+            if (batch.ids.size() >= conf.getIdsCoalescingMaxIds()) {
+                close(batch);
+            }
+        }
+        if (leader) {
+            try {
+                awaitWindow(batch);
+                batch.execute();
+            } finally {
+                synchronized (openBatches) {
+                    activeBatches--;
+                }
+            }
+        }
+        return batch.get(id);
+    }
+
+    private void awaitWindow(Batch batch) {
+        synchronized (openBatches) {
+            long deadline = System.currentTimeMillis() + conf.getIdsCoalescingWindowMillis();
+            long remaining;
+            while (!batch.closed && (remaining = deadline - System.currentTimeMillis()) > 0) {
+                try {
+                    openBatches.wait(remaining);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            if (!batch.closed) {
+                close(batch);
+            }
+        }
+    }
+
+    // must be called while holding the lock on openBatches
+    private void close(Batch batch) {
+        batch.closed = true;
+        if (openBatches.get(batch.query) == batch) {
+            openBatches.remove(batch.query);
+        }
+        openBatches.notifyAll();
+    }
+
+    private String buildURL(String id, String query) {
+        return conf.getRestBaseURL() + id + (query.length() == 0 ? "" : "?" + query);
+    }
+
+    private final class Batch {
+        private final String query;
+        private final Set<String> ids = new LinkedHashSet<String>();
+        private boolean closed = false;
+
+        private boolean done = false;
+        // the request died of a RuntimeException or an Error, which only the leader rethrows
+        private boolean abandoned = false;
+        private int statusCode;
+        private Map<String, List<String>> headers;
+        private String body;
+        private JSONObject result;
+        private FacebookException error;
+
+        Batch(String query) {
+            this.query = query;
+        }
+
+        void execute() {
+            String[] idArray = ids.toArray(new String[ids.size()]);
+            String url;
+            if (idArray.length == 1) {
+                url = buildURL(idArray[0], query);
+            } else {
+                url = conf.getRestBaseURL() + "?ids=" + HttpParameter.encode(z_F4JInternalStringUtil.join(idArray))
+                        + (query.length() == 0 ? "" : "&" + query);
+            }
+            int statusCode = -1;
+            Map<String, List<String>> headers = null;
+            String body = null;
+            JSONObject result = null;
+            FacebookException error = null;
+            boolean completed = false;
+            try {
+                try {
+                    HttpResponse res = fetcher.get(url);
+                    statusCode = res.getStatusCode();
+                    headers = res.getResponseHeaderFields();
+                    if (idArray.length == 1) {
+                        body = res.asString();
+                    } else {
+                        result = res.asJSONObject();
+                    }
+                } catch (FacebookException fe) {
+                    error = fe;
+                }
+                completed = true;
+            } finally {
+                synchronized (this) {
+                    this.statusCode = statusCode;
+                    this.headers = headers;
+                    this.body = body;
+                    this.result = result;
+                    this.error = error;
+                    this.abandoned = !completed;
+                    this.done = true;
+                    notifyAll();
+                }
+            }
+        }
+
+        HttpResponse get(String id) throws FacebookException {
+            synchronized (this) {
+                boolean interrupted = false;
+                while (!done) {
+                    try {
+                        wait();
+                    } catch (InterruptedException ie) {
+                        // the leader is bound to finish the request, keep waiting for it
+                        interrupted = true;
+                    }
+                }
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (abandoned) {
+                return fetcher.get(buildURL(id, query));
+            }
+            if (error != null) {
+                if (ids.size() == 1) {
+                    throw error;
+                }
+                return fetcher.get(buildURL(id, query));
+            }
+            if (result == null) {
+                return new BufferedHttpResponse(conf, statusCode, body, headers);
+            }
+            Object part = result.opt(id);
+            if (part == null) {
+                // let the single request report why the id is missing
+                return fetcher.get(buildURL(id, query));
+            }
+            return new BufferedHttpResponse(conf, statusCode, part.toString(), headers);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import facebook4j.conf.Configuration;
+import facebook4j.management.ObjectCacheStatistics;
+
+/**
+ * Keeps the objects decoded by getUser, getPost, getEvent and getGroup, so that asking again for the same object
+ * with the same reading options costs neither a request nor any JSON work.<br>
+ * Entries are keyed by type, id and {@link Reading#getCanonicalQuery() canonical reading}, live for the time to live
+ * of their type, and are weighed by the length of the JSON they were decoded from; the least recently used ones
+ * are evicted once {@link Configuration#getObjectCacheMaxBytes()} is exceeded.
+ * The client drops the entries of an object once it has written to it. An object read while a write was made, i.e. from
+ * before the write was over to after the entries were dropped, may be the old one and is not cached.
+ */
+/*package*/ final class ObjectCache {
+
+    private static final ObjectCacheStatistics STATISTICS = new ObjectCacheStatistics();
+
+    private final int maxBytes;
+    private final Map<Class<?>, Long> ttlMillis = new HashMap<Class<?>, Long>();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+    private int totalBytes;
+    private String owner;
+    // incremented by every invalidation, so that the objects read meanwhile are not cached
+    private long version;
+
+    /*package*/ ObjectCache(Configuration conf) {
+        this.maxBytes = conf.getObjectCacheMaxBytes();
+        ttlMillis.put(User.class, conf.getObjectCacheUserTtlSeconds() * 1000L);
+        ttlMillis.put(Post.class, conf.getObjectCachePostTtlSeconds() * 1000L);
+        ttlMillis.put(Event.class, conf.getObjectCacheEventTtlSeconds() * 1000L);
+        ttlMillis.put(Group.class, conf.getObjectCacheGroupTtlSeconds() * 1000L);
+    }
+
+    /*package*/ static ObjectCacheStatistics getStatistics() {
+        return STATISTICS;
+    }
+
+    /**
+     * Drops every entry if the cache was filled on behalf of someone else, so that objects read with one access token
+     * are never served to another.
+     */
+    /*package*/ synchronized void setOwner(String owner) {
+        if (this.owner == null ? owner != null : !this.owner.equals(owner)) {
+            clear();
+            this.owner = owner;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    /*package*/ synchronized <T> T get(Class<T> type, String id, Reading reading) {
+        String key = key(type, id, reading);
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt <= System.currentTimeMillis()) {
+            remove(key);
+            entry = null;
+        }
+        if (entry == null) {
+            STATISTICS.miss();
+            return null;
+        }
+        STATISTICS.hit();
+        return (T) entry.value;
+    }
+
+    /**
+     * @return the version to pass to {@link #put}, taken before the object is requested
+     */
+    /*package*/ synchronized long getVersion() {
+        return version;
+    }
+
+    /*package*/ synchronized void put(Class<?> type, String id, Reading reading, Object value, int weight, long version) {
+        Long ttl = ttlMillis.get(type);
+        if (ttl == null || ttl <= 0 || weight > maxBytes || version != this.version) {
+            return;
+        }
+        String key = key(type, id, reading);
+        remove(key);
+        entries.put(key, new Entry(id, value, weight, System.currentTimeMillis() + ttl));
+        totalBytes += weight;
+        Iterator<Entry> it = entries.values().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Entry eldest = it.next();
+            it.remove();
+            totalBytes -= eldest.weight;
+            STATISTICS.evicted();
+        }
+    }
+
+    /*package*/ synchronized void invalidate(String id) {
+        version++;
+        int count = 0;
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.id.equals(id)) {
+                it.remove();
+                totalBytes -= entry.weight;
+                count++;
+            }
+        }
+        if (count > 0) {
+            STATISTICS.invalidated(count);
+        }
+    }
+
+    /*package*/ synchronized void clear() {
+        version++;
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    /*package*/ synchronized int size() {
+        return entries.size();
+    }
+
+    private void remove(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            totalBytes -= entry.weight;
+        }
+    }
+
+    private static String key(Class<?> type, String id, Reading reading) {
+        return type.getSimpleName() + " " + id + "?" + (reading == null ? "" : reading.getCanonicalQuery());
+    }
+
+    private static final class Entry {
+        private final String id;
+        private final Object value;
+        private final int weight;
+        private final long expiresAt;
+
+        private Entry(String id, Object value, int weight, long expiresAt) {
+            this.id = id;
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+/**
+ * An exception class that will be thrown when the client-side rate limiter refuses to send a request,
+ * because Facebook reported that the usage of the app, access token or ad account is close to its limit.
+ *
+ * @see facebook4j.conf.Configuration#isRateLimitEnabled()
+ */
+public class RateLimitExceededException extends FacebookException {
+    private static final long serialVersionUID = -2310743566387301849L;
+
+    private final long waitMillis;
+
+    public RateLimitExceededException(String message, long waitMillis) {
+        super(message);
+        this.waitMillis = waitMillis;
+    }
+
+    /**
+     * @return the estimated time until the rate limiter lets the request through
+     */
+    public long getWaitMillis() {
+        return waitMillis;
+    }
+}
@@ -17,10 +17,15 @@
 package facebook4j;
 
 import java.text.SimpleDateFormat;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 import facebook4j.internal.util.z_F4JInternalStringUtil;
 
@@ -47,6 +52,65 @@ public class Reading implements java.io.Serializable {
         return z_F4JInternalStringUtil.join(array, "&");
     }
 
+    /**
+     * Returns the query with its parameters, and the requested fields, in alphabetical order,
+     * so that readings asking for the same data give the same string.
+     */
+    /*package*/ String getCanonicalQuery() {
+        Map<String, String> sorted = new TreeMap<String, String>(parameterMap);
+        String fields = sorted.get("fields");
+        // nested fields, e.g. comments.limit(5){message}, are left as they are
+        if (fields != null && fields.indexOf('{') < 0 && fields.indexOf('(') < 0) {
+            Set<String> sortedFields = new TreeSet<String>();
+            for (String field : fields.split(",")) {
+                sortedFields.add(field.trim());
+            }
+            sorted.put("fields", z_F4JInternalStringUtil.join(sortedFields.toArray(new String[sortedFields.size()])));
+        }
+        StringBuilder query = new StringBuilder();
+        for (Map.Entry<String, String> param : sorted.entrySet()) {
+            if (query.length() > 0) {
+                query.append('&');
+            }
+            query.append(param.getKey()).append('=').append(param.getValue());
+        }
+        return query.toString();
+    }
+
+    /**
+     * Returns the names of the top-level fields requested by {@link #fields(String...)},
+     * e.g. "comments" for comments.limit(5){message}, or null if every field is requested.
+     */
+    public Set<String> getFields() {
+        String fields = parameterMap.get("fields");
+        if (fields == null) {
+            return null;
+        }
+        Set<String> names = new HashSet<String>();
+        int depth = 0;
+        int nameEnd = -1;
+        int start = 0;
+        for (int i = 0; i <= fields.length(); i++) {
+            char c = i < fields.length() ? fields.charAt(i) : ',';
+            if (c == '{' || c == '(') {
+                depth++;
+            } else if (c == '}' || c == ')') {
+                depth--;
+            }
+            if (depth == 0 && c == ',') {
+                String name = fields.substring(start, nameEnd < 0 ? i : nameEnd).trim();
+                if (name.length() > 0) {
+                    names.add(name);
+                }
+                start = i + 1;
+                nameEnd = -1;
+            } else if (nameEnd < 0 && (c == '.' || c == '{' || c == '(')) {
+                nameEnd = i;
+            }
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
     public Reading fields(String... fields) {
         if (fields == null) {
             throw new NullPointerException("fields is null");
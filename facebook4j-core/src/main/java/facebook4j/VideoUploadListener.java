@@ -0,0 +1,33 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+/**
+ * Receives the progress of a resumable video upload.
+ *
+ * @see facebook4j.api.VideoMethods#resumeVideoUpload(VideoUploadSession, VideoUploadListener)
+ */
+public interface VideoUploadListener {
+    /**
+     * Called each time a chunk has been transferred.<br>
+     * The session is a checkpoint of the upload; persisting it, e.g. with {@link VideoUploadSession#store(java.io.File)},
+     * allows the upload to be continued after a restart.
+     *
+     * @param session the upload session, with the offset of the next chunk
+     */
+    void onProgress(VideoUploadSession session);
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Properties;
+
+import facebook4j.internal.http.HttpParameter;
+
+/**
+ * The state of a resumable video upload, which doubles as its checkpoint.<br>
+ * Facebook decides the byte range of each chunk; the session always holds the range of the next chunk to transfer.
+ *
+ * @see facebook4j.api.VideoMethods#startVideoUpload(String, File, String, String)
+ * @see <a href="https://developers.facebook.com/docs/graph-api/video-uploads">Video Uploads - Facebook Developers</a>
+ */
+public final class VideoUploadSession implements java.io.Serializable {
+    private static final long serialVersionUID = -1583512950286498613L;
+
+    private final String userId;
+    private final File file;
+    private final long fileSize;
+    private final String title;
+    private final String description;
+    private final String uploadSessionId;
+    private final String videoId;
+    private long startOffset;
+    private long endOffset;
+
+    /*package*/ VideoUploadSession(String userId, File file, long fileSize, String title, String description,
+                                   String uploadSessionId, String videoId, long startOffset, long endOffset) {
+        this.userId = userId;
+        this.file = file;
+        this.fileSize = fileSize;
+        this.title = title;
+        this.description = description;
+        this.uploadSessionId = uploadSessionId;
+        this.videoId = videoId;
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getUploadSessionId() {
+        return uploadSessionId;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    /**
+     * @return the offset of the next chunk, i.e. the number of bytes transferred so far
+     */
+    public synchronized long getStartOffset() {
+        return startOffset;
+    }
+
+    public synchronized long getEndOffset() {
+        return endOffset;
+    }
+
+    /**
+     * @return true if all chunks have been transferred
+     */
+    public synchronized boolean isTransferred() {
+        return startOffset >= endOffset;
+    }
+
+    /*package*/ synchronized void setOffsets(long startOffset, long endOffset) {
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+    }
+
+    /**
+     * @return the range of the file to transfer next, which is read again from the file on each attempt
+     */
+    /*package*/ synchronized HttpParameter getChunk(String name) {
+        return new HttpParameter(name, file, startOffset, endOffset - startOffset);
+    }
+
+    /**
+     * Writes this session to the file so that the upload can be resumed with {@link #load(File)}.
+     *
+     * @param checkpoint the file to write
+     * @throws IOException when the file cannot be written
+     */
+    public synchronized void store(File checkpoint) throws IOException {
+        Properties props = new Properties();
+        props.setProperty("userId", userId);
+        props.setProperty("file", file.getAbsolutePath());
+        props.setProperty("fileSize", String.valueOf(fileSize));
+        if (title != null) {
+            props.setProperty("title", title);
+        }
+        if (description != null) {
+            props.setProperty("description", description);
+        }
+        props.setProperty("uploadSessionId", uploadSessionId);
+        props.setProperty("videoId", videoId);
+        props.setProperty("startOffset", String.valueOf(startOffset));
+        props.setProperty("endOffset", String.valueOf(endOffset));
+        // write to a temporary file first so that a crash never leaves a truncated checkpoint
+        File tmp = new File(checkpoint.getPath() + ".tmp");
+        OutputStream out = new FileOutputStream(tmp);
+        try {
+            props.store(out, "Facebook4J video upload session");
+        } finally {
+            out.close();
+        }
+        if (!tmp.renameTo(checkpoint)) {
+            checkpoint.delete();
+            if (!tmp.renameTo(checkpoint)) {
+                throw new IOException("Failed to write " + checkpoint);
+            }
+        }
+    }
+
+    /**
+     * Reads a session written by {@link #store(File)}.
+     *
+     * @param checkpoint the file to read
+     * @return the session
+     * @throws IOException when the file cannot be read
+     */
+    public static VideoUploadSession load(File checkpoint) throws IOException {
+        Properties props = new Properties();
+        InputStream in = new FileInputStream(checkpoint);
+        try {
+            props.load(in);
+        } finally {
+            in.close();
+        }
+        try {
+            return new VideoUploadSession(props.getProperty("userId"),
+                    new File(props.getProperty("file")),
+                    Long.parseLong(props.getProperty("fileSize")),
+                    props.getProperty("title"),
+                    props.getProperty("description"),
+                    props.getProperty("uploadSessionId"),
+                    props.getProperty("videoId"),
+                    Long.parseLong(props.getProperty("startOffset")),
+                    Long.parseLong(props.getProperty("endOffset")));
+        } catch (RuntimeException re) {
+            throw new IOException("Malformed checkpoint: " + checkpoint, re);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        VideoUploadSession that = (VideoUploadSession) o;
+
+        if (!uploadSessionId.equals(that.uploadSessionId)) return false;
+        if (getStartOffset() != that.getStartOffset()) return false;
+        if (getEndOffset() != that.getEndOffset()) return false;
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return uploadSessionId.hashCode();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "VideoUploadSession{" +
+                "userId='" + userId + '\'' +
+                ", file=" + file +
+                ", fileSize=" + fileSize +
+                ", title='" + title + '\'' +
+                ", description='" + description + '\'' +
+                ", uploadSessionId='" + uploadSessionId + '\'' +
+                ", videoId='" + videoId + '\'' +
+                ", startOffset=" + startOffset +
+                ", endOffset=" + endOffset +
+                '}';
+    }
+}
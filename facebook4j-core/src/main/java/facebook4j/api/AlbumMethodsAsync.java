@@ -0,0 +1,205 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.Album;
+import facebook4j.AlbumCreate;
+import facebook4j.Comment;
+import facebook4j.Like;
+import facebook4j.Media;
+import facebook4j.Photo;
+import facebook4j.Reading;
+import facebook4j.ResponseList;
+
+/**
+ * Asynchronous version of {@link AlbumMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface AlbumMethodsAsync {
+    /**
+     * Returns the photo albums the current user has created.
+     * @return albums
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - albums
+     */
+    CompletableFuture<ResponseList<Album>> getAlbums();
+
+    /**
+     * Returns the photo albums the current user has created.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return albums
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#albums">User#albums - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Album>> getAlbums(Reading reading);
+
+    /**
+     * Returns the photo albums a user has created.
+     * @param userId the ID of a user
+     * @return albums
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#albums">User#albums - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Album>> getAlbums(String userId);
+
+    /**
+     * Returns the photo albums a user has created.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return albums
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#albums">User#albums - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Album>> getAlbums(String userId, Reading reading);
+
+    /**
+     * Creates the current user's photo album.
+     * @param albumCreate the album to be created
+     * @return The new album ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#albums">User#albums - Facebook Developers</a>
+     */
+    CompletableFuture<String> createAlbum(AlbumCreate albumCreate);
+
+    /**
+     * Creates the user's photo album.
+     * @param userId the ID of a user
+     * @param albumCreate the album to be created
+     * @return The new album ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#albums">User#albums - Facebook Developers</a>
+     */
+    CompletableFuture<String> createAlbum(String userId, AlbumCreate albumCreate);
+
+    /**
+     * Returns a single photo album.
+     * @param albumId the ID of a album
+     * @return album
+     * @see <a href="https://developers.facebook.com/docs/reference/api/album/">Album - Facebook Developers</a>
+     */
+    CompletableFuture<Album> getAlbum(String albumId);
+
+    /**
+     * Returns a single photo album.
+     * @param albumId the ID of a album
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return album
+     * @see <a href="https://developers.facebook.com/docs/reference/api/album/">Album - Facebook Developers</a>
+     */
+    CompletableFuture<Album> getAlbum(String albumId, Reading reading);
+
+    /**
+     * Returns the photos contained in the album.
+     * @param albumId the ID of a album
+     * @return photos
+     * @see <a href="https://developers.facebook.com/docs/reference/api/album/#photos">Album#photos - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Photo>> getAlbumPhotos(String albumId);
+
+    /**
+     * Returns the photos contained in the album.
+     * @param albumId the ID of a album
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return photos
+     * @see <a href="https://developers.facebook.com/docs/reference/api/album/#photos">Album#photos - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Photo>> getAlbumPhotos(String albumId, Reading reading);
+
+    /**
+     * Adds a photo to the album.
+     * @param albumId the ID of a album
+     * @param source photo content
+     * @return The new photo ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/album/#photos">Album#photos - Facebook Developers</a>
+     */
+    CompletableFuture<String> addAlbumPhoto(String albumId, Media source);
+
+    /**
+     * Adds a photo to the album.
+     * @param albumId the ID of a album
+     * @param source photo content
+     * @param message photo description
+     * @return The new photo ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/album/#photos">Album#photos - Facebook Developers</a>
+     */
+    CompletableFuture<String> addAlbumPhoto(String albumId, Media source, String message);
+
+    /**
+     * Returns the comments made on the album.
+     * @param albumId the ID of a album
+     * @return comments
+     * @see <a href="https://developers.facebook.com/docs/reference/api/album/#comments">Album#comments - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Comment>> getAlbumComments(String albumId);
+
+    /**
+     * Returns the comments made on the album.
+     * @param albumId the ID of a album
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return comments
+     * @see <a href="https://developers.facebook.com/docs/reference/api/album/#comments">Album#comments - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Comment>> getAlbumComments(String albumId, Reading reading);
+
+    /**
+     * Comments on the album.
+     * @param albumId the ID of a album
+     * @param message comment text
+     * @return The new comment ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/album/#comments">Album#comments - Facebook Developers</a>
+     */
+    CompletableFuture<String> commentAlbum(String albumId, String message);
+
+    /**
+     * Returns likes made on the album.
+     * @param albumId the ID of a album
+     * @return likes
+     * @see <a href="https://developers.facebook.com/docs/reference/api/album/#likes">Album#likes - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Like>> getAlbumLikes(String albumId);
+
+    /**
+     * Returns likes made on the album.
+     * @param albumId the ID of a album
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a> see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return likes
+     * @see <a href="https://developers.facebook.com/docs/reference/api/album/#likes">Album#likes - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Like>> getAlbumLikes(String albumId, Reading reading);
+
+    /**
+     * Likes the album.
+     * @param albumId the ID of a album
+     * @return true if like is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/album/#likes">Album#likes - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> likeAlbum(String albumId);
+
+    /**
+     * Unlikes the album.
+     * @param albumId the ID of a album
+     * @return true if unlike is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/album/#likes">Album#likes - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> unlikeAlbum(String albumId);
+
+    /**
+     * Returns url of the album's cover photo.
+     * @param albumId the ID of a album
+     * @return url
+     * @see <a href="https://developers.facebook.com/docs/reference/api/album/">Album - Facebook Developers</a> - Connections - picture
+     */
+    CompletableFuture<URL> getAlbumCoverPhoto(String albumId);
+}
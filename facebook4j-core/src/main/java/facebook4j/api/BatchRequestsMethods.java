@@ -0,0 +1,34 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.util.List;
+
+import facebook4j.BatchRequests;
+import facebook4j.BatchResponse;
+import facebook4j.FacebookException;
+
+public interface BatchRequestsMethods {
+    /**
+     * Executes the requests in a single HTTP round trip.
+     * @param requests requests to execute, up to 50
+     * @return responses in the order of the requests. an element is null if its response was omitted on success.
+     * @throws FacebookException when Facebook service or network is unavailable
+     * @see <a href="https://developers.facebook.com/docs/reference/api/batch/">Batch Requests - Facebook Developers</a>
+     */
+    List<BatchResponse> executeBatch(BatchRequests requests) throws FacebookException;
+}
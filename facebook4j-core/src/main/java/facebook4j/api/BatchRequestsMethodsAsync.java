@@ -0,0 +1,38 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.BatchRequests;
+import facebook4j.BatchResponse;
+
+/**
+ * Asynchronous version of {@link BatchRequestsMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface BatchRequestsMethodsAsync {
+    /**
+     * Executes the requests in a single HTTP round trip.
+     * @param requests requests to execute, up to 50
+     * @return responses in the order of the requests. an element is null if its response was omitted on success.
+     * @see <a href="https://developers.facebook.com/docs/reference/api/batch/">Batch Requests - Facebook Developers</a>
+     */
+    CompletableFuture<List<BatchResponse>> executeBatch(BatchRequests requests);
+}
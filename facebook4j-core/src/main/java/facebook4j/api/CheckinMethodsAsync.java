@@ -0,0 +1,160 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.Checkin;
+import facebook4j.CheckinCreate;
+import facebook4j.Comment;
+import facebook4j.Like;
+import facebook4j.Reading;
+import facebook4j.ResponseList;
+
+/**
+ * Asynchronous version of {@link CheckinMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface CheckinMethodsAsync {
+    /**
+     * Returns the places that the current user has checked-into.
+     * @return checkins
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#checkins">User#checkins - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Checkin>> getCheckins();
+
+    /**
+     * Returns the places that the current user has checked-into.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return checkins
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#checkins">User#checkins - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Checkin>> getCheckins(Reading reading);
+
+    /**
+     * Returns the places that a user has checked-into.
+     * @param userId the ID of a user
+     * @return checkins
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#checkins">User#checkins - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Checkin>> getCheckins(String userId);
+
+    /**
+     * Returns the places that a user has checked-into.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return checkins
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#checkins">User#checkins - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Checkin>> getCheckins(String userId, Reading reading);
+
+    /**
+     * Checkins the place as the current user.
+     * @param checkinCreate the checkin to be created
+     * @return The new checkin ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#checkins">User#checkins - Facebook Developers</a>
+     * @deprecated creating a Post with a location attached
+     */
+    CompletableFuture<String> checkin(CheckinCreate checkinCreate);
+
+    /**
+     * Checkins the place as a user.
+     * @param userId the ID of a user
+     * @param checkinCreate the checkin to be created
+     * @return The new checkin ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#checkins">User#checkins - Facebook Developers</a>
+     * @deprecated creating a Post with a location attached
+     */
+    CompletableFuture<String> checkin(String userId, CheckinCreate checkinCreate);
+
+    /**
+     * Returns a single checkin information.
+     * @param checkinId the ID of a checkin
+     * @return checkin
+     * @see <a href="https://developers.facebook.com/docs/reference/api/checkin/">Checkin - Facebook Developers</a>
+     */
+    CompletableFuture<Checkin> getCheckin(String checkinId);
+
+    /**
+     * Returns a single checkin information.
+     * @param checkinId the ID of a checkin
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a> see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return checkin
+     * @see <a href="https://developers.facebook.com/docs/reference/api/checkin/">Checkin - Facebook Developers</a>
+     */
+    CompletableFuture<Checkin> getCheckin(String checkinId, Reading reading);
+
+    /**
+     * Returns the comments on a checkin.
+     * @param checkinId the ID of a checkin
+     * @return comments
+     * @see <a href="https://developers.facebook.com/docs/reference/api/checkin/#comments">Checkin#comments - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Comment>> getCheckinComments(String checkinId);
+
+    /**
+     * Returns the comments on a checkin.
+     * @param checkinId the ID of a checkin
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a> see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return comments
+     * @see <a href="https://developers.facebook.com/docs/reference/api/checkin/#comments">Checkin#comments - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Comment>> getCheckinComments(String checkinId, Reading reading);
+
+    /**
+     * Comments on a checkin.
+     * @param checkinId the ID of a checkin
+     * @param message comment text
+     * @return The new comment ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/checkin/#comments">Checkin#comments - Facebook Developers</a>
+     */
+    CompletableFuture<String> commentCheckin(String checkinId, String message);
+
+    /**
+     * Returns the users who like a checkin.
+     * @param checkinId the ID of a checkin
+     * @return likes
+     * @see <a href="https://developers.facebook.com/docs/reference/api/checkin/#likes">Checkin#likes - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Like>> getCheckinLikes(String checkinId);
+
+    /**
+     * Returns the users who like a checkin.
+     * @param checkinId the ID of a checkin
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a> see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return likes
+     * @see <a href="https://developers.facebook.com/docs/reference/api/checkin/#likes">Checkin#likes - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Like>> getCheckinLikes(String checkinId, Reading reading);
+
+    /**
+     * Likes the checkin.
+     * @param checkinId the ID of a checkin
+     * @return true if like is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/checkin/#likes">Checkin#likes - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> likeCheckin(String checkinId);
+
+    /**
+     * Unlikes the checkin.
+     * @param checkinId the ID of a checkin
+     * @return true if unlike is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/checkin/#likes">Checkin#likes - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> unlikeCheckin(String checkinId);
+}
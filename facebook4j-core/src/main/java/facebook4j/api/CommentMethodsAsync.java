@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.Comment;
+import facebook4j.Like;
+import facebook4j.Reading;
+import facebook4j.ResponseList;
+
+/**
+ * Asynchronous version of {@link CommentMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface CommentMethodsAsync {
+    /**
+     * Returns a single comment.
+     * @param commentId the ID of a comment
+     * @return comment
+     * @see <a href="https://developers.facebook.com/docs/reference/api/Comment/">Comment - Facebook Developers</a>
+     */
+    CompletableFuture<Comment> getComment(String commentId);
+
+    /**
+     * Deletes the comment.
+     * @param commentId the ID of a comment
+     * @return true if delete is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/Comment/">Comment - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> deleteComment(String commentId);
+
+    /**
+     * Returns the likes on a comment.
+     * @param commentId the ID of a comment
+     * @return likes
+     * @see <a href="https://developers.facebook.com/docs/reference/api/Comment/#likes">Comment#likes - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Like>> getCommentLikes(String commentId);
+
+    /**
+     * Returns the likes on a comment.
+     * @param commentId the ID of a comment
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return likes
+     * @see <a href="https://developers.facebook.com/docs/reference/api/Comment/#likes">Comment#likes - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Like>> getCommentLikes(String commentId, Reading reading);
+
+    /**
+     * Likes the comment.
+     * @param commentId the ID of a comment
+     * @return true if like is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/Comment/#likes">Comment#likes - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> likeComment(String commentId);
+
+    /**
+     * Unlikes the comment.
+     * @param commentId the ID of a comment
+     * @return true if unlike is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/Comment/#likes">Comment#likes - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> unlikeComment(String commentId);
+}
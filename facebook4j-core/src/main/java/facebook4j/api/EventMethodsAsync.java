@@ -0,0 +1,414 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.Event;
+import facebook4j.EventUpdate;
+import facebook4j.Media;
+import facebook4j.Photo;
+import facebook4j.PictureSize;
+import facebook4j.Post;
+import facebook4j.PostUpdate;
+import facebook4j.RSVPStatus;
+import facebook4j.Reading;
+import facebook4j.ResponseList;
+import facebook4j.Video;
+
+/**
+ * Asynchronous version of {@link EventMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface EventMethodsAsync {
+    /**
+     * Returns the events the current user is attending.
+     * @return events
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - events
+     */
+    CompletableFuture<ResponseList<Event>> getEvents();
+
+    /**
+     * Returns the events the current user is attending.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return events
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - events
+     */
+    CompletableFuture<ResponseList<Event>> getEvents(Reading reading);
+
+    /**
+     * Returns the events a user is attending.
+     * @param userId the ID of a user
+     * @return events
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - events
+     */
+    CompletableFuture<ResponseList<Event>> getEvents(String userId);
+
+    /**
+     * Returns the events a user is attending.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return events
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - events
+     */
+    CompletableFuture<ResponseList<Event>> getEvents(String userId, Reading reading);
+
+    /**
+     * Creates the event for the current user.
+     * @param eventUpdate a event to be created
+     * @return The new event ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#events">User#events - Facebook Developers</a>
+     */
+    CompletableFuture<String> createEvent(EventUpdate eventUpdate);
+
+    /**
+     * Creates the event for a user.
+     * @param userId the ID of a user
+     * @param eventUpdate a event to be created
+     * @return The new event ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#events">User#events - Facebook Developers</a>
+     */
+    CompletableFuture<String> createEvent(String userId, EventUpdate eventUpdate);
+
+    /**
+     * Updates the event.
+     * @param eventId the ID of a event
+     * @param eventUpdate the event to be updated
+     * @return true if update is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#events">User#events - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> editEvent(String eventId, EventUpdate eventUpdate);
+
+    /**
+     * Deletes the event.
+     * @param eventId the ID of a event
+     * @return true if delete is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#events">User#events - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> deleteEvent(String eventId);
+
+    /**
+     * Returns a single event.
+     * @param eventId the ID of a event
+     * @return event
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/">Event - Facebook Developers</a>
+     */
+    CompletableFuture<Event> getEvent(String eventId);
+
+    /**
+     * Returns a single event.
+     * @param eventId the ID of a event
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return event
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/">Event - Facebook Developers</a>
+     */
+    CompletableFuture<Event> getEvent(String eventId, Reading reading);
+
+    /**
+     * Returns the event's wall.
+     * @param eventId the ID of a event
+     * @return event's feed
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#feed">Event#feed - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Post>> getEventFeed(String eventId);
+
+    /**
+     * Returns the event's wall.
+     * @param eventId the ID of a event
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return event's feed
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#feed">Event#feed - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Post>> getEventFeed(String eventId, Reading reading);
+
+    /**
+     * Creates the post on a event's wall.
+     * @param eventId the ID of a event
+     * @param postUpdate the post to be created
+     * @return The new post ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#posts">Event#posts - Facebook Developers</a>
+     */
+    CompletableFuture<String> postEventFeed(String eventId, PostUpdate postUpdate);
+
+    /**
+     * Posts the link on a event's wall.
+     * @param eventId the ID of a event
+     * @param link link URL
+     * @return The new link ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#links">Event#links - Facebook Developers</a>
+     */
+    CompletableFuture<String> postEventLink(String eventId, URL link);
+
+    /**
+     * Posts the link on a event's wall.
+     * @param eventId the ID of a event
+     * @param link link URL
+     * @param message link message
+     * @return The new link ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#links">Event#links - Facebook Developers</a>
+     */
+    CompletableFuture<String> postEventLink(String eventId, URL link, String message);
+
+    /**
+     * Posts the status message on a event's wall.
+     * @param eventId the ID of a event
+     * @param message status message content
+     * @return The new status message ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#statuses">Event#statuses - Facebook Developers</a>
+     */
+    CompletableFuture<String> postEventStatusMessage(String eventId, String message);
+
+    /**
+     * Returns a list of all users who have not replied to the event.
+     * @param eventId the ID of a event
+     * @return a list of all users who have not replied to the event
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#noreply">Event#noreply - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<RSVPStatus>> getRSVPStatusAsNoreply(String eventId);
+
+    /**
+     * Returns a single user who have not replied to the event.
+     * @param eventId the ID of a event
+     * @return a single users who have not replied to the event
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#noreply">Event#noreply - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<RSVPStatus>> getRSVPStatusAsNoreply(String eventId, String userId);
+
+    /**
+     * Returns a list of invitees for the event.
+     * @param eventId the ID of a event
+     * @return a list of invitees for the event
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#invited">Event#invited - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<RSVPStatus>> getRSVPStatusAsInvited(String eventId);
+
+    /**
+     * Checks a specific user has been invited to the event.
+     * @param eventId the ID of a event
+     * @param userId the ID of a user
+     * @return the user has been invited to this event
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#invited">Event#invited - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<RSVPStatus>> getRSVPStatusAsInvited(String eventId, String userId);
+
+    /**
+     * Invites a user to the event.
+     * @param eventId the ID of a event
+     * @param userId the ID of the user
+     * @return the user has been invited to this event
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#invited">Event#invited - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> inviteToEvent(String eventId, String userId);
+
+    /**
+     * Invites users to the event.
+     * @param eventId the ID of a event
+     * @param userIds the IDs of users
+     * @return true if the invite is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#invited">Event#invited - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> inviteToEvent(String eventId, String[] userIds);
+
+    /**
+     * Un-invites user from the event.
+     * @param eventId the ID of a event
+     * @param userId the ID of a user
+     * @return true if the un-invite is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#invited">Event#invited - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> uninviteFromEvent(String eventId, String userId);
+
+    /**
+     * Returns a list of all users who responded 'yes' to the event.
+     * @param eventId the ID of a event
+     * @return a list of all users who responded 'yes' to the event
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#attending">Event#attending - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<RSVPStatus>> getRSVPStatusInAttending(String eventId);
+
+    /**
+     * Checks a specific user responded 'yes' to the event.
+     * @param eventId the ID of a event
+     * @param userId the ID of a user
+     * @return a specific user responded 'yes' to the event
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#attending">Event#attending - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<RSVPStatus>> getRSVPStatusInAttending(String eventId, String userId);
+
+    /**
+     * RSVPs the current user as 'attending' the event.
+     * @param eventId the ID of a event
+     * @return true if the RSVP is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#attending">Event#attending - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> rsvpEventAsAttending(String eventId);
+
+    /**
+     * Returns a list of all users who responded 'maybe' to the event.
+     * @param eventId the ID of a event
+     * @return a list of all users who responded 'maybe' to the event
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#maybe">Event#maybe - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<RSVPStatus>> getRSVPStatusInMaybe(String eventId);
+
+    /**
+     * Checks a specific user responded 'maybe' to the event.
+     * @param eventId the ID of a event
+     * @param userId the ID of a user
+     * @return a specific user responded 'maybe' to the event
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#maybe">Event#maybe - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<RSVPStatus>> getRSVPStatusInMaybe(String eventId, String userId);
+
+    /**
+     * RSVPs the current user as 'maybe' the event.
+     * @param eventId the ID of a event
+     * @return true if the RSVP is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#maybe">Event#maybe - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> rsvpEventAsMaybe(String eventId);
+
+    /**
+     * Returns a list of all users who responded 'no' to the event.
+     * @param eventId the ID of a event
+     * @return a list of all users who responded 'no' to the event
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#declined">Event#declined - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<RSVPStatus>> getRSVPStatusInDeclined(String eventId);
+
+    /**
+     * Checks a specific user responded 'no' to the event.
+     * @param eventId the ID of a event
+     * @param userId the ID of a user
+     * @return a specific user responded 'no' to the event
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#declined">Event#declined - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<RSVPStatus>> getRSVPStatusInDeclined(String eventId, String userId);
+
+    /**
+     * RSVPs the current user as 'declined' the event.
+     * @param eventId the ID of a event
+     * @return true if the RSVP is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#declined">Event#declined - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> rsvpEventAsDeclined(String eventId);
+
+    /**
+     * Returns url of the event's profile picture.
+     * @param eventId the ID of a event
+     * @return url
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#picture">Event#picture - Facebook Developers</a>
+     */
+    CompletableFuture<URL> getEventPictureURL(String eventId);
+
+    /**
+     * Returns url of the event's profile picture.
+     * @param eventId the ID of a event
+     * @param size picture size
+     * @return url
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#picture">Event#picture - Facebook Developers</a>
+     */
+    CompletableFuture<URL> getEventPictureURL(String eventId, PictureSize size);
+
+    /**
+     * Updates the event's profile picture.
+     * @param eventId the ID of a event
+     * @param source picture resource
+     * @return true if update is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#picture">Event#picture - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> updateEventPicture(String eventId, Media source);
+
+    /**
+     * Deletes the event's profile picture.
+     * @param eventId the ID of a event
+     * @return true if update is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#picture">Event#picture - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> deleteEventPicture(String eventId);
+
+    /**
+     * Returns the event's photos.
+     * @param eventId the ID of a event
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#photos">Event#photos - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Photo>> getEventPhotos(String eventId);
+
+    /**
+     * Returns the event's photos.
+     * @param eventId the ID of a event
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#photos">Event#photos - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Photo>> getEventPhotos(String eventId, Reading reading);
+
+    /**
+     * Posts the photo on a event's wall.
+     * @param eventId the ID of a event
+     * @param source photo resource
+     * @return The new photo ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#photos">Event#photos - Facebook Developers</a>
+     */
+    CompletableFuture<String> postEventPhoto(String eventId, Media source);
+
+    /**
+     * Posts the photo on a event's wall.
+     * @param eventId the ID of a event
+     * @param source photo resource
+     * @param message photo description
+     * @return The new photo ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#photos">Event#photos - Facebook Developers</a>
+     */
+    CompletableFuture<String> postEventPhoto(String eventId, Media source, String message);
+
+    /**
+     * Returns the event's videos.
+     * @param eventId the ID of a event
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#videos">Event#videos - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Video>> getEventVideos(String eventId);
+
+    /**
+     * Returns the event's videos.
+     * @param eventId the ID of a event
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#videos">Event#videos - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Video>> getEventVideos(String eventId, Reading reading);
+
+    /**
+     * Posts the video on a event's wall.
+     * @param eventId the ID of a event
+     * @param source video resource
+     * @return The new video ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#videos">Event#videos - Facebook Developers</a>
+     */
+    CompletableFuture<String> postEventVideo(String eventId, Media source);
+
+    /**
+     * Posts the video on a event's wall.
+     * @param eventId the ID of a event
+     * @param source video resource
+     * @param title video title
+     * @param description video description
+     * @return The new video ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/event/#videos">Event#videos - Facebook Developers</a>
+     */
+    CompletableFuture<String> postEventVideo(String eventId, Media source, String title, String description);
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.internal.org.json.JSONArray;
+
+/**
+ * Asynchronous version of {@link FQLMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface FQLMethodsAsync {
+    /**
+     * Executes a single FQL query.
+     * @param query FQL query
+     * @return array of json objects
+     * @see <a href="https://developers.facebook.com/docs/reference/fql/">Facebook Query Language (FQL) - Facebook Developers</a>
+     */
+    CompletableFuture<JSONArray> executeFQL(String query);
+
+    /**
+     * Executes multiple FQL queries.
+     * @param queries FQL queries
+     * @return results Map (key => given query's key : value => array of json objects)
+     * @see <a href="https://developers.facebook.com/docs/reference/fql/">Facebook Query Language (FQL) - Facebook Developers</a>
+     */
+    CompletableFuture<Map<String, JSONArray>> executeMultiFQL(Map<String, String> queries);
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.Book;
+import facebook4j.Game;
+import facebook4j.Interest;
+import facebook4j.Movie;
+import facebook4j.Music;
+import facebook4j.Reading;
+import facebook4j.ResponseList;
+import facebook4j.Television;
+
+/**
+ * Asynchronous version of {@link FavoriteMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface FavoriteMethodsAsync {
+    /**
+     * Returns the books listed on the current user's profile.
+     * @return books
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - books
+     */
+    CompletableFuture<ResponseList<Book>> getBooks();
+
+    /**
+     * Returns the books listed on the current user's profile.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return books
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - books
+     */
+    CompletableFuture<ResponseList<Book>> getBooks(Reading reading);
+
+    /**
+     * Returns the books listed on a user's profile.
+     * @param userId the ID of a user
+     * @return books
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - books
+     */
+    CompletableFuture<ResponseList<Book>> getBooks(String userId);
+
+    /**
+     * Returns the books listed on a user's profile.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return books
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - books
+     */
+    CompletableFuture<ResponseList<Book>> getBooks(String userId, Reading reading);
+
+    /**
+     * Returns the games the current user has added to the Arts and Entertainment section of their profile.
+     * @return games
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - games
+     */
+    CompletableFuture<ResponseList<Game>> getGames();
+
+    /**
+     * Returns the games the current user has added to the Arts and Entertainment section of their profile.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return games
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - games
+     */
+    CompletableFuture<ResponseList<Game>> getGames(Reading reading);
+
+    /**
+     * Returns the games a user has added to the Arts and Entertainment section of their profile.
+     * @param userId the ID of a user
+     * @return games
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - games
+     */
+    CompletableFuture<ResponseList<Game>> getGames(String userId);
+
+    /**
+     * Returns the games a user has added to the Arts and Entertainment section of their profile.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return games
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - games
+     */
+    CompletableFuture<ResponseList<Game>> getGames(String userId, Reading reading);
+
+    /**
+     * Returns the movies listed on the current user's profile.
+     * @return movies
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - movies
+     */
+    CompletableFuture<ResponseList<Movie>> getMovies();
+
+    /**
+     * Returns the movies listed on the current user's profile.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return movies
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - movies
+     */
+    CompletableFuture<ResponseList<Movie>> getMovies(Reading reading);
+
+    /**
+     * Returns the movies listed on a user's profile.
+     * @param userId the ID of a user
+     * @return movies
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - movies
+     */
+    CompletableFuture<ResponseList<Movie>> getMovies(String userId);
+
+    /**
+     * Returns the movies listed on a user's profile.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return movies
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - movies
+     */
+    CompletableFuture<ResponseList<Movie>> getMovies(String userId, Reading reading);
+
+    /**
+     * Returns the music listed on the current user's profile.
+     * @return music
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - music
+     */
+    CompletableFuture<ResponseList<Music>> getMusic();
+
+    /**
+     * Returns the music listed on the current user's profile.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return music
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - music
+     */
+    CompletableFuture<ResponseList<Music>> getMusic(Reading reading);
+
+    /**
+     * Returns the music listed on a user's profile.
+     * @param userId the ID of a user
+     * @return music
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - music
+     */
+    CompletableFuture<ResponseList<Music>> getMusic(String userId);
+
+    /**
+     * Returns the music listed on a user's profile.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return music
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - music
+     */
+    CompletableFuture<ResponseList<Music>> getMusic(String userId, Reading reading);
+
+    /**
+     * Returns the television listed on the current user's profile.
+     * @return television
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - television
+     */
+    CompletableFuture<ResponseList<Television>> getTelevision();
+
+    /**
+     * Returns the television listed on the current user's profile.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return television
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - television
+     */
+    CompletableFuture<ResponseList<Television>> getTelevision(Reading reading);
+
+    /**
+     * Returns the television listed on a user's profile.
+     * @param userId the ID of a user
+     * @return television
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - television
+     */
+    CompletableFuture<ResponseList<Television>> getTelevision(String userId);
+
+    /**
+     * Returns the television listed on a user's profile.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return television
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - television
+     */
+    CompletableFuture<ResponseList<Television>> getTelevision(String userId, Reading reading);
+
+    /**
+     * Returns the interests listed on the current user's profile.
+     * @return interests
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - interests
+     */
+    CompletableFuture<ResponseList<Interest>> getInterests();
+
+    /**
+     * Returns the interests listed on the current user's profile.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return interests
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - interests
+     */
+    CompletableFuture<ResponseList<Interest>> getInterests(Reading reading);
+
+    /**
+     * Returns the interests listed on a user's profile.
+     * @param userId the ID of a user
+     * @return interests
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - interests
+     */
+    CompletableFuture<ResponseList<Interest>> getInterests(String userId);
+
+    /**
+     * Returns the interests listed on a user's profile.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return interests
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - interests
+     */
+    CompletableFuture<ResponseList<Interest>> getInterests(String userId, Reading reading);
+}
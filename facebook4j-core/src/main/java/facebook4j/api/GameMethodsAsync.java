@@ -0,0 +1,164 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.Achievement;
+import facebook4j.Reading;
+import facebook4j.ResponseList;
+import facebook4j.Score;
+
+/**
+ * Asynchronous version of {@link GameMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface GameMethodsAsync {
+    /**
+     * Returns the achievements for the current user.
+     * @return achievements
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#achievements">User#achievements - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Achievement>> getAchievements();
+
+    /**
+     * Returns the achievements for the current user.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return achievements
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#achievements">User#achievements - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Achievement>> getAchievements(Reading reading);
+
+    /**
+     * Returns the achievements for a user.
+     * @param userId the ID of a user
+     * @return achievements
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#achievements">User#achievements - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Achievement>> getAchievements(String userId);
+
+    /**
+     * Returns the achievements for a user.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return achievements
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#achievements">User#achievements - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Achievement>> getAchievements(String userId, Reading reading);
+
+    /**
+     * Posts the achievement for the current user.
+     * @param achievementURL the unique URL of the achievement which the current user achieved
+     * @return achievement (instance) ID for the current user
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#achievements">User#achievements - Facebook Developers</a>
+     */
+    CompletableFuture<String> postAchievement(URL achievementURL);
+
+    /**
+     * Posts the achievement for a user.
+     * @param userId the ID of a user
+     * @param achievementURL the unique URL of the achievement which the user achieved
+     * @return achievement (instance) ID for the user
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#achievements">User#achievements - Facebook Developers</a>
+     */
+    CompletableFuture<String> postAchievement(String userId, URL achievementURL);
+
+    /**
+     * Deletes the achievement for the current user.
+     * @param achievementURL the unique URL of the achievement to delete
+     * @return true if delete is succressful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#achievements">User#achievements - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> deleteAchievement(URL achievementURL);
+
+    /**
+     * Deletes the achievement for a user.
+     * @param userId the ID of a user
+     * @param achievementURL the unique URL of the achievement to delete
+     * @return true if delete is succressful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#achievements">User#achievements - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> deleteAchievement(String userId, URL achievementURL);
+
+    /**
+     * Returns the current scores for a user in games.
+     * @param userId the ID of a user
+     * @return scores
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#scores">User#scores - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Score>> getScores();
+
+    /**
+     * Returns the current scores for a user in games.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return scores
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#scores">User#scores - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Score>> getScores(Reading reading);
+
+    /**
+     * Returns the current scores for the current user in games.
+     * @param userId the ID of the user
+     * @return scores
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#scores">User#scores - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Score>> getScores(String userId);
+
+    /**
+     * Returns the current scores for the current user in games.
+     * @param userId the ID of the user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return scores
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#scores">User#scores - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Score>> getScores(String userId, Reading reading);
+
+    /**
+     * Posts the score for the current user.
+     * @param scoreValue numeric score with value
+     * @return true if post is succressful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#scores">User#scores - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> postScore(int scoreValue);
+
+    /**
+     * Posts the score for a user.
+     * @param userId the ID of a user
+     * @param scoreValue numeric score with value
+     * @return true if post is succressful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#scores">User#scores - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> postScore(String userId, int scoreValue);
+
+    /**
+     * Deletes the current score for the current user.
+     * @return true if delete is succressful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#scores">User#scores - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> deleteScore();
+
+    /**
+     * Deletes the current score for a user.
+     * @param userId the ID of a user
+     * @return true if delete is succressful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#scores">User#scores - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> deleteScore(String userId);
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.Group;
+import facebook4j.GroupDoc;
+import facebook4j.GroupMember;
+import facebook4j.Post;
+import facebook4j.PostUpdate;
+import facebook4j.Reading;
+import facebook4j.ResponseList;
+
+/**
+ * Asynchronous version of {@link GroupMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface GroupMethodsAsync {
+    /**
+     * Returns the Groups that the current user belongs to.
+     * @return groups
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#groups">User#groups - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Group>> getGroups();
+
+    /**
+     * Returns the Groups that the current user belongs to.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return groups
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#groups">User#groups - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Group>> getGroups(Reading reading);
+
+    /**
+     * Returns the Groups that a user belongs to.
+     * @param userId the ID of a user
+     * @return groups
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#groups">User#groups - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Group>> getGroups(String userId);
+
+    /**
+     * Returns the Groups that a user belongs to.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return groups
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#groups">User#groups - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Group>> getGroups(String userId, Reading reading);
+
+    /**
+     * Returns a single group.
+     * @param groupId the ID of the group
+     * @return group
+     * @see <a href="https://developers.facebook.com/docs/reference/api/group/">Group - Facebook Developers</a>
+     */
+    CompletableFuture<Group> getGroup(String groupId);
+
+    /**
+     * Returns a single group.
+     * @param groupId the ID of the group
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return group
+     * @see <a href="https://developers.facebook.com/docs/reference/api/group/">Group - Facebook Developers</a>
+     */
+    CompletableFuture<Group> getGroup(String groupId, Reading reading);
+
+    /**
+     * Returns the group's wall.
+     * @param groupId the ID of the group
+     * @return group's feed
+     * @see <a href="https://developers.facebook.com/docs/reference/api/group/#feed">Group#feed - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Post>> getGroupFeed(String groupId);
+
+    /**
+     * Returns the group's wall.
+     * @param groupId the ID of the group
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return group's feed
+     * @see <a href="https://developers.facebook.com/docs/reference/api/group/#feed">Group#feed - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Post>> getGroupFeed(String groupId, Reading reading);
+
+    /**
+     * Creates the post on a group's wall.
+     * @param groupId the ID of a group
+     * @param postUpdate the post to be created
+     * @return The new post ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/group/#posts">Group#posts - Facebook Developers</a>
+     */
+    CompletableFuture<String> postGroupFeed(String groupId, PostUpdate postUpdate);
+
+    /**
+     * Posts the link on a group's wall.
+     * @param groupId the ID of a group
+     * @param link link URL
+     * @return The new link ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/group/#links">Group#links - Facebook Developers</a>
+     */
+    CompletableFuture<String> postGroupLink(String groupId, URL link);
+
+    /**
+     * Posts the link on a group's wall.
+     * @param groupId the ID of a group
+     * @param link link URL
+     * @param message link message
+     * @return The new link ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/group/#links">Group#links - Facebook Developers</a>
+     */
+    CompletableFuture<String> postGroupLink(String groupId, URL link, String message);
+
+    /**
+     * Posts the status message on a group's wall.
+     * @param groupId the ID of a group
+     * @param message status message content
+     * @return The new status message ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/group/#statuses">Group#statuses - Facebook Developers</a>
+     */
+    CompletableFuture<String> postGroupStatusMessage(String groupId, String message);
+
+    /**
+     * Returns all of the users who are members of a group.
+     * @param groupId the ID of a group
+     * @return all of the users who are members of the group
+     * @see <a href="https://developers.facebook.com/docs/reference/api/group/">Group - Facebook Developers</a> - Connections - members
+     */
+    CompletableFuture<ResponseList<GroupMember>> getGroupMembers(String groupId);
+
+    /**
+     * Returns all of the users who are members of a group.
+     * @param groupId the ID of a group
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return all of the users who are members of the group
+     * @see <a href="https://developers.facebook.com/docs/reference/api/group/">Group - Facebook Developers</a> - Connections - members
+     */
+    CompletableFuture<ResponseList<GroupMember>> getGroupMembers(String groupId, Reading reading);
+
+    /**
+     * Returns url of a group's profile picture.
+     * @param groupId the ID of a group
+     * @return url
+     * @see <a href="https://developers.facebook.com/docs/reference/api/group/">Group - Facebook Developers</a> - Connections - picture
+     */
+    CompletableFuture<URL> getGroupPictureURL(String groupId);
+
+    /**
+     * Returns the docs in a group.
+     * @param groupId the ID of a group
+     * @return docs
+     * @see <a href="https://developers.facebook.com/docs/reference/api/group/">Group - Facebook Developers</a> - Connections - docs
+     */
+    CompletableFuture<ResponseList<GroupDoc>> getGroupDocs(String groupId);
+
+    /**
+     * Returns the docs in a group.
+     * @param groupId the ID of a group
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return docs
+     * @see <a href="https://developers.facebook.com/docs/reference/api/group/">Group - Facebook Developers</a> - Connections - docs
+     */
+    CompletableFuture<ResponseList<GroupDoc>> getGroupDocs(String groupId, Reading reading);
+}
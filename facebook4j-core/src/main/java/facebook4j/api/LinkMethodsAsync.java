@@ -0,0 +1,108 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.Comment;
+import facebook4j.Like;
+import facebook4j.Link;
+import facebook4j.Reading;
+import facebook4j.ResponseList;
+
+/**
+ * Asynchronous version of {@link LinkMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface LinkMethodsAsync {
+    /**
+     * Returns the link shared on a user's wall.
+     * @param linkId the ID of the link
+     * @return link
+     * @see <a href="https://developers.facebook.com/docs/reference/api/link/">Link - Facebook Developers</a>
+     */
+    CompletableFuture<Link> getLink(String linkId);
+
+    /**
+     * Returns the link shared on a user's wall.
+     * @param linkId the ID of the link
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return link
+     * @see <a href="https://developers.facebook.com/docs/reference/api/link/">Link - Facebook Developers</a>
+     */
+    CompletableFuture<Link> getLink(String linkId, Reading reading);
+
+    /**
+     * Returns all of the comments on a link.
+     * @param linkId the ID of a link
+     * @return comments
+     * @see <a href="https://developers.facebook.com/docs/reference/api/link/#comments">Link#comments - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Comment>> getLinkComments(String linkId);
+
+    /**
+     * Returns all of the comments on a link.
+     * @param linkId the ID of a link
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return comments
+     * @see <a href="https://developers.facebook.com/docs/reference/api/link/#comments">Link#comments - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Comment>> getLinkComments(String linkId, Reading reading);
+
+    /**
+     * Comments on the link.
+     * @param linkId the ID of the link
+     * @param message comment text
+     * @return The new comment ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/link/#comments">Link#comments - Facebook Developers</a>
+     */
+    CompletableFuture<String> commentLink(String linkId, String message);
+
+    /**
+     * Returns the likes on a link.
+     * @param linkId the ID of a link
+     * @return likes
+     * @see <a href="https://developers.facebook.com/docs/reference/api/link/#likes">Link#likes - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Like>> getLinkLikes(String linkId);
+
+    /**
+     * Returns the likes on a link.
+     * @param linkId the ID of a link
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a> see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return likes
+     * @see <a href="https://developers.facebook.com/docs/reference/api/link/#likes">Link#likes - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Like>> getLinkLikes(String linkId, Reading reading);
+
+    /**
+     * Likes the link.
+     * @param linkId the ID of the link
+     * @return true if like is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/link/#likes">Link#likes - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> likeLink(String linkId);
+
+    /**
+     * Unlikes the link.
+     * @param linkId the ID of the link
+     * @return true if unlike is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/link/#likes">Link#likes - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> unlikeLink(String linkId);
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.Inbox;
+import facebook4j.InboxResponseList;
+import facebook4j.Message;
+import facebook4j.Reading;
+import facebook4j.ResponseList;
+
+/**
+ * Asynchronous version of {@link MessageMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface MessageMethodsAsync {
+    /**
+     * Returns the messages in the current user's inbox.
+     * @return messages
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - inbox
+     */
+    CompletableFuture<InboxResponseList<Inbox>> getInbox();
+
+    /**
+     * Returns the messages in the current user's inbox.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return messages
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - inbox
+     */
+    CompletableFuture<InboxResponseList<Inbox>> getInbox(Reading reading);
+
+    /**
+     * Returns the messages in a user's inbox.
+     * @param userId the ID of a user
+     * @return messages
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - inbox
+     */
+    CompletableFuture<InboxResponseList<Inbox>> getInbox(String userId);
+
+    /**
+     * Returns the messages in a user's inbox.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return messages
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - inbox
+     */
+    CompletableFuture<InboxResponseList<Inbox>> getInbox(String userId, Reading reading);
+
+    /**
+     * Returns the messages in the current user's outbox.
+     * @return messages
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - outbox
+     */
+    CompletableFuture<ResponseList<Message>> getOutbox();
+
+    /**
+     * Returns the messages in the current user's outbox.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return messages
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - outbox
+     */
+    CompletableFuture<ResponseList<Message>> getOutbox(Reading reading);
+
+    /**
+     * Returns the messages in a user's outbox.
+     * @param userId the ID of a user
+     * @return messages
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - outbox
+     */
+    CompletableFuture<ResponseList<Message>> getOutbox(String userId);
+
+    /**
+     * Returns the messages in a user's outbox.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return messages
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - outbox
+     */
+    CompletableFuture<ResponseList<Message>> getOutbox(String userId, Reading reading);
+
+    /**
+     * Returns the updates in the current user's inbox.
+     * @return messages
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - updates
+     */
+    CompletableFuture<ResponseList<Message>> getUpdates();
+
+    /**
+     * Returns the updates in the current user's inbox.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return messages
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - updates
+     */
+    CompletableFuture<ResponseList<Message>> getUpdates(Reading reading);
+
+    /**
+     * Returns the updates in a user's inbox.
+     * @param userId the ID of a user
+     * @return messages
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - updates
+     */
+    CompletableFuture<ResponseList<Message>> getUpdates(String userId);
+
+    /**
+     * Returns the updates in a user's inbox.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return messages
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - updates
+     */
+    CompletableFuture<ResponseList<Message>> getUpdates(String userId, Reading reading);
+
+    /**
+     * Returns a single message.
+     * @param messageId the ID of the message
+     * @return message
+     * @see <a href="https://developers.facebook.com/docs/reference/api/message/">Message - Facebook Developers</a>
+     */
+    CompletableFuture<Message> getMessage(String messageId);
+
+    /**
+     * Returns a single message.
+     * @param messageId the ID of the message
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return message
+     * @see <a href="https://developers.facebook.com/docs/reference/api/message/">Message - Facebook Developers</a>
+     */
+    CompletableFuture<Message> getMessage(String messageId, Reading reading);
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.Comment;
+import facebook4j.Like;
+import facebook4j.Note;
+import facebook4j.Reading;
+import facebook4j.ResponseList;
+
+/**
+ * Asynchronous version of {@link NoteMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface NoteMethodsAsync {
+    /**
+     * Returns the current user's notes.
+     * @return notes
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#notes">User#notes - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Note>> getNotes();
+
+    /**
+     * Returns the current user's notes.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return notes
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#notes">User#notes - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Note>> getNotes(Reading reading);
+
+    /**
+     * Returns a user's notes.
+     * @param userId the ID of a user
+     * @return notes
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#notes">User#notes - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Note>> getNotes(String userId);
+
+    /**
+     * Returns a user's notes.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return notes
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#notes">User#notes - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Note>> getNotes(String userId, Reading reading);
+
+    /**
+     * Creates the current user's note.
+     * @param subject the subject of the note
+     * @param message note content
+     * @return The new note ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#notes">User#notes - Facebook Developers</a>
+     */
+    CompletableFuture<String> createNote(String subject, String message);
+
+    /**
+     * Creates the note on behalf of a user.
+     * @param userId the ID of a user
+     * @param subject the subject of the note
+     * @param message note content
+     * @return The new note ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#notes">User#notes - Facebook Developers</a>
+     */
+    CompletableFuture<String> createNote(String userId, String subject, String message);
+
+    /**
+     * Returns a note.
+     * @param noteId the ID of the note
+     * @return note
+     * @see <a href="https://developers.facebook.com/docs/reference/api/note/">Note - Facebook Developers</a>
+     */
+    CompletableFuture<Note> getNote(String noteId);
+
+    /**
+     * Returns a note.
+     * @param noteId the ID of the note
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return note
+     * @see <a href="https://developers.facebook.com/docs/reference/api/note/">Note - Facebook Developers</a>
+     */
+    CompletableFuture<Note> getNote(String noteId, Reading reading);
+
+    /**
+     * Returns all of the comments on a note.
+     * @param noteId the ID of a note
+     * @return comments
+     * @see <a href="https://developers.facebook.com/docs/reference/api/note/#comments">Note#comments - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Comment>> getNoteComments(String noteId);
+
+    /**
+     * Returns all of the comments on a note.
+     * @param noteId the ID of a note
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return comments
+     * @see <a href="https://developers.facebook.com/docs/reference/api/note/#comments">Note#comments - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Comment>> getNoteComments(String noteId, Reading reading);
+
+    /**
+     * Comments on the note.
+     * @param noteId the ID of the note
+     * @param message comment text
+     * @return The new comment ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/note/#comments">Note#comments - Facebook Developers</a>
+     */
+    CompletableFuture<String> commentNote(String noteId, String message);
+
+    /**
+     * Returns the likes made on a note.
+     * @param noteId the ID of a note
+     * @return likes
+     * @see <a href="https://developers.facebook.com/docs/reference/api/note/#likes">Note#likes - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Like>> getNoteLikes(String noteId);
+
+    /**
+     * Returns the likes made on a note.
+     * @param noteId the ID of a note
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a> see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return likes
+     * @see <a href="https://developers.facebook.com/docs/reference/api/note/#likes">Note#likes - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Like>> getNoteLikes(String noteId, Reading reading);
+
+    /**
+     * Likes the note.
+     * @param noteId the ID of the note
+     * @return true if like is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/note/#likes">Note#likes - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> likeNote(String noteId);
+
+    /**
+     * Unlikes the note.
+     * @param noteId the ID of the note
+     * @return true if unlike is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/note/#likes">Note#likes - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> unlikeNote(String noteId);
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.Notification;
+import facebook4j.Reading;
+import facebook4j.ResponseList;
+
+/**
+ * Asynchronous version of {@link NotificationMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface NotificationMethodsAsync {
+    /**
+     * Returns the notifications for the current user.
+     * @return notifications
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#notifications">User#notifications - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Notification>> getNotifications();
+
+    /**
+     * Returns the notifications for the current user.
+     * @param includeRead enables you to see notifications that the user has already read in addition to the ones which are unread
+     * @return notifications
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#notifications">User#notifications - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Notification>> getNotifications(boolean includeRead);
+
+    /**
+     * Returns the notifications for the current user.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return notifications
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#notifications">User#notifications - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Notification>> getNotifications(Reading reading);
+
+    /**
+     * Returns the notifications for the current user.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @param includeRead enables you to see notifications that the user has already read in addition to the ones which are unread
+     * @return notifications
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#notifications">User#notifications - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Notification>> getNotifications(Reading reading, boolean includeRead);
+
+    /**
+     * Returns the notifications for a user.
+     * @param userId the ID of a user
+     * @return notifications
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#notifications">User#notifications - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Notification>> getNotifications(String userId);
+
+    /**
+     * Returns the notifications for a user.
+     * @param userId the ID of a user
+     * @param includeRead enables you to see notifications that the user has already read in addition to the ones which are unread
+     * @return notifications
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#notifications">User#notifications - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Notification>> getNotifications(String userId, boolean includeRead);
+
+    /**
+     * Returns the notifications for a user.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return notifications
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#notifications">User#notifications - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Notification>> getNotifications(String userId, Reading reading);
+
+    /**
+     * Returns the notifications for a user.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @param includeRead enables you to see notifications that the user has already read in addition to the ones which are unread
+     * @return notifications
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#notifications">User#notifications - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Notification>> getNotifications(String userId, Reading reading, boolean includeRead);
+
+    /**
+     * Marks the notification as read.
+     * @param notificationId the ID of the notification
+     * @return true if mark as read is succressful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#notifications">User#notifications - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> markNotificationAsRead(String notificationId);
+}
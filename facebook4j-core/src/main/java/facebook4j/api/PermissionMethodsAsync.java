@@ -0,0 +1,61 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.Permission;
+
+/**
+ * Asynchronous version of {@link PermissionMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface PermissionMethodsAsync {
+    /**
+     * Returns the permissions granted the current user to the current application.
+     * @return permission names
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#permissions">User#permissions - Facebook Developers</a>
+     */
+    CompletableFuture<List<Permission>> getPermissions();
+
+    /**
+     * Returns the permissions granted a user to the current application.
+     * @param userId the ID of a user
+     * @return permission names
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#permissions">User#permissions - Facebook Developers</a>
+     */
+    CompletableFuture<List<Permission>> getPermissions(String userId);
+
+    /**
+     * Revokes a specific permission from the current application.
+     * @param permissionName permission name
+     * @return true if revoke is succressful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#permissions">User#permissions - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> revokePermission(String permissionName);
+
+    /**
+     * Revokes a specific permission from the current application.
+     * @param userId the ID of a user
+     * @param permissionName permission name
+     * @return true if revoke is succressful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#permissions">User#permissions - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> revokePermission(String userId, String permissionName);
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.Comment;
+import facebook4j.Like;
+import facebook4j.Media;
+import facebook4j.Photo;
+import facebook4j.Reading;
+import facebook4j.ResponseList;
+import facebook4j.Tag;
+import facebook4j.TagUpdate;
+
+/**
+ * Asynchronous version of {@link PhotoMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface PhotoMethodsAsync {
+    /**
+     * Returns the photos the current user is tagged in.
+     * @return photos
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#photos">User#photos - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Photo>> getPhotos();
+
+    /**
+     * Returns the photos the current user is tagged in.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return photos
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#photos">User#photos - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Photo>> getPhotos(Reading reading);
+
+    /**
+     * Returns the photos a user is tagged in.
+     * @param userId the ID of a user
+     * @return photos
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#photos">User#photos - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Photo>> getPhotos(String userId);
+
+    /**
+     * Returns the photos a user is tagged in.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return photos
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#photos">User#photos - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Photo>> getPhotos(String userId, Reading reading);
+
+    /**
+     * Posts a photo to the current user's wall.
+     * @param source photo content
+     * @return The new photo ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#photos">User#photos - Facebook Developers</a>
+     */
+    CompletableFuture<String> postPhoto(Media source);
+
+    /**
+     * Posts a photo to the current user's wall.
+     * @param source photo content
+     * @param message photo description
+     * @param Facebook ID of the place associated with the Photo
+     * @param noStory If set to true, optionally suppresses the feed story that is automatically generated on a user’s profile when they upload a photo using your application.
+     * @return The new photo ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#photos">User#photos - Facebook Developers</a>
+     */
+    CompletableFuture<String> postPhoto(Media source, String message, String place, boolean noStory);
+
+    /**
+     * Posts the photo to a user's wall.
+     * @param userId the ID of a user
+     * @param source photo content
+     * @return The new photo ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#photos">User#photos - Facebook Developers</a>
+     */
+    CompletableFuture<String> postPhoto(String userId, Media source);
+
+    /**
+     * Posts the photo to a user's wall.
+     * @param userId the ID of a user
+     * @param source photo content
+     * @param message photo description
+     * @param place Facebook ID of the place associated with the Photo
+     * @param noStory If set to true, optionally suppresses the feed story that is automatically generated on a user’s profile when they upload a photo using your application.
+     * @return The new photo ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#photos">User#photos - Facebook Developers</a>
+     */
+    CompletableFuture<String> postPhoto(String userId, Media source, String message, String place, boolean noStory);
+
+    /**
+     * Deletes the photo.
+     * @param photoId the ID of the photo
+     * @return true if delete is successful
+     */
+    CompletableFuture<Boolean> deletePhoto(String photoId);
+
+    /**
+     * Returns a single photo.
+     * @param photoId the ID of the photo
+     * @return photo
+     * @see <a href="https://developers.facebook.com/docs/reference/api/photo/">Photo - Facebook Developers</a>
+     */
+    CompletableFuture<Photo> getPhoto(String photoId);
+
+    /**
+     * Returns a single photo.
+     * @param photoId the ID of the photo
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return photo
+     * @see <a href="https://developers.facebook.com/docs/reference/api/photo/">Photo - Facebook Developers</a>
+     */
+    CompletableFuture<Photo> getPhoto(String photoId, Reading reading);
+
+    /**
+     * Returns the comments made on a photo.
+     * @param photoId the ID of a photo
+     * @return comments
+     * @see <a href="https://developers.facebook.com/docs/reference/api/photo/#comments">Photo#comments - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Comment>> getPhotoComments(String photoId);
+
+    /**
+     * Returns the comments made on a photo.
+     * @param photoId the ID of a photo
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return comments
+     * @see <a href="https://developers.facebook.com/docs/reference/api/photo/#comments">Photo#comments - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Comment>> getPhotoComments(String photoId, Reading reading);
+
+    /**
+     * Comments on the photo.
+     * @param photoId the ID of the photo
+     * @param message comment text
+     * @return The new comment ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/photo/#comments">Photo#comments - Facebook Developers</a>
+     */
+    CompletableFuture<String> commentPhoto(String photoId, String message);
+
+    /**
+     * Returns the likes made on a photo.
+     * @param photoId the ID of a photo
+     * @return likes
+     * @see <a href="https://developers.facebook.com/docs/reference/api/photo/#likes">Photo#likes - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Like>> getPhotoLikes(String photoId);
+
+    /**
+     * Returns the likes made on a photo.
+     * @param photoId the ID of a photo
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a> see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return likes
+     * @see <a href="https://developers.facebook.com/docs/reference/api/photo/#likes">Photo#likes - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Like>> getPhotoLikes(String photoId, Reading reading);
+
+    /**
+     * Likes the photo.
+     * @param photoId the ID of the photo
+     * @return true if like is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/photo/#likes">Photo#likes - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> likePhoto(String photoId);
+
+    /**
+     * Unlikes the photo.
+     * @param photoId the ID of the photo
+     * @return true if unlike is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/photo/#likes">Photo#likes - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> unlikePhoto(String photoId);
+
+    /**
+     * Returns url of a photo.
+     * @param photoId the ID of a photo
+     * @return url
+     * @see <a href="https://developers.facebook.com/docs/reference/api/photo/">Photo - Facebook Developers</a> - Connections - picture
+     */
+    CompletableFuture<URL> getPhotoURL(String photoId);
+
+    /**
+     * Returns the Users tagged in a photo.
+     * @param photoId the ID of a photo
+     * @return tags
+     * @see <a href="https://developers.facebook.com/docs/reference/api/photo/">Photo - Facebook Developers</a> - Connections - tags
+     */
+    CompletableFuture<ResponseList<Tag>> getTagsOnPhoto(String photoId);
+
+    /**
+     * Returns the Users tagged in a photo.
+     * @param photoId the ID of a photo
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return tags
+     * @see <a href="https://developers.facebook.com/docs/reference/api/photo/">Photo - Facebook Developers</a> - Connections - tags
+     */
+    CompletableFuture<ResponseList<Tag>> getTagsOnPhoto(String photoId, Reading reading);
+
+    /**
+     * Adds the tag to a photo.
+     * @param photoId the ID of a photo
+     * @param toUserId the ID of the user to tag
+     * @return true if add is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/photo/#tags">Photo#tags - Facebook Developers</a> - Connections - tags
+     */
+    CompletableFuture<Boolean> addTagToPhoto(String photoId, String toUserId);
+
+    /**
+     * Adds the tag to a photo.
+     * @param photoId the ID of a photo
+     * @param toUserIds the IDs of the users to tag
+     * @return true if add is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/photo/#tags">Photo#tags - Facebook Developers</a> - Connections - tags
+     */
+    CompletableFuture<Boolean> addTagToPhoto(String photoId, List<String> toUserIds);
+
+    /**
+     * Adds the tag to a photo.
+     * @param photoId the ID of a photo
+     * @param tagUpdate tag information
+     * @return true if add is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/photo/#tags">Photo#tags - Facebook Developers</a> - Connections - tags
+     */
+    CompletableFuture<Boolean> addTagToPhoto(String photoId, TagUpdate tagUpdate);
+
+    /**
+     * Updates the position of the tag on a photo.
+     * @param photoId the ID of a photo
+     * @param toUserId the ID of the user to tag
+     * @return true if add is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/photo/#tags">Photo#tags - Facebook Developers</a> - Connections - tags
+     */
+    CompletableFuture<Boolean> updateTagOnPhoto(String photoId, String toUserId);
+
+    /**
+     * Updates the position of the tag on a photo.
+     * @param photoId the ID of a photo
+     * @param tagUpdate tag information, supports 'to', 'x', 'y'
+     * @return true if add is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/photo/#tags">Photo#tags - Facebook Developers</a> - Connections - tags
+     */
+    CompletableFuture<Boolean> updateTagOnPhoto(String photoId, TagUpdate tagUpdate);
+}
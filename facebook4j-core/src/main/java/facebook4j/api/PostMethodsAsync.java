@@ -0,0 +1,364 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.Comment;
+import facebook4j.Like;
+import facebook4j.Link;
+import facebook4j.Post;
+import facebook4j.PostUpdate;
+import facebook4j.Reading;
+import facebook4j.ResponseList;
+
+/**
+ * Asynchronous version of {@link PostMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface PostMethodsAsync {
+    /**
+     * Returns the current user's wall.
+     * @return posts
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#feed">User#feed - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Post>> getFeed();
+
+    /**
+     * Returns the current user's wall.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return posts
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#feed">User#feed - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Post>> getFeed(Reading reading);
+
+    /**
+     * Returns a user's wall.
+     * @param userId the ID of a user
+     * @return posts
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#feed">User#feed - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Post>> getFeed(String userId);
+
+    /**
+     * Returns a user's wall.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return posts
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#feed">User#feed - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Post>> getFeed(String userId, Reading reading);
+
+    /**
+     * Returns the current user's news feed.
+     * @return posts
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#home">User#home - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Post>> getHome();
+
+    /**
+     * Returns the current user's news feed.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return posts
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#home">User#home - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Post>> getHome(Reading reading);
+
+    /**
+     * Returns the current user's posted links.
+     * @return links
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#links">User#links - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Link>> getLinks();
+
+    /**
+     * Returns the current user's posted links.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return links
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#links">User#links - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Link>> getLinks(Reading reading);
+
+    /**
+     * Returns a user's posted links.
+     * @param userId the ID of a user
+     * @return links
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#links">User#links - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Link>> getLinks(String userId);
+
+    /**
+     * Returns a user's posted links.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return links
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#links">User#links - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Link>> getLinks(String userId, Reading reading);
+
+    /**
+     * Returns the current user's own posts.
+     * @return posts
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#posts">User#posts - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Post>> getPosts();
+
+    /**
+     * Returns the current user's own posts.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return posts
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#posts">User#posts - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Post>> getPosts(Reading reading);
+
+    /**
+     * Returns the user's own posts.
+     * @param userId the ID of a user
+     * @return posts
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#posts">User#posts - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Post>> getPosts(String userId);
+
+    /**
+     * Returns the user's own posts.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return posts
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#posts">User#posts - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Post>> getPosts(String userId, Reading reading);
+
+    /**
+     * Returns the current user's status updates.
+     * @return posts
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#statuses">User#statuses - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Post>> getStatuses();
+
+    /**
+     * Returns the current user's status updates.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return posts
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#statuses">User#statuses - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Post>> getStatuses(Reading reading);
+
+    /**
+     * Returns the user's status updates.
+     * @param userId the ID of a user
+     * @return posts
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#statuses">User#statuses - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Post>> getStatuses(String userId);
+
+    /**
+     * Returns the user's status updates.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return posts
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#statuses">User#statuses - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Post>> getStatuses(String userId, Reading reading);
+
+    /**
+     * Returns the posts the current user is tagged in.
+     * @return posts
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - tagged
+     */
+    CompletableFuture<ResponseList<Post>> getTagged();
+
+    /**
+     * Returns the posts the current user is tagged in.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return posts
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - tagged
+     */
+    CompletableFuture<ResponseList<Post>> getTagged(Reading reading);
+
+    /**
+     * Returns the posts a user is tagged in.
+     * @param userId the ID of a user
+     * @return posts
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - tagged
+     */
+    CompletableFuture<ResponseList<Post>> getTagged(String userId);
+
+    /**
+     * Returns the posts the user is tagged in.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return posts
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - tagged
+     */
+    CompletableFuture<ResponseList<Post>> getTagged(String userId, Reading reading);
+
+    /**
+     * Returns a single post.
+     * @param postId the ID of the post
+     * @return post
+     * @see <a href="https://developers.facebook.com/docs/reference/api/post/">Post - Facebook Developers</a>
+     */
+    CompletableFuture<Post> getPost(String postId);
+
+    /**
+     * Returns a single post.
+     * @param postId the ID of the post
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return post
+     * @see <a href="https://developers.facebook.com/docs/reference/api/post/">Post - Facebook Developers</a>
+     */
+    CompletableFuture<Post> getPost(String postId, Reading reading);
+
+    /**
+     * Returns all of the comments on a post.
+     * @param postId the ID of a post
+     * @return comments
+     * @see <a href="https://developers.facebook.com/docs/reference/api/post/#comments">Post#comments - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Comment>> getPostComments(String postId);
+
+    /**
+     * Returns all of the comments on a post.
+     * @param postId the ID of a post
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return comments
+     * @see <a href="https://developers.facebook.com/docs/reference/api/post/#comments">Post#comments - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Comment>> getPostComments(String postId, Reading reading);
+
+    /**
+     * Comments on the post.
+     * @param postId the ID of the post
+     * @param message comment text
+     * @return The new comment ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/post/#comments">Post#comments - Facebook Developers</a>
+     */
+    CompletableFuture<String> commentPost(String postId, String message);
+
+    /**
+     * Returns the likes on a post.
+     * @param postId the ID of a post
+     * @return likes
+     * @see <a href="https://developers.facebook.com/docs/reference/api/post/#likes">Post#likes - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Like>> getPostLikes(String postId);
+
+    /**
+     * Returns the likes on a post.
+     * @param postId the ID of a post
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a> see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return likes
+     * @see <a href="https://developers.facebook.com/docs/reference/api/post/#likes">Post#likes - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Like>> getPostLikes(String postId, Reading reading);
+
+    /**
+     * Likes the post.
+     * @param postId the ID of the post
+     * @return true if like is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/post/#likes">Post#likes - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> likePost(String postId);
+
+    /**
+     * Unlikes the post.
+     * @param postId the ID of the post
+     * @return true if unlike is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/post/#likes">Post#likes - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> unlikePost(String postId);
+
+    /**
+     * Creates the post.
+     * @param postUpdate the post to be created
+     * @return The new post ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#posts">User#posts - Facebook Developers</a>
+     */
+    CompletableFuture<String> postFeed(PostUpdate postUpdate);
+
+    /**
+     * Creates the post.
+     * @param userId the ID of a user
+     * @param postUpdate the post to be created
+     * @return The new post ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#posts">User#posts - Facebook Developers</a>
+     */
+    CompletableFuture<String> postFeed(String userId, PostUpdate postUpdate);
+
+    /**
+     * Creates the link.
+     * @param link link URL
+     * @return The new link ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#links">User#links - Facebook Developers</a>
+     */
+    CompletableFuture<String> postLink(URL link);
+
+    /**
+     * Creates the link.
+     * @param link link URL
+     * @param message link message
+     * @return The new link ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#links">User#links - Facebook Developers</a>
+     */
+    CompletableFuture<String> postLink(URL link, String message);
+
+    /**
+     * Creates the link.
+     * @param userId the ID of a user
+     * @param link link URL
+     * @return The new link ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#links">User#links - Facebook Developers</a>
+     */
+    CompletableFuture<String> postLink(String userId, URL link);
+
+    /**
+     * Creates the link.
+     * @param userId the ID of a user
+     * @param link link URL
+     * @param message link message
+     * @return The new link ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#links">User#links - Facebook Developers</a>
+     */
+    CompletableFuture<String> postLink(String userId, URL link, String message);
+
+    /**
+     * Creates the status message.
+     * @param message link message
+     * @return The new status message ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#statuses">User#statuses - Facebook Developers</a>
+     */
+    CompletableFuture<String> postStatusMessage(String message);
+
+    /**
+     * Creates the status message.
+     * @param userId the ID of a user
+     * @param message link message
+     * @return The new status message ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#statuses">User#statuses - Facebook Developers</a>
+     */
+    CompletableFuture<String> postStatusMessage(String userId, String message);
+
+    /**
+     * Deletes the post.
+     * @param postId the ID of the post
+     * @return true if delete is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/post/">Post - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> deletePost(String postId);
+}
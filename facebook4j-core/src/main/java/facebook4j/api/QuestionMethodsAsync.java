@@ -0,0 +1,161 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.Question;
+import facebook4j.QuestionVotes;
+import facebook4j.Reading;
+import facebook4j.ResponseList;
+
+/**
+ * Asynchronous version of {@link QuestionMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface QuestionMethodsAsync {
+    /**
+     * Returns the current user's questions.
+     * @return questions
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#questions">User#questions - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Question>> getQuestions();
+
+    /**
+     * Returns the current user's questions.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return questions
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#questions">User#questions - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Question>> getQuestions(Reading reading);
+
+    /**
+     * Returns a user's questions.
+     * @param userId the ID of a user
+     * @return questions
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#questions">User#questions - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Question>> getQuestions(String userId);
+
+    /**
+     * Returns a user's questions.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return questions
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#questions">User#questions - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Question>> getQuestions(String userId, Reading reading);
+
+    /**
+     * Creates the question.
+     * @param question the text of the question
+     * @return The new question ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#questions">User#questions - Facebook Developers</a>
+     */
+    CompletableFuture<String> createQuestion(String question);
+
+    /**
+     * Creates the question.
+     * @param question the text of the question
+     * @param options answer options
+     * @param allowNewOptions true if allows other users to add new options
+     * @return The new question ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#questions">User#questions - Facebook Developers</a>
+     */
+    CompletableFuture<String> createQuestion(String question, List<String> options, boolean allowNewOptions);
+
+    /**
+     * Creates the question.
+     * @param userId the ID of a user
+     * @param question the text of the question
+     * @return The new question ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#questions">User#questions - Facebook Developers</a>
+     */
+    CompletableFuture<String> createQuestion(String userId, String question);
+
+    /**
+     * Creates the question.
+     * @param userId the ID of a user
+     * @param question the text of the question
+     * @param options answer options
+     * @param allowNewOptions true if allows other users to add new options
+     * @return The new question ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#questions">User#questions - Facebook Developers</a>
+     */
+    CompletableFuture<String> createQuestion(String userId, String question, List<String> options, boolean allowNewOptions);
+
+    /**
+     * Returns a single question.
+     * @param questionId the ID of the question
+     * @return question
+     * @see <a href="https://developers.facebook.com/docs/reference/api/question/">Question - Facebook Developers</a>
+     */
+    CompletableFuture<Question> getQuestion(String questionId);
+
+    /**
+     * Returns a single question.
+     * @param questionId the ID of the question
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return question
+     * @see <a href="https://developers.facebook.com/docs/reference/api/question/">Question - Facebook Developers</a>
+     */
+    CompletableFuture<Question> getQuestion(String questionId, Reading reading);
+
+    /**
+     * Deletes the question.
+     * @param questionId the ID of the question
+     * @return true if delete is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#questions">User#questions - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> deleteQuestion(String questionId);
+
+    /**
+     * Returns the options available as answers to the question.
+     * @param questionId the ID of the question
+     * @return the options available as answers to the question
+     * @see <a href="https://developers.facebook.com/docs/reference/api/question/#options">Question#options - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Question.Option>> getQuestionOptions(String questionId);
+
+    /**
+     * Returns the options available as answers to the question.
+     * @param questionId the ID of the question
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return the options available as answers to the question
+     * @see <a href="https://developers.facebook.com/docs/reference/api/question/#options">Question#options - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Question.Option>> getQuestionOptions(String questionId, Reading reading);
+
+    /**
+     * Adds the option to a question.
+     * @param questionId the ID of the question
+     * @param optionDescription description
+     * @return option ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/question/#options">Question#options - Facebook Developers</a>
+     */
+    CompletableFuture<String> addQuestionOption(String questionId, String optionDescription);
+
+    /**
+     * Returns the votes a particular option to a question has received.
+     * @param questionId the ID of the question
+     * @return option of users who have voted for this specific option
+     * @see <a href="https://developers.facebook.com/docs/reference/api/question_option/">QuestionOption - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<QuestionVotes>> getQuestionOptionVotes(String questionId);
+}
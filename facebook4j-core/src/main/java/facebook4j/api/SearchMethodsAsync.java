@@ -0,0 +1,210 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.Checkin;
+import facebook4j.Event;
+import facebook4j.GeoLocation;
+import facebook4j.Group;
+import facebook4j.Location;
+import facebook4j.Place;
+import facebook4j.Post;
+import facebook4j.Reading;
+import facebook4j.ResponseList;
+import facebook4j.User;
+import facebook4j.internal.org.json.JSONObject;
+
+/**
+ * Asynchronous version of {@link SearchMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface SearchMethodsAsync {
+    /**
+     * Searches public posts.
+     * @param query the search condition
+     * @return posts
+     * @see <a href="https://developers.facebook.com/docs/reference/api/#searching">Graph API#searching - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Post>> searchPosts(String query);
+
+    /**
+     * Searches public posts.
+     * @param query the search condition
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return posts
+     * @see <a href="https://developers.facebook.com/docs/reference/api/#searching">Graph API#searching - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Post>> searchPosts(String query, Reading reading);
+
+    /**
+     * Searches users.
+     * @param query the search condition
+     * @return users
+     * @see <a href="https://developers.facebook.com/docs/reference/api/#searching">Graph API#searching - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<User>> searchUsers(String query);
+
+    /**
+     * Searches users.
+     * @param query the search condition
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return users
+     * @see <a href="https://developers.facebook.com/docs/reference/api/#searching">Graph API#searching - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<User>> searchUsers(String query, Reading reading);
+
+    /**
+     * Searches events.
+     * @param query the search condition
+     * @return events
+     * @see <a href="https://developers.facebook.com/docs/reference/api/#searching">Graph API#searching - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Event>> searchEvents(String query);
+
+    /**
+     * Searches events.
+     * @param query the search condition
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return events
+     * @see <a href="https://developers.facebook.com/docs/reference/api/#searching">Graph API#searching - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Event>> searchEvents(String query, Reading reading);
+
+    /**
+     * Searches groups.
+     * @param query the search condition
+     * @return groups
+     * @see <a href="https://developers.facebook.com/docs/reference/api/#searching">Graph API#searching - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Group>> searchGroups(String query);
+
+    /**
+     * Searches groups.
+     * @param query the search condition
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return groups
+     * @see <a href="https://developers.facebook.com/docs/reference/api/#searching">Graph API#searching - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Group>> searchGroups(String query, Reading reading);
+
+    /**
+     * Searches places.
+     * @param query the search condition
+     * @return places
+     * @see <a href="https://developers.facebook.com/docs/reference/api/#searching">Graph API#searching - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Place>> searchPlaces(String query);
+
+    /**
+     * Searches places.
+     * @param query the search condition
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return places
+     * @see <a href="https://developers.facebook.com/docs/reference/api/#searching">Graph API#searching - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Place>> searchPlaces(String query, Reading reading);
+
+    /**
+     * Searches places.
+     * @param query the search condition
+     * @param center latitude and longitude
+     * @param distance distance
+     * @return places
+     * @see <a href="https://developers.facebook.com/docs/reference/api/#searching">Graph API#searching - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Place>> searchPlaces(String query, GeoLocation center, int distance);
+
+    /**
+     * Searches places. narrows the search to a specific location and distance.
+     * @param query the search condition
+     * @param center latitude and longitude
+     * @param distance distance
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return places
+     * @see <a href="https://developers.facebook.com/docs/reference/api/#searching">Graph API#searching - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Place>> searchPlaces(String query, GeoLocation center, int distance, Reading reading);
+
+    /**
+     * Returns latest checkins.
+     * @return checkins
+     * @see <a href="https://developers.facebook.com/docs/reference/api/#searching">Graph API#searching - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Checkin>> searchCheckins();
+
+    /**
+     * Returns latest checkins.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return checkins
+     * @see <a href="https://developers.facebook.com/docs/reference/api/#searching">Graph API#searching - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Checkin>> searchCheckins(Reading reading);
+
+    /**
+     * Returns locations near a geographical location.
+     * @param center latitude and longitude
+     * @param distance distance
+     * @return locations
+     * @see <a href="https://developers.facebook.com/docs/reference/api/#searching">Graph API#searching - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Location>> searchLocations(GeoLocation center, int distance);
+
+    /**
+     * Returns locations near a geographical location.
+     * @param center latitude and longitude
+     * @param distance distance
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return locations
+     * @see <a href="https://developers.facebook.com/docs/reference/api/#searching">Graph API#searching - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Location>> searchLocations(GeoLocation center, int distance, Reading reading);
+
+    /**
+     * Returns a particular place.
+     * @param placeId specify the ID of the place
+     * @return locations
+     * @see <a href="https://developers.facebook.com/docs/reference/api/#searching">Graph API#searching - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Location>> searchLocations(String placeId);
+
+    /**
+     * Returns a particular place.
+     * @param placeId specify the ID of the place
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return locations
+     * @see <a href="https://developers.facebook.com/docs/reference/api/#searching">Graph API#searching - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Location>> searchLocations(String placeId, Reading reading);
+
+    /**
+     * Searches every type all public objects.
+     * @param query the search condition
+     * @return objects
+     */
+    CompletableFuture<ResponseList<JSONObject>> search(String query);
+
+    /**
+     * Searches every type all public objects.
+     * @param query the search condition
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return objects
+     */
+    CompletableFuture<ResponseList<JSONObject>> search(String query, Reading reading);
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.TestUser;
+
+/**
+ * Asynchronous version of {@link TestUserMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface TestUserMethodsAsync {
+    /**
+     * Creates a test user associated with a particular app.
+     * @param appId the ID of the app
+     * @return Test User
+     * @see <a href="https://developers.facebook.com/docs/test_users/">Test Users - Facebook Developers</a>
+     */
+    CompletableFuture<TestUser> createTestUser(String appId);
+
+    /**
+     * Creates a test user associated with a particular app.
+     * @param appId the ID of the app
+     * @param name test user name
+     * @param locale locale
+     * @param permissions comma-separated list of permissions
+     * @return Test User
+     * @see <a href="https://developers.facebook.com/docs/test_users/">Test Users - Facebook Developers</a>
+     */
+    CompletableFuture<TestUser> createTestUser(String appId, String name, String locale, String permissions);
+
+    /**
+     * Returns test users associated with a particular app.
+     * @param appId the ID of the app
+     * @return Test Users
+     * @see <a href="https://developers.facebook.com/docs/test_users/">Test Users - Facebook Developers</a>
+     */
+    CompletableFuture<List<TestUser>> getTestUsers(String appId);
+
+    /**
+     * Deletes the test user.
+     * @param testUserId the ID of the test user
+     * @return true if delete is successful
+     * @see <a href="https://developers.facebook.com/docs/test_users/">Test Users - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> deleteTestUser(String testUserId);
+
+    /**
+     * Makes friends connections for a test user with other test users.
+     * @param testUser1 test user
+     * @param testUser2 test user
+     * @return true on success, false otherwise
+     * @see <a href="https://developers.facebook.com/docs/test_users/">Test Users - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> makeFriendTestUser(TestUser testUser1, TestUser testUser2);
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.PictureSize;
+import facebook4j.Reading;
+import facebook4j.User;
+
+/**
+ * Asynchronous version of {@link UserMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface UserMethodsAsync {
+    /**
+     * Returns the current user.
+     * @return user
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a>
+     */
+    CompletableFuture<User> getMe();
+
+    /**
+     * Returns the current user.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return user
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a>
+     */
+    CompletableFuture<User> getMe(Reading reading);
+
+    /**
+     * Returns a given user, specified by ID.
+     * @param userId the ID of the user
+     * @return user
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a>
+     */
+    CompletableFuture<User> getUser(String userId);
+
+    /**
+     * Returns a given user, specified by ID.
+     * @param userId the ID of the user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return user
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a>
+     */
+    CompletableFuture<User> getUser(String userId, Reading reading);
+
+    /**
+     * Returns the url of the current user's profile picture.
+     * @return url
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - picture
+     */
+    CompletableFuture<URL> getPictureURL();
+
+    /**
+     * Returns the url of the current user's profile picture.
+     * @param size {@link PictureSize picture size}
+     * @return url
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - picture
+     */
+    CompletableFuture<URL> getPictureURL(PictureSize size);
+
+    /**
+     * Returns the url of a user's profile picture.
+     * @param userId the ID of a user
+     * @return url
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - picture
+     */
+    CompletableFuture<URL> getPictureURL(String userId);
+
+    /**
+     * Returns the url of a user's profile picture.
+     * @param userId the ID of a user
+     * @param size {@link PictureSize picture size}
+     * @return url
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/">User - Facebook Developers</a> - Connections - picture
+     */
+    CompletableFuture<URL> getPictureURL(String userId, PictureSize size);
+
+    /**
+     * Returns the users specified by IDs.
+     * @param ids the IDs of users
+     * @return users
+     * @see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     */
+    CompletableFuture<List<User>> getUsers(String... ids);
+}
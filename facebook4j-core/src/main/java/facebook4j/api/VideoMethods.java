@@ -16,6 +16,7 @@
 
 package facebook4j.api;
 
+import java.io.File;
 import java.net.URL;
 
 import facebook4j.Comment;
@@ -25,6 +26,8 @@ import facebook4j.Media;
 import facebook4j.Reading;
 import facebook4j.ResponseList;
 import facebook4j.Video;
+import facebook4j.VideoUploadListener;
+import facebook4j.VideoUploadSession;
 
 /**
  * @author Ryuji Yamashita - roundrop at gmail.com
@@ -109,6 +112,32 @@ public interface VideoMethods {
      */
     String postVideo(String userId, Media source, String title, String description) throws FacebookException;
 
+    /**
+     * Starts a resumable upload of the video to a user's videos.<br>
+     * Pass the returned session to {@link #resumeVideoUpload(VideoUploadSession, VideoUploadListener)} to transfer the video.
+     * @param userId the ID of a user
+     * @param video video file
+     * @param title video title
+     * @param description video description
+     * @return the upload session
+     * @throws FacebookException when Facebook service or network is unavailable
+     * @see <a href="https://developers.facebook.com/docs/graph-api/video-uploads">Video Uploads - Facebook Developers</a>
+     */
+    VideoUploadSession startVideoUpload(String userId, File video, String title, String description) throws FacebookException;
+
+    /**
+     * Transfers the remaining chunks of a resumable upload, then finishes it.<br>
+     * A chunk that fails on a network or server error is retried as the configured retry policy (http.retryPolicy) decides,
+     * within the retry budget (http.retryBudgetPercent) shared with the other requests.
+     * If it still fails, the session keeps the offset of that chunk and calling this method again continues from there.
+     * @param session the upload session returned by {@link #startVideoUpload(String, File, String, String)} or restored by {@link VideoUploadSession#load(File)}
+     * @param listener receives the progress after each chunk, or null
+     * @return The new video ID
+     * @throws FacebookException when Facebook service or network is unavailable
+     * @see <a href="https://developers.facebook.com/docs/graph-api/video-uploads">Video Uploads - Facebook Developers</a>
+     */
+    String resumeVideoUpload(VideoUploadSession session, VideoUploadListener listener) throws FacebookException;
+
 
     /**
      * Returns a single video.
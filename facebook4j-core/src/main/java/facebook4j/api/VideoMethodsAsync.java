@@ -0,0 +1,214 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.api;
+
+import java.io.File;
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+
+import facebook4j.Comment;
+import facebook4j.Like;
+import facebook4j.Media;
+import facebook4j.Reading;
+import facebook4j.ResponseList;
+import facebook4j.Video;
+import facebook4j.VideoUploadListener;
+import facebook4j.VideoUploadSession;
+
+/**
+ * Asynchronous version of {@link VideoMethods}.<br>
+ * Each method returns immediately; the returned future completes with the result of the call,
+ * or exceptionally with {@link facebook4j.FacebookException} when Facebook service or network is unavailable.
+ */
+public interface VideoMethodsAsync {
+    /**
+     * Returns the videos the current user has been tagged in.
+     * @return videos
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#videos">User#videos - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Video>> getVideos();
+
+    /**
+     * Returns the videos the current user has been tagged in.
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return videos
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#videos">User#videos - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Video>> getVideos(Reading reading);
+
+    /**
+     * Returns the videos a user has been tagged in.
+     * @param userId the ID of a user
+     * @return videos
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#videos">User#videos - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Video>> getVideos(String userId);
+
+    /**
+     * Returns the videos a user has been tagged in.
+     * @param userId the ID of a user
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return videos
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#videos">User#videos - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Video>> getVideos(String userId, Reading reading);
+
+    /**
+     * Posts the video to the current user's wall.
+     * @param source video content
+     * @return The new video ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#videos">User#videos - Facebook Developers</a>
+     */
+    CompletableFuture<String> postVideo(Media source);
+
+    /**
+     * Posts the video to the current user's wall.
+     * @param source video content
+     * @param title video title
+     * @param description video description
+     * @return The new video ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#videos">User#videos - Facebook Developers</a>
+     */
+    CompletableFuture<String> postVideo(Media source, String title, String description);
+
+    /**
+     * Posts the video to a user's wall.
+     * @param userId the ID of a user
+     * @param source video content
+     * @return The new video ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#videos">User#videos - Facebook Developers</a>
+     */
+    CompletableFuture<String> postVideo(String userId, Media source);
+
+    /**
+     * Posts the video to a user's wall.
+     * @param userId the ID of a user
+     * @param source video content
+     * @param title video title
+     * @param description video description
+     * @return The new video ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/user/#videos">User#videos - Facebook Developers</a>
+     */
+    CompletableFuture<String> postVideo(String userId, Media source, String title, String description);
+
+    /**
+     * Starts a resumable upload of the video to a user's videos.<br>
+     * Pass the returned session to {@link #resumeVideoUpload(VideoUploadSession, VideoUploadListener)} to transfer the video.
+     * @param userId the ID of a user
+     * @param video video file
+     * @param title video title
+     * @param description video description
+     * @return the upload session
+     * @see <a href="https://developers.facebook.com/docs/graph-api/video-uploads">Video Uploads - Facebook Developers</a>
+     */
+    CompletableFuture<VideoUploadSession> startVideoUpload(String userId, File video, String title, String description);
+
+    /**
+     * Transfers the remaining chunks of a resumable upload, then finishes it.<br>
+     * A chunk that fails on a network or server error is retried up to http.retryCount times.
+     * If it still fails, the session keeps the offset of that chunk and calling this method again continues from there.
+     * @param session the upload session returned by {@link #startVideoUpload(String, File, String, String)} or restored by {@link VideoUploadSession#load(File)}
+     * @param listener receives the progress after each chunk, or null
+     * @return The new video ID
+     * @see <a href="https://developers.facebook.com/docs/graph-api/video-uploads">Video Uploads - Facebook Developers</a>
+     */
+    CompletableFuture<String> resumeVideoUpload(VideoUploadSession session, VideoUploadListener listener);
+
+    /**
+     * Returns a single video.
+     * @param videoId the ID of the video
+     * @return video
+     * @see <a href="https://developers.facebook.com/docs/reference/api/video/">Video - Facebook Developers</a>
+     */
+    CompletableFuture<Video> getVideo(String videoId);
+
+    /**
+     * Returns a single video.
+     * @param videoId the ID of the video
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return video
+     * @see <a href="https://developers.facebook.com/docs/reference/api/video/">Video - Facebook Developers</a>
+     */
+    CompletableFuture<Video> getVideo(String videoId, Reading reading);
+
+    /**
+     * Returns all of the likes on a video.
+     * @param videoId the ID of a video
+     * @return videos
+     * @see <a href="https://developers.facebook.com/docs/reference/api/video/#likes">Video#likes - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Like>> getVideoLikes(String videoId);
+
+    /**
+     * Returns all of the likes on a video.
+     * @param videoId the ID of a video
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a> see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return videos
+     * @see <a href="https://developers.facebook.com/docs/reference/api/video/#likes">Video#likes - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Like>> getVideoLikes(String videoId, Reading reading);
+
+    /**
+     * Likes the video.
+     * @param videoId the ID of the video
+     * @return true if like is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/video/#likes">Video#likes - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> likeVideo(String videoId);
+
+    /**
+     * Unlikes the video.
+     * @param videoId the ID of the video
+     * @return true if unlike is successful
+     * @see <a href="https://developers.facebook.com/docs/reference/api/video/#likes">Video#likes - Facebook Developers</a>
+     */
+    CompletableFuture<Boolean> unlikeVideo(String videoId);
+
+    /**
+     * Returns the comments on a video.
+     * @param videoId the ID of a video
+     * @return comments
+     * @see <a href="https://developers.facebook.com/docs/reference/api/video/#comments">Video#comments - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Comment>> getVideoComments(String videoId);
+
+    /**
+     * Returns the comments on a video.
+     * @param videoId the ID of a video
+     * @param reading optional reading parameters. see <a href="https://developers.facebook.com/docs/reference/api/#reading">Graph API#reading - Facebook Developers</a>
+     * @return comments
+     * @see <a href="https://developers.facebook.com/docs/reference/api/video/#comments">Video#comments - Facebook Developers</a>
+     */
+    CompletableFuture<ResponseList<Comment>> getVideoComments(String videoId, Reading reading);
+
+    /**
+     * Comments on the video.
+     * @param videoId the ID of the video
+     * @param message comment text
+     * @return The new comment ID
+     * @see <a href="https://developers.facebook.com/docs/reference/api/video/#comments">Video#comments - Facebook Developers</a>
+     */
+    CompletableFuture<String> commentVideo(String videoId, String message);
+
+    /**
+     * Returns url of the image which represents the content of a video.
+     * @param videoId the ID of a video
+     * @return url
+     * @see <a href="https://developers.facebook.com/docs/reference/api/video/">Video - Facebook Developers</a> - Connections - picture
+     */
+    CompletableFuture<URL> getVideoCover(String videoId);
+}
@@ -133,6 +133,10 @@ public class OAuthAuthorization implements Authorization, java.io.Serializable,
         this.oauthToken = accessToken;
     }
 
+    public String getOAuthAppId() {
+        return appId;
+    }
+
     public void setOAuthAppId(String appId, String appSecret) {
         this.appId = appId != null ? appId : "";
         this.appSecret = appSecret != null ? appSecret : "";
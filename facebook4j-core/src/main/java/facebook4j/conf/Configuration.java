@@ -54,6 +54,36 @@ public interface Configuration extends HttpClientConfiguration
 
     boolean isJSONStoreEnabled();
 
+    boolean isJSONStreamingEnabled();
+
+    boolean isLazyDecodingEnabled();
+
     boolean isMBeanEnabled();
 
+    /**
+     * @return the number of threads AsyncFacebook runs its calls on, 5 by default, as many as the JDK keeps
+     *         alive connections to one host. Calls beyond that wait for a free thread; pass an executor to
+     *         {@link facebook4j.FacebookFactory#getAsyncInstance(facebook4j.auth.Authorization, java.util.concurrent.ExecutorService)}
+     *         to size the pool otherwise
+     */
+    int getAsyncNumThreads();
+
+    boolean isIdsCoalescingEnabled();
+
+    int getIdsCoalescingWindowMillis();
+
+    int getIdsCoalescingMaxIds();
+
+    boolean isObjectCacheEnabled();
+
+    int getObjectCacheMaxBytes();
+
+    int getObjectCacheUserTtlSeconds();
+
+    int getObjectCachePostTtlSeconds();
+
+    int getObjectCacheEventTtlSeconds();
+
+    int getObjectCacheGroupTtlSeconds();
+
 }
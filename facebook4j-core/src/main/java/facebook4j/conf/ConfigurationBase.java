@@ -42,6 +42,8 @@ public class ConfigurationBase implements Configuration, Serializable {
     private boolean useSSL;
     private boolean prettyDebug;
     private boolean gzipEnabled;
+    private boolean jsonStringDeduplicationEnabled;
+    private int jsonStringDeduplicationMaxValueLength;
     private String httpProxyHost;
     private String httpProxyUser;
     private String httpProxyPassword;
@@ -52,8 +54,24 @@ public class ConfigurationBase implements Configuration, Serializable {
     private int httpStreamingReadTimeout;
     private int httpRetryCount;
     private int httpRetryIntervalSeconds;
+    private String httpRetryPolicy;
+    private int httpRetryMaxIntervalSeconds;
+    private int httpRetryBudgetPercent;
+    private boolean rateLimitEnabled;
+    private int rateLimitThreshold;
+    private int rateLimitMaxWaitMillis;
+    private boolean circuitBreakerEnabled;
+    private int circuitBreakerWindowSize;
+    private int circuitBreakerFailureRateThreshold;
+    private int circuitBreakerSlowCallRateThreshold;
+    private int circuitBreakerSlowCallDurationMillis;
+    private int circuitBreakerOpenMillis;
+    private boolean etagCacheEnabled;
+    private int etagCacheMaxBytes;
+    private boolean singleFlightEnabled;
     private int maxTotalConnections;
     private int defaultMaxPerRoute;
+    private boolean httpConnectionReuse;
 
     private String oAuthAppId;
     private String oAuthAppSecret;
@@ -69,6 +87,18 @@ public class ConfigurationBase implements Configuration, Serializable {
     private boolean jsonStoreEnabled;
 
     private boolean mbeanEnabled;
+    private int asyncNumThreads;
+    private boolean idsCoalescing;
+    private int idsCoalescingWindowMillis;
+    private int idsCoalescingMaxIds;
+    private boolean objectCacheEnabled;
+    private int objectCacheMaxBytes;
+    private int objectCacheUserTtlSeconds;
+    private int objectCachePostTtlSeconds;
+    private int objectCacheEventTtlSeconds;
+    private int objectCacheGroupTtlSeconds;
+    private boolean jsonStreamingEnabled;
+    private boolean lazyDecodingEnabled;
 
     // hidden portion
     private String clientVersion;
@@ -125,6 +155,24 @@ public class ConfigurationBase implements Configuration, Serializable {
         setHttpRetryIntervalSeconds(5);
         setHttpMaxTotalConnections(20);
         setHttpDefaultMaxPerRoute(2);
+        setHttpConnectionReuseEnabled(false);
+        setHttpRetryPolicy("facebook4j.internal.http.ExponentialBackoffRetryPolicy");
+        setHttpRetryMaxIntervalSeconds(60);
+        setHttpRetryBudgetPercent(10);
+        setRateLimitEnabled(false);
+        setRateLimitThreshold(75);
+        setRateLimitMaxWaitMillis(10000);
+        setCircuitBreakerEnabled(false);
+        setCircuitBreakerWindowSize(20);
+        setCircuitBreakerFailureRateThreshold(50);
+        setCircuitBreakerSlowCallRateThreshold(50);
+        setCircuitBreakerSlowCallDurationMillis(10000);
+        setCircuitBreakerOpenMillis(30000);
+        setETagCacheEnabled(false);
+        setETagCacheMaxBytes(4194304);
+        setSingleFlightEnabled(false);
+        setJSONStringDeduplicationEnabled(false);
+        setJSONStringDeduplicationMaxValueLength(0);
         setOAuthAppId(null);
         setOAuthAppSecret(null);
         setOAuthAccessToken(null);
@@ -135,6 +183,18 @@ public class ConfigurationBase implements Configuration, Serializable {
         setJSONStoreEnabled(false);
 
         setMBeanEnabled(false);
+        setAsyncNumThreads(5);
+        setIdsCoalescingEnabled(false);
+        setIdsCoalescingWindowMillis(2);
+        setIdsCoalescingMaxIds(50);
+        setObjectCacheEnabled(false);
+        setObjectCacheMaxBytes(4194304);
+        setObjectCacheUserTtlSeconds(300);
+        setObjectCachePostTtlSeconds(60);
+        setObjectCacheEventTtlSeconds(60);
+        setObjectCacheGroupTtlSeconds(300);
+        setJSONStreamingEnabled(false);
+        setLazyDecodingEnabled(false);
 
         setOAuthAuthorizationURL(DEFAULT_OAUTH_AUTHORIZATION_URL);
         setOAuthAccessTokenURL(DEFAULT_OAUTH_ACCESS_TOKEN_URL);
@@ -319,6 +379,150 @@ public class ConfigurationBase implements Configuration, Serializable {
         this.defaultMaxPerRoute = defaultMaxPerRoute;
     }
 
+    public boolean isHttpConnectionReuseEnabled() {
+        return httpConnectionReuse;
+    }
+
+    protected final void setHttpConnectionReuseEnabled(boolean httpConnectionReuse) {
+        this.httpConnectionReuse = httpConnectionReuse;
+    }
+
+    public String getHttpRetryPolicy() {
+        return httpRetryPolicy;
+    }
+
+    protected final void setHttpRetryPolicy(String httpRetryPolicy) {
+        this.httpRetryPolicy = httpRetryPolicy;
+    }
+
+    public int getHttpRetryMaxIntervalSeconds() {
+        return httpRetryMaxIntervalSeconds;
+    }
+
+    protected final void setHttpRetryMaxIntervalSeconds(int httpRetryMaxIntervalSeconds) {
+        this.httpRetryMaxIntervalSeconds = httpRetryMaxIntervalSeconds;
+    }
+
+    public int getHttpRetryBudgetPercent() {
+        return httpRetryBudgetPercent;
+    }
+
+    protected final void setHttpRetryBudgetPercent(int httpRetryBudgetPercent) {
+        this.httpRetryBudgetPercent = httpRetryBudgetPercent;
+    }
+
+    public boolean isRateLimitEnabled() {
+        return rateLimitEnabled;
+    }
+
+    protected final void setRateLimitEnabled(boolean rateLimitEnabled) {
+        this.rateLimitEnabled = rateLimitEnabled;
+    }
+
+    public int getRateLimitThreshold() {
+        return rateLimitThreshold;
+    }
+
+    protected final void setRateLimitThreshold(int rateLimitThreshold) {
+        this.rateLimitThreshold = rateLimitThreshold;
+    }
+
+    public int getRateLimitMaxWaitMillis() {
+        return rateLimitMaxWaitMillis;
+    }
+
+    protected final void setRateLimitMaxWaitMillis(int rateLimitMaxWaitMillis) {
+        this.rateLimitMaxWaitMillis = rateLimitMaxWaitMillis;
+    }
+
+    public boolean isCircuitBreakerEnabled() {
+        return circuitBreakerEnabled;
+    }
+
+    protected final void setCircuitBreakerEnabled(boolean circuitBreakerEnabled) {
+        this.circuitBreakerEnabled = circuitBreakerEnabled;
+    }
+
+    public int getCircuitBreakerWindowSize() {
+        return circuitBreakerWindowSize;
+    }
+
+    protected final void setCircuitBreakerWindowSize(int circuitBreakerWindowSize) {
+        this.circuitBreakerWindowSize = circuitBreakerWindowSize;
+    }
+
+    public int getCircuitBreakerFailureRateThreshold() {
+        return circuitBreakerFailureRateThreshold;
+    }
+
+    protected final void setCircuitBreakerFailureRateThreshold(int circuitBreakerFailureRateThreshold) {
+        this.circuitBreakerFailureRateThreshold = circuitBreakerFailureRateThreshold;
+    }
+
+    public int getCircuitBreakerSlowCallRateThreshold() {
+        return circuitBreakerSlowCallRateThreshold;
+    }
+
+    protected final void setCircuitBreakerSlowCallRateThreshold(int circuitBreakerSlowCallRateThreshold) {
+        this.circuitBreakerSlowCallRateThreshold = circuitBreakerSlowCallRateThreshold;
+    }
+
+    public int getCircuitBreakerSlowCallDurationMillis() {
+        return circuitBreakerSlowCallDurationMillis;
+    }
+
+    protected final void setCircuitBreakerSlowCallDurationMillis(int circuitBreakerSlowCallDurationMillis) {
+        this.circuitBreakerSlowCallDurationMillis = circuitBreakerSlowCallDurationMillis;
+    }
+
+    public int getCircuitBreakerOpenMillis() {
+        return circuitBreakerOpenMillis;
+    }
+
+    protected final void setCircuitBreakerOpenMillis(int circuitBreakerOpenMillis) {
+        this.circuitBreakerOpenMillis = circuitBreakerOpenMillis;
+    }
+
+    public boolean isETagCacheEnabled() {
+        return etagCacheEnabled;
+    }
+
+    protected final void setETagCacheEnabled(boolean etagCacheEnabled) {
+        this.etagCacheEnabled = etagCacheEnabled;
+    }
+
+    public int getETagCacheMaxBytes() {
+        return etagCacheMaxBytes;
+    }
+
+    protected final void setETagCacheMaxBytes(int etagCacheMaxBytes) {
+        this.etagCacheMaxBytes = etagCacheMaxBytes;
+    }
+
+    public boolean isSingleFlightEnabled() {
+        return singleFlightEnabled;
+    }
+
+    protected final void setSingleFlightEnabled(boolean singleFlightEnabled) {
+        this.singleFlightEnabled = singleFlightEnabled;
+    }
+
+    public boolean isJSONStringDeduplicationEnabled() {
+        return jsonStringDeduplicationEnabled;
+    }
+
+    protected final void setJSONStringDeduplicationEnabled(boolean jsonStringDeduplicationEnabled) {
+        this.jsonStringDeduplicationEnabled = jsonStringDeduplicationEnabled;
+    }
+
+    public int getJSONStringDeduplicationMaxValueLength() {
+        return jsonStringDeduplicationMaxValueLength;
+    }
+
+    protected final void setJSONStringDeduplicationMaxValueLength(int jsonStringDeduplicationMaxValueLength) {
+        this.jsonStringDeduplicationMaxValueLength = jsonStringDeduplicationMaxValueLength;
+    }
+
     // oauth related setter/getters
 
     public final String getOAuthAppId() {
@@ -435,6 +639,102 @@ public class ConfigurationBase implements Configuration, Serializable {
         this.mbeanEnabled = enabled;
     }
 
+    public int getAsyncNumThreads() {
+        return asyncNumThreads;
+    }
+
+    protected final void setAsyncNumThreads(int asyncNumThreads) {
+        this.asyncNumThreads = asyncNumThreads;
+    }
+
+    public boolean isIdsCoalescingEnabled() {
+        return idsCoalescing;
+    }
+
+    protected final void setIdsCoalescingEnabled(boolean idsCoalescing) {
+        this.idsCoalescing = idsCoalescing;
+    }
+
+    public int getIdsCoalescingWindowMillis() {
+        return idsCoalescingWindowMillis;
+    }
+
+    protected final void setIdsCoalescingWindowMillis(int idsCoalescingWindowMillis) {
+        this.idsCoalescingWindowMillis = idsCoalescingWindowMillis;
+    }
+
+    public int getIdsCoalescingMaxIds() {
+        return idsCoalescingMaxIds;
+    }
+
+    protected final void setIdsCoalescingMaxIds(int idsCoalescingMaxIds) {
+        this.idsCoalescingMaxIds = idsCoalescingMaxIds;
+    }
+
+    public boolean isObjectCacheEnabled() {
+        return objectCacheEnabled;
+    }
+
+    protected final void setObjectCacheEnabled(boolean objectCacheEnabled) {
+        this.objectCacheEnabled = objectCacheEnabled;
+    }
+
+    public int getObjectCacheMaxBytes() {
+        return objectCacheMaxBytes;
+    }
+
+    protected final void setObjectCacheMaxBytes(int objectCacheMaxBytes) {
+        this.objectCacheMaxBytes = objectCacheMaxBytes;
+    }
+
+    public int getObjectCacheUserTtlSeconds() {
+        return objectCacheUserTtlSeconds;
+    }
+
+    protected final void setObjectCacheUserTtlSeconds(int objectCacheUserTtlSeconds) {
+        this.objectCacheUserTtlSeconds = objectCacheUserTtlSeconds;
+    }
+
+    public int getObjectCachePostTtlSeconds() {
+        return objectCachePostTtlSeconds;
+    }
+
+    protected final void setObjectCachePostTtlSeconds(int objectCachePostTtlSeconds) {
+        this.objectCachePostTtlSeconds = objectCachePostTtlSeconds;
+    }
+
+    public int getObjectCacheEventTtlSeconds() {
+        return objectCacheEventTtlSeconds;
+    }
+
+    protected final void setObjectCacheEventTtlSeconds(int objectCacheEventTtlSeconds) {
+        this.objectCacheEventTtlSeconds = objectCacheEventTtlSeconds;
+    }
+
+    public int getObjectCacheGroupTtlSeconds() {
+        return objectCacheGroupTtlSeconds;
+    }
+
+    protected final void setObjectCacheGroupTtlSeconds(int objectCacheGroupTtlSeconds) {
+        this.objectCacheGroupTtlSeconds = objectCacheGroupTtlSeconds;
+    }
+
+    public boolean isJSONStreamingEnabled() {
+        return jsonStreamingEnabled;
+    }
+
+    protected final void setJSONStreamingEnabled(boolean jsonStreamingEnabled) {
+        this.jsonStreamingEnabled = jsonStreamingEnabled;
+    }
+
+    public boolean isLazyDecodingEnabled() {
+        return lazyDecodingEnabled;
+    }
+
+    protected final void setLazyDecodingEnabled(boolean lazyDecodingEnabled) {
+        this.lazyDecodingEnabled = lazyDecodingEnabled;
+    }
+
     public String getOAuthPermissions() {
         return oAuthPermissions;
     }
@@ -485,6 +785,36 @@ public class ConfigurationBase implements Configuration, Serializable {
         result = 31 * result + (restBaseURL != null ? restBaseURL.hashCode() : 0);
         result = 31 * result + (jsonStoreEnabled ? 1 : 0);
         result = 31 * result + (mbeanEnabled ? 1 : 0);
+        result = 31 * result + (httpConnectionReuse ? 1 : 0);
+        result = 31 * result + asyncNumThreads;
+        result = 31 * result + (idsCoalescing ? 1 : 0);
+        result = 31 * result + idsCoalescingWindowMillis;
+        result = 31 * result + idsCoalescingMaxIds;
+        result = 31 * result + (httpRetryPolicy != null ? httpRetryPolicy.hashCode() : 0);
+        result = 31 * result + httpRetryMaxIntervalSeconds;
+        result = 31 * result + httpRetryBudgetPercent;
+        result = 31 * result + (rateLimitEnabled ? 1 : 0);
+        result = 31 * result + rateLimitThreshold;
+        result = 31 * result + rateLimitMaxWaitMillis;
+        result = 31 * result + (circuitBreakerEnabled ? 1 : 0);
+        result = 31 * result + circuitBreakerWindowSize;
+        result = 31 * result + circuitBreakerFailureRateThreshold;
+        result = 31 * result + circuitBreakerSlowCallRateThreshold;
+        result = 31 * result + circuitBreakerSlowCallDurationMillis;
+        result = 31 * result + circuitBreakerOpenMillis;
+        result = 31 * result + (etagCacheEnabled ? 1 : 0);
+        result = 31 * result + etagCacheMaxBytes;
+        result = 31 * result + (objectCacheEnabled ? 1 : 0);
+        result = 31 * result + objectCacheMaxBytes;
+        result = 31 * result + objectCacheUserTtlSeconds;
+        result = 31 * result + objectCachePostTtlSeconds;
+        result = 31 * result + objectCacheEventTtlSeconds;
+        result = 31 * result + objectCacheGroupTtlSeconds;
+        result = 31 * result + (singleFlightEnabled ? 1 : 0);
+        result = 31 * result + (jsonStreamingEnabled ? 1 : 0);
+        result = 31 * result + (lazyDecodingEnabled ? 1 : 0);
+        result = 31 * result + (jsonStringDeduplicationEnabled ? 1 : 0);
+        result = 31 * result + jsonStringDeduplicationMaxValueLength;
         result = 31 * result + (clientVersion != null ? clientVersion.hashCode() : 0);
         result = 31 * result + (clientURL != null ? clientURL.hashCode() : 0);
         result = 31 * result + (IS_DALVIK ? 1 : 0);
@@ -513,6 +843,37 @@ public class ConfigurationBase implements Configuration, Serializable {
             return false;
         if (maxTotalConnections != that.maxTotalConnections) return false;
         if (mbeanEnabled != that.mbeanEnabled) return false;
+        if (httpConnectionReuse != that.httpConnectionReuse) return false;
+        if (asyncNumThreads != that.asyncNumThreads) return false;
+        if (idsCoalescing != that.idsCoalescing) return false;
+        if (idsCoalescingWindowMillis != that.idsCoalescingWindowMillis) return false;
+        if (idsCoalescingMaxIds != that.idsCoalescingMaxIds) return false;
+        if (httpRetryPolicy != null ? !httpRetryPolicy.equals(that.httpRetryPolicy) : that.httpRetryPolicy != null)
+            return false;
+        if (httpRetryMaxIntervalSeconds != that.httpRetryMaxIntervalSeconds) return false;
+        if (httpRetryBudgetPercent != that.httpRetryBudgetPercent) return false;
+        if (rateLimitEnabled != that.rateLimitEnabled) return false;
+        if (rateLimitThreshold != that.rateLimitThreshold) return false;
+        if (rateLimitMaxWaitMillis != that.rateLimitMaxWaitMillis) return false;
+        if (circuitBreakerEnabled != that.circuitBreakerEnabled) return false;
+        if (circuitBreakerWindowSize != that.circuitBreakerWindowSize) return false;
+        if (circuitBreakerFailureRateThreshold != that.circuitBreakerFailureRateThreshold) return false;
+        if (circuitBreakerSlowCallRateThreshold != that.circuitBreakerSlowCallRateThreshold) return false;
+        if (circuitBreakerSlowCallDurationMillis != that.circuitBreakerSlowCallDurationMillis) return false;
+        if (circuitBreakerOpenMillis != that.circuitBreakerOpenMillis) return false;
+        if (etagCacheEnabled != that.etagCacheEnabled) return false;
+        if (etagCacheMaxBytes != that.etagCacheMaxBytes) return false;
+        if (objectCacheEnabled != that.objectCacheEnabled) return false;
+        if (objectCacheMaxBytes != that.objectCacheMaxBytes) return false;
+        if (objectCacheUserTtlSeconds != that.objectCacheUserTtlSeconds) return false;
+        if (objectCachePostTtlSeconds != that.objectCachePostTtlSeconds) return false;
+        if (objectCacheEventTtlSeconds != that.objectCacheEventTtlSeconds) return false;
+        if (objectCacheGroupTtlSeconds != that.objectCacheGroupTtlSeconds) return false;
+        if (singleFlightEnabled != that.singleFlightEnabled) return false;
+        if (jsonStreamingEnabled != that.jsonStreamingEnabled) return false;
+        if (lazyDecodingEnabled != that.lazyDecodingEnabled) return false;
+        if (jsonStringDeduplicationEnabled != that.jsonStringDeduplicationEnabled) return false;
+        if (jsonStringDeduplicationMaxValueLength != that.jsonStringDeduplicationMaxValueLength) return false;
         if (prettyDebug != that.prettyDebug) return false;
         if (useSSL != that.useSSL) return false;
         if (clientURL != null ? !clientURL.equals(that.clientURL) : that.clientURL != null)
@@ -571,6 +932,36 @@ public class ConfigurationBase implements Configuration, Serializable {
                 ", oAuthAccessTokenURL='" + oAuthAccessTokenURL + '\'' +
                 ", restBaseURL='" + restBaseURL + '\'' +
                 ", mbeanEnabled=" + mbeanEnabled +
+                ", httpConnectionReuse=" + httpConnectionReuse +
+                ", asyncNumThreads=" + asyncNumThreads +
+                ", idsCoalescing=" + idsCoalescing +
+                ", idsCoalescingWindowMillis=" + idsCoalescingWindowMillis +
+                ", idsCoalescingMaxIds=" + idsCoalescingMaxIds +
+                ", httpRetryPolicy='" + httpRetryPolicy + '\'' +
+                ", httpRetryMaxIntervalSeconds=" + httpRetryMaxIntervalSeconds +
+                ", httpRetryBudgetPercent=" + httpRetryBudgetPercent +
+                ", rateLimitEnabled=" + rateLimitEnabled +
+                ", rateLimitThreshold=" + rateLimitThreshold +
+                ", rateLimitMaxWaitMillis=" + rateLimitMaxWaitMillis +
+                ", circuitBreakerEnabled=" + circuitBreakerEnabled +
+                ", circuitBreakerWindowSize=" + circuitBreakerWindowSize +
+                ", circuitBreakerFailureRateThreshold=" + circuitBreakerFailureRateThreshold +
+                ", circuitBreakerSlowCallRateThreshold=" + circuitBreakerSlowCallRateThreshold +
+                ", circuitBreakerSlowCallDurationMillis=" + circuitBreakerSlowCallDurationMillis +
+                ", circuitBreakerOpenMillis=" + circuitBreakerOpenMillis +
+                ", etagCacheEnabled=" + etagCacheEnabled +
+                ", etagCacheMaxBytes=" + etagCacheMaxBytes +
+                ", objectCacheEnabled=" + objectCacheEnabled +
+                ", objectCacheMaxBytes=" + objectCacheMaxBytes +
+                ", objectCacheUserTtlSeconds=" + objectCacheUserTtlSeconds +
+                ", objectCachePostTtlSeconds=" + objectCachePostTtlSeconds +
+                ", objectCacheEventTtlSeconds=" + objectCacheEventTtlSeconds +
+                ", objectCacheGroupTtlSeconds=" + objectCacheGroupTtlSeconds +
+                ", singleFlightEnabled=" + singleFlightEnabled +
+                ", jsonStreamingEnabled=" + jsonStreamingEnabled +
+                ", lazyDecodingEnabled=" + lazyDecodingEnabled +
+                ", jsonStringDeduplicationEnabled=" + jsonStringDeduplicationEnabled +
+                ", jsonStringDeduplicationMaxValueLength=" + jsonStringDeduplicationMaxValueLength +
                 ", clientVersion='" + clientVersion + '\'' +
                 ", clientURL='" + clientURL + '\'' +
                 ", IS_DALVIK=" + IS_DALVIK +
@@ -125,6 +125,114 @@ public final class ConfigurationBuilder {
         return this;
     }
 
+    public ConfigurationBuilder setHttpConnectionReuseEnabled(boolean httpConnectionReuse) {
+        checkNotBuilt();
+        configurationBean.setHttpConnectionReuseEnabled(httpConnectionReuse);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpRetryPolicy(String httpRetryPolicy) {
+        checkNotBuilt();
+        configurationBean.setHttpRetryPolicy(httpRetryPolicy);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpRetryMaxIntervalSeconds(int httpRetryMaxIntervalSeconds) {
+        checkNotBuilt();
+        configurationBean.setHttpRetryMaxIntervalSeconds(httpRetryMaxIntervalSeconds);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpRetryBudgetPercent(int httpRetryBudgetPercent) {
+        checkNotBuilt();
+        configurationBean.setHttpRetryBudgetPercent(httpRetryBudgetPercent);
+        return this;
+    }
+
+    public ConfigurationBuilder setRateLimitEnabled(boolean rateLimitEnabled) {
+        checkNotBuilt();
+        configurationBean.setRateLimitEnabled(rateLimitEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setRateLimitThreshold(int rateLimitThreshold) {
+        checkNotBuilt();
+        configurationBean.setRateLimitThreshold(rateLimitThreshold);
+        return this;
+    }
+
+    public ConfigurationBuilder setRateLimitMaxWaitMillis(int rateLimitMaxWaitMillis) {
+        checkNotBuilt();
+        configurationBean.setRateLimitMaxWaitMillis(rateLimitMaxWaitMillis);
+        return this;
+    }
+
+    public ConfigurationBuilder setCircuitBreakerEnabled(boolean circuitBreakerEnabled) {
+        checkNotBuilt();
+        configurationBean.setCircuitBreakerEnabled(circuitBreakerEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setCircuitBreakerWindowSize(int circuitBreakerWindowSize) {
+        checkNotBuilt();
+        configurationBean.setCircuitBreakerWindowSize(circuitBreakerWindowSize);
+        return this;
+    }
+
+    public ConfigurationBuilder setCircuitBreakerFailureRateThreshold(int circuitBreakerFailureRateThreshold) {
+        checkNotBuilt();
+        configurationBean.setCircuitBreakerFailureRateThreshold(circuitBreakerFailureRateThreshold);
+        return this;
+    }
+
+    public ConfigurationBuilder setCircuitBreakerSlowCallRateThreshold(int circuitBreakerSlowCallRateThreshold) {
+        checkNotBuilt();
+        configurationBean.setCircuitBreakerSlowCallRateThreshold(circuitBreakerSlowCallRateThreshold);
+        return this;
+    }
+
+    public ConfigurationBuilder setCircuitBreakerSlowCallDurationMillis(int circuitBreakerSlowCallDurationMillis) {
+        checkNotBuilt();
+        configurationBean.setCircuitBreakerSlowCallDurationMillis(circuitBreakerSlowCallDurationMillis);
+        return this;
+    }
+
+    public ConfigurationBuilder setCircuitBreakerOpenMillis(int circuitBreakerOpenMillis) {
+        checkNotBuilt();
+        configurationBean.setCircuitBreakerOpenMillis(circuitBreakerOpenMillis);
+        return this;
+    }
+
+    public ConfigurationBuilder setETagCacheEnabled(boolean etagCacheEnabled) {
+        checkNotBuilt();
+        configurationBean.setETagCacheEnabled(etagCacheEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setETagCacheMaxBytes(int etagCacheMaxBytes) {
+        checkNotBuilt();
+        configurationBean.setETagCacheMaxBytes(etagCacheMaxBytes);
+        return this;
+    }
+
+    public ConfigurationBuilder setSingleFlightEnabled(boolean singleFlightEnabled) {
+        checkNotBuilt();
+        configurationBean.setSingleFlightEnabled(singleFlightEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setJSONStringDeduplicationEnabled(boolean jsonStringDeduplicationEnabled) {
+        checkNotBuilt();
+        configurationBean.setJSONStringDeduplicationEnabled(jsonStringDeduplicationEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setJSONStringDeduplicationMaxValueLength(int jsonStringDeduplicationMaxValueLength) {
+        checkNotBuilt();
+        configurationBean.setJSONStringDeduplicationMaxValueLength(jsonStringDeduplicationMaxValueLength);
+        return this;
+    }
+
     public ConfigurationBuilder setOAuthAppId(String oAuthAppId) {
         checkNotBuilt();
         configurationBean.setOAuthAppId(oAuthAppId);
@@ -197,6 +305,78 @@ public final class ConfigurationBuilder {
         return this;
     }
 
+    public ConfigurationBuilder setAsyncNumThreads(int asyncNumThreads) {
+        checkNotBuilt();
+        configurationBean.setAsyncNumThreads(asyncNumThreads);
+        return this;
+    }
+
+    public ConfigurationBuilder setIdsCoalescingEnabled(boolean idsCoalescing) {
+        checkNotBuilt();
+        configurationBean.setIdsCoalescingEnabled(idsCoalescing);
+        return this;
+    }
+
+    public ConfigurationBuilder setIdsCoalescingWindowMillis(int idsCoalescingWindowMillis) {
+        checkNotBuilt();
+        configurationBean.setIdsCoalescingWindowMillis(idsCoalescingWindowMillis);
+        return this;
+    }
+
+    public ConfigurationBuilder setIdsCoalescingMaxIds(int idsCoalescingMaxIds) {
+        checkNotBuilt();
+        configurationBean.setIdsCoalescingMaxIds(idsCoalescingMaxIds);
+        return this;
+    }
+
+    public ConfigurationBuilder setObjectCacheEnabled(boolean objectCacheEnabled) {
+        checkNotBuilt();
+        configurationBean.setObjectCacheEnabled(objectCacheEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setObjectCacheMaxBytes(int objectCacheMaxBytes) {
+        checkNotBuilt();
+        configurationBean.setObjectCacheMaxBytes(objectCacheMaxBytes);
+        return this;
+    }
+
+    public ConfigurationBuilder setObjectCacheUserTtlSeconds(int objectCacheUserTtlSeconds) {
+        checkNotBuilt();
+        configurationBean.setObjectCacheUserTtlSeconds(objectCacheUserTtlSeconds);
+        return this;
+    }
+
+    public ConfigurationBuilder setObjectCachePostTtlSeconds(int objectCachePostTtlSeconds) {
+        checkNotBuilt();
+        configurationBean.setObjectCachePostTtlSeconds(objectCachePostTtlSeconds);
+        return this;
+    }
+
+    public ConfigurationBuilder setObjectCacheEventTtlSeconds(int objectCacheEventTtlSeconds) {
+        checkNotBuilt();
+        configurationBean.setObjectCacheEventTtlSeconds(objectCacheEventTtlSeconds);
+        return this;
+    }
+
+    public ConfigurationBuilder setObjectCacheGroupTtlSeconds(int objectCacheGroupTtlSeconds) {
+        checkNotBuilt();
+        configurationBean.setObjectCacheGroupTtlSeconds(objectCacheGroupTtlSeconds);
+        return this;
+    }
+
+    public ConfigurationBuilder setJSONStreamingEnabled(boolean jsonStreamingEnabled) {
+        checkNotBuilt();
+        configurationBean.setJSONStreamingEnabled(jsonStreamingEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setLazyDecodingEnabled(boolean lazyDecodingEnabled) {
+        checkNotBuilt();
+        configurationBean.setLazyDecodingEnabled(lazyDecodingEnabled);
+        return this;
+    }
+
     public Configuration build() {
         checkNotBuilt();
         configurationBean.cacheInstance();
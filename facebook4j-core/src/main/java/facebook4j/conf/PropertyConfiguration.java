@@ -58,6 +58,24 @@ public final class PropertyConfiguration extends ConfigurationBase implements Se
 
     public static final String HTTP_MAX_TOTAL_CONNECTIONS = "http.maxTotalConnections";
     public static final String HTTP_DEFAULT_MAX_PER_ROUTE = "http.defaultMaxPerRoute";
+    public static final String HTTP_CONNECTION_REUSE = "http.connectionReuse";
+    public static final String HTTP_RETRY_POLICY = "http.retryPolicy";
+    public static final String HTTP_RETRY_MAX_INTERVAL_SECS = "http.retryMaxIntervalSecs";
+    public static final String HTTP_RETRY_BUDGET_PERCENT = "http.retryBudgetPercent";
+    public static final String RATE_LIMIT_ENABLED = "rateLimit.enabled";
+    public static final String RATE_LIMIT_THRESHOLD = "rateLimit.threshold";
+    public static final String RATE_LIMIT_MAX_WAIT_MILLIS = "rateLimit.maxWaitMillis";
+    public static final String CIRCUIT_BREAKER_ENABLED = "circuitBreaker.enabled";
+    public static final String CIRCUIT_BREAKER_WINDOW_SIZE = "circuitBreaker.windowSize";
+    public static final String CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD = "circuitBreaker.failureRateThreshold";
+    public static final String CIRCUIT_BREAKER_SLOW_CALL_RATE_THRESHOLD = "circuitBreaker.slowCallRateThreshold";
+    public static final String CIRCUIT_BREAKER_SLOW_CALL_DURATION_MILLIS = "circuitBreaker.slowCallDurationMillis";
+    public static final String CIRCUIT_BREAKER_OPEN_MILLIS = "circuitBreaker.openMillis";
+    public static final String ETAG_CACHE_ENABLED = "etagCache.enabled";
+    public static final String ETAG_CACHE_MAX_BYTES = "etagCache.maxBytes";
+    public static final String SINGLE_FLIGHT_ENABLED = "singleFlight.enabled";
+    public static final String JSON_STRING_DEDUPLICATION_ENABLED = "jsonStringDeduplicationEnabled";
+    public static final String JSON_STRING_DEDUPLICATION_MAX_VALUE_LENGTH = "jsonStringDeduplicationMaxValueLength";
 
     public static final String OAUTH_APP_ID = "oauth.appId";
     public static final String OAUTH_APP_SECRET = "oauth.appSecret";
@@ -73,6 +91,18 @@ public final class PropertyConfiguration extends ConfigurationBase implements Se
 
     public static final String JSON_STORE_ENABLED = "jsonStoreEnabled";
     public static final String MBEAN_ENABLED = "mbeanEnabled";
+    public static final String ASYNC_NUM_THREADS = "async.numThreads";
+    public static final String IDS_COALESCING = "idsCoalescing.enabled";
+    public static final String IDS_COALESCING_WINDOW_MILLIS = "idsCoalescing.windowMillis";
+    public static final String IDS_COALESCING_MAX_IDS = "idsCoalescing.maxIds";
+    public static final String OBJECT_CACHE_ENABLED = "objectCache.enabled";
+    public static final String OBJECT_CACHE_MAX_BYTES = "objectCache.maxBytes";
+    public static final String OBJECT_CACHE_USER_TTL_SECS = "objectCache.userTtlSecs";
+    public static final String OBJECT_CACHE_POST_TTL_SECS = "objectCache.postTtlSecs";
+    public static final String OBJECT_CACHE_EVENT_TTL_SECS = "objectCache.eventTtlSecs";
+    public static final String OBJECT_CACHE_GROUP_TTL_SECS = "objectCache.groupTtlSecs";
+    public static final String JSON_STREAMING_ENABLED = "jsonStreamingEnabled";
+    public static final String LAZY_DECODING_ENABLED = "lazyDecodingEnabled";
 
     // hidden portion
     public static final String CLIENT_VERSION = "clientVersion";
@@ -256,6 +286,60 @@ public final class PropertyConfiguration extends ConfigurationBase implements Se
         if (notNull(props, prefix, HTTP_DEFAULT_MAX_PER_ROUTE)) {
             setHttpDefaultMaxPerRoute(getIntProperty(props, prefix, HTTP_DEFAULT_MAX_PER_ROUTE));
         }
+        if (notNull(props, prefix, HTTP_CONNECTION_REUSE)) {
+            setHttpConnectionReuseEnabled(getBoolean(props, prefix, HTTP_CONNECTION_REUSE));
+        }
+        if (notNull(props, prefix, HTTP_RETRY_POLICY)) {
+            setHttpRetryPolicy(getString(props, prefix, HTTP_RETRY_POLICY));
+        }
+        if (notNull(props, prefix, HTTP_RETRY_MAX_INTERVAL_SECS)) {
+            setHttpRetryMaxIntervalSeconds(getIntProperty(props, prefix, HTTP_RETRY_MAX_INTERVAL_SECS));
+        }
+        if (notNull(props, prefix, HTTP_RETRY_BUDGET_PERCENT)) {
+            setHttpRetryBudgetPercent(getIntProperty(props, prefix, HTTP_RETRY_BUDGET_PERCENT));
+        }
+        if (notNull(props, prefix, RATE_LIMIT_ENABLED)) {
+            setRateLimitEnabled(getBoolean(props, prefix, RATE_LIMIT_ENABLED));
+        }
+        if (notNull(props, prefix, RATE_LIMIT_THRESHOLD)) {
+            setRateLimitThreshold(getIntProperty(props, prefix, RATE_LIMIT_THRESHOLD));
+        }
+        if (notNull(props, prefix, RATE_LIMIT_MAX_WAIT_MILLIS)) {
+            setRateLimitMaxWaitMillis(getIntProperty(props, prefix, RATE_LIMIT_MAX_WAIT_MILLIS));
+        }
+        if (notNull(props, prefix, CIRCUIT_BREAKER_ENABLED)) {
+            setCircuitBreakerEnabled(getBoolean(props, prefix, CIRCUIT_BREAKER_ENABLED));
+        }
+        if (notNull(props, prefix, CIRCUIT_BREAKER_WINDOW_SIZE)) {
+            setCircuitBreakerWindowSize(getIntProperty(props, prefix, CIRCUIT_BREAKER_WINDOW_SIZE));
+        }
+        if (notNull(props, prefix, CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD)) {
+            setCircuitBreakerFailureRateThreshold(getIntProperty(props, prefix, CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD));
+        }
+        if (notNull(props, prefix, CIRCUIT_BREAKER_SLOW_CALL_RATE_THRESHOLD)) {
+            setCircuitBreakerSlowCallRateThreshold(getIntProperty(props, prefix, CIRCUIT_BREAKER_SLOW_CALL_RATE_THRESHOLD));
+        }
+        if (notNull(props, prefix, CIRCUIT_BREAKER_SLOW_CALL_DURATION_MILLIS)) {
+            setCircuitBreakerSlowCallDurationMillis(getIntProperty(props, prefix, CIRCUIT_BREAKER_SLOW_CALL_DURATION_MILLIS));
+        }
+        if (notNull(props, prefix, CIRCUIT_BREAKER_OPEN_MILLIS)) {
+            setCircuitBreakerOpenMillis(getIntProperty(props, prefix, CIRCUIT_BREAKER_OPEN_MILLIS));
+        }
+        if (notNull(props, prefix, ETAG_CACHE_ENABLED)) {
+            setETagCacheEnabled(getBoolean(props, prefix, ETAG_CACHE_ENABLED));
+        }
+        if (notNull(props, prefix, ETAG_CACHE_MAX_BYTES)) {
+            setETagCacheMaxBytes(getIntProperty(props, prefix, ETAG_CACHE_MAX_BYTES));
+        }
+        if (notNull(props, prefix, SINGLE_FLIGHT_ENABLED)) {
+            setSingleFlightEnabled(getBoolean(props, prefix, SINGLE_FLIGHT_ENABLED));
+        }
+        if (notNull(props, prefix, JSON_STRING_DEDUPLICATION_ENABLED)) {
+            setJSONStringDeduplicationEnabled(getBoolean(props, prefix, JSON_STRING_DEDUPLICATION_ENABLED));
+        }
+        if (notNull(props, prefix, JSON_STRING_DEDUPLICATION_MAX_VALUE_LENGTH)) {
+            setJSONStringDeduplicationMaxValueLength(getIntProperty(props, prefix, JSON_STRING_DEDUPLICATION_MAX_VALUE_LENGTH));
+        }
         if (notNull(props, prefix, OAUTH_APP_ID)) {
             setOAuthAppId(getString(props, prefix, OAUTH_APP_ID));
         }
@@ -300,6 +384,42 @@ public final class PropertyConfiguration extends ConfigurationBase implements Se
         if (notNull(props, prefix, MBEAN_ENABLED)) {
             setMBeanEnabled(getBoolean(props, prefix, MBEAN_ENABLED));
         }
+        if (notNull(props, prefix, ASYNC_NUM_THREADS)) {
+            setAsyncNumThreads(getIntProperty(props, prefix, ASYNC_NUM_THREADS));
+        }
+        if (notNull(props, prefix, IDS_COALESCING)) {
+            setIdsCoalescingEnabled(getBoolean(props, prefix, IDS_COALESCING));
+        }
+        if (notNull(props, prefix, IDS_COALESCING_WINDOW_MILLIS)) {
+            setIdsCoalescingWindowMillis(getIntProperty(props, prefix, IDS_COALESCING_WINDOW_MILLIS));
+        }
+        if (notNull(props, prefix, IDS_COALESCING_MAX_IDS)) {
+            setIdsCoalescingMaxIds(getIntProperty(props, prefix, IDS_COALESCING_MAX_IDS));
+        }
+        if (notNull(props, prefix, OBJECT_CACHE_ENABLED)) {
+            setObjectCacheEnabled(getBoolean(props, prefix, OBJECT_CACHE_ENABLED));
+        }
+        if (notNull(props, prefix, OBJECT_CACHE_MAX_BYTES)) {
+            setObjectCacheMaxBytes(getIntProperty(props, prefix, OBJECT_CACHE_MAX_BYTES));
+        }
+        if (notNull(props, prefix, OBJECT_CACHE_USER_TTL_SECS)) {
+            setObjectCacheUserTtlSeconds(getIntProperty(props, prefix, OBJECT_CACHE_USER_TTL_SECS));
+        }
+        if (notNull(props, prefix, OBJECT_CACHE_POST_TTL_SECS)) {
+            setObjectCachePostTtlSeconds(getIntProperty(props, prefix, OBJECT_CACHE_POST_TTL_SECS));
+        }
+        if (notNull(props, prefix, OBJECT_CACHE_EVENT_TTL_SECS)) {
+            setObjectCacheEventTtlSeconds(getIntProperty(props, prefix, OBJECT_CACHE_EVENT_TTL_SECS));
+        }
+        if (notNull(props, prefix, OBJECT_CACHE_GROUP_TTL_SECS)) {
+            setObjectCacheGroupTtlSeconds(getIntProperty(props, prefix, OBJECT_CACHE_GROUP_TTL_SECS));
+        }
+        if (notNull(props, prefix, JSON_STREAMING_ENABLED)) {
+            setJSONStreamingEnabled(getBoolean(props, prefix, JSON_STREAMING_ENABLED));
+        }
+        if (notNull(props, prefix, LAZY_DECODING_ENABLED)) {
+            setLazyDecodingEnabled(getBoolean(props, prefix, LAZY_DECODING_ENABLED));
+        }
         cacheInstance();
     }
 
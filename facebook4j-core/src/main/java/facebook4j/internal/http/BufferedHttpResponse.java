@@ -0,0 +1,63 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A response whose body is already held in memory, e.g. an item of a batch response or a part of a multi-id response.
+ */
+public class BufferedHttpResponse extends HttpResponse {
+    private final Map<String, List<String>> headers;
+
+    public BufferedHttpResponse(HttpClientConfiguration conf, int statusCode, String body, Map<String, List<String>> headers) {
+        super(conf);
+        this.statusCode = statusCode;
+        this.responseAsString = body;
+        this.headers = headers == null ? Collections.<String, List<String>>emptyMap() : Collections.unmodifiableMap(headers);
+    }
+
+    /**
+     * @param body raw body, replayed by {@link #asStream()}
+     */
+    public BufferedHttpResponse(HttpClientConfiguration conf, int statusCode, byte[] body, Map<String, List<String>> headers) {
+        this(conf, statusCode, (String) null, headers);
+        this.is = new ByteArrayInputStream(body);
+    }
+
+    @Override
+    public String getResponseHeader(String name) {
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey()) && header.getValue().size() > 0) {
+                return header.getValue().get(0);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Map<String, List<String>> getResponseHeaderFields() {
+        return headers;
+    }
+
+    @Override
+    public void disconnect() {
+    }
+}
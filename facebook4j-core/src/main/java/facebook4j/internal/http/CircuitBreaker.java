@@ -0,0 +1,240 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import facebook4j.CircuitBreakerOpenException;
+import facebook4j.FacebookException;
+import facebook4j.internal.logging.Logger;
+import facebook4j.management.CircuitBreakerStatistics;
+
+/**
+ * Circuit breakers keyed by Graph API endpoint, so that an endpoint that keeps failing or timing out
+ * does not tie up every calling thread for the read timeout times the retry count.<br>
+ * A circuit is closed as long as the failure rate and the slow call rate of the last
+ * {@link HttpClientWrapperConfiguration#getCircuitBreakerWindowSize()} calls stay below their thresholds.
+ * Once one of them is reached, the circuit opens and requests fail fast with {@link CircuitBreakerOpenException}
+ * for {@link HttpClientWrapperConfiguration#getCircuitBreakerOpenMillis()}. It then turns half-open and lets a single
+ * trial call through, which closes the circuit again if it succeeds in time, or reopens it otherwise.<br>
+ * Network errors and 5xx responses count as failures. Other errors show the endpoint is responding and count as successes.
+ * There is one set of breakers per configuration, as the thresholds and the window size are configured separately.
+ * Their states are reported by a single {@link CircuitBreakerStatistics}, where the state of an endpoint is the most
+ * recent state change of any configuration.
+ *
+ * @see HttpRequest#getEndpoint(String)
+ */
+public final class CircuitBreaker implements HttpResponseCode {
+    private static final Logger logger = Logger.getLogger(CircuitBreaker.class);
+
+    private static final CircuitBreakerStatistics STATISTICS = new CircuitBreakerStatistics();
+    private static final Map<HttpClientWrapperConfiguration, CircuitBreaker> instanceMap
+            = new HashMap<HttpClientWrapperConfiguration, CircuitBreaker>(1);
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final Map<String, Circuit> circuits = new HashMap<String, Circuit>();
+    private final CircuitBreakerStatistics statistics;
+
+    /*package*/ CircuitBreaker(CircuitBreakerStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    public static CircuitBreaker getInstance(HttpClientWrapperConfiguration conf) {
+        synchronized (instanceMap) {
+            CircuitBreaker breaker = instanceMap.get(conf);
+            if (null == breaker) {
+                breaker = new CircuitBreaker(STATISTICS);
+                instanceMap.put(conf, breaker);
+            }
+            return breaker;
+        }
+    }
+
+    public static CircuitBreakerStatistics getStatistics() {
+        return STATISTICS;
+    }
+
+    /**
+     * Checks that the circuit of the request's endpoint lets the request through.
+     *
+     * @param req  the request
+     * @param conf the configuration
+     * @throws CircuitBreakerOpenException when the circuit is open
+     */
+    public void acquire(HttpRequest req, HttpClientWrapperConfiguration conf) throws CircuitBreakerOpenException {
+        String endpoint = HttpRequest.getEndpoint(req.getURL());
+        if (endpoint == null) {
+            return;
+        }
+        long waitMillis = getCircuit(endpoint, conf).acquire(System.currentTimeMillis(), conf);
+        if (waitMillis > 0) {
+            statistics.rejected();
+            throw new CircuitBreakerOpenException(endpoint, waitMillis);
+        }
+    }
+
+    /**
+     * Records the outcome of a request that was let through.
+     *
+     * @param req           the request
+     * @param elapsedMillis time the request took, retries included
+     * @param fe            the error, or null if the request succeeded
+     * @param conf          the configuration
+     */
+    public void record(HttpRequest req, long elapsedMillis, FacebookException fe, HttpClientWrapperConfiguration conf) {
+        String endpoint = HttpRequest.getEndpoint(req.getURL());
+        if (endpoint == null) {
+            return;
+        }
+        boolean failure = fe != null && (fe.isCausedByNetworkIssue() || fe.getStatusCode() >= INTERNAL_SERVER_ERROR);
+        boolean slow = elapsedMillis >= conf.getCircuitBreakerSlowCallDurationMillis();
+        getCircuit(endpoint, conf).record(failure, slow, System.currentTimeMillis(), conf);
+    }
+
+    /*package*/ State getState(String endpoint) {
+        Circuit circuit;
+        synchronized (circuits) {
+            circuit = circuits.get(endpoint);
+        }
+        return circuit == null ? State.CLOSED : circuit.getState();
+    }
+
+    private Circuit getCircuit(String endpoint, HttpClientWrapperConfiguration conf) {
+        synchronized (circuits) {
+            Circuit circuit = circuits.get(endpoint);
+            if (circuit == null) {
+                circuit = new Circuit(endpoint, conf.getCircuitBreakerWindowSize());
+                circuits.put(endpoint, circuit);
+            }
+            return circuit;
+        }
+    }
+
+    private final class Circuit {
+        private final String endpoint;
+        // outcomes of the most recent calls, as a ring buffer
+        private final boolean[] failures;
+        private final boolean[] slowCalls;
+        private int index;
+        private int count;
+        private int failureCount;
+        private int slowCallCount;
+        private State state = State.CLOSED;
+        private long openedAt;
+        // start of the trial call in half-open state, 0 if there is none
+        private long trialStartedAt;
+
+        Circuit(String endpoint, int windowSize) {
+            this.endpoint = endpoint;
+            failures = new boolean[Math.max(1, windowSize)];
+            slowCalls = new boolean[failures.length];
+        }
+
+        synchronized State getState() {
+            return state;
+        }
+
+        synchronized long acquire(long now, HttpClientWrapperConfiguration conf) {
+            long openMillis = conf.getCircuitBreakerOpenMillis();
+            switch (state) {
+                case OPEN:
+                    long remaining = openedAt + openMillis - now;
+                    if (remaining > 0) {
+                        return remaining;
+                    }
+                    setState(State.HALF_OPEN);
+                    trialStartedAt = now;
+                    return 0;
+                case HALF_OPEN:
+                    // the trial call may never be recorded, e.g. when the rate limiter rejects it
+                    if (trialStartedAt != 0 && now - trialStartedAt < openMillis) {
+                        return trialStartedAt + openMillis - now;
+                    }
+                    trialStartedAt = now;
+                    return 0;
+                default:
+                    return 0;
+            }
+        }
+
+        synchronized void record(boolean failure, boolean slow, long now, HttpClientWrapperConfiguration conf) {
+            switch (state) {
+                case HALF_OPEN:
+                    trialStartedAt = 0;
+                    if (failure || slow) {
+                        open(now);
+                    } else {
+                        clear();
+                        setState(State.CLOSED);
+                    }
+                    break;
+                case CLOSED:
+                    if (count == failures.length) {
+                        if (failures[index]) {
+                            failureCount--;
+                        }
+                        if (slowCalls[index]) {
+                            slowCallCount--;
+                        }
+                    } else {
+                        count++;
+                    }
+                    failures[index] = failure;
+                    slowCalls[index] = slow;
+                    if (failure) {
+                        failureCount++;
+                    }
+                    if (slow) {
+                        slowCallCount++;
+                    }
+                    index = (index + 1) % failures.length;
+                    if (count == failures.length
+                            && (failureCount * 100 >= conf.getCircuitBreakerFailureRateThreshold() * count
+                            || slowCallCount * 100 >= conf.getCircuitBreakerSlowCallRateThreshold() * count)) {
+                        open(now);
+                    }
+                    break;
+                default:
+                    // a call started before the circuit opened
+                    break;
+            }
+        }
+
+        private void open(long now) {
+            openedAt = now;
+            clear();
+            setState(State.OPEN);
+            logger.warn("Circuit breaker of " + endpoint + " opened.");
+        }
+
+        private void clear() {
+            index = 0;
+            count = 0;
+            failureCount = 0;
+            slowCallCount = 0;
+        }
+
+        private void setState(State state) {
+            this.state = state;
+            statistics.stateChanged(endpoint, state.name());
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import facebook4j.FacebookException;
+import facebook4j.internal.util.z_F4JInternalStringUtil;
+
+/**
+ * Conditional GET cache for Graph API reads.<br>
+ * The ETag and the body of a GET response are kept, and the next GET of the same URL is sent with If-None-Match.
+ * When Facebook answers 304 Not Modified, the response is rebuilt from the cached body instead of being transferred again,
+ * with the headers of the 304 response, such as the usage headers, taking precedence over the cached ones.<br>
+ * The body is kept as raw bytes and replayed as a stream, so that it can still be decoded by the streaming decoder.<br>
+ * Entries are keyed by the URL without the access token value, plus a digest of the token, since the content
+ * depends on the permissions of the token. Memory is bounded by evicting the least recently used entries
+ * once the cached bodies exceed {@link HttpClientWrapperConfiguration#getETagCacheMaxBytes()}.
+ */
+public final class ETagCache implements HttpResponseCode {
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("([?&]access_token=)[^&]*");
+
+    /*package*/ interface Fetcher {
+        HttpResponse fetch(HttpRequest req) throws FacebookException;
+    }
+
+    private final HttpClientConfiguration conf;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+    private long bytes;
+    private long hitCount;
+    private long missCount;
+
+    public ETagCache(HttpClientConfiguration conf, long maxBytes) {
+        this.conf = conf;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Sends the GET request, conditionally if a response of the same URL is cached.
+     *
+     * @param req     the GET request
+     * @param fetcher sends the request
+     * @return the response, rebuilt from the cache on 304
+     * @throws FacebookException when the request fails
+     */
+    /*package*/ HttpResponse get(HttpRequest req, Fetcher fetcher) throws FacebookException {
+        String key = getKey(req);
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry == null) {
+            HttpResponse res = fetcher.fetch(req);
+            synchronized (this) {
+                missCount++;
+            }
+            return store(key, res);
+        }
+        HttpResponse res = fetcher.fetch(req.withRequestHeader("If-None-Match", entry.etag));
+        if (res.getStatusCode() != NOT_MODIFIED) {
+            synchronized (this) {
+                missCount++;
+            }
+            return store(key, res);
+        }
+        // releases the connection
+        res.asString();
+        synchronized (this) {
+            hitCount++;
+        }
+        Map<String, List<String>> headers = mergeHeaders(entry.headers, res);
+        if (entry.text) {
+            try {
+                return new BufferedHttpResponse(conf, OK, new String(entry.body, "UTF-8"), headers);
+            } catch (UnsupportedEncodingException neverHappen) {
+                throw new AssertionError("will never happen");
+            }
+        }
+        return new BufferedHttpResponse(conf, OK, entry.body, headers);
+    }
+
+    private HttpResponse store(String key, HttpResponse res) throws FacebookException {
+        String etag = res.getResponseHeader("ETag");
+        if (res.getStatusCode() != OK || etag == null || getContentLength(res) > maxBytes) {
+            return res;
+        }
+        Map<String, List<String>> headers = copyHeaders(res);
+        boolean text = isDecoded(res);
+        byte[] body = text ? toBytes(res.asString()) : readBody(res);
+        if (body == null) {
+            return res;
+        }
+        HttpResponse replay = text ? res : new BufferedHttpResponse(conf, OK, body, headers);
+        if (body.length > maxBytes) {
+            return replay;
+        }
+        Entry entry = new Entry(etag, body, text, headers);
+        synchronized (this) {
+            Entry old = entries.put(key, entry);
+            if (old != null) {
+                bytes -= old.body.length;
+            }
+            bytes += body.length;
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (bytes > maxBytes && iterator.hasNext()) {
+                bytes -= iterator.next().body.length;
+                iterator.remove();
+            }
+        }
+        return replay;
+    }
+
+    /**
+     * @return true if the body is already held in memory as a String
+     */
+    private static boolean isDecoded(HttpResponse res) {
+        try {
+            return res.asStream() == null;
+        } catch (IllegalStateException consumed) {
+            return true;
+        }
+    }
+
+    private static long getContentLength(HttpResponse res) {
+        String contentLength = res.getResponseHeader("Content-Length");
+        try {
+            return contentLength != null ? Long.parseLong(contentLength.trim()) : -1;
+        } catch (NumberFormatException nfe) {
+            return -1;
+        }
+    }
+
+    /**
+     * Reads the raw body, without decoding it to a String, and releases the connection.
+     *
+     * @return the body
+     */
+    private static byte[] readBody(HttpResponse res) throws FacebookException {
+        InputStream stream = res.asStream();
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[8192];
+            int count;
+            while ((count = stream.read(buf)) != -1) {
+                out.write(buf, 0, count);
+            }
+            return out.toByteArray();
+        } catch (IOException ioe) {
+            throw new FacebookException(ioe.getMessage(), ioe);
+        } finally {
+            try {
+                stream.close();
+            } catch (IOException ignore) {
+            }
+            try {
+                res.disconnect();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+
+    private static byte[] toBytes(String body) {
+        try {
+            return body != null ? body.getBytes("UTF-8") : null;
+        } catch (UnsupportedEncodingException neverHappen) {
+            throw new AssertionError("will never happen");
+        }
+    }
+
+    /**
+     * @return the cached headers, overridden by the headers of the 304 response
+     */
+    /*package*/ static Map<String, List<String>> mergeHeaders(Map<String, List<String>> cached, HttpResponse notModified) {
+        Map<String, List<String>> headers = new HashMap<String, List<String>>(cached);
+        for (Map.Entry<String, List<String>> header : copyHeaders(notModified).entrySet()) {
+            // HTTP/2 header names are lower case
+            for (Iterator<String> names = headers.keySet().iterator(); names.hasNext(); ) {
+                if (names.next().equalsIgnoreCase(header.getKey())) {
+                    names.remove();
+                }
+            }
+            headers.put(header.getKey(), header.getValue());
+        }
+        return headers;
+    }
+
+    /*package*/ static Map<String, List<String>> copyHeaders(HttpResponse res) {
+        Map<String, List<String>> headers = new HashMap<String, List<String>>();
+        for (Map.Entry<String, List<String>> header : res.getResponseHeaderFields().entrySet()) {
+            // the status line is keyed by null in HttpURLConnection
+            if (header.getKey() != null) {
+                headers.put(header.getKey(), new ArrayList<String>(header.getValue()));
+            }
+        }
+        return headers;
+    }
+
+    /*package*/ static String getKey(HttpRequest req) {
+        String url = ACCESS_TOKEN.matcher(req.getURL()).replaceFirst("$1");
+        String token = req.getAccessToken();
+        return token == null ? url : url + " " + z_F4JInternalStringUtil.digest(token);
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    private static final class Entry {
+        final String etag;
+        final byte[] body;
+        // whether the body was decoded already, and is to be replayed as a String
+        final boolean text;
+        final Map<String, List<String>> headers;
+
+        Entry(String etag, byte[] body, boolean text, Map<String, List<String>> headers) {
+            this.etag = etag;
+            this.body = body;
+            this.text = text;
+            this.headers = headers;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+import facebook4j.FacebookException;
+import facebook4j.internal.logging.Logger;
+
+/**
+ * The default retry policy.<br>
+ * Network errors, 429/5xx responses, and throttling or transient Graph API errors are retried after a delay
+ * growing from <code>http.retryIntervalSecs</code> up to <code>http.retryMaxIntervalSecs</code> with decorrelated jitter,
+ * so that clients failing together do not retry together. A <code>Retry-After</code> header is honored
+ * (the request is given up when it asks for longer than the maximum interval), and the retries are limited to
+ * <code>http.retryBudgetPercent</code> percent of the requests.
+ *
+ * @see <a href="https://aws.amazon.com/blogs/architecture/exponential-backoff-and-jitter/">Exponential Backoff And Jitter</a>
+ */
+public class ExponentialBackoffRetryPolicy implements RetryPolicy, HttpResponseCode {
+    private static final Logger logger = Logger.getLogger(ExponentialBackoffRetryPolicy.class);
+
+    private final HttpClientConfiguration conf;
+    private final RetryBudget budget;
+
+    public ExponentialBackoffRetryPolicy(HttpClientConfiguration conf) {
+        this.conf = conf;
+        this.budget = new RetryBudget(conf.getHttpRetryBudgetPercent());
+    }
+
+    public void requestStarted(HttpRequest req) {
+        budget.deposit();
+    }
+
+    public long getRetryDelayMillis(HttpRequest req, int retriedCount, long previousDelayMillis, FacebookException cause) {
+        if (retriedCount >= conf.getHttpRetryCount() || !isRetryable(cause)) {
+            return -1;
+        }
+        long base = conf.getHttpRetryIntervalSeconds() * 1000L;
+        long cap = conf.getHttpRetryMaxIntervalSeconds() * 1000L;
+        long retryAfter = getRetryAfterMillis(cause);
+        if (retryAfter > cap) {
+            logger.debug("Giving up the retry, Retry-After is " + retryAfter + " ms.");
+            return -1;
+        }
+        if (!budget.tryWithdraw()) {
+            logger.debug("Giving up the retry, the retry budget is exhausted.");
+            return -1;
+        }
+        // decorrelated jitter: random between the base and three times the previous delay
+        long upper = Math.max(base, previousDelayMillis * 3);
+        long delay = upper > base ? ThreadLocalRandom.current().nextLong(base, upper + 1) : base;
+        return Math.max(Math.min(cap, delay), retryAfter);
+    }
+
+    protected boolean isRetryable(FacebookException cause) {
+        if (cause.isCausedByNetworkIssue() || cause.isThrottled() || cause.isTransient()) {
+            return true;
+        }
+        int statusCode = cause.getStatusCode();
+        return statusCode == TOO_MANY_REQUESTS || statusCode >= INTERNAL_SERVER_ERROR;
+    }
+
+    /**
+     * @return the delay requested by the Retry-After header in milliseconds, or -1 if there is none
+     */
+    static long getRetryAfterMillis(FacebookException cause) {
+        String retryAfter = cause.getResponseHeader("Retry-After");
+        if (retryAfter == null) {
+            // HTTP/2 header names are lower case
+            retryAfter = cause.getResponseHeader("retry-after");
+        }
+        if (retryAfter == null) {
+            return -1;
+        }
+        retryAfter = retryAfter.trim();
+        try {
+            return Math.max(0, Long.parseLong(retryAfter) * 1000);
+        } catch (NumberFormatException notSeconds) {
+            try {
+                SimpleDateFormat format = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+                Date date = format.parse(retryAfter);
+                return Math.max(0, date.getTime() - System.currentTimeMillis());
+            } catch (ParseException ignore) {
+                return -1;
+            }
+        }
+    }
+}
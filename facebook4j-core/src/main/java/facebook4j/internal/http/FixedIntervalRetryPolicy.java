@@ -0,0 +1,44 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import facebook4j.FacebookException;
+
+/**
+ * Retries 5xx responses and network errors at the fixed interval of <code>http.retryIntervalSecs</code>,
+ * as facebook4j did before retry policies were introduced.
+ */
+public class FixedIntervalRetryPolicy implements RetryPolicy, HttpResponseCode {
+    private final HttpClientConfiguration conf;
+
+    public FixedIntervalRetryPolicy(HttpClientConfiguration conf) {
+        this.conf = conf;
+    }
+
+    public void requestStarted(HttpRequest req) {
+    }
+
+    public long getRetryDelayMillis(HttpRequest req, int retriedCount, long previousDelayMillis, FacebookException cause) {
+        if (retriedCount >= conf.getHttpRetryCount()) {
+            return -1;
+        }
+        if (!cause.isCausedByNetworkIssue() && cause.getStatusCode() < INTERNAL_SERVER_ERROR) {
+            return -1;
+        }
+        return conf.getHttpRetryIntervalSeconds() * 1000L;
+    }
+}
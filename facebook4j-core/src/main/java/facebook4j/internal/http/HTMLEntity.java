@@ -40,42 +40,147 @@ public final class HTMLEntity {
         }
     }
 
+    /**
+     * Replaces the named and the numeric character references in one pass.
+     *
+     * @param original the text
+     * @return the unescaped text, the same instance if there is nothing to replace
+     */
     public static String unescape(String original) {
-        String returnValue = null;
-        if (original != null) {
-            StringBuffer buf = new StringBuffer(original);
-            unescape(buf);
-            returnValue = buf.toString();
+        if (original == null) {
+            return null;
         }
-        return returnValue;
+        int index = original.indexOf('&');
+        if (index == -1) {
+            return original;
+        }
+        int length = original.length();
+        StringBuilder buf = null;
+        int copied = 0;
+        while (index != -1) {
+            int end = -1;
+            int codePoint = -1;
+            String entity = null;
+            if (index + 1 < length && original.charAt(index + 1) == '#') {
+                long reference = parseNumericReference(original, index + 2);
+                if (reference != -1) {
+                    end = (int) (reference >>> 32);
+                    codePoint = (int) reference;
+                }
+            } else {
+                // walks the names of the entities as far as the text matches one
+                Node node = ENTITIES;
+                for (int i = index + 1; i < length && node != null; i++) {
+                    char c = original.charAt(i);
+                    if (c == ';') {
+                        if (node.value != null) {
+                            entity = node.value;
+                            end = i + 1;
+                        }
+                        break;
+                    }
+                    node = node.child(c);
+                }
+            }
+            if (end == -1) {
+                index = original.indexOf('&', index + 1);
+                continue;
+            }
+            if (buf == null) {
+                buf = new StringBuilder(length);
+            }
+            buf.append(original, copied, index);
+            if (entity != null) {
+                buf.append(entity);
+            } else {
+                buf.appendCodePoint(codePoint);
+            }
+            copied = end;
+            index = original.indexOf('&', end);
+        }
+        if (buf == null) {
+            return original;
+        }
+        return buf.append(original, copied, length).toString();
     }
 
     public static void unescape(StringBuffer original) {
-        int index = 0;
-        int semicolonIndex;
-        String escaped;
-        String entity;
-        while (index < original.length()) {
-            index = original.indexOf("&", index);
-            if (-1 == index) {
+        String text = original.toString();
+        String unescaped = unescape(text);
+        if (unescaped != text) {
+            original.setLength(0);
+            original.append(unescaped);
+        }
+    }
+
+    /**
+     * Parses the digits of a reference such as &amp;#38; or &amp;#x26;, starting after the '#'.
+     *
+     * @return the index after the ';' in the upper half and the code point in the lower half,
+     * or -1 if there is no valid reference
+     */
+    private static long parseNumericReference(String text, int start) {
+        int radix = 10;
+        int i = start;
+        if (i < text.length() && (text.charAt(i) == 'x' || text.charAt(i) == 'X')) {
+            radix = 16;
+            i++;
+        }
+        int digitsStart = i;
+        int codePoint = 0;
+        for (; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ';') {
                 break;
             }
-            semicolonIndex = original.indexOf(";", index);
-            if (-1 != semicolonIndex) {
-                escaped = original.substring(index, semicolonIndex + 1);
-                entity = escapeEntityMap.get(escaped);
-                if (entity != null) {
-                    original.replace(index, semicolonIndex + 1, entity);
+            int digit = Character.digit(c, radix);
+            if (digit == -1 || i - digitsStart == 8) {
+                return -1;
+            }
+            codePoint = codePoint * radix + digit;
+        }
+        if (i == text.length() || i == digitsStart || codePoint == 0
+                || !Character.isValidCodePoint(codePoint)
+                || codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+            return -1;
+        }
+        return (long) (i + 1) << 32 | codePoint;
+    }
+
+    /** A node of the trie of the entity names, whose children are chained by sibling. */
+    private static final class Node {
+        private final char c;
+        private Node child;
+        private Node sibling;
+        private String value;
+
+        private Node(char c) {
+            this.c = c;
+        }
+
+        private Node child(char c) {
+            for (Node node = child; node != null; node = node.sibling) {
+                if (node.c == c) {
+                    return node;
                 }
-                index++;
-            } else {
-                break;
             }
+            return null;
+        }
+
+        private Node addChild(char c) {
+            Node node = child(c);
+            if (node == null) {
+                node = new Node(c);
+                node.sibling = child;
+                child = node;
+            }
+            return node;
         }
     }
 
+    private static final Node ENTITIES = new Node('&');
+
     private static Map<String, String> entityEscapeMap = new HashMap<String, String>();
-    private static Map<String, String> escapeEntityMap = new HashMap<String, String>();
 
     static {
         String[][] entities =
@@ -360,8 +465,12 @@ public final class HTMLEntity {
                         , {"&euro;", "&#8364;" /* euro sign */, "\u20AC"}};
         for (String[] entity : entities) {
             entityEscapeMap.put(entity[2], entity[0]);
-            escapeEntityMap.put(entity[0], entity[2]);
-            escapeEntityMap.put(entity[1], entity[2]);
+            // the numeric forms are parsed instead
+            Node node = ENTITIES;
+            for (int i = 1; i < entity[0].length() - 1; i++) {
+                node = node.addChild(entity[0].charAt(i));
+            }
+            node.value = entity[2];
         }
     }
 
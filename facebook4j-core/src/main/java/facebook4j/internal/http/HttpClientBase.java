@@ -9,11 +9,38 @@ import facebook4j.internal.logging.Logger;
 public class HttpClientBase implements Serializable {
     private static final Logger logger = Logger.getLogger(HttpClientBase.class);
     protected final HttpClientConfiguration CONF;
+    private transient volatile RetryPolicy retryPolicy;
 
     public HttpClientBase(HttpClientConfiguration conf) {
         this.CONF = conf;
     }
 
+    protected RetryPolicy getRetryPolicy() {
+        RetryPolicy policy = retryPolicy;
+        if (policy == null) {
+            synchronized (this) {
+                if (retryPolicy == null) {
+                    retryPolicy = createRetryPolicy(CONF);
+                }
+                policy = retryPolicy;
+            }
+        }
+        return policy;
+    }
+
+    private static RetryPolicy createRetryPolicy(HttpClientConfiguration conf) {
+        String className = conf.getHttpRetryPolicy();
+        if (className != null) {
+            try {
+                return (RetryPolicy) Class.forName(className)
+                        .getConstructor(HttpClientConfiguration.class).newInstance(conf);
+            } catch (Exception e) {
+                logger.warn("Failed to instantiate the retry policy " + className + ", using the default one: " + e);
+            }
+        }
+        return new ExponentialBackoffRetryPolicy(conf);
+    }
+
     public void shutdown() {
     }
 
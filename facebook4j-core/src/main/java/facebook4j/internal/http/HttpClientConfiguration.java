@@ -37,11 +37,32 @@ public interface HttpClientConfiguration {
 
     int getHttpRetryIntervalSeconds();
 
+    /**
+     * @return the class name of the {@link RetryPolicy} implementation
+     */
+    String getHttpRetryPolicy();
+
+    int getHttpRetryMaxIntervalSeconds();
+
+    int getHttpRetryBudgetPercent();
+
     int getHttpMaxTotalConnections();
 
     int getHttpDefaultMaxPerRoute();
 
+    boolean isHttpConnectionReuseEnabled();
+
     boolean isPrettyDebugEnabled();
 
     boolean isGZIPEnabled();
+
+    /**
+     * @return true to share one String per distinct field name among all parsed responses
+     */
+    boolean isJSONStringDeduplicationEnabled();
+
+    /**
+     * @return the maximum length of the string values that are shared as well, 0 for none
+     */
+    int getJSONStringDeduplicationMaxValueLength();
 }
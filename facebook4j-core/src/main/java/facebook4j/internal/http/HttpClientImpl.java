@@ -21,9 +21,6 @@ import facebook4j.conf.ConfigurationContext;
 import facebook4j.internal.logging.Logger;
 import facebook4j.internal.util.z_F4JInternalStringUtil;
 
-import java.io.BufferedInputStream;
-import java.io.DataOutputStream;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.Authenticator;
@@ -54,6 +51,9 @@ public class HttpClientImpl extends HttpClientBase implements HttpClient, HttpRe
 
     private static final long serialVersionUID = -8819171414069621503L;
 
+    // chunk size for request bodies of unknown length
+    private static final int CHUNK_SIZE = 64 * 1024;
+
     static {
         try {
             String versionStr = System.getProperty("java.specification.version");
@@ -103,53 +103,40 @@ public class HttpClientImpl extends HttpClientBase implements HttpClient, HttpRe
     }
 
     public HttpResponse request(HttpRequest req) throws FacebookException {
-        int retriedCount;
-        int retry = CONF.getHttpRetryCount() + 1;
-        HttpResponse res = null;
-        for (retriedCount = 0; retriedCount < retry; retriedCount++) {
+        RetryPolicy retryPolicy = getRetryPolicy();
+        retryPolicy.requestStarted(req);
+        long retryDelay = 0;
+        for (int retriedCount = 0; ; retriedCount++) {
             int responseCode = -1;
+            FacebookException cause;
+            String leasedRoute = null;
+            HttpResponse res = null;
             try {
                 HttpURLConnection con;
                 OutputStream os = null;
                 try {
+                    if (CONF.isHttpConnectionReuseEnabled()) {
+                        leasedRoute = HttpConnectionPool.getRoute(new URL(req.getURL()));
+                        HttpConnectionPool.getInstance().lease(leasedRoute);
+                    }
                     con = getConnection(req.getURL());
                     con.setDoInput(true);
                     setHeaders(req, con);
                     con.setRequestMethod(req.getMethod().name());
                     if (req.getMethod() == POST) {
                         if (HttpParameter.containsFile(req.getParameters())) {
-                            String boundary = "----Facebook4J-upload" + System.currentTimeMillis();
-                            con.setRequestProperty("Content-Type", "multipart/form-data; boundary=" + boundary);
-                            boundary = "--" + boundary;
+                            MultipartEntity entity = new MultipartEntity(req.getParameters(), "----Facebook4J-upload" + System.currentTimeMillis());
+                            con.setRequestProperty("Content-Type", entity.getContentType());
+                            // stream the body instead of letting HttpURLConnection buffer it all on the heap
+                            long contentLength = entity.getContentLength();
+                            if (contentLength >= 0) {
+                                con.setFixedLengthStreamingMode(contentLength);
+                            } else {
+                                con.setChunkedStreamingMode(CHUNK_SIZE);
+                            }
                             con.setDoOutput(true);
                             os = con.getOutputStream();
-                            DataOutputStream out = new DataOutputStream(os);
-                            for (HttpParameter param : req.getParameters()) {
-                                if (param.isFile()) {
-                                    write(out, boundary + "\r\n");
-                                    write(out, "Content-Disposition: form-data; name=\"" + param.getName() + "\"; filename=\"" + param.getFile().getName() + "\"\r\n");
-                                    write(out, "Content-Type: " + param.getContentType() + "\r\n\r\n");
-                                    BufferedInputStream in = new BufferedInputStream(
-                                            param.hasFileBody() ? param.getFileBody() : new FileInputStream(param.getFile())
-                                    );
-                                    int buff;
-                                    while ((buff = in.read()) != -1) {
-                                        out.write(buff);
-                                    }
-                                    write(out, "\r\n");
-                                    in.close();
-                                } else {
-                                    write(out, boundary + "\r\n");
-                                    write(out, "Content-Disposition: form-data; name=\"" + param.getName() + "\"\r\n");
-                                    write(out, "Content-Type: text/plain; charset=UTF-8\r\n\r\n");
-                                    logger.debug(param.getValue());
-                                    out.write(param.getValue().getBytes("UTF-8"));
-                                    write(out, "\r\n");
-                                }
-                            }
-                            write(out, boundary + "--\r\n");
-                            write(out, "\r\n");
-
+                            entity.writeTo(os);
                         } else {
                             con.setRequestProperty("Content-Type",
                                     "application/x-www-form-urlencoded");
@@ -181,17 +168,10 @@ public class HttpClientImpl extends HttpClientBase implements HttpClient, HttpRe
                             }
                         }
                     }
-                    if (responseCode < OK || (responseCode != FOUND && MULTIPLE_CHOICES <= responseCode)) {
-                        if (responseCode == ENHANCE_YOUR_CLAIM ||
-                                responseCode == BAD_REQUEST ||
-                                responseCode < INTERNAL_SERVER_ERROR ||
-                                retriedCount == CONF.getHttpRetryCount()) {
-                            throw new FacebookException(res.asString(), res);
-                        }
-                        // will retry if the status code is INTERNAL_SERVER_ERROR
-                    } else {
-                        break;
+                    if (OK <= responseCode && (responseCode < MULTIPLE_CHOICES || responseCode == FOUND || responseCode == NOT_MODIFIED)) {
+                        return res;
                     }
+                    cause = new FacebookException(res.asString(), res);
                 } finally {
                     try {
                         os.close();
@@ -200,21 +180,33 @@ public class HttpClientImpl extends HttpClientBase implements HttpClient, HttpRe
                 }
             } catch (IOException ioe) {
                 // connection timeout or read timeout
-                if (retriedCount == CONF.getHttpRetryCount()) {
-                    throw new FacebookException(ioe.getMessage(), ioe, responseCode);
+                if (res != null) {
+                    try {
+                        res.disconnect();
+                    } catch (Exception ignore) {
+                    }
+                } else if (leasedRoute != null) {
+                    HttpConnectionPool.getInstance().discard(leasedRoute);
                 }
+                cause = new FacebookException(ioe.getMessage(), ioe, responseCode);
+            }
+            if (HttpParameter.containsFileBody(req.getParameters())) {
+                // the stream of a part has been consumed by this attempt
+                throw cause;
+            }
+            retryDelay = retryPolicy.getRetryDelayMillis(req, retriedCount, retryDelay, cause);
+            if (retryDelay < 0) {
+                throw cause;
             }
             try {
-                if (logger.isDebugEnabled() && res != null) {
-                    res.asString();
-                }
-                logger.debug("Sleeping " + CONF.getHttpRetryIntervalSeconds() + " seconds until the next retry.");
-                Thread.sleep(CONF.getHttpRetryIntervalSeconds() * 1000);
-            } catch (InterruptedException ignore) {
-                //nothing to do
+                logger.debug("Sleeping " + retryDelay + " milliseconds until the next retry.");
+                Thread.sleep(retryDelay);
+            } catch (InterruptedException ie) {
+                // give up, leaving the interruption to the caller
+                Thread.currentThread().interrupt();
+                throw cause;
             }
         }
-        return res;
     }
 
     public static String encode(String str) {
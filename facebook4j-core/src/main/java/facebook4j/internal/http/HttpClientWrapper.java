@@ -41,6 +41,9 @@ public final class HttpClientWrapper implements java.io.Serializable {
     private final Map<String, String> requestHeaders;
     private static final long serialVersionUID = -6511977105603119379L;
     private HttpResponseListener httpResponseListener;
+    private transient ETagCache etagCache;
+    private transient SingleFlight singleFlight;
+    private transient CircuitBreaker circuitBreaker;
 
     public HttpClientWrapper(HttpClientWrapperConfiguration wrapperConf) {
         this.wrapperConf = wrapperConf;
@@ -62,7 +65,15 @@ public final class HttpClientWrapper implements java.io.Serializable {
     private HttpResponse request(HttpRequest req) throws FacebookException {
         HttpResponse res;
         try {
-            res = http.request(req);
+            if (wrapperConf.isSingleFlightEnabled() && req.getMethod() == GET) {
+                res = getSingleFlight().get(req, new SingleFlight.Fetcher() {
+                    public HttpResponse fetch(HttpRequest req) throws FacebookException {
+                        return execute(req);
+                    }
+                });
+            } else {
+                res = execute(req);
+            }
             //fire HttpResponseEvent
             if (httpResponseListener != null) {
                 httpResponseListener.httpResponseReceived(new HttpResponseEvent(req, res, null));
@@ -76,6 +87,73 @@ public final class HttpClientWrapper implements java.io.Serializable {
         return res;
     }
 
+    private HttpResponse execute(HttpRequest req) throws FacebookException {
+        HttpResponse res;
+        boolean rateLimit = wrapperConf.isRateLimitEnabled();
+        try {
+            if (wrapperConf.isCircuitBreakerEnabled()) {
+                getCircuitBreaker().acquire(req, wrapperConf);
+            }
+            if (rateLimit) {
+                RateLimiter.getInstance().acquire(req, wrapperConf);
+            }
+            if (wrapperConf.isETagCacheEnabled() && req.getMethod() == GET) {
+                res = getETagCache().get(req, new ETagCache.Fetcher() {
+                    public HttpResponse fetch(HttpRequest req) throws FacebookException {
+                        return send(req);
+                    }
+                });
+            } else {
+                res = send(req);
+            }
+            if (rateLimit) {
+                RateLimiter.getInstance().update(req, res, wrapperConf);
+            }
+        } catch (FacebookException fe) {
+            if (rateLimit) {
+                RateLimiter.getInstance().update(req, fe, wrapperConf);
+            }
+            throw fe;
+        }
+        return res;
+    }
+
+    private synchronized SingleFlight getSingleFlight() {
+        if (singleFlight == null) {
+            singleFlight = new SingleFlight(wrapperConf);
+        }
+        return singleFlight;
+    }
+
+    private synchronized ETagCache getETagCache() {
+        if (etagCache == null) {
+            etagCache = new ETagCache(wrapperConf, wrapperConf.getETagCacheMaxBytes());
+        }
+        return etagCache;
+    }
+
+    private synchronized CircuitBreaker getCircuitBreaker() {
+        if (circuitBreaker == null) {
+            circuitBreaker = CircuitBreaker.getInstance(wrapperConf);
+        }
+        return circuitBreaker;
+    }
+
+    private HttpResponse send(HttpRequest req) throws FacebookException {
+        if (!wrapperConf.isCircuitBreakerEnabled()) {
+            return http.request(req);
+        }
+        long start = System.currentTimeMillis();
+        try {
+            HttpResponse res = http.request(req);
+            getCircuitBreaker().record(req, System.currentTimeMillis() - start, null, wrapperConf);
+            return res;
+        } catch (FacebookException fe) {
+            getCircuitBreaker().record(req, System.currentTimeMillis() - start, fe, wrapperConf);
+            throw fe;
+        }
+    }
+
     public void setHttpResponseListener(HttpResponseListener listener) {
         httpResponseListener = listener;
     }
@@ -23,4 +23,64 @@ public interface HttpClientWrapperConfiguration extends HttpClientConfiguration
      * @return request headers
      */
     Map<String, String> getRequestHeaders();
+
+    /**
+     * @return true if requests go through the client-side {@link RateLimiter}
+     */
+    boolean isRateLimitEnabled();
+
+    /**
+     * @return the usage percentage reported by Facebook from which the rate limiter starts slowing requests down
+     */
+    int getRateLimitThreshold();
+
+    /**
+     * @return the longest time a request waits for the rate limiter before it fails fast
+     */
+    int getRateLimitMaxWaitMillis();
+
+    /**
+     * @return true if requests go through the per endpoint {@link CircuitBreaker}
+     */
+    boolean isCircuitBreakerEnabled();
+
+    /**
+     * @return the number of most recent calls of an endpoint the failure and slow call rates are computed on
+     */
+    int getCircuitBreakerWindowSize();
+
+    /**
+     * @return the percentage of failed calls from which the circuit opens
+     */
+    int getCircuitBreakerFailureRateThreshold();
+
+    /**
+     * @return the percentage of slow calls from which the circuit opens
+     */
+    int getCircuitBreakerSlowCallRateThreshold();
+
+    /**
+     * @return the duration from which a call counts as slow
+     */
+    int getCircuitBreakerSlowCallDurationMillis();
+
+    /**
+     * @return how long an open circuit fails fast before it lets a trial call through
+     */
+    int getCircuitBreakerOpenMillis();
+
+    /**
+     * @return true if GET responses carrying an ETag are cached and revalidated with If-None-Match
+     */
+    boolean isETagCacheEnabled();
+
+    /**
+     * @return the total size of the bodies the ETag cache may hold
+     */
+    int getETagCacheMaxBytes();
+
+    /**
+     * @return true if concurrent GETs of the same URL and access token share one request
+     */
+    boolean isSingleFlightEnabled();
 }
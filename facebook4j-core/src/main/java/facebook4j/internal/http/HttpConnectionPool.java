@@ -0,0 +1,194 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+
+import facebook4j.management.ConnectionPoolStatistics;
+
+/**
+ * Bookkeeping for the sockets HttpURLConnection parks in the JDK keep-alive cache.<br>
+ * HttpURLConnection puts a socket back into its cache when the response body has been read to the end and closed
+ * without calling disconnect(). This class decides whether a finished connection may go back to that cache,
+ * enforcing {@link HttpClientConfiguration#getHttpDefaultMaxPerRoute()} and
+ * {@link HttpClientConfiguration#getHttpMaxTotalConnections()} on the idle connections, and counts hits, misses and evictions.<br>
+ * HttpURLConnection does not expose which socket a request went over, so this class keeps its own model of the idle
+ * connections and its hits and misses are estimates of the actual reuse. The model caps each route at
+ * <code>http.maxConnections</code> like the JDK cache does, but the server may still close an idle socket first.<br>
+ * Every lease must be followed by either {@link #release(String, long, int, int)} or {@link #discard(String)}.<br>
+ * The JDK cache is shared by the whole VM, and so is this pool.
+ */
+public final class HttpConnectionPool {
+    /*package*/ static final long DEFAULT_KEEP_ALIVE_MILLIS = 5000;
+    // the default of the JDK keep-alive cache
+    private static final int DEFAULT_JDK_MAX_CONNECTIONS = 5;
+
+    private static final HttpConnectionPool SINGLETON = new HttpConnectionPool();
+
+    // route -> expiration times of the idle connections, most recently released last
+    private final Map<String, LinkedList<Long>> idleConnections = new HashMap<String, LinkedList<Long>>();
+    private int idleConnectionCount = 0;
+    private int leasedConnectionCount = 0;
+    private final ConnectionPoolStatistics statistics = new ConnectionPoolStatistics();
+
+    /*package*/ HttpConnectionPool() {
+    }
+
+    public static HttpConnectionPool getInstance() {
+        return SINGLETON;
+    }
+
+    public ConnectionPoolStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Records that a connection to the given route is about to be opened.
+     *
+     * @param route route of the connection
+     * @return true if an idle keep-alive connection is available for the route
+     */
+    public synchronized boolean lease(String route) {
+        evictExpired(System.currentTimeMillis());
+        leasedConnectionCount++;
+        statistics.setLeasedConnectionCount(leasedConnectionCount);
+        LinkedList<Long> idle = idleConnections.get(route);
+        if (idle != null && !idle.isEmpty()) {
+            // the JDK cache hands out the most recently used connection first
+            idle.removeLast();
+            idleConnectionCount--;
+            statistics.hit();
+            statistics.setIdleConnectionCount(idleConnectionCount);
+            return true;
+        }
+        statistics.miss();
+        return false;
+    }
+
+    /**
+     * Decides whether a connection whose response has been fully read may be kept alive.
+     *
+     * @param route           route of the connection
+     * @param keepAliveMillis how long the server keeps the connection open
+     * @param maxPerRoute     maximum number of idle connections per route
+     * @param maxTotal        maximum number of idle connections
+     * @return true if the connection may go back to the keep-alive cache, false if it has to be disconnected
+     */
+    public synchronized boolean release(String route, long keepAliveMillis, int maxPerRoute, int maxTotal) {
+        long now = System.currentTimeMillis();
+        evictExpired(now);
+        returned();
+        maxPerRoute = Math.min(maxPerRoute, Integer.getInteger("http.maxConnections", DEFAULT_JDK_MAX_CONNECTIONS));
+        LinkedList<Long> idle = idleConnections.get(route);
+        if (idle == null) {
+            idle = new LinkedList<Long>();
+            idleConnections.put(route, idle);
+        }
+        if (idle.size() >= maxPerRoute || idleConnectionCount >= maxTotal) {
+            statistics.evicted();
+            return false;
+        }
+        idle.addLast(now + keepAliveMillis);
+        idleConnectionCount++;
+        statistics.setIdleConnectionCount(idleConnectionCount);
+        return true;
+    }
+
+    /**
+     * Records that a leased connection has been disconnected without a response to release, e.g. on an I/O error.
+     *
+     * @param route route of the connection
+     */
+    public synchronized void discard(String route) {
+        returned();
+        statistics.evicted();
+    }
+
+    public synchronized int getIdleConnectionCount() {
+        return idleConnectionCount;
+    }
+
+    public synchronized int getLeasedConnectionCount() {
+        return leasedConnectionCount;
+    }
+
+    private void returned() {
+        if (leasedConnectionCount > 0) {
+            leasedConnectionCount--;
+        }
+        statistics.setLeasedConnectionCount(leasedConnectionCount);
+    }
+
+    private void evictExpired(long now) {
+        for (Iterator<LinkedList<Long>> routes = idleConnections.values().iterator(); routes.hasNext(); ) {
+            LinkedList<Long> idle = routes.next();
+            for (Iterator<Long> expirations = idle.iterator(); expirations.hasNext(); ) {
+                if (expirations.next() <= now) {
+                    expirations.remove();
+                    idleConnectionCount--;
+                    statistics.evicted();
+                }
+            }
+            if (idle.isEmpty()) {
+                routes.remove();
+            }
+        }
+        statistics.setIdleConnectionCount(idleConnectionCount);
+    }
+
+    /**
+     * @param url request url
+     * @return the route of the url, i.e. protocol, host and port
+     */
+    public static String getRoute(URL url) {
+        int port = url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+        return url.getProtocol() + "://" + url.getHost() + ":" + port;
+    }
+
+    /**
+     * Parses the timeout of a <code>Keep-Alive: timeout=5, max=100</code> response header.
+     *
+     * @param keepAlive value of the Keep-Alive header, may be null
+     * @return keep-alive timeout in milliseconds
+     */
+    public static long parseKeepAliveMillis(String keepAlive) {
+        if (keepAlive != null) {
+            for (String token : keepAlive.split(",")) {
+                token = token.trim();
+                if (token.startsWith("timeout=")) {
+                    try {
+                        return Long.parseLong(token.substring("timeout=".length()).trim()) * 1000;
+                    } catch (NumberFormatException ignore) {
+                    }
+                }
+            }
+        }
+        return DEFAULT_KEEP_ALIVE_MILLIS;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "HttpConnectionPool{" +
+                "idleConnections=" + idleConnections +
+                ", statistics=" + statistics +
+                '}';
+    }
+}
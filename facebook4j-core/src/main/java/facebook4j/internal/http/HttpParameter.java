@@ -17,6 +17,9 @@
 package facebook4j.internal.http;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
@@ -37,6 +40,8 @@ public final class HttpParameter implements Comparable, java.io.Serializable {
     private String value = null;
     private File file = null;
     private InputStream fileBody = null;
+    private long fileOffset = 0;
+    private long fileLength = -1;
     private static final long serialVersionUID = -8708108746980739212L;
 
     public HttpParameter(String name, String value) {
@@ -49,6 +54,21 @@ public final class HttpParameter implements Comparable, java.io.Serializable {
         this.file = file;
     }
 
+    /**
+     * A range of the file, which is read again from the file when the request is retried.
+     *
+     * @param name   name of the parameter
+     * @param file   the file
+     * @param offset the position of the first byte to send
+     * @param length the number of bytes to send
+     */
+    public HttpParameter(String name, File file, long offset, long length) {
+        this.name = name;
+        this.file = file;
+        this.fileOffset = offset;
+        this.fileLength = length;
+    }
+
     public HttpParameter(String name, String fileName, InputStream fileBody) {
         this.name = name;
         this.file = new File(fileName);
@@ -91,6 +111,40 @@ public final class HttpParameter implements Comparable, java.io.Serializable {
         return fileBody;
     }
 
+    public long getFileOffset() {
+        return fileOffset;
+    }
+
+    /**
+     * @return the number of bytes of the file to send, or -1 to send it up to its end
+     */
+    public long getFileLength() {
+        return fileLength;
+    }
+
+    /**
+     * Opens the file body: the stream given to the constructor, or else a new stream over the file or its range.
+     *
+     * @return the file body
+     * @throws IOException when the file cannot be opened or is shorter than the offset
+     */
+    public InputStream openFileBody() throws IOException {
+        if (fileBody != null) {
+            return fileBody;
+        }
+        FileInputStream in = new FileInputStream(file);
+        long skipped = 0;
+        while (skipped < fileOffset) {
+            long n = in.skip(fileOffset - skipped);
+            if (n <= 0) {
+                in.close();
+                throw new IOException("The file is shorter than the offset " + fileOffset + ": " + file);
+            }
+            skipped += n;
+        }
+        return fileLength < 0 ? in : new RangeInputStream(in, fileLength);
+    }
+
     public boolean isFile() {
         return file != null;
     }
@@ -153,6 +207,8 @@ public final class HttpParameter implements Comparable, java.io.Serializable {
             return false;
         if (fileBody != null ? !fileBody.equals(that.fileBody) : that.fileBody != null)
             return false;
+        if (fileOffset != that.fileOffset) return false;
+        if (fileLength != that.fileLength) return false;
         if (!name.equals(that.name)) return false;
         if (value != null ? !value.equals(that.value) : that.value != null)
             return false;
@@ -160,6 +216,21 @@ public final class HttpParameter implements Comparable, java.io.Serializable {
         return true;
     }
 
+    /**
+     * @return true if a parameter is backed by an InputStream, which cannot be sent again once it has been read
+     */
+    public static boolean containsFileBody(HttpParameter[] params) {
+        if (null == params) {
+            return false;
+        }
+        for (HttpParameter param : params) {
+            if (param.hasFileBody()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public static boolean containsFile(HttpParameter[] params) {
         boolean containsFile = false;
         if (null == params) {
@@ -211,6 +282,8 @@ public final class HttpParameter implements Comparable, java.io.Serializable {
         result = 31 * result + (value != null ? value.hashCode() : 0);
         result = 31 * result + (file != null ? file.hashCode() : 0);
         result = 31 * result + (fileBody != null ? fileBody.hashCode() : 0);
+        result = 31 * result + (int) (fileOffset ^ (fileOffset >>> 32));
+        result = 31 * result + (int) (fileLength ^ (fileLength >>> 32));
         return result;
     }
 
@@ -221,6 +294,8 @@ public final class HttpParameter implements Comparable, java.io.Serializable {
                 ", value='" + value + '\'' +
                 ", file=" + file +
                 ", fileBody=" + fileBody +
+                ", fileOffset=" + fileOffset +
+                ", fileLength=" + fileLength +
                 '}';
     }
 
@@ -318,4 +393,50 @@ public final class HttpParameter implements Comparable, java.io.Serializable {
         }
     }
 
+
+    // the first bytes of a stream
+    private static final class RangeInputStream extends FilterInputStream {
+        private long remaining;
+
+        RangeInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b != -1) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int count = super.read(b, off, (int) Math.min(len, remaining));
+            if (count > 0) {
+                remaining -= count;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+    }
 }
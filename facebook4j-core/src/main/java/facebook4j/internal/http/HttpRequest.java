@@ -20,8 +20,13 @@ import facebook4j.auth.AccessToken;
 import facebook4j.auth.Authorization;
 import facebook4j.auth.OAuthAuthorization;
 
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * HTTP Request parameter object
@@ -50,6 +55,12 @@ public final class HttpRequest implements java.io.Serializable {
 
     private static final HttpParameter[] NULL_PARAMETERS = new HttpParameter[0];
 
+    private static final String GRAPH_HOST = "graph.facebook.com";
+    // host, first and second path segments, ignoring the API version
+    private static final Pattern ENDPOINT = Pattern.compile("https?://([^/?]+)/(?:v\\d+\\.\\d+/)?([^/?]*)(?:/([^/?]*))?.*");
+    private static final Pattern OBJECT_ID = Pattern.compile("[\\d_]+");
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("[?&]access_token=([^&]*)");
+
     /**
      * @param method         Specifies the HTTP method
      * @param url            the request to request
@@ -80,6 +91,14 @@ public final class HttpRequest implements java.io.Serializable {
         this.requestHeaders = requestHeaders;
     }
 
+    private HttpRequest(HttpRequest req, Map<String, String> requestHeaders) {
+        this.method = req.method;
+        this.url = req.url;
+        this.parameters = req.parameters;
+        this.authorization = req.authorization;
+        this.requestHeaders = requestHeaders;
+    }
+
     // Added method by Facebook4J
     private HttpParameter[] setAccessTokenParameter(HttpParameter[] parameters, Authorization authorization) {
         if (authorization == null) return parameters;
@@ -89,6 +108,68 @@ public final class HttpRequest implements java.io.Serializable {
         return HttpParameter.merge(parameters,  new HttpParameter("access_token", accessToken.getToken()));
     }
 
+    // Added method by Facebook4J
+    /**
+     * Returns the Graph API endpoint the URL belongs to: the connection name (e.g. "feed" or "insights"),
+     * the name of a top level endpoint (e.g. "fql" or "search"), or "object" for a single object.<br>
+     * Endpoints on hosts other than graph.facebook.com, such as the video upload host, are prefixed with the host.
+     *
+     * @param url the URL
+     * @return the endpoint, or null if the URL is not a Graph API URL
+     */
+    public static String getEndpoint(String url) {
+        Matcher matcher = ENDPOINT.matcher(url);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String endpoint;
+        if (matcher.group(3) != null && matcher.group(3).length() > 0) {
+            endpoint = matcher.group(3);
+        } else if (OBJECT_ID.matcher(matcher.group(2)).matches()) {
+            endpoint = "object";
+        } else {
+            endpoint = matcher.group(2);
+        }
+        String host = matcher.group(1);
+        return host.equals(GRAPH_HOST) ? endpoint : host + "/" + endpoint;
+    }
+
+    // Added method by Facebook4J
+    /**
+     * @param name  header name
+     * @param value header value
+     * @return a copy of this request with the header added
+     */
+    public HttpRequest withRequestHeader(String name, String value) {
+        Map<String, String> headers = requestHeaders != null
+                ? new HashMap<String, String>(requestHeaders) : new HashMap<String, String>();
+        headers.put(name, value);
+        return new HttpRequest(this, headers);
+    }
+
+    // Added method by Facebook4J
+    /**
+     * @return the access token the request is sent with, or null if there is none
+     */
+    public String getAccessToken() {
+        if (parameters != null) {
+            for (HttpParameter param : parameters) {
+                if (param.getName().equals("access_token")) {
+                    return param.getValue();
+                }
+            }
+        }
+        Matcher matcher = ACCESS_TOKEN.matcher(url);
+        if (matcher.find()) {
+            try {
+                return URLDecoder.decode(matcher.group(1), "UTF-8");
+            } catch (UnsupportedEncodingException neverHappen) {
+                throw new AssertionError("will never happen");
+            }
+        }
+        return null;
+    }
+
     public RequestMethod getMethod() {
         return method;
     }
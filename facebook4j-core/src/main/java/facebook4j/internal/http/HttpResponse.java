@@ -22,7 +22,9 @@ import facebook4j.internal.logging.Logger;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.org.json.JSONPullParser;
 import facebook4j.internal.org.json.JSONTokener;
+import facebook4j.internal.org.json.StringTable;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -142,9 +144,9 @@ public abstract class HttpResponse {
             try {
                 if (responseAsString == null) {
                     reader = asReader();
-                    json = new JSONObject(new JSONTokener(reader));
+                    json = new JSONObject(tokener(new JSONTokener(reader)));
                 } else {
-                    json = new JSONObject(responseAsString);
+                    json = new JSONObject(tokener(new JSONTokener(responseAsString)));
                 }
                 if (CONF.isPrettyDebugEnabled()) {
                     logger.debug(json.toString(1));
@@ -171,6 +173,39 @@ public abstract class HttpResponse {
         return json;
     }
 
+    /**
+     * Returns a pull parser over the response body, which reads the body without building a JSONObject tree.<br>
+     * This method cannot be used together with asStream(), and the parser should be closed after use.
+     *
+     * @return a parser over the response body
+     * @see #disconnect()
+     */
+    public JSONPullParser asJSONPullParser() {
+        if (responseAsString != null) {
+            return pullParser(new JSONPullParser(responseAsString));
+        }
+        if (json != null) {
+            return pullParser(new JSONPullParser(json.toString()));
+        }
+        InputStream stream = asStream();
+        streamConsumed = true;
+        return pullParser(new JSONPullParser(stream));
+    }
+
+    private JSONTokener tokener(JSONTokener tokener) {
+        if (CONF.isJSONStringDeduplicationEnabled()) {
+            tokener.setStringTable(StringTable.getShared(), CONF.getJSONStringDeduplicationMaxValueLength());
+        }
+        return tokener;
+    }
+
+    private JSONPullParser pullParser(JSONPullParser parser) {
+        if (CONF.isJSONStringDeduplicationEnabled()) {
+            parser.setStringTable(StringTable.getShared(), CONF.getJSONStringDeduplicationMaxValueLength());
+        }
+        return parser;
+    }
+
     private JSONArray jsonArray = null;
 
     /**
@@ -186,9 +221,9 @@ public abstract class HttpResponse {
             try {
                 if (responseAsString == null) {
                     reader = asReader();
-                    jsonArray = new JSONArray(new JSONTokener(reader));
+                    jsonArray = new JSONArray(tokener(new JSONTokener(reader)));
                 } else {
-                    jsonArray = new JSONArray(responseAsString);
+                    jsonArray = new JSONArray(tokener(new JSONTokener(responseAsString)));
                 }
                 if (CONF.isPrettyDebugEnabled()) {
                     logger.debug(jsonArray.toString(1));
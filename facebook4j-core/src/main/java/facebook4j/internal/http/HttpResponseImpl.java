@@ -16,7 +16,9 @@
 
 package facebook4j.internal.http;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.util.List;
 import java.util.Map;
@@ -27,7 +29,12 @@ import java.util.zip.GZIPInputStream;
  * @since Twitter4J 2.1.2
  */
 public class HttpResponseImpl extends HttpResponse {
+    // the rest of a body larger than this is not worth reading just to keep the connection alive
+    private static final int MAX_DRAIN_BYTES = 64 * 1024;
+
     private HttpURLConnection con;
+    // disconnect() may be called by another thread than the one reading the response
+    private volatile boolean released = false;
 
     HttpResponseImpl(HttpURLConnection con, HttpClientConfiguration conf) throws IOException {
         super(conf);
@@ -40,6 +47,9 @@ public class HttpResponseImpl extends HttpResponse {
             // the response is gzipped
             is = new GZIPInputStream(is);
         }
+        if (is != null && conf.isHttpConnectionReuseEnabled()) {
+            is = new CloseAwareInputStream(is);
+        }
     }
 
     // for test purpose
@@ -60,9 +70,70 @@ public class HttpResponseImpl extends HttpResponse {
 
     /**
      * {@inheritDoc}
+     * <p/>
+     * If connection reuse is enabled, the rest of the body is read and the stream is closed instead,
+     * so that HttpURLConnection can put the socket back into its keep-alive cache.
+     * The connection is only disconnected if the body is too large to drain or the pool is full.
      */
     @Override
     public void disconnect() {
+        synchronized (this) {
+            if (con == null || released) {
+                return;
+            }
+            released = true;
+        }
+        if (CONF.isHttpConnectionReuseEnabled()) {
+            String route = HttpConnectionPool.getRoute(con.getURL());
+            if (!drainAndClose()) {
+                HttpConnectionPool.getInstance().discard(route);
+            } else {
+                long keepAliveMillis = HttpConnectionPool.parseKeepAliveMillis(con.getHeaderField("Keep-Alive"));
+                if (HttpConnectionPool.getInstance().release(route, keepAliveMillis,
+                        CONF.getHttpDefaultMaxPerRoute(), CONF.getHttpMaxTotalConnections())) {
+                    return;
+                }
+            }
+        }
         con.disconnect();
     }
+
+    private boolean drainAndClose() {
+        if ("close".equalsIgnoreCase(con.getHeaderField("Connection"))) {
+            return false;
+        }
+        if (is == null || ((CloseAwareInputStream) is).closed) {
+            // closing the body stream of HttpURLConnection already drains it into the keep-alive cache
+            return true;
+        }
+        try {
+            byte[] buf = new byte[4096];
+            int drained = 0;
+            int count;
+            while ((count = is.read(buf)) != -1) {
+                drained += count;
+                if (drained > MAX_DRAIN_BYTES) {
+                    return false;
+                }
+            }
+            is.close();
+            return true;
+        } catch (IOException ioe) {
+            return false;
+        }
+    }
+
+    private static final class CloseAwareInputStream extends FilterInputStream {
+        private volatile boolean closed = false;
+
+        CloseAwareInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
 }
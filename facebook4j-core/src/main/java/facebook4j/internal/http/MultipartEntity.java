@@ -0,0 +1,187 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import facebook4j.internal.logging.Logger;
+
+/**
+ * A multipart/form-data request body that is streamed to the connection instead of being built up on the heap.<br>
+ * The exact length is known up front unless a part is backed by an InputStream of unknown size,
+ * so that the caller can choose between fixed-length and chunked streaming mode.<br>
+ * Alternative HttpClient implementations use it as well so that every client sends the same encoding.
+ */
+public final class MultipartEntity {
+    private static final Logger logger = Logger.getLogger(MultipartEntity.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final ThreadLocal<byte[]> BUFFER = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[BUFFER_SIZE];
+        }
+    };
+
+    private final String boundary;
+    private final List<Part> parts = new ArrayList<Part>();
+    private final byte[] closingBoundary;
+    private final long contentLength;
+
+    public MultipartEntity(HttpParameter[] params, String boundary) {
+        this.boundary = boundary;
+        String delimiter = "--" + boundary;
+        long length = 0;
+        for (HttpParameter param : params) {
+            Part part = new Part(param, delimiter);
+            parts.add(part);
+            long partLength = part.getLength();
+            if (partLength < 0 || length < 0) {
+                length = -1;
+            } else {
+                length += partLength;
+            }
+        }
+        closingBoundary = toBytes(delimiter + "--\r\n\r\n");
+        this.contentLength = length < 0 ? -1 : length + closingBoundary.length;
+    }
+
+    public String getContentType() {
+        return "multipart/form-data; boundary=" + boundary;
+    }
+
+    /**
+     * @return the length of the body in bytes, or -1 if it is not known until the body has been written
+     */
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        for (Part part : parts) {
+            part.writeTo(out);
+        }
+        out.write(closingBoundary);
+        logger.debug(new String(closingBoundary, "UTF-8"));
+    }
+
+    private static byte[] toBytes(String str) {
+        try {
+            return str.getBytes("UTF-8");
+        } catch (UnsupportedEncodingException uee) {
+            throw new AssertionError(uee);
+        }
+    }
+
+    private static final byte[] CRLF = toBytes("\r\n");
+
+    private static final class Part {
+        private final HttpParameter param;
+        private final byte[] header;
+        private final byte[] value;
+        // the file length declared in the Content-Length, which the file must still have when it is written
+        private final long fileLength;
+
+        Part(HttpParameter param, String delimiter) {
+            this.param = param;
+            if (!param.isFile() || param.hasFileBody()) {
+                this.fileLength = -1;
+            } else if (param.getFileLength() >= 0) {
+                this.fileLength = param.getFileLength();
+            } else {
+                this.fileLength = param.getFile().length() - param.getFileOffset();
+            }
+            if (param.isFile()) {
+                header = toBytes(delimiter + "\r\n"
+                        + "Content-Disposition: form-data; name=\"" + param.getName() + "\"; filename=\"" + param.getFile().getName() + "\"\r\n"
+                        + "Content-Type: " + param.getContentType() + "\r\n\r\n");
+                value = null;
+            } else {
+                header = toBytes(delimiter + "\r\n"
+                        + "Content-Disposition: form-data; name=\"" + param.getName() + "\"\r\n"
+                        + "Content-Type: text/plain; charset=UTF-8\r\n\r\n");
+                value = toBytes(param.getValue());
+            }
+        }
+
+        long getLength() {
+            long bodyLength;
+            if (value != null) {
+                bodyLength = value.length;
+            } else if (param.hasFileBody()) {
+                // the size of a stream is not known until it has been read
+                return -1;
+            } else {
+                bodyLength = fileLength;
+            }
+            return header.length + bodyLength + CRLF.length;
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            out.write(header);
+            if (logger.isDebugEnabled()) {
+                logger.debug(new String(header, "UTF-8"));
+            }
+            if (value != null) {
+                logger.debug(param.getValue());
+                out.write(value);
+            } else if (param.hasFileBody()) {
+                InputStream in = param.getFileBody();
+                try {
+                    byte[] buffer = BUFFER.get();
+                    int count;
+                    while ((count = in.read(buffer)) != -1) {
+                        out.write(buffer, 0, count);
+                    }
+                } finally {
+                    in.close();
+                }
+            } else {
+                FileInputStream in = new FileInputStream(param.getFile());
+                try {
+                    FileChannel channel = in.getChannel();
+                    WritableByteChannel target = Channels.newChannel(out);
+                    long position = 0;
+                    while (position < fileLength) {
+                        long count = channel.transferTo(param.getFileOffset() + position, fileLength - position, target);
+                        if (count <= 0) {
+                            // the file has shrunk
+                            break;
+                        }
+                        position += count;
+                    }
+                    if (position != fileLength) {
+                        throw new IOException("The file has been modified during the upload, " + position
+                                + " of the " + fileLength + " bytes declared could be sent: " + param.getFile());
+                    }
+                } finally {
+                    in.close();
+                }
+            }
+            out.write(CRLF);
+        }
+    }
+}
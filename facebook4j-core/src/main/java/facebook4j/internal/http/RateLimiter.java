@@ -0,0 +1,372 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import facebook4j.FacebookException;
+import facebook4j.RateLimitExceededException;
+import facebook4j.auth.AuthorizationConfiguration;
+import facebook4j.auth.OAuthAuthorization;
+import facebook4j.internal.logging.Logger;
+import facebook4j.internal.org.json.JSONException;
+import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.util.z_F4JInternalStringUtil;
+import facebook4j.management.RateLimitStatistics;
+
+/**
+ * Client-side rate limiter that slows requests down before Facebook starts rejecting them.<br>
+ * Facebook reports how much of the limit has been used, in percent, in the <code>X-App-Usage</code> (per app),
+ * <code>X-Page-Usage</code> (per page token) and <code>X-Ad-Account-Usage</code> (per ad account) response headers.
+ * Each of them feeds a token bucket. Below {@link HttpClientWrapperConfiguration#getRateLimitThreshold()} a bucket lets
+ * everything through. Above it, the bucket refills at the request rate observed when the threshold was crossed,
+ * scaled down linearly with the remaining headroom, and at one request a minute once the usage reaches 100%.
+ * A request waits until every bucket it belongs to has a permit, or fails fast with {@link RateLimitExceededException}
+ * when that would take longer than {@link HttpClientWrapperConfiguration#getRateLimitMaxWaitMillis()}.<br>
+ * App usage is tracked per app id, taken from the authorization, the configuration or an app access token; requests of
+ * an unknown app are only limited by their token and ad account buckets. Usage is reported per app, so the limiter is
+ * shared by the whole VM.
+ *
+ * @see <a href="https://developers.facebook.com/docs/graph-api/overview/rate-limiting">Rate Limiting - Facebook Developers</a>
+ */
+public final class RateLimiter {
+    private static final Logger logger = Logger.getLogger(RateLimiter.class);
+
+    private static final RateLimiter SINGLETON = new RateLimiter();
+
+    // lets a request through now and then at full usage, so that fresh usage headers keep coming
+    private static final double MIN_RATE = 1d / 60;
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final int MAX_BUCKETS = 1000;
+    private static final Pattern AD_ACCOUNT = Pattern.compile("/act_(\\d+)");
+
+    private final RateLimitStatistics statistics = new RateLimitStatistics();
+    private final Map<String, Bucket> buckets = new LinkedHashMap<String, Bucket>(16, 0.75f, true) {
+        private static final long serialVersionUID = 7712930436715405872L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+            if (size() > MAX_BUCKETS) {
+                statistics.removeHeadroom(eldest.getKey());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /*package*/ RateLimiter() {
+    }
+
+    public static RateLimiter getInstance() {
+        return SINGLETON;
+    }
+
+    public RateLimitStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Waits until the request may be sent.
+     *
+     * @param req  the request
+     * @param conf the configuration
+     * @throws RateLimitExceededException when the request would have to wait too long
+     * @throws FacebookException          when the thread is interrupted while waiting
+     */
+    public void acquire(HttpRequest req, HttpClientWrapperConfiguration conf) throws FacebookException {
+        List<Bucket> targets = new ArrayList<Bucket>(3);
+        long now = System.nanoTime();
+        synchronized (buckets) {
+            for (String key : getKeys(req, conf)) {
+                // buckets are created on the first request, so that the request rate is known when the first usage
+                // header already reports a usage above the threshold
+                targets.add(getBucket(key, now));
+            }
+        }
+        long waitNanos = 0;
+        for (Bucket bucket : targets) {
+            waitNanos = Math.max(waitNanos, bucket.reserve(now));
+        }
+        long waitMillis = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+        if (waitMillis > conf.getRateLimitMaxWaitMillis()) {
+            for (Bucket bucket : targets) {
+                bucket.cancel();
+            }
+            statistics.rejected();
+            throw new RateLimitExceededException("Facebook usage is close to the limit, the request would have to wait "
+                    + waitMillis + " ms: " + req.getURL(), waitMillis);
+        }
+        if (waitNanos > 0) {
+            statistics.delayed();
+            logger.debug("Waiting " + waitMillis + " ms for the rate limiter.");
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new FacebookException(ie.getMessage(), ie);
+            }
+        }
+    }
+
+    /**
+     * Learns the current usage from the headers of a response.
+     *
+     * @param req  the request
+     * @param res  the response
+     * @param conf the configuration
+     */
+    public void update(HttpRequest req, HttpResponse res, HttpClientWrapperConfiguration conf) {
+        update(req, conf, res.getResponseHeader("X-App-Usage"), res.getResponseHeader("X-Page-Usage"),
+                res.getResponseHeader("X-Ad-Account-Usage"));
+    }
+
+    /**
+     * Learns the current usage from an error response.
+     *
+     * @param req  the request
+     * @param fe   the error
+     * @param conf the configuration
+     */
+    public void update(HttpRequest req, FacebookException fe, HttpClientWrapperConfiguration conf) {
+        if (fe instanceof RateLimitExceededException) {
+            return;
+        }
+        update(req, conf, getHeader(fe, "X-App-Usage"), getHeader(fe, "X-Page-Usage"), getHeader(fe, "X-Ad-Account-Usage"));
+        if (fe.isThrottled()) {
+            // the limit has been hit already, whatever the last headers said
+            String key;
+            switch (fe.getErrorCode()) {
+                case 4:
+                    key = getAppKey(req, conf);
+                    if (key == null) {
+                        key = getTokenKey(req);
+                    }
+                    break;
+                case 17:
+                case 32:
+                case 613:
+                    key = getTokenKey(req);
+                    break;
+                default:
+                    key = null;
+            }
+            if (key != null) {
+                update(key, 100, conf);
+            }
+        }
+    }
+
+    private void update(HttpRequest req, HttpClientWrapperConfiguration conf, String appUsage, String pageUsage, String adAccountUsage) {
+        String appKey = getAppKey(req, conf);
+        if (appUsage != null && appKey != null) {
+            update(appKey, parseUsage(appUsage), conf);
+        }
+        String tokenKey = getTokenKey(req);
+        if (pageUsage != null && tokenKey != null) {
+            update(tokenKey, parseUsage(pageUsage), conf);
+        }
+        String adAccountKey = getAdAccountKey(req);
+        if (adAccountUsage != null && adAccountKey != null) {
+            update(adAccountKey, parseUsage(adAccountUsage), conf);
+        }
+    }
+
+    private void update(String key, int usage, HttpClientWrapperConfiguration conf) {
+        if (usage < 0) {
+            return;
+        }
+        Bucket bucket;
+        synchronized (buckets) {
+            bucket = getBucket(key, System.nanoTime());
+        }
+        bucket.update(usage, conf.getRateLimitThreshold(), System.nanoTime());
+        statistics.setHeadroom(key, Math.max(0, 100 - usage));
+    }
+
+    private Bucket getBucket(String key, long now) {
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = new Bucket(now);
+            buckets.put(key, bucket);
+        }
+        return bucket;
+    }
+
+    /**
+     * @param header value of a usage header, e.g. <code>{"call_count":28,"total_time":25,"total_cputime":25}</code>
+     * @return the highest of the reported percentages, or -1 if the header cannot be parsed
+     */
+    /*package*/ static int parseUsage(String header) {
+        try {
+            JSONObject json = new JSONObject(header);
+            double usage = -1;
+            for (Iterator<?> keys = json.keys(); keys.hasNext(); ) {
+                String key = (String) keys.next();
+                if (key.equals("call_count") || key.equals("total_time") || key.equals("total_cputime")
+                        || key.equals("acc_id_util_pct")) {
+                    usage = Math.max(usage, json.getDouble(key));
+                }
+            }
+            return (int) Math.ceil(usage);
+        } catch (JSONException e) {
+            logger.debug("Unexpected usage header: " + header);
+            return -1;
+        }
+    }
+
+    private static String getHeader(FacebookException fe, String name) {
+        String value = fe.getResponseHeader(name);
+        // HTTP/2 header names are lower case
+        return value != null ? value : fe.getResponseHeader(name.toLowerCase());
+    }
+
+    private static List<String> getKeys(HttpRequest req, HttpClientWrapperConfiguration conf) {
+        List<String> keys = new ArrayList<String>(3);
+        String appKey = getAppKey(req, conf);
+        if (appKey != null) {
+            keys.add(appKey);
+        }
+        String tokenKey = getTokenKey(req);
+        if (tokenKey != null) {
+            keys.add(tokenKey);
+        }
+        String adAccountKey = getAdAccountKey(req);
+        if (adAccountKey != null) {
+            keys.add(adAccountKey);
+        }
+        return keys;
+    }
+
+    /**
+     * @return the key of the app the request is made for, or null if the app is not known
+     */
+    private static String getAppKey(HttpRequest req, HttpClientWrapperConfiguration conf) {
+        String appId = null;
+        if (req.getAuthorization() instanceof OAuthAuthorization) {
+            appId = ((OAuthAuthorization) req.getAuthorization()).getOAuthAppId();
+        }
+        if (appId == null && conf instanceof AuthorizationConfiguration) {
+            appId = ((AuthorizationConfiguration) conf).getOAuthAppId();
+        }
+        if (appId == null) {
+            // app access tokens are "{app-id}|{app-secret}"
+            String token = req.getAccessToken();
+            int index = token != null ? token.indexOf('|') : -1;
+            if (index > 0) {
+                appId = token.substring(0, index);
+            }
+        }
+        return appId != null ? "app:" + appId : null;
+    }
+
+    private static String getTokenKey(HttpRequest req) {
+        String token = req.getAccessToken();
+        return token != null ? "token:" + z_F4JInternalStringUtil.digest(token) : null;
+    }
+
+    private static String getAdAccountKey(HttpRequest req) {
+        Matcher matcher = AD_ACCOUNT.matcher(req.getURL());
+        return matcher.find() ? "adaccount:" + matcher.group(1) : null;
+    }
+
+    private static final class Bucket {
+        private double rate = Double.POSITIVE_INFINITY;
+        private double permits;
+        private long refilledAt;
+        // request rate when the usage crossed the threshold, 0 below the threshold
+        private double baseRate;
+        private long windowStart;
+        private int windowCount;
+        private double observedRate;
+
+        Bucket(long now) {
+            windowStart = now;
+        }
+
+        /**
+         * Takes a permit, in the same critical section as the wait is computed, so that concurrent requests queue
+         * behind each other instead of all seeing the same permit.
+         *
+         * @return how long the request has to wait for its permit
+         */
+        synchronized long reserve(long now) {
+            long elapsed = now - windowStart;
+            if (elapsed >= WINDOW_NANOS) {
+                observedRate = windowCount * 1000000000d / elapsed;
+                windowStart = now;
+                windowCount = 0;
+            }
+            windowCount++;
+            if (rate == Double.POSITIVE_INFINITY) {
+                return 0;
+            }
+            refill(now);
+            long waitNanos = permits >= 1 ? 0 : (long) ((1 - permits) / rate * 1000000000L);
+            // may go below zero: the requests already waiting are queued behind each other
+            permits--;
+            return waitNanos;
+        }
+
+        /**
+         * Gives back the permit of a request that is not sent after all.
+         */
+        synchronized void cancel() {
+            if (windowCount > 0) {
+                windowCount--;
+            }
+            if (rate != Double.POSITIVE_INFINITY) {
+                permits++;
+            }
+        }
+
+        synchronized void update(int usage, int threshold, long now) {
+            if (usage < threshold) {
+                rate = Double.POSITIVE_INFINITY;
+                baseRate = 0;
+                return;
+            }
+            if (baseRate == 0) {
+                double rate = observedRate;
+                if (rate == 0) {
+                    // the first window has not finished yet
+                    rate = windowCount * 1000000000d / Math.max(now - windowStart, 1000000000L);
+                }
+                baseRate = Math.max(MIN_RATE, rate);
+            }
+            double newRate = Math.max(MIN_RATE, baseRate * (100 - usage) / Math.max(1, 100 - threshold));
+            if (rate == Double.POSITIVE_INFINITY) {
+                permits = 1;
+                refilledAt = now;
+            } else {
+                refill(now);
+            }
+            rate = newRate;
+        }
+
+        private void refill(long now) {
+            permits = Math.min(Math.max(1, rate), permits + (now - refilledAt) * rate / 1000000000L);
+            refilledAt = now;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits retries to a percentage of the requests, so that retries cannot multiply the load on Facebook during an outage.<br>
+ * Every request deposits <code>percent</code>/100 of a token and every retry withdraws a whole one.
+ * The balance starts at, and is capped to, a small reserve so that clients with little traffic can still retry.
+ */
+final class RetryBudget {
+    private static final long TOKEN = 100;
+    private static final long RESERVE = 10 * TOKEN;
+
+    private final int percent;
+    private final AtomicLong balance = new AtomicLong(RESERVE);
+
+    /**
+     * @param percent retries allowed per 100 requests, a negative value disables the budget
+     */
+    RetryBudget(int percent) {
+        this.percent = percent;
+    }
+
+    void deposit() {
+        if (percent <= 0) {
+            return;
+        }
+        long current;
+        do {
+            current = balance.get();
+            if (current >= RESERVE) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(RESERVE, current + percent)));
+    }
+
+    boolean tryWithdraw() {
+        if (percent < 0) {
+            return true;
+        }
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import facebook4j.FacebookException;
+
+/**
+ * Decides whether and when a failed HTTP request is sent again.<br>
+ * The implementation is chosen with <code>http.retryPolicy</code> and needs a public constructor taking
+ * {@link HttpClientConfiguration}. One instance is shared by all requests of an HttpClient, so it must be thread-safe.
+ *
+ * @see ExponentialBackoffRetryPolicy
+ * @see FixedIntervalRetryPolicy
+ */
+public interface RetryPolicy {
+
+    /**
+     * Called once for each request before it is sent for the first time.
+     *
+     * @param req the request
+     */
+    void requestStarted(HttpRequest req);
+
+    /**
+     * @param req the failed request
+     * @param retriedCount the number of retries already made for the request
+     * @param previousDelayMillis the delay before the previous retry, 0 before the first retry
+     * @param cause the failure, whose cause is an IOException when the request did not get a response
+     * @return the milliseconds to wait before the next retry, or -1 to give up
+     */
+    long getRetryDelayMillis(HttpRequest req, int retriedCount, long previousDelayMillis, FacebookException cause);
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package facebook4j.internal.http;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import facebook4j.FacebookException;
+
+/**
+ * Shares one in-flight GET between the threads asking for the same URL at the same time.<br>
+ * The first thread sends the request; the threads arriving while it is in flight wait for it and each get
+ * their own copy of the response, or the same exception. The URL of a GET carries the access token,
+ * so requests made with different tokens are never shared.
+ * The response is buffered only if another thread actually waited for it, otherwise it is returned untouched.
+ */
+/*package*/ final class SingleFlight {
+
+    /*package*/ interface Fetcher {
+        HttpResponse fetch(HttpRequest req) throws FacebookException;
+    }
+
+    private final HttpClientConfiguration conf;
+    // calls in flight, keyed by URL
+    private final Map<String, Call> calls = new HashMap<String, Call>();
+    private long sharedCount;
+
+    /*package*/ SingleFlight(HttpClientConfiguration conf) {
+        this.conf = conf;
+    }
+
+    /**
+     * Sends the GET request, or waits for the identical one already in flight.
+     *
+     * @param req     the GET request
+     * @param fetcher sends the request
+     * @return the response
+     * @throws FacebookException when the shared request fails
+     */
+    /*package*/ HttpResponse get(HttpRequest req, Fetcher fetcher) throws FacebookException {
+        String key = req.getURL();
+        Call call;
+        boolean leader = false;
+        synchronized (calls) {
+            call = calls.get(key);
+            if (call == null) {
+                call = new Call();
+                calls.put(key, call);
+                leader = true;
+            } else {
+                call.waiters++;
+                sharedCount++;
+            }
+        }
+        if (!leader) {
+            if (!call.await()) {
+                // the leader died of an unchecked exception, go on alone
+                return fetcher.fetch(req);
+            }
+            if (call.error != null) {
+                throw call.error;
+            }
+            return new BufferedHttpResponse(conf, call.statusCode, call.body, call.headers);
+        }
+
+        HttpResponse res;
+        try {
+            res = fetcher.fetch(req);
+        } catch (FacebookException fe) {
+            finish(key, call);
+            call.fail(fe);
+            throw fe;
+        } catch (RuntimeException re) {
+            finish(key, call);
+            call.abandon();
+            throw re;
+        } catch (Error e) {
+            finish(key, call);
+            call.abandon();
+            throw e;
+        }
+        if (!finish(key, call)) {
+            return res;
+        }
+        String body;
+        try {
+            body = res.asString();
+        } catch (FacebookException fe) {
+            call.fail(fe);
+            throw fe;
+        }
+        Map<String, List<String>> headers = ETagCache.copyHeaders(res);
+        call.succeed(res.getStatusCode(), body, headers);
+        return new BufferedHttpResponse(conf, res.getStatusCode(), body, headers);
+    }
+
+    /**
+     * Stops new threads from joining the call.
+     *
+     * @return true if some thread is waiting for the call
+     */
+    private boolean finish(String key, Call call) {
+        synchronized (calls) {
+            if (calls.get(key) == call) {
+                calls.remove(key);
+            }
+            return call.waiters > 0;
+        }
+    }
+
+    /**
+     * @return the number of requests that waited for an identical one instead of being sent
+     */
+    /*package*/ long getSharedCount() {
+        synchronized (calls) {
+            return sharedCount;
+        }
+    }
+
+    private static final class Call {
+        // guarded by the lock on the calls map
+        private int waiters;
+
+        private boolean done;
+        private boolean abandoned;
+        private int statusCode;
+        private String body;
+        private Map<String, List<String>> headers;
+        private FacebookException error;
+
+        synchronized void succeed(int statusCode, String body, Map<String, List<String>> headers) {
+            this.statusCode = statusCode;
+            this.body = body;
+            this.headers = headers;
+            done();
+        }
+
+        synchronized void fail(FacebookException error) {
+            this.error = error;
+            done();
+        }
+
+        synchronized void abandon() {
+            abandoned = true;
+            done();
+        }
+
+        private void done() {
+            done = true;
+            notifyAll();
+        }
+
+        /**
+         * @return false if the call was abandoned
+         */
+        synchronized boolean await() {
+            boolean interrupted = false;
+            while (!done) {
+                try {
+                    wait();
+                } catch (InterruptedException ie) {
+                    // the leader is bound to finish the request, keep waiting for it
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return !abandoned;
+        }
+    }
+}
@@ -57,7 +57,6 @@ import facebook4j.internal.org.json.JSONObject;
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -157,9 +156,6 @@ import facebook4j.internal.org.json.JSONObject;
     /*package*/
     static ResponseList<Achievement> createAchievementList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
-            if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
             int size = list.length();
@@ -218,13 +214,13 @@ import facebook4j.internal.org.json.JSONObject;
         private static final long serialVersionUID = 5301659229411941184L;
 
         private String id;
-        private URL url;
+        private LazyURL url;
         private String type;
         private String title;
 
         /*package*/AchievedObjectJSONImpl(JSONObject json) {
             id = getRawString("id", json);
-            url = getURL("url", json);
+            url = LazyURL.of("url", json);
             type = getRawString("type", json);
             title = getRawString("title", json);
         }
@@ -234,7 +230,7 @@ import facebook4j.internal.org.json.JSONObject;
         }
 
         public URL getUrl() {
-            return url;
+            return LazyURL.get(url);
         }
 
         public String getType() {
@@ -33,10 +33,12 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.processor.JSONDecoder;
 
  /**
  * @author Ryuji Yamashita - roundrop at gmail.com
  */
+@JSONDecoder(Album.class)
 /*package*/ final class AlbumJSONImpl extends FacebookResponseImpl implements Album, java.io.Serializable {
     private static final long serialVersionUID = 4708626697445405636L;
 
@@ -45,7 +47,7 @@ import facebook4j.internal.org.json.JSONObject;
     private String name;
     private String description;
     private String location;
-    private URL link;
+    private LazyURL link;
     private String coverPhoto;
     private PrivacyType privacy;
     private Integer count;
@@ -61,7 +63,6 @@ import facebook4j.internal.org.json.JSONObject;
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -80,7 +81,7 @@ import facebook4j.internal.org.json.JSONObject;
             }
             name = getRawString("name", json);
             description = getRawString("description", json);
-            link = getURL("link", json);
+            link = LazyURL.of("link", json);
             coverPhoto = getRawString("cover_photo", json);
             privacy = PrivacyType.getInstance(getRawString("privacy", json));
             count = getPrimitiveInt("count", json);
@@ -125,7 +126,7 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public URL getLink() {
-        return link;
+        return LazyURL.get(link);
     }
 
     public String getCoverPhoto() {
@@ -163,9 +164,6 @@ import facebook4j.internal.org.json.JSONObject;
     /*package*/
     static ResponseList<Album> createAlbumList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
-            if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
             int size = list.length();
@@ -39,10 +39,10 @@ import facebook4j.internal.org.json.JSONObject;
     private String description;
     private String category;
     private String company;
-    private URL iconUrl;
+    private LazyURL iconUrl;
     private String subcategory;
-    private URL link;
-    private URL logoUrl;
+    private LazyURL link;
+    private LazyURL logoUrl;
     private String dailyActiveUsers;
     private String weeklyActiveUsers;
     private String monthlyActiveUsers;
@@ -50,7 +50,7 @@ import facebook4j.internal.org.json.JSONObject;
     private String namespace;
     private Map<String, String> restrictions;
     private List<String> appDomains;
-    private URL authDialogDataHelpUrl;
+    private LazyURL authDialogDataHelpUrl;
     private String authDialogDescription;
     private String authDialogHeadline;
     private String authDialogPermsExplanation;
@@ -62,25 +62,25 @@ import facebook4j.internal.org.json.JSONObject;
     private String authReferralResponseType;
     private Boolean canvasFluidHeight;
     private Boolean canvasFluidWidth;
-    private URL canvasUrl;
+    private LazyURL canvasUrl;
     private String contactEmail;
     private Long createdTime;
     private Long creatorUid;
-    private URL deauthCallbackUrl;
+    private LazyURL deauthCallbackUrl;
     private String iphoneAppStoreId;
-    private URL hostingUrl;
-    private URL mobileWebUrl;
+    private LazyURL hostingUrl;
+    private LazyURL mobileWebUrl;
     private String pageTabDefaultName;
-    private URL pageTabUrl;
-    private URL privacyPolicyUrl;
-    private URL secureCanvasUrl;
-    private URL securePageTabUrl;
+    private LazyURL pageTabUrl;
+    private LazyURL privacyPolicyUrl;
+    private LazyURL secureCanvasUrl;
+    private LazyURL securePageTabUrl;
     private String serverIpWhitelist;
     private Boolean socialDiscovery;
-    private URL termsOfServiceUrl;
+    private LazyURL termsOfServiceUrl;
     private String userSupportEmail;
-    private URL userSupportUrl;
-    private URL websiteUrl;
+    private LazyURL userSupportUrl;
+    private LazyURL websiteUrl;
 
     private String canvasName;
 
@@ -88,7 +88,6 @@ import facebook4j.internal.org.json.JSONObject;
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -104,10 +103,10 @@ import facebook4j.internal.org.json.JSONObject;
         description = getRawString("description", json);
         category = getRawString("category", json);
         company = getRawString("company", json);
-        iconUrl = getURL("icon_url", json);
+        iconUrl = LazyURL.of("icon_url", json);
         subcategory = getRawString("subcategory", json);
-        link = getURL("link", json);
-        logoUrl = getURL("logo_url", json);
+        link = LazyURL.of("link", json);
+        logoUrl = LazyURL.of("logo_url", json);
         dailyActiveUsers = getRawString("daily_active_users", json);
         weeklyActiveUsers = getRawString("weekly_active_users", json);
         monthlyActiveUsers = getRawString("monthly_active_users", json);
@@ -115,7 +114,7 @@ import facebook4j.internal.org.json.JSONObject;
         namespace = getRawString("namespace", json);
         restrictions = getStringMap("restrictions", json);
         appDomains = getStringList("app_domains", json);
-        authDialogDataHelpUrl = getURL("auth_dialog_data_help_url", json);
+        authDialogDataHelpUrl = LazyURL.of("auth_dialog_data_help_url", json);
         authDialogDescription = getRawString("auth_dialog_description", json);
         authDialogHeadline = getRawString("auth_dialog_headline", json);
         authDialogPermsExplanation = getRawString("auth_dialog_perms_explanation", json);
@@ -127,25 +126,25 @@ import facebook4j.internal.org.json.JSONObject;
         authReferralResponseType = getRawString("auth_referral_response_type", json);
         canvasFluidHeight = getBoolean("canvas_fluid_height", json);
         canvasFluidWidth = getFlag("canvas_fluid_width", json);
-        canvasUrl = getURL("canvas_url", json);
+        canvasUrl = LazyURL.of("canvas_url", json);
         contactEmail = getRawString("contact_email", json);
         createdTime = getLong("created_time", json);
         creatorUid = getLong("craeted_uid", json);
-        deauthCallbackUrl = getURL("deauth_callback_url", json);
+        deauthCallbackUrl = LazyURL.of("deauth_callback_url", json);
         iphoneAppStoreId = getRawString("iphone_app_store_id", json);
-        hostingUrl = getURL("hosting_url", json);
-        mobileWebUrl = getURL("mobile_web_url", json);
+        hostingUrl = LazyURL.of("hosting_url", json);
+        mobileWebUrl = LazyURL.of("mobile_web_url", json);
         pageTabDefaultName = getRawString("page_tab_default_name", json);
-        pageTabUrl = getURL("page_tab_url", json);
-        privacyPolicyUrl = getURL("privacy_policy_url", json);
-        secureCanvasUrl = getURL("secure_canvas_url", json);
-        securePageTabUrl = getURL("secure_page_tab_url", json);
+        pageTabUrl = LazyURL.of("page_tab_url", json);
+        privacyPolicyUrl = LazyURL.of("privacy_policy_url", json);
+        secureCanvasUrl = LazyURL.of("secure_canvas_url", json);
+        securePageTabUrl = LazyURL.of("secure_page_tab_url", json);
         serverIpWhitelist = getRawString("server_ip_whitelist", json);
         socialDiscovery = getFlag("social_discovery", json);
-        termsOfServiceUrl = getURL("terms_of_service_url", json);
+        termsOfServiceUrl = LazyURL.of("terms_of_service_url", json);
         userSupportEmail = getRawString("user_support_email", json);
-        userSupportUrl = getURL("user_support_url", json);
-        websiteUrl = getURL("website_url", json);
+        userSupportUrl = LazyURL.of("user_support_url", json);
+        websiteUrl = LazyURL.of("website_url", json);
 
         canvasName = getRawString("canvas_name", json);
     }
@@ -171,7 +170,7 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public URL getIconUrl() {
-        return iconUrl;
+        return LazyURL.get(iconUrl);
     }
 
     public String getSubcategory() {
@@ -179,11 +178,11 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public URL getLink() {
-        return link;
+        return LazyURL.get(link);
     }
 
     public URL getLogoUrl() {
-        return logoUrl;
+        return LazyURL.get(logoUrl);
     }
 
     public String getDailyActiveUsers() {
@@ -215,7 +214,7 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public URL getAuthDialogDataHelpUrl() {
-        return authDialogDataHelpUrl;
+        return LazyURL.get(authDialogDataHelpUrl);
     }
 
     public String getAuthDialogDescription() {
@@ -263,7 +262,7 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public URL getCanvasUrl() {
-        return canvasUrl;
+        return LazyURL.get(canvasUrl);
     }
 
     public String getContactEmail() {
@@ -279,7 +278,7 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public URL getDeauthCallbackUrl() {
-        return deauthCallbackUrl;
+        return LazyURL.get(deauthCallbackUrl);
     }
 
     public String getIphoneAppStoreId() {
@@ -287,11 +286,11 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public URL getHostingUrl() {
-        return hostingUrl;
+        return LazyURL.get(hostingUrl);
     }
 
     public URL getMobileWebUrl() {
-        return mobileWebUrl;
+        return LazyURL.get(mobileWebUrl);
     }
 
     public String getPageTabDefaultName() {
@@ -299,19 +298,19 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public URL getPageTabUrl() {
-        return pageTabUrl;
+        return LazyURL.get(pageTabUrl);
     }
 
     public URL getPrivacyPolicyUrl() {
-        return privacyPolicyUrl;
+        return LazyURL.get(privacyPolicyUrl);
     }
 
     public URL getSecureCanvasUrl() {
-        return secureCanvasUrl;
+        return LazyURL.get(secureCanvasUrl);
     }
 
     public URL getSecurePageTabUrl() {
-        return securePageTabUrl;
+        return LazyURL.get(securePageTabUrl);
     }
 
     public String getServerIpWhitelist() {
@@ -323,7 +322,7 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public URL getTermsOfServiceUrl() {
-        return termsOfServiceUrl;
+        return LazyURL.get(termsOfServiceUrl);
     }
 
     public String getUserSupportEmail() {
@@ -331,11 +330,11 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public URL getUserSupportUrl() {
-        return userSupportUrl;
+        return LazyURL.get(userSupportUrl);
     }
 
     public URL getWebsiteUrl() {
-        return websiteUrl;
+        return LazyURL.get(websiteUrl);
     }
 
     public String getCanvasName() {
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import facebook4j.BatchResponse;
+import facebook4j.FacebookException;
+import facebook4j.ResponseList;
+import facebook4j.conf.Configuration;
+import facebook4j.internal.http.BufferedHttpResponse;
+import facebook4j.internal.http.HttpResponse;
+import facebook4j.internal.http.HttpResponseCode;
+import facebook4j.internal.org.json.JSONArray;
+import facebook4j.internal.org.json.JSONException;
+import facebook4j.internal.org.json.JSONObject;
+
+/*package*/ final class BatchResponseImpl implements BatchResponse, HttpResponseCode {
+    private final HttpResponse response;
+    private final z_F4JInternalFactory factory;
+    private final FacebookException exception;
+
+    /*package*/BatchResponseImpl(JSONObject json, z_F4JInternalFactory factory, Configuration conf) throws FacebookException {
+        this.factory = factory;
+        try {
+            Map<String, List<String>> headers = new LinkedHashMap<String, List<String>>();
+            if (!json.isNull("headers")) {
+                JSONArray headersJSONArray = json.getJSONArray("headers");
+                for (int i = 0; i < headersJSONArray.length(); i++) {
+                    JSONObject header = headersJSONArray.getJSONObject(i);
+                    String name = getRawString("name", header);
+                    List<String> values = headers.get(name);
+                    if (values == null) {
+                        values = new ArrayList<String>();
+                        headers.put(name, values);
+                    }
+                    values.add(getRawString("value", header));
+                }
+            }
+            response = new BufferedHttpResponse(conf, getPrimitiveInt("code", json), getRawString("body", json), headers);
+        } catch (JSONException jsone) {
+            throw new FacebookException(jsone);
+        }
+        int statusCode = response.getStatusCode();
+        if (statusCode < OK || MULTIPLE_CHOICES <= statusCode) {
+            exception = new FacebookException(asString(), response);
+        } else {
+            exception = null;
+        }
+    }
+
+    /*package*/
+    static List<BatchResponse> createBatchResponseList(HttpResponse res, z_F4JInternalFactory factory, Configuration conf) throws FacebookException {
+        try {
+            JSONArray list = res.asJSONArray();
+            int size = list.length();
+            List<BatchResponse> responses = new ArrayList<BatchResponse>(size);
+            for (int i = 0; i < size; i++) {
+                if (list.isNull(i)) {
+                    // omitted by omit_response_on_success
+                    responses.add(null);
+                } else {
+                    responses.add(new BatchResponseImpl(list.getJSONObject(i), factory, conf));
+                }
+            }
+            return responses;
+        } catch (JSONException jsone) {
+            throw new FacebookException(jsone);
+        }
+    }
+
+    public int getStatusCode() {
+        return response.getStatusCode();
+    }
+
+    public String getResponseHeader(String name) {
+        return response.getResponseHeader(name);
+    }
+
+    public Map<String, List<String>> getResponseHeaderFields() {
+        return response.getResponseHeaderFields();
+    }
+
+    public String asString() {
+        try {
+            return response.asString();
+        } catch (FacebookException fe) {
+            // the body is held in memory
+            throw new AssertionError(fe);
+        }
+    }
+
+    public JSONObject asJSONObject() throws FacebookException {
+        ensureSuccess();
+        return response.asJSONObject();
+    }
+
+    public <T> T asObject(Class<T> type) throws FacebookException {
+        ensureSuccess();
+        return factory.createObject(response, type);
+    }
+
+    public <T> ResponseList<T> asResponseList(Class<T> type) throws FacebookException {
+        ensureSuccess();
+        return factory.createResponseList(response, type);
+    }
+
+    public FacebookException getException() {
+        return exception;
+    }
+
+    private void ensureSuccess() throws FacebookException {
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResponseImpl{" +
+                "statusCode=" + getStatusCode() +
+                ", headers=" + getResponseHeaderFields() +
+                ", body='" + asString() + '\'' +
+                '}';
+    }
+}
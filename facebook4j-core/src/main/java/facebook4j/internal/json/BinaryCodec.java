@@ -0,0 +1,89 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import java.io.IOException;
+
+/**
+ * A compact binary form of the entities, of {@link facebook4j.ResponseList}, {@link facebook4j.PagableList}
+ * and of {@link facebook4j.Paging}, for {@link facebook4j.json.DataObjectCodec}.<br>
+ * A stream starts with a magic number and a version byte, then holds one tagged value:
+ * <ul>
+ * <li>ints, longs, dates and lengths are zigzag varints, so most of them take one or two bytes</li>
+ * <li>a string is written once as UTF-8; later occurrences of the ids, names and other short strings
+ * are indexes into the string table of the stream</li>
+ * <li>an entity names its class and its fields once per stream, then only writes their values, so a newer
+ * or older version of the class reads it as long as the types of the common fields did not change</li>
+ * <li>entities, lists and maps met twice are written once, then referenced by index</li>
+ * </ul>
+ * This class is not intended to be used by Facebook4J client.
+ */
+public final class BinaryCodec {
+    private BinaryCodec() {
+        throw new AssertionError("not intended to be instantiated.");
+    }
+
+    /*package*/ static final int MAGIC = 0xF4B1;
+    /*package*/ static final int VERSION = 1;
+
+    /*package*/ static final int NULL = 0;
+    /*package*/ static final int FALSE = 1;
+    /*package*/ static final int TRUE = 2;
+    /*package*/ static final int INT = 3;
+    /*package*/ static final int LONG = 4;
+    /*package*/ static final int FLOAT = 5;
+    /*package*/ static final int DOUBLE = 6;
+    /*package*/ static final int CHAR = 7;
+    /*package*/ static final int STRING = 8;
+    /*package*/ static final int DATE = 9;
+    /*package*/ static final int URL = 10;
+    /*package*/ static final int LOCALE = 11;
+    /*package*/ static final int ENUM = 12;
+    /*package*/ static final int CLASS = 13;
+    /*package*/ static final int JSON = 14;
+    /*package*/ static final int OBJECT = 15;
+    /*package*/ static final int COLLECTION = 16;
+    /*package*/ static final int MAP = 17;
+    /*package*/ static final int ARRAY = 18;
+    /*package*/ static final int REFERENCE = 19;
+    /*package*/ static final int SERIALIZED = 20;
+
+    /**
+     * strings up to this length go to the string table
+     */
+    /*package*/ static final int MAX_SHARED_LENGTH = 64;
+
+    /**
+     * values nested deeper than this are refused on read
+     */
+    /*package*/ static final int MAX_DEPTH = 512;
+
+    public static byte[] encode(Object object) throws IOException {
+        BinaryWriter writer = new BinaryWriter();
+        writer.writeHeader();
+        writer.writeValue(object);
+        return writer.toByteArray();
+    }
+
+    public static Object decode(byte[] bytes) throws IOException {
+        BinaryReader reader = new BinaryReader(bytes);
+        reader.readHeader();
+        Object object = reader.readValue();
+        reader.checkEnd();
+        return object;
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The persistent fields of a class, as written by {@link BinaryWriter} and bound by {@link BinaryReader}.<br>
+ * They are the non-static, non-transient fields declared by the class and its superclasses up to the first
+ * java.* one, sorted by name. A stream names them once per class, so a reader binds them by name and ignores
+ * those its own version of the class does not have.<br>
+ * Instances are created the way Java serialization does, without running the constructors of the entity, and are
+ * replaced by the result of their readResolve method, if any. Classes with a readObject method cannot be restored
+ * field by field, so they are refused. Only the classes of Facebook4J and of java.util are allowed, which keeps a
+ * crafted stream from instantiating anything else.
+ */
+/*package*/ final class BinaryLayout {
+
+    private static final ConcurrentMap<Class<?>, BinaryLayout> LAYOUTS
+            = new ConcurrentHashMap<Class<?>, BinaryLayout>();
+
+    private static final Comparator<Field> BY_NAME = new Comparator<Field>() {
+        public int compare(Field f1, Field f2) {
+            int order = f1.getName().compareTo(f2.getName());
+            return order != 0 ? order : f1.getDeclaringClass().getName().compareTo(f2.getDeclaringClass().getName());
+        }
+    };
+
+    // the packages of the java.* values written with Java serialization
+    private static final Set<String> SERIALIZED_PACKAGES = new HashSet<String>(Arrays.asList(
+            "java.lang", "java.math", "java.net", "java.text", "java.time", "java.util"));
+
+    private final Class<?> type;
+    private final Field[] fields;
+    private final String[] names;
+    private final Field lazyFields;
+    private final boolean customReadObject;
+    private final Method readResolve;
+    private volatile Constructor<?> constructor;
+
+    private BinaryLayout(Class<?> type) {
+        this.type = type;
+        List<Field> fields = new ArrayList<Field>();
+        Field lazyFields = null;
+        boolean customReadObject = false;
+        for (Class<?> c = type; c != null && !c.getName().startsWith("java."); c = c.getSuperclass()) {
+            customReadObject |= getPrivateMethod(c, "readObject", ObjectInputStream.class) != null
+                    || getPrivateMethod(c, "readObjectNoData") != null;
+            for (Field field : c.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers)) {
+                    continue;
+                }
+                if (field.getType() == LazyFields.class) {
+                    field.setAccessible(true);
+                    lazyFields = field;
+                } else if (!Modifier.isTransient(modifiers)) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        this.fields = fields.toArray(new Field[fields.size()]);
+        Arrays.sort(this.fields, BY_NAME);
+        this.names = new String[this.fields.length];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = this.fields[i].getName();
+        }
+        this.lazyFields = lazyFields;
+        this.customReadObject = customReadObject;
+        this.readResolve = getReadResolve(type);
+    }
+
+    /**
+     * @param name the name of a class, as found in a stream
+     * @return true if instances of the class may be read and written field by field
+     */
+    /*package*/ static boolean isAllowed(String name) {
+        if (name.startsWith("facebook4j.")) {
+            return true;
+        }
+        return name.startsWith("java.util.") && name.indexOf('.', "java.util.".length()) < 0;
+    }
+
+    /**
+     * @param name the name of a class, or of an array class, as written for a class value or an array
+     * @return true if the class may be loaded when it is read back
+     */
+    /*package*/ static boolean isValueClassAllowed(String name) {
+        if (isSerializedAllowed(name)) {
+            return true;
+        }
+        int dimensions = 0;
+        while (dimensions < name.length() && name.charAt(dimensions) == '[') {
+            dimensions++;
+        }
+        if (dimensions > 0 && name.endsWith(";")) {
+            name = name.substring(dimensions + 1, name.length() - 1);
+        }
+        return isAllowed(name);
+    }
+
+    /**
+     * @param name the name of a class, or of an array class, as found in a Java serialization stream
+     * @return true if values of the class may be handed to Java serialization
+     */
+    /*package*/ static boolean isSerializedAllowed(String name) {
+        int dimensions = 0;
+        while (dimensions < name.length() && name.charAt(dimensions) == '[') {
+            dimensions++;
+        }
+        String component = name.substring(dimensions);
+        if (dimensions > 0) {
+            if (component.length() == 1) {
+                // a primitive type
+                return true;
+            }
+            // Lclass-name;
+            component = component.substring(1, component.length() - 1);
+        }
+        int index = component.lastIndexOf('.');
+        return index >= 0 && SERIALIZED_PACKAGES.contains(component.substring(0, index));
+    }
+
+    private static Method getPrivateMethod(Class<?> c, String name, Class<?>... parameterTypes) {
+        try {
+            Method method = c.getDeclaredMethod(name, parameterTypes);
+            return Modifier.isPrivate(method.getModifiers()) && !Modifier.isStatic(method.getModifiers())
+                    ? method : null;
+        } catch (NoSuchMethodException nsme) {
+            return null;
+        }
+    }
+
+    /**
+     * Finds readResolve the way Java serialization does: declared by the class, or inherited from a superclass
+     * unless it is private there, or package private in another package.
+     */
+    private static Method getReadResolve(Class<?> type) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            Method method;
+            try {
+                method = c.getDeclaredMethod("readResolve");
+            } catch (NoSuchMethodException nsme) {
+                continue;
+            }
+            int modifiers = method.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isAbstract(modifiers) || method.getReturnType() != Object.class) {
+                return null;
+            }
+            if (c != type) {
+                if (Modifier.isPrivate(modifiers)) {
+                    return null;
+                }
+                if (!Modifier.isPublic(modifiers) && !Modifier.isProtected(modifiers)
+                        && !getPackageName(c).equals(getPackageName(type))) {
+                    return null;
+                }
+            }
+            method.setAccessible(true);
+            return method;
+        }
+        return null;
+    }
+
+    private static String getPackageName(Class<?> c) {
+        String name = c.getName();
+        int index = name.lastIndexOf('.');
+        return index < 0 ? "" : name.substring(0, index);
+    }
+
+    /*package*/ static BinaryLayout of(Class<?> type) {
+        BinaryLayout layout = LAYOUTS.get(type);
+        if (layout == null) {
+            layout = new BinaryLayout(type);
+            BinaryLayout existing = LAYOUTS.putIfAbsent(type, layout);
+            if (existing != null) {
+                layout = existing;
+            }
+        }
+        return layout;
+    }
+
+    /*package*/ Class<?> getType() {
+        return type;
+    }
+
+    /*package*/ String[] getNames() {
+        return names;
+    }
+
+    /*package*/ Field[] getFields() {
+        return fields;
+    }
+
+    /**
+     * @return the field of the given name, or null if this version of the class has none
+     */
+    /*package*/ Field getField(String name) {
+        for (Field field : fields) {
+            if (field.getName().equals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Refuses the classes whose state cannot be restored by setting their fields.
+     */
+    /*package*/ void checkReadable() throws InvalidClassException {
+        if (customReadObject) {
+            throw new InvalidClassException(type.getName(), "has a readObject method, which the codec cannot run");
+        }
+    }
+
+    /**
+     * @return the object to use in place of the one just read, as returned by readResolve
+     */
+    /*package*/ Object resolve(Object object) throws IOException {
+        if (readResolve == null) {
+            return object;
+        }
+        try {
+            return readResolve.invoke(object);
+        } catch (InvocationTargetException ite) {
+            if (ite.getCause() instanceof IOException) {
+                throw (IOException) ite.getCause();
+            }
+            throw new InvalidClassException(type.getName(), String.valueOf(ite.getCause()));
+        } catch (IllegalAccessException iae) {
+            throw new InvalidClassException(type.getName(), iae.getMessage());
+        }
+    }
+
+    /**
+     * Decodes the fields an entity in lazy decoding mode has not decoded yet, as they are written out.
+     */
+    /*package*/ void decodeLazyFields(Object object) throws IOException {
+        if (lazyFields == null) {
+            return;
+        }
+        try {
+            LazyFields pending = (LazyFields) lazyFields.get(object);
+            if (pending != null) {
+                pending.decode(~0);
+            }
+        } catch (IllegalAccessException iae) {
+            throw new InvalidClassException(type.getName(), iae.getMessage());
+        } catch (IllegalStateException ise) {
+            IOException ioe = new IOException(ise.getMessage());
+            ioe.initCause(ise);
+            throw ioe;
+        }
+    }
+
+    /**
+     * Creates an instance without running the constructors of the class, only the no-arg constructor of the
+     * first superclass that has no persistent fields, i.e. Object or ArrayList.
+     */
+    /*package*/ Object newInstance() throws IOException {
+        try {
+            return constructor().newInstance();
+        } catch (InvalidClassException ice) {
+            throw ice;
+        } catch (Exception e) {
+            throw new InvalidClassException(type.getName(), e.toString());
+        }
+    }
+
+    private Constructor<?> constructor() throws Exception {
+        Constructor<?> constructor = this.constructor;
+        if (constructor == null) {
+            Class<?> base = type;
+            while (base != null && !base.getName().startsWith("java.")) {
+                base = base.getSuperclass();
+            }
+            if (base == type) {
+                constructor = type.getConstructor();
+            } else {
+                constructor = constructorForSerialization(type, base.getDeclaredConstructor());
+            }
+            constructor.setAccessible(true);
+            this.constructor = constructor;
+        }
+        return constructor;
+    }
+
+    private static Constructor<?> constructorForSerialization(Class<?> type, Constructor<?> base) throws Exception {
+        Class<?> factoryClass;
+        try {
+            factoryClass = Class.forName("sun.reflect.ReflectionFactory");
+        } catch (ClassNotFoundException cnfe) {
+            // falls back on a no-arg constructor of the entity, if any
+            return type.getDeclaredConstructor();
+        }
+        Object factory = factoryClass.getMethod("getReflectionFactory").invoke(null);
+        Method method = factoryClass.getMethod("newConstructorForSerialization", Class.class, Constructor.class);
+        Constructor<?> constructor = (Constructor<?>) method.invoke(factory, type, base);
+        if (constructor == null) {
+            throw new InvalidClassException(type.getName(), "no constructor for serialization");
+        }
+        return constructor;
+    }
+}
@@ -0,0 +1,450 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import static facebook4j.internal.json.BinaryCodec.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import facebook4j.internal.org.json.JSONArray;
+import facebook4j.internal.org.json.JSONException;
+import facebook4j.internal.org.json.JSONObject;
+
+/**
+ * Reads one stream of {@link BinaryCodec}.
+ */
+/*package*/ final class BinaryReader {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /**
+     * A class as named by the stream: its layout in this version and its fields in the order of the stream,
+     * null for those this version does not have.
+     */
+    private static final class ClassEntry {
+        private final BinaryLayout layout;
+        private final Field[] fields;
+
+        private ClassEntry(BinaryLayout layout, Field[] fields) {
+            this.layout = layout;
+            this.fields = fields;
+        }
+    }
+
+    private final List<String> strings = new ArrayList<String>();
+    private final List<ClassEntry> classes = new ArrayList<ClassEntry>();
+    private final List<Object> objects = new ArrayList<Object>();
+    private final byte[] buf;
+    private int pos;
+    private int depth;
+
+    /*package*/ BinaryReader(byte[] buf) {
+        this.buf = buf;
+    }
+
+    /*package*/ void readHeader() throws IOException {
+        int magic = (readByte() << 8) | readByte();
+        if (magic != MAGIC) {
+            throw new StreamCorruptedException("invalid stream header: " + Integer.toHexString(magic));
+        }
+        int version = readByte();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("unsupported version: " + version);
+        }
+    }
+
+    /*package*/ void checkEnd() throws IOException {
+        if (pos != buf.length) {
+            throw new StreamCorruptedException((buf.length - pos) + " bytes after the end of the stream");
+        }
+    }
+
+    /*package*/ Object readValue() throws IOException {
+        // a forged stream must not be able to overflow the stack
+        if (++depth > MAX_DEPTH) {
+            throw new StreamCorruptedException("nested too deeply");
+        }
+        try {
+            return readTaggedValue();
+        } finally {
+            depth--;
+        }
+    }
+
+    private Object readTaggedValue() throws IOException {
+        int tag = readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case FALSE:
+                return Boolean.FALSE;
+            case TRUE:
+                return Boolean.TRUE;
+            case INT:
+                return (int) unzigzag(readVarLong());
+            case LONG:
+                return unzigzag(readVarLong());
+            case FLOAT:
+                return Float.intBitsToFloat((int) readFixed(4));
+            case DOUBLE:
+                return Double.longBitsToDouble(readFixed(8));
+            case CHAR:
+                return (char) readVarLong();
+            case STRING:
+                return readString();
+            case DATE:
+                return new Date(unzigzag(readVarLong()));
+            case URL:
+                return new java.net.URL(readString());
+            case LOCALE:
+                return new Locale(readString(), readString(), readString());
+            case ENUM:
+                return readEnum();
+            case CLASS:
+                return loadAllowedClass(readString());
+            case JSON:
+                return readJSON();
+            case OBJECT:
+                return readObject();
+            case COLLECTION:
+                return readCollection();
+            case MAP:
+                return readMap();
+            case ARRAY:
+                return readArray();
+            case REFERENCE:
+                int index = readLength();
+                if (index >= objects.size()) {
+                    throw new StreamCorruptedException("invalid reference: " + index);
+                }
+                return objects.get(index);
+            case SERIALIZED:
+                return readSerialized();
+            default:
+                throw new StreamCorruptedException("invalid tag: " + tag);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object readEnum() throws IOException {
+        String typeName = readString();
+        if (!typeName.startsWith("facebook4j.") && !typeName.startsWith("java.")) {
+            throw new InvalidClassException(typeName, "not allowed");
+        }
+        Class type = loadClass(typeName);
+        String name = readString();
+        if (!type.isEnum()) {
+            throw new InvalidClassException(type.getName(), "not an enum");
+        }
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException iae) {
+            throw new InvalidClassException(type.getName(), "no constant " + name);
+        }
+    }
+
+    private Object readJSON() throws IOException {
+        String json = readString();
+        try {
+            return json.startsWith("[") ? new JSONArray(json) : new JSONObject(json);
+        } catch (JSONException jsone) {
+            IOException ioe = new StreamCorruptedException(jsone.getMessage());
+            ioe.initCause(jsone);
+            throw ioe;
+        }
+    }
+
+    private Object readObject() throws IOException {
+        ClassEntry entry = readClassEntry();
+        Object object = entry.layout.newInstance();
+        int index = objects.size();
+        objects.add(object);
+        readFields(entry, object);
+        return resolve(entry, index, object);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readCollection() throws IOException {
+        ClassEntry entry = readClassEntry();
+        Object object = entry.layout.newInstance();
+        if (!(object instanceof Collection)) {
+            throw new InvalidClassException(entry.layout.getType().getName(), "not a collection");
+        }
+        int index = objects.size();
+        objects.add(object);
+        readFields(entry, object);
+        Collection<Object> collection = (Collection<Object>) object;
+        int size = readLength();
+        for (int i = 0; i < size; i++) {
+            collection.add(readValue());
+        }
+        return resolve(entry, index, collection);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readMap() throws IOException {
+        ClassEntry entry = readClassEntry();
+        Object object = entry.layout.newInstance();
+        if (!(object instanceof Map)) {
+            throw new InvalidClassException(entry.layout.getType().getName(), "not a map");
+        }
+        int index = objects.size();
+        objects.add(object);
+        readFields(entry, object);
+        Map<Object, Object> map = (Map<Object, Object>) object;
+        int size = readLength();
+        for (int i = 0; i < size; i++) {
+            Object key = readValue();
+            map.put(key, readValue());
+        }
+        return resolve(entry, index, map);
+    }
+
+    /**
+     * Replaces the object just read by the result of its readResolve method, for the later references too.
+     */
+    private Object resolve(ClassEntry entry, int index, Object object) throws IOException {
+        Object resolved = entry.layout.resolve(object);
+        if (resolved != object) {
+            objects.set(index, resolved);
+        }
+        return resolved;
+    }
+
+    private Object readArray() throws IOException {
+        Class<?> componentType = loadAllowedClass(readString());
+        int length = readLength();
+        // every element takes at least one byte
+        if (length > buf.length - pos) {
+            throw new StreamCorruptedException("invalid array length: " + length);
+        }
+        Object array = Array.newInstance(componentType, length);
+        objects.add(array);
+        for (int i = 0; i < length; i++) {
+            try {
+                Array.set(array, i, readValue());
+            } catch (IllegalArgumentException iae) {
+                throw new InvalidClassException(componentType.getName(), iae.getMessage());
+            }
+        }
+        return array;
+    }
+
+    private Object readSerialized() throws IOException {
+        int index = objects.size();
+        objects.add(null);
+        int length = readLength();
+        checkAvailable(length);
+        ObjectInputStream in = new FilteredObjectInputStream(new ByteArrayInputStream(buf, pos, length));
+        pos += length;
+        try {
+            Object object = in.readObject();
+            objects.set(index, object);
+            return object;
+        } catch (ClassNotFoundException cnfe) {
+            throw new InvalidClassException(cnfe.getMessage());
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Reads the values {@link BinaryWriter} hands to Java serialization, and refuses any class of another package
+     * than theirs, at any depth of the graph.
+     */
+    private static final class FilteredObjectInputStream extends ObjectInputStream {
+        private FilteredObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (!BinaryLayout.isSerializedAllowed(desc.getName())) {
+                throw new InvalidClassException(desc.getName(), "not allowed");
+            }
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+            throw new InvalidClassException("proxy classes are not allowed");
+        }
+    }
+
+    private ClassEntry readClassEntry() throws IOException {
+        int index = readLength();
+        if (index > 0) {
+            if (index > classes.size()) {
+                throw new StreamCorruptedException("invalid class reference: " + index);
+            }
+            return classes.get(index - 1);
+        }
+        String name = readString();
+        if (!BinaryLayout.isAllowed(name)) {
+            throw new InvalidClassException(name, "not allowed");
+        }
+        Class<?> type = loadClass(name);
+        if (!Serializable.class.isAssignableFrom(type)) {
+            throw new InvalidClassException(type.getName(), "not serializable");
+        }
+        BinaryLayout layout = BinaryLayout.of(type);
+        layout.checkReadable();
+        int fieldCount = readLength();
+        // every field name takes at least one byte
+        if (fieldCount > buf.length - pos) {
+            throw new StreamCorruptedException("invalid field count: " + fieldCount);
+        }
+        Field[] fields = new Field[fieldCount];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = layout.getField(readString());
+        }
+        ClassEntry entry = new ClassEntry(layout, fields);
+        classes.add(entry);
+        return entry;
+    }
+
+    private void readFields(ClassEntry entry, Object object) throws IOException {
+        for (Field field : entry.fields) {
+            Object value = readValue();
+            if (field == null || (value == null && field.getType().isPrimitive())) {
+                continue;
+            }
+            try {
+                field.set(object, narrow(value, field.getType()));
+            } catch (IllegalArgumentException iae) {
+                throw new InvalidClassException(entry.layout.getType().getName(),
+                        "incompatible type of " + field.getName());
+            } catch (IllegalAccessException iae) {
+                throw new InvalidClassException(entry.layout.getType().getName(), iae.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Turns the ints back into the shorts and bytes they were written from.
+     */
+    private static Object narrow(Object value, Class<?> type) {
+        if (value instanceof Integer) {
+            if (type == short.class || type == Short.class) {
+                return ((Integer) value).shortValue();
+            }
+            if (type == byte.class || type == Byte.class) {
+                return ((Integer) value).byteValue();
+            }
+        }
+        return value;
+    }
+
+    private static Class<?> loadAllowedClass(String name) throws IOException {
+        if (!BinaryLayout.isValueClassAllowed(name)) {
+            throw new InvalidClassException(name, "not allowed");
+        }
+        return loadClass(name);
+    }
+
+    private static Class<?> loadClass(String name) throws IOException {
+        try {
+            return Class.forName(name, false, BinaryReader.class.getClassLoader());
+        } catch (ClassNotFoundException cnfe) {
+            throw new InvalidClassException(name, "class not found");
+        }
+    }
+
+    private String readString() throws IOException {
+        long value = readVarLong();
+        if ((value & 1) != 0) {
+            long index = value >>> 1;
+            if (index >= strings.size()) {
+                throw new StreamCorruptedException("invalid string reference: " + index);
+            }
+            return strings.get((int) index);
+        }
+        long length = value >>> 1;
+        if (length > Integer.MAX_VALUE) {
+            throw new StreamCorruptedException("invalid string length: " + length);
+        }
+        checkAvailable((int) length);
+        String string = new String(buf, pos, (int) length, UTF_8);
+        pos += (int) length;
+        if (string.length() <= MAX_SHARED_LENGTH) {
+            strings.add(string);
+        }
+        return string;
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private int readLength() throws IOException {
+        long length = readVarLong();
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw new StreamCorruptedException("invalid length: " + length);
+        }
+        return (int) length;
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("malformed varint");
+    }
+
+    private long readFixed(int length) throws IOException {
+        checkAvailable(length);
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value = (value << 8) | (buf[pos++] & 0xFF);
+        }
+        return value;
+    }
+
+    private int readByte() throws IOException {
+        if (pos >= buf.length) {
+            throw new EOFException();
+        }
+        return buf[pos++] & 0xFF;
+    }
+
+    private void checkAvailable(int length) throws IOException {
+        if (length < 0 || length > buf.length - pos) {
+            throw new EOFException();
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import static facebook4j.internal.json.BinaryCodec.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import facebook4j.internal.org.json.JSONArray;
+import facebook4j.internal.org.json.JSONObject;
+
+/**
+ * Writes one stream of {@link BinaryCodec}.
+ */
+/*package*/ final class BinaryWriter {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final Map<String, Integer> strings = new HashMap<String, Integer>();
+    private final Map<Class<?>, Integer> classes = new IdentityHashMap<Class<?>, Integer>();
+    private final Map<Object, Integer> objects = new IdentityHashMap<Object, Integer>();
+    private byte[] buf = new byte[256];
+    private int count;
+
+    /*package*/ void writeHeader() {
+        writeByte(MAGIC >>> 8);
+        writeByte(MAGIC);
+        writeByte(VERSION);
+    }
+
+    /*package*/ byte[] toByteArray() {
+        byte[] bytes = new byte[count];
+        System.arraycopy(buf, 0, bytes, 0, count);
+        return bytes;
+    }
+
+    /*package*/ void writeValue(Object value) throws IOException {
+        if (value == null) {
+            writeByte(NULL);
+        } else if (value instanceof String) {
+            writeByte(STRING);
+            writeString((String) value);
+        } else if (value instanceof Boolean) {
+            writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            writeByte(INT);
+            writeVarLong(zigzag(((Number) value).intValue()));
+        } else if (value instanceof Long) {
+            writeByte(LONG);
+            writeVarLong(zigzag((Long) value));
+        } else if (value instanceof Double) {
+            writeByte(DOUBLE);
+            writeFixed(Double.doubleToLongBits((Double) value), 8);
+        } else if (value instanceof Float) {
+            writeByte(FLOAT);
+            writeFixed(Float.floatToIntBits((Float) value), 4);
+        } else if (value instanceof Character) {
+            writeByte(CHAR);
+            writeVarLong((Character) value);
+        } else if (value instanceof Date) {
+            writeByte(DATE);
+            writeVarLong(zigzag(((Date) value).getTime()));
+        } else if (value instanceof java.net.URL) {
+            writeByte(URL);
+            writeString(((java.net.URL) value).toExternalForm());
+        } else if (value instanceof Locale) {
+            Locale locale = (Locale) value;
+            writeByte(LOCALE);
+            writeString(locale.getLanguage());
+            writeString(locale.getCountry());
+            writeString(locale.getVariant());
+        } else if (value instanceof Enum) {
+            writeByte(ENUM);
+            writeString(((Enum<?>) value).getDeclaringClass().getName());
+            writeString(((Enum<?>) value).name());
+        } else if (value instanceof Class) {
+            if (!BinaryLayout.isValueClassAllowed(((Class<?>) value).getName())) {
+                throw new InvalidClassException(((Class<?>) value).getName(), "cannot be read back");
+            }
+            writeByte(CLASS);
+            writeString(((Class<?>) value).getName());
+        } else if (value instanceof JSONObject || value instanceof JSONArray) {
+            writeByte(JSON);
+            writeString(value.toString());
+        } else {
+            Integer index = objects.get(value);
+            if (index != null) {
+                writeByte(REFERENCE);
+                writeVarLong(index);
+            } else {
+                writeObject(value);
+            }
+        }
+    }
+
+    private void writeObject(Object value) throws IOException {
+        Class<?> type = value.getClass();
+        if (type.isArray() && !type.getComponentType().isPrimitive()) {
+            if (!BinaryLayout.isValueClassAllowed(type.getComponentType().getName())) {
+                throw new InvalidClassException(type.getComponentType().getName(), "cannot be read back");
+            }
+            objects.put(value, objects.size());
+            int length = Array.getLength(value);
+            writeByte(ARRAY);
+            writeString(type.getComponentType().getName());
+            writeVarLong(length);
+            for (int i = 0; i < length; i++) {
+                writeValue(Array.get(value, i));
+            }
+        } else if (value instanceof Collection) {
+            objects.put(value, objects.size());
+            writeByte(COLLECTION);
+            BinaryLayout layout = BinaryLayout.of(instantiable(type) ? type
+                    : value instanceof Set ? LinkedHashSet.class : ArrayList.class);
+            writeLayout(layout);
+            writeFields(layout, value);
+            Collection<?> collection = (Collection<?>) value;
+            writeVarLong(collection.size());
+            for (Object element : collection) {
+                writeValue(element);
+            }
+        } else if (value instanceof Map) {
+            objects.put(value, objects.size());
+            writeByte(MAP);
+            BinaryLayout layout = BinaryLayout.of(instantiable(type) ? type : LinkedHashMap.class);
+            writeLayout(layout);
+            writeFields(layout, value);
+            Map<?, ?> map = (Map<?, ?>) value;
+            writeVarLong(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(entry.getKey());
+                writeValue(entry.getValue());
+            }
+        } else if (!(value instanceof Serializable)) {
+            throw new NotSerializableException(type.getName());
+        } else if (type.getName().startsWith("java.")) {
+            if (!BinaryLayout.isSerializedAllowed(type.getName())) {
+                throw new InvalidClassException(type.getName(), "not a value type of the JDK that can be read back");
+            }
+            objects.put(value, objects.size());
+            writeByte(SERIALIZED);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            ObjectOutputStream out = new ObjectOutputStream(bytes);
+            out.writeObject(value);
+            out.close();
+            writeVarLong(bytes.size());
+            writeBytes(bytes.toByteArray(), bytes.size());
+        } else if (!BinaryLayout.isAllowed(type.getName())) {
+            throw new InvalidClassException(type.getName(), "only the classes of Facebook4J can be written");
+        } else {
+            objects.put(value, objects.size());
+            BinaryLayout layout = BinaryLayout.of(type);
+            layout.checkReadable();
+            layout.decodeLazyFields(value);
+            writeByte(OBJECT);
+            writeLayout(layout);
+            writeFields(layout, value);
+        }
+    }
+
+    /**
+     * @return true if instances of the collection or map class can be created back
+     */
+    private static boolean instantiable(Class<?> type) {
+        if (!BinaryLayout.isAllowed(type.getName())) {
+            return false;
+        }
+        if (!type.getName().startsWith("java.")) {
+            return Serializable.class.isAssignableFrom(type);
+        }
+        if (!Modifier.isPublic(type.getModifiers())) {
+            return false;
+        }
+        try {
+            type.getConstructor();
+            return true;
+        } catch (NoSuchMethodException nsme) {
+            return false;
+        }
+    }
+
+    private void writeLayout(BinaryLayout layout) {
+        Integer index = classes.get(layout.getType());
+        if (index != null) {
+            writeVarLong(index + 1);
+            return;
+        }
+        classes.put(layout.getType(), classes.size());
+        writeVarLong(0);
+        writeString(layout.getType().getName());
+        String[] names = layout.getNames();
+        writeVarLong(names.length);
+        for (String name : names) {
+            writeString(name);
+        }
+    }
+
+    private void writeFields(BinaryLayout layout, Object object) throws IOException {
+        try {
+            for (Field field : layout.getFields()) {
+                writeValue(field.get(object));
+            }
+        } catch (IllegalAccessException iae) {
+            throw new InvalidClassException(layout.getType().getName(), iae.getMessage());
+        }
+    }
+
+    /**
+     * Writes a string either as an index into the string table, or as its UTF-8 bytes.
+     */
+    private void writeString(String value) {
+        Integer index = strings.get(value);
+        if (index != null) {
+            writeVarLong((index << 1) | 1);
+            return;
+        }
+        if (value.length() <= MAX_SHARED_LENGTH) {
+            strings.put(value, strings.size());
+        }
+        byte[] bytes = value.getBytes(UTF_8);
+        writeVarLong((long) bytes.length << 1);
+        writeBytes(bytes, bytes.length);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buf[count++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[count++] = (byte) value;
+    }
+
+    private void writeFixed(long value, int length) {
+        ensureCapacity(length);
+        for (int shift = (length - 1) * 8; shift >= 0; shift -= 8) {
+            buf[count++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void writeByte(int value) {
+        ensureCapacity(1);
+        buf[count++] = (byte) value;
+    }
+
+    private void writeBytes(byte[] bytes, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, 0, buf, count, length);
+        count += length;
+    }
+
+    private void ensureCapacity(int length) {
+        if (count + length > buf.length) {
+            byte[] newBuf = new byte[Math.max(buf.length << 1, count + length)];
+            System.arraycopy(buf, 0, newBuf, 0, count);
+            buf = newBuf;
+        }
+    }
+}
@@ -16,8 +16,6 @@
 
 package facebook4j.internal.json;
 
-import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
-
 import java.util.Date;
 
 import facebook4j.Category;
@@ -25,16 +23,23 @@ import facebook4j.FacebookException;
 import facebook4j.conf.Configuration;
 import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.processor.JSONDecoder;
+import facebook4j.internal.processor.JSONField;
 
 /**
  * @author Ryuji Yamashita - roundrop at gmail.com
  */
+@JSONDecoder(Category.class)
 /*package*/ class CategoryJSONImpl extends FacebookResponseImpl implements Category {
     private static final long serialVersionUID = 8273954429202255868L;
 
+    @JSONField("id")
     protected String id;
+    @JSONField("name")
     protected String name;
+    @JSONField("category")
     protected String category;
+    @JSONField("created_time")
     protected Date createdTime;
 
     /*package*/CategoryJSONImpl(HttpResponse res, Configuration conf) throws FacebookException {
@@ -42,7 +47,6 @@ import facebook4j.internal.org.json.JSONObject;
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -53,10 +57,7 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     private void init(JSONObject json) throws FacebookException {
-        id = getRawString("id", json);
-        name = getRawString("name", json);
-        category = getRawString("category", json);
-        createdTime = getISO8601Datetime("created_time", json);
+        CategoryJSONImplDecoder.bind(this, json);
     }
 
     public String getId() {
@@ -33,10 +33,12 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.processor.JSONDecoder;
 
 /**
  * @author Ryuji Yamashita - roundrop at gmail.com
  */
+@JSONDecoder(Checkin.class)
 /*package*/ final class CheckinJSONImpl extends FacebookResponseImpl implements Checkin, java.io.Serializable {
     private static final long serialVersionUID = 2502877498804174869L;
     
@@ -56,7 +58,6 @@ import facebook4j.internal.org.json.JSONObject;
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -162,9 +163,6 @@ import facebook4j.internal.org.json.JSONObject;
     /*package*/
     static ResponseList<Checkin> createCheckinList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
-            if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
             int size = list.length();
@@ -29,10 +29,12 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.processor.JSONDecoder;
 
 /**
  * @author Ryuji Yamashita - roundrop at gmail.com
  */
+@JSONDecoder(Comment.class)
 /*package*/ final class CommentJSONImpl extends FacebookResponseImpl implements Comment, java.io.Serializable {
     private static final long serialVersionUID = 4049049358890693823L;
 
@@ -49,7 +51,6 @@ import facebook4j.internal.org.json.JSONObject;
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -109,9 +110,6 @@ import facebook4j.internal.org.json.JSONObject;
     /*package*/
     static ResponseList<Comment> createCommentList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
-            if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
             int size = list.length();
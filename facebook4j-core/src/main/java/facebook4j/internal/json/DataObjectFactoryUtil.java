@@ -16,13 +16,8 @@
 
 package facebook4j.internal.json;
 
-import facebook4j.json.DataObjectFactory;
-
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-
 /**
- * provides public access to package private methods of facebook4j.json.DataObjectFactory class.<br>
+ * provides the store of raw JSON forms to the *JSONImpl classes and to facebook4j.json.DataObjectFactory.<br>
  * This class is not intended to be used by Twitter4J client.
  *
  * @author Yusuke Yamamoto - yusuke at mac.com
@@ -32,52 +27,24 @@ public class DataObjectFactoryUtil {
         throw new AssertionError("not intended to be instantiated.");
     }
 
-    private static final Method CLEAR_THREAD_LOCAL_MAP;
-    private static final Method REGISTER_JSON_OBJECT;
-
-    static {
-        Method[] methods = DataObjectFactory.class.getDeclaredMethods();
-        Method clearThreadLocalMap = null;
-        Method registerJSONObject = null;
-        for (Method method : methods) {
-            if (method.getName().equals("clearThreadLocalMap")) {
-                clearThreadLocalMap = method;
-                clearThreadLocalMap.setAccessible(true);
-            } else if (method.getName().equals("registerJSONObject")) {
-                registerJSONObject = method;
-                registerJSONObject.setAccessible(true);
-            }
-        }
-        if (null == clearThreadLocalMap || null == registerJSONObject) {
-            throw new AssertionError();
-        }
-        CLEAR_THREAD_LOCAL_MAP = clearThreadLocalMap;
-        REGISTER_JSON_OBJECT = registerJSONObject;
-    }
+    private static final RawJSONStore STORE = new RawJSONStore();
 
     /**
-     * provides a public access to {DAOFactory#clearThreadLocalMap}
+     * associates a raw JSON form to the object for as long as the object is reachable
+     *
+     * @param key  the object created from the JSON
+     * @param json a JSONObject, a JSONArray or a String
+     * @return the object
      */
-    public static void clearThreadLocalMap() {
-        try {
-            CLEAR_THREAD_LOCAL_MAP.invoke(null);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new AssertionError(e);
-        }
+    public static <T> T registerJSONObject(T key, Object json) {
+        STORE.put(key, json.toString());
+        return key;
     }
 
     /**
-     * provides a public access to {DAOFactory#registerJSONObject}
+     * provides a public access to the raw JSON forms, for {@link facebook4j.json.DataObjectFactory#getRawJSON(Object)}
      */
-    public static <T> T registerJSONObject(T key, Object json) {
-        try {
-            return (T) REGISTER_JSON_OBJECT.invoke(null, key, json);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new AssertionError(e);
-        }
+    public static String getRawJSON(Object obj) {
+        return STORE.get(obj);
     }
 }
@@ -21,6 +21,8 @@ package facebook4j.internal.json;
 
 import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.Date;
 
 import facebook4j.Event;
@@ -33,13 +35,23 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.processor.JSONDecoder;
 
 /**
  * @author Ryuji Yamashita - roundrop at gmail.com
  */
-/*package*/ final class EventJSONImpl extends FacebookResponseImpl implements Event, java.io.Serializable {
+@JSONDecoder(Event.class)
+/*package*/ final class EventJSONImpl extends FacebookResponseImpl implements Event, LazyFields.Decoder, java.io.Serializable {
     private static final long serialVersionUID = 6176123276059683967L;
 
+    // fields decoded on first access in lazy mode
+    private static final int OWNER = 1 << 0;
+    private static final int START_TIME = 1 << 1;
+    private static final int END_TIME = 1 << 2;
+    private static final int VENUE = 1 << 3;
+    private static final int UPDATED_TIME = 1 << 4;
+    private static final int ALL_FIELDS = (1 << 5) - 1;
+
     private String id;
     private IdNameEntity owner;
     private String name;
@@ -51,51 +63,85 @@ import facebook4j.internal.org.json.JSONObject;
     private EventPrivacyType privacy;
     private Date updatedTime;
     private String rsvpStatus;
-    
+
+    private transient volatile LazyFields lazyFields;
+
     /*package*/EventJSONImpl(HttpResponse res, Configuration conf) throws FacebookException {
         super(res);
         JSONObject json = res.asJSONObject();
-        init(json);
+        init(json, conf.isLazyDecodingEnabled());
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
 
     /*package*/EventJSONImpl(JSONObject json) throws FacebookException {
+        this(json, false);
+    }
+
+    /*package*/EventJSONImpl(JSONObject json, boolean lazy) throws FacebookException {
         super();
-        init(json);
+        init(json, lazy);
     }
 
-    private void init(JSONObject json) throws FacebookException {
-        try {
-            id = getRawString("id", json);
-            if (!json.isNull("owner")) {
-                JSONObject ownerJSONObject = json.getJSONObject("owner");
-                owner = new IdNameEntityJSONImpl(ownerJSONObject);
-            }
-            name = getRawString("name", json);
-            description = getRawString("description", json);
-            startTime = getISO8601Datetime("start_time", json);
-            endTime = getISO8601Datetime("end_time", json);
-            location = getRawString("location", json);
-            if (!json.isNull("venue")) {
-                JSONObject venueJSONObject = json.getJSONObject("venue");
-                venue = new VenueJSONImpl(venueJSONObject);
-            }
-            privacy = EventPrivacyType.getInstance(getRawString("privacy", json));
-            updatedTime = getISO8601Datetime("updated_time" ,json);
-            rsvpStatus = getRawString("rsvp_status", json);
-        } catch (JSONException jsone) {
-            throw new FacebookException(jsone);
+    private void init(JSONObject json, boolean lazy) throws FacebookException {
+        id = getRawString("id", json);
+        name = getRawString("name", json);
+        description = getRawString("description", json);
+        location = getRawString("location", json);
+        privacy = EventPrivacyType.getInstance(getRawString("privacy", json));
+        rsvpStatus = getRawString("rsvp_status", json);
+        if (lazy) {
+            lazyFields = new LazyFields(json, this, ALL_FIELDS);
+        } else {
+            LazyFields.decodeAll(this, json, ALL_FIELDS);
         }
     }
 
+    public void decodeField(int field, JSONObject json) throws JSONException, FacebookException {
+        switch (field) {
+            case OWNER:
+                if (!json.isNull("owner")) {
+                    JSONObject ownerJSONObject = json.getJSONObject("owner");
+                    owner = new IdNameEntityJSONImpl(ownerJSONObject);
+                }
+                break;
+            case START_TIME:
+                startTime = getISO8601Datetime("start_time", json);
+                break;
+            case END_TIME:
+                endTime = getISO8601Datetime("end_time", json);
+                break;
+            case VENUE:
+                if (!json.isNull("venue")) {
+                    JSONObject venueJSONObject = json.getJSONObject("venue");
+                    venue = new VenueJSONImpl(venueJSONObject);
+                }
+                break;
+            case UPDATED_TIME:
+                updatedTime = getISO8601Datetime("updated_time" ,json);
+                break;
+        }
+    }
+
+    private void decode(int fields) {
+        LazyFields lazyFields = this.lazyFields;
+        if (lazyFields != null && lazyFields.decode(fields)) {
+            this.lazyFields = null;
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        decode(ALL_FIELDS);
+        out.defaultWriteObject();
+    }
+
     public String getId() {
         return id;
     }
 
     public IdNameEntity getOwner() {
+        decode(OWNER);
         return owner;
     }
 
@@ -108,10 +154,12 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public Date getStartTime() {
+        decode(START_TIME);
         return startTime;
     }
 
     public Date getEndTime() {
+        decode(END_TIME);
         return endTime;
     }
 
@@ -120,6 +168,7 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public Venue getVenue() {
+        decode(VENUE);
         return venue;
     }
 
@@ -128,6 +177,7 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public Date getUpdatedTime() {
+        decode(UPDATED_TIME);
         return updatedTime;
     }
 
@@ -138,15 +188,12 @@ import facebook4j.internal.org.json.JSONObject;
     /*package*/
     static ResponseList<Event> createEventList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
-            if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
             int size = list.length();
             ResponseList<Event> events = new ResponseListImpl<Event>(size, json);
             for (int i = 0; i < size; i++) {
-                Event event = new EventJSONImpl(list.getJSONObject(i));
+                Event event = new EventJSONImpl(list.getJSONObject(i), conf.isLazyDecodingEnabled());
                 events.add(event);
             }
             if (conf.isJSONStoreEnabled()) {
@@ -185,6 +232,7 @@ import facebook4j.internal.org.json.JSONObject;
 
     @Override
     public String toString() {
+        decode(ALL_FIELDS);
         return "EventJSONImpl [id=" + id + ", owner=" + owner + ", name="
                 + name + ", description=" + description + ", startTime="
                 + startTime + ", endTime=" + endTime + ", location=" + location
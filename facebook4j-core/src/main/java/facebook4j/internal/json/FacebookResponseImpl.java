@@ -36,7 +36,10 @@ import facebook4j.internal.org.json.JSONObject;
     
     public FacebookResponseImpl(HttpResponse res) throws FacebookException {
         if (res == null) return;
-        JSONObject json = res.asJSONObject();
+        initMetadata(res.asJSONObject());
+    }
+
+    /*package*/ void initMetadata(JSONObject json) throws FacebookException {
         if (!json.isNull("metadata")) {
             try {
                 metadata = new MetadataJSONImpl(json.getJSONObject("metadata"));
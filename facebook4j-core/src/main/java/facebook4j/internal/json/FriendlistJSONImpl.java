@@ -16,7 +16,9 @@
 
 package facebook4j.internal.json;
 
-import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
+import java.util.ArrayList;
+import java.util.List;
+
 import facebook4j.FacebookException;
 import facebook4j.Friendlist;
 import facebook4j.ResponseList;
@@ -25,23 +27,29 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.org.json.JSONPullParser;
+import facebook4j.internal.processor.JSONDecoder;
+import facebook4j.internal.processor.JSONField;
 
 /**
  * @author Ryuji Yamashita - roundrop at gmail.com
  */
+@JSONDecoder(Friendlist.class)
 /*package*/ final class FriendlistJSONImpl extends FacebookResponseImpl implements Friendlist, java.io.Serializable {
     private static final long serialVersionUID = 963625947735897346L;
 
-    private String id;
-    private String name;
-    private String listType;
+    @JSONField("id")
+    /*package*/ String id;
+    @JSONField("name")
+    /*package*/ String name;
+    @JSONField("list_type")
+    /*package*/ String listType;
     
     /*package*/FriendlistJSONImpl(HttpResponse res, Configuration conf) throws FacebookException {
         super(res);
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -51,10 +59,12 @@ import facebook4j.internal.org.json.JSONObject;
         init(json);
     }
 
+    private FriendlistJSONImpl() {
+        super();
+    }
+
     private void init(JSONObject json) throws FacebookException {
-        id = getRawString("id", json);
-        name = getRawString("name", json);
-        listType = getRawString("list_type", json);
+        FriendlistJSONImplDecoder.bind(this, json);
     }
 
     public String getId() {
@@ -69,10 +79,20 @@ import facebook4j.internal.org.json.JSONObject;
 
     /*package*/
     static ResponseList<Friendlist> createFriendlistList(HttpResponse res, Configuration conf) throws FacebookException {
+        if (StreamingDecoder.isEnabled(conf)) {
+            List<Friendlist> items = new ArrayList<Friendlist>();
+            JSONObject rest = StreamingDecoder.decodeList(res, new StreamingDecoder.Binder<Friendlist>() {
+                public Friendlist bind(JSONPullParser parser) throws JSONException, FacebookException {
+                    FriendlistJSONImpl friendlist = new FriendlistJSONImpl();
+                    FriendlistJSONImplDecoder.bind(friendlist, parser);
+                    return friendlist;
+                }
+            }, items);
+            ResponseList<Friendlist> friendlists = new ResponseListImpl<Friendlist>(items.size(), rest);
+            friendlists.addAll(items);
+            return friendlists;
+        }
         try {
-            if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
             int size = list.length();
@@ -30,17 +30,19 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.processor.JSONDecoder;
 
 /**
  * @author Ryuji Yamashita - roundrop at gmail.com
  */
+@JSONDecoder(GroupDoc.class)
 /*package*/ final class GroupDocJSONImpl extends FacebookResponseImpl implements GroupDoc, java.io.Serializable {
     private static final long serialVersionUID = -4514164915020257301L;
 
     private String id;
     private IdNameEntity from;
     private String subject;
-    private URL icon;
+    private LazyURL icon;
     private Date updatedTime;
     private Long revision;
     private Boolean canEdit;
@@ -51,7 +53,6 @@ import facebook4j.internal.org.json.JSONObject;
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -69,7 +70,7 @@ import facebook4j.internal.org.json.JSONObject;
                 from = new IdNameEntityJSONImpl(fromJSONObject);
             }
             subject = getRawString("subject", json);
-            icon = getURL("icon", json);
+            icon = LazyURL.of("icon", json);
             updatedTime = getISO8601Datetime("updated_time", json);
             revision = getLong("revision", json);
             canEdit = getBoolean("can_edit", json);
@@ -92,7 +93,7 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public URL getIcon() {
-        return icon;
+        return LazyURL.get(icon);
     }
 
     public Date getUpdatedTime() {
@@ -114,9 +115,6 @@ import facebook4j.internal.org.json.JSONObject;
     /*package*/
     static ResponseList<GroupDoc> createGroupDocList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
-            if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
             int size = list.length();
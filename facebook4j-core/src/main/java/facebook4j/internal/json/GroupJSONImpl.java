@@ -31,10 +31,12 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.processor.JSONDecoder;
 
 /**
  * @author Ryuji Yamashita - roundrop at gmail.com
  */
+@JSONDecoder(Group.class)
 /*package*/ final class GroupJSONImpl extends FacebookResponseImpl implements Group, java.io.Serializable {
     private static final long serialVersionUID = 561347972556756182L;
 
@@ -47,7 +49,7 @@ import facebook4j.internal.org.json.JSONObject;
     private IdNameEntity owner;
     private String description;
     private GroupPrivacyType privacy;
-    private URL icon;
+    private LazyURL icon;
     private Date updatedTime;
     private String email;
 
@@ -56,7 +58,6 @@ import facebook4j.internal.org.json.JSONObject;
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -83,7 +84,7 @@ import facebook4j.internal.org.json.JSONObject;
             }
             description = getRawString("description", json);
             privacy = GroupPrivacyType.getInstance(getRawString("privacy", json));
-            icon = getURL("icon", json);
+            icon = LazyURL.of("icon", json);
             updatedTime = getISO8601Datetime("updated_time", json);
             email = getRawString("email", json);
         } catch (JSONException jsone) {
@@ -121,7 +122,7 @@ import facebook4j.internal.org.json.JSONObject;
         return privacy;
     }
     public URL getIcon() {
-        return icon;
+        return LazyURL.get(icon);
     }
     public Date getUpdatedTime() {
         return updatedTime;
@@ -133,9 +134,6 @@ import facebook4j.internal.org.json.JSONObject;
     /*package*/
     static ResponseList<Group> createGroupList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
-            if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
             int size = list.length();
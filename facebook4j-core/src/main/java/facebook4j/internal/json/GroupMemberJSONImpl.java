@@ -16,7 +16,9 @@
 
 package facebook4j.internal.json;
 
-import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
+import java.util.ArrayList;
+import java.util.List;
+
 import facebook4j.FacebookException;
 import facebook4j.GroupMember;
 import facebook4j.ResponseList;
@@ -25,13 +27,20 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.org.json.JSONPullParser;
+import facebook4j.internal.processor.JSONDecoder;
+import facebook4j.internal.processor.JSONField;
 
+@JSONDecoder(GroupMember.class)
 /*package*/ final class GroupMemberJSONImpl implements GroupMember, java.io.Serializable {
     private static final long serialVersionUID = 8912198140971501463L;
 
-    private String id;
-    private String name;
-    private Boolean isAdministrator;
+    @JSONField("id")
+    /*package*/ String id;
+    @JSONField("name")
+    /*package*/ String name;
+    @JSONField("administrator")
+    /*package*/ Boolean isAdministrator;
 
     /*package*/GroupMemberJSONImpl(HttpResponse res) throws FacebookException {
         JSONObject json = res.asJSONObject();
@@ -42,10 +51,12 @@ import facebook4j.internal.org.json.JSONObject;
         init(json);
     }
 
+    private GroupMemberJSONImpl() {
+        super();
+    }
+
     private void init(JSONObject json) throws FacebookException {
-        id = getRawString("id", json);
-        name = getRawString("name", json);
-        isAdministrator = getBoolean("administrator", json);
+        GroupMemberJSONImplDecoder.bind(this, json);
     }
 
     public String getId() {
@@ -60,10 +71,20 @@ import facebook4j.internal.org.json.JSONObject;
 
     /*package*/
     static ResponseList<GroupMember> createGroupMemberList(HttpResponse res, Configuration conf) throws FacebookException {
+        if (StreamingDecoder.isEnabled(conf)) {
+            List<GroupMember> items = new ArrayList<GroupMember>();
+            JSONObject rest = StreamingDecoder.decodeList(res, new StreamingDecoder.Binder<GroupMember>() {
+                public GroupMember bind(JSONPullParser parser) throws JSONException, FacebookException {
+                    GroupMemberJSONImpl member = new GroupMemberJSONImpl();
+                    GroupMemberJSONImplDecoder.bind(member, parser);
+                    return member;
+                }
+            }, items);
+            ResponseList<GroupMember> members = new ResponseListImpl<GroupMember>(items.size(), rest);
+            members.addAll(items);
+            return members;
+        }
         try {
-            if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
             int size = list.length();
@@ -16,6 +16,9 @@
 
 package facebook4j.internal.json;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import facebook4j.FacebookException;
 import facebook4j.IdNameEntity;
 import facebook4j.ResponseList;
@@ -24,21 +27,26 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.org.json.JSONPullParser;
+import facebook4j.internal.processor.JSONDecoder;
+import facebook4j.internal.processor.JSONField;
 
 /**
  * @author Ryuji Yamashita - roundrop at gmail.com
  */
+@JSONDecoder(IdNameEntity.class)
 /*package*/ class IdNameEntityJSONImpl implements IdNameEntity, java.io.Serializable {
     private static final long serialVersionUID = -9152205822176968747L;
 
+    @JSONField("id")
     protected String id;
+    @JSONField("name")
     protected String name;
     
     /*package*/IdNameEntityJSONImpl(HttpResponse res, Configuration conf) throws FacebookException {
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -48,13 +56,12 @@ import facebook4j.internal.org.json.JSONObject;
         init(json);
     }
 
+    private IdNameEntityJSONImpl() {
+        super();
+    }
+
     private void init(JSONObject json) throws FacebookException {
-        try {
-            id = json.getString("id");
-            name = json.getString("name");
-        } catch (JSONException jsone) {
-            throw new FacebookException(jsone);
-        }
+        IdNameEntityJSONImplDecoder.bind(this, json);
     }
     
     public String getId() {
@@ -66,10 +73,20 @@ import facebook4j.internal.org.json.JSONObject;
 
     /*package*/
     static ResponseList<IdNameEntity> createIdNameEntityList(HttpResponse res, Configuration conf) throws FacebookException {
+        if (StreamingDecoder.isEnabled(conf)) {
+            List<IdNameEntity> items = new ArrayList<IdNameEntity>();
+            JSONObject rest = StreamingDecoder.decodeList(res, new StreamingDecoder.Binder<IdNameEntity>() {
+                public IdNameEntity bind(JSONPullParser parser) throws JSONException, FacebookException {
+                    IdNameEntityJSONImpl entity = new IdNameEntityJSONImpl();
+                    IdNameEntityJSONImplDecoder.bind(entity, parser);
+                    return entity;
+                }
+            }, items);
+            ResponseList<IdNameEntity> entities = new ResponseListImpl<IdNameEntity>(items.size(), rest);
+            entities.addAll(items);
+            return entities;
+        }
         try {
-            if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
             int size = list.length();
@@ -20,16 +20,20 @@ import facebook4j.FacebookException;
 import facebook4j.IdName;
 import facebook4j.conf.Configuration;
 import facebook4j.internal.http.HttpResponse;
-import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.processor.JSONDecoder;
+import facebook4j.internal.processor.JSONField;
 
 /**
  * @author Ryuji Yamashita - roundrop at gmail.com
  */
+@JSONDecoder(IdName.class)
 /*package*/ class IdNameJSONImpl extends FacebookResponseImpl implements IdName, java.io.Serializable {
     private static final long serialVersionUID = 3690969204489575083L;
 
+    @JSONField("id")
     protected String id;
+    @JSONField("name")
     protected String name;
     
     /*package*/IdNameJSONImpl(HttpResponse res, Configuration conf) throws FacebookException {
@@ -37,7 +41,6 @@ import facebook4j.internal.org.json.JSONObject;
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -48,12 +51,7 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     private void init(JSONObject json) throws FacebookException {
-        try {
-            id = json.getString("id");
-            name = json.getString("name");
-        } catch (JSONException jsone) {
-            throw new FacebookException(jsone);
-        }
+        IdNameJSONImplDecoder.bind(this, json);
     }
     
     public String getId() {
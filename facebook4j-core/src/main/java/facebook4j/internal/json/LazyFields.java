@@ -0,0 +1,115 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import java.util.Set;
+
+import facebook4j.FacebookException;
+import facebook4j.conf.Configuration;
+import facebook4j.internal.org.json.JSONException;
+import facebook4j.internal.org.json.JSONObject;
+
+/**
+ * Keeps the JSON of an entity in lazy decoding mode and decodes its costly fields, i.e. nested objects,
+ * lists, URLs and dates, one by one on first access.<br>
+ * Each field is identified by a bit. Decoding is serialized on this object, so the entity is safe to share
+ * between threads; once every field is decoded the entity drops this object and the JSON with it.<br>
+ * When the request names its fields with {@link facebook4j.Reading#fields(String...)}, only those are decoded.
+ *
+ * @see Configuration#isLazyDecodingEnabled()
+ */
+/*package*/ final class LazyFields {
+
+    /*package*/ interface Decoder {
+        /**
+         * Decodes one field of the entity from its JSON.
+         *
+         * @param field the bit of the field
+         * @param json  the JSON of the entity
+         */
+        void decodeField(int field, JSONObject json) throws JSONException, FacebookException;
+    }
+
+    private final JSONObject json;
+    private final Decoder decoder;
+    private final int allFields;
+    private int decodedFields;
+
+    /*package*/ LazyFields(JSONObject json, Decoder decoder, int allFields) {
+        this.json = json;
+        this.decoder = decoder;
+        this.allFields = allFields;
+    }
+
+    /**
+     * Decodes the given fields unless they already are.<br>
+     * As the getters cannot throw FacebookException, malformed JSON is reported as an IllegalStateException.
+     *
+     * @param fields the bits of the fields
+     * @return true if every field of the entity has been decoded
+     */
+    /*package*/ synchronized boolean decode(int fields) {
+        int pending = fields & allFields & ~decodedFields;
+        while (pending != 0) {
+            int field = Integer.lowestOneBit(pending);
+            try {
+                decoder.decodeField(field, json);
+            } catch (JSONException jsone) {
+                throw new IllegalStateException(jsone.getMessage(), jsone);
+            } catch (FacebookException fe) {
+                throw new IllegalStateException(fe.getMessage(), fe);
+            }
+            decodedFields |= field;
+            pending &= ~field;
+        }
+        return decodedFields == allFields;
+    }
+
+    /**
+     * Returns the bits of the fields in the projection.
+     *
+     * @param names      the JSON names of the fields, in bit order
+     * @param projection the names of the requested fields, or null for all of them
+     */
+    /*package*/ static int project(String[] names, Set<String> projection) {
+        if (projection == null) {
+            return (1 << names.length) - 1;
+        }
+        int fields = 0;
+        for (int i = 0; i < names.length; i++) {
+            if (projection.contains(names[i])) {
+                fields |= 1 << i;
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Decodes every field right away, as in eager mode.
+     */
+    /*package*/ static void decodeAll(Decoder decoder, JSONObject json, int allFields) throws FacebookException {
+        try {
+            for (int field = 1; field != 0 && field <= allFields; field <<= 1) {
+                if ((allFields & field) != 0) {
+                    decoder.decodeField(field, json);
+                }
+            }
+        } catch (JSONException jsone) {
+            throw new FacebookException(jsone.getMessage(), jsone);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+
+import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.util.z_F4JInternalParseUtil;
+
+/**
+ * Keeps a URL of an entity as the string of the response and builds the URL on first access only,
+ * as parsing it and resolving its protocol handler costs more than decoding most entities.<br>
+ * Equality is that of the strings, which also spares the host lookups of {@link URL#equals(Object)}.
+ */
+/*package*/ final class LazyURL implements java.io.Serializable {
+    private static final long serialVersionUID = -3528407261254316583L;
+
+    private final String spec;
+    private transient volatile URL url;
+
+    /*package*/ LazyURL(String spec) {
+        this.spec = spec;
+    }
+
+    /*package*/ LazyURL(URL url) {
+        this.spec = url.toExternalForm();
+        this.url = url;
+    }
+
+    /**
+     * @return the URL of the field, or null if the field is missing or null
+     */
+    /*package*/ static LazyURL of(String name, JSONObject json) {
+        if (json.isNull(name)) {
+            return null;
+        }
+        String spec = z_F4JInternalParseUtil.getRawString(name, json);
+        return spec == null ? null : new LazyURL(spec);
+    }
+
+    /**
+     * @return the URL of the string, or null if the string is null
+     */
+    /*package*/ static LazyURL valueOf(String spec) {
+        return spec == null ? null : new LazyURL(spec);
+    }
+
+    /**
+     * @return the URL, or null if the url is null or malformed
+     */
+    /*package*/ static URL get(LazyURL url) {
+        return url == null ? null : url.get();
+    }
+
+    private URL get() {
+        URL url = this.url;
+        if (url == null) {
+            try {
+                url = new URL(spec);
+            } catch (MalformedURLException urle) {
+                return null;
+            }
+            this.url = url;
+        }
+        return url;
+    }
+
+    @Override
+    public int hashCode() {
+        return spec.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof LazyURL && spec.equals(((LazyURL) obj).spec);
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
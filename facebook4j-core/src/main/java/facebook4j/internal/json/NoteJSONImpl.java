@@ -32,10 +32,12 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.processor.JSONDecoder;
 
 /**
  * @author Ryuji Yamashita - roundrop at gmail.com
  */
+@JSONDecoder(Note.class)
 /*package*/ final class NoteJSONImpl extends FacebookResponseImpl implements Note, java.io.Serializable {
     private static final long serialVersionUID = -4829935468293079130L;
 
@@ -46,14 +48,13 @@ import facebook4j.internal.org.json.JSONObject;
     private PagableList<Comment> comments;
     private Date createdTime;
     private Date updatedTime;
-    private URL icon;
+    private LazyURL icon;
 
     /*package*/NoteJSONImpl(HttpResponse res, Configuration conf) throws FacebookException {
         super(res);
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -84,7 +85,7 @@ import facebook4j.internal.org.json.JSONObject;
             }
             createdTime = getISO8601Datetime("created_time", json);
             updatedTime = getISO8601Datetime("updated_time", json);
-            icon = getURL("icon", json);
+            icon = LazyURL.of("icon", json);
         } catch (JSONException jsone) {
             throw new FacebookException(jsone.getMessage(), jsone);
         }
@@ -112,15 +113,12 @@ import facebook4j.internal.org.json.JSONObject;
         return updatedTime;
     }
     public URL getIcon() {
-        return icon;
+        return LazyURL.get(icon);
     }
 
     /*package*/
     static ResponseList<Note> createNoteList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
-            if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
             int size = list.length();
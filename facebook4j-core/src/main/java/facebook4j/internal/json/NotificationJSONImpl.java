@@ -44,7 +44,7 @@ import facebook4j.internal.org.json.JSONObject;
     private Date createdTime;
     private Date updatedTime;
     private String title;
-    private URL link;
+    private LazyURL link;
     private Application application;
     private Boolean unread;
 
@@ -53,7 +53,6 @@ import facebook4j.internal.org.json.JSONObject;
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -77,7 +76,7 @@ import facebook4j.internal.org.json.JSONObject;
             createdTime = getISO8601Datetime("created_time", json);
             updatedTime = getISO8601Datetime("updated_time", json);
             title = getRawString("title", json);
-            link = getURL("link", json);
+            link = LazyURL.of("link", json);
             unread = getBoolean("unread", json);
         } catch (JSONException jsone) {
             throw new FacebookException(jsone.getMessage(), jsone);
@@ -133,11 +132,11 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public URL getLink() {
-        return link;
+        return LazyURL.get(link);
     }
 
     public void setLink(URL link) {
-        this.link = link;
+        this.link = link == null ? null : new LazyURL(link);
     }
 
     public Application getApplication() {
@@ -159,9 +158,6 @@ import facebook4j.internal.org.json.JSONObject;
     /*package*/
     static ResponseList<Notification> createNotificationList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
-            if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
             int size = list.length();
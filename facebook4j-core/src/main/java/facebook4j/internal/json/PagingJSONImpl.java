@@ -30,22 +30,22 @@ import facebook4j.internal.org.json.JSONObject;
 /*package*/ final class PagingJSONImpl<T> implements Paging<T>, java.io.Serializable {
     private static final long serialVersionUID = 4741821984775700187L;
 
-    private final URL previous;
-    private final URL next;
+    private final LazyURL previous;
+    private final LazyURL next;
     private final Class<?> jsonObjectType;
     
     /*pakcage*/PagingJSONImpl(JSONObject json, Class<?> type) throws FacebookException {
-        previous = getURL("previous", json);
-        next = getURL("next", json);
+        previous = LazyURL.of("previous", json);
+        next = LazyURL.of("next", json);
         this.jsonObjectType = type;
     }
 
     public URL getPrevious() {
-        return previous;
+        return LazyURL.get(previous);
     }
     
     public URL getNext() {
-        return next;
+        return LazyURL.get(next);
     }
     
     public Class<?> getJSONObjectType() {
@@ -54,9 +54,6 @@ import facebook4j.internal.org.json.JSONObject;
 
     /*package*/
     static List<Permission> createPermissionArray(HttpResponse res, Configuration conf) throws FacebookException {
-        if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
-        }
         List<Permission> permissions = new ArrayList<Permission>();
         JSONObject json = res.asJSONObject();
         try {
@@ -18,6 +18,8 @@ package facebook4j.internal.json;
 
 import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Date;
@@ -37,24 +39,41 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.processor.JSONDecoder;
 
 /**
  * @author Ryuji Yamashita - roundrop at gmail.com
  */
-/*package*/ final class PhotoJSONImpl extends FacebookResponseImpl implements Photo, java.io.Serializable {
+@JSONDecoder(Photo.class)
+/*package*/ final class PhotoJSONImpl extends FacebookResponseImpl implements Photo, LazyFields.Decoder, java.io.Serializable {
     private static final long serialVersionUID = -6530726368840036344L;
 
+    // fields decoded on first access in lazy mode
+    private static final int FROM = 1 << 0;
+    private static final int TAGS = 1 << 1;
+    private static final int ICON = 1 << 2;
+    private static final int PICTURE = 1 << 3;
+    private static final int SOURCE = 1 << 4;
+    private static final int IMAGES = 1 << 5;
+    private static final int LINK = 1 << 6;
+    private static final int PLACE = 1 << 7;
+    private static final int CREATED_TIME = 1 << 8;
+    private static final int UPDATED_TIME = 1 << 9;
+    private static final int COMMENTS = 1 << 10;
+    private static final int LIKES = 1 << 11;
+    private static final int ALL_FIELDS = (1 << 12) - 1;
+
     private String id;
     private IdNameEntity from;
     private List<Tag> tags;
     private String name;
-    private URL icon;
-    private URL picture;
-    private URL source;
+    private LazyURL icon;
+    private LazyURL picture;
+    private LazyURL source;
     private Integer height;
     private Integer width;
     private List<Photo.Image> images;
-    private URL link;
+    private LazyURL link;
     private Place place;
     private Date createdTime;
     private Date updatedTime;
@@ -62,100 +81,153 @@ import facebook4j.internal.org.json.JSONObject;
     private PagableList<Comment> comments;
     private PagableList<Like> likes;
 
+    private transient volatile LazyFields lazyFields;
+
     /*package*/PhotoJSONImpl(HttpResponse res, Configuration conf) throws FacebookException {
         super(res);
         JSONObject json = res.asJSONObject();
-        init(json);
+        init(json, conf.isLazyDecodingEnabled());
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
 
     /*package*/PhotoJSONImpl(JSONObject json) throws FacebookException {
+        this(json, false);
+    }
+
+    /*package*/PhotoJSONImpl(JSONObject json, boolean lazy) throws FacebookException {
         super();
-        init(json);
+        init(json, lazy);
     }
 
-    private void init(JSONObject json) throws FacebookException {
-        try {
-            id = getRawString("id", json);
-            if (!json.isNull("from")) {
-                JSONObject fromJSONObject = json.getJSONObject("from");
-                from = new IdNameEntityJSONImpl(fromJSONObject);
-            }
-            if (!json.isNull("tags")) {
-                JSONObject tagsJSONObject = json.getJSONObject("tags");
-                JSONArray list = tagsJSONObject.getJSONArray("data");
-                int size = list.length();
-                tags = new ArrayList<Tag>(size);
-                for (int i = 0; i < size; i++) {
-                    TagJSONImpl tag = new TagJSONImpl(list.getJSONObject(i));
-                    tags.add(tag);
+    private void init(JSONObject json, boolean lazy) throws FacebookException {
+        id = getRawString("id", json);
+        name = getRawString("name", json);
+        if (!json.isNull("height")) {
+            height = getPrimitiveInt("height", json);
+        }
+        if (!json.isNull("width")) {
+            width = getPrimitiveInt("width", json);
+        }
+        if (!json.isNull("position")) {
+            position = getPrimitiveInt("position", json);
+        }
+        initLazyFields(json, lazy);
+    }
+
+    private void initLazyFields(JSONObject json, boolean lazy) throws FacebookException {
+        if (lazy) {
+            lazyFields = new LazyFields(json, this, ALL_FIELDS);
+        } else {
+            LazyFields.decodeAll(this, json, ALL_FIELDS);
+        }
+    }
+
+    public void decodeField(int field, JSONObject json) throws JSONException, FacebookException {
+        switch (field) {
+            case FROM:
+                if (!json.isNull("from")) {
+                    JSONObject fromJSONObject = json.getJSONObject("from");
+                    from = new IdNameEntityJSONImpl(fromJSONObject);
                 }
-            }
-            name = getRawString("name", json);
-            icon = getURL("icon", json);
-            picture = getURL("picture", json);
-            source = getURL("source", json);
-            if (!json.isNull("height")) {
-                height = getPrimitiveInt("height", json);
-            }
-            if (!json.isNull("width")) {
-                width = getPrimitiveInt("width", json);
-            }
-            if (!json.isNull("images")) {
-                images = new ArrayList<Photo.Image>();
-                JSONArray imagesJSONArray = json.getJSONArray("images");
-                for (int i = 0; i < imagesJSONArray.length(); i++) {
-                    JSONObject image = imagesJSONArray.getJSONObject(i);
-                    images.add(new PhotoJSONImpl.ImageJSONImpl(image));
+                break;
+            case TAGS:
+                if (!json.isNull("tags")) {
+                    JSONObject tagsJSONObject = json.getJSONObject("tags");
+                    JSONArray list = tagsJSONObject.getJSONArray("data");
+                    int size = list.length();
+                    tags = new ArrayList<Tag>(size);
+                    for (int i = 0; i < size; i++) {
+                        TagJSONImpl tag = new TagJSONImpl(list.getJSONObject(i));
+                        tags.add(tag);
+                    }
                 }
-            }
-            link = getURL("link", json);
-            if (!json.isNull("place")) {
-                JSONObject placeJSONObject = json.getJSONObject("place");
-                place = new PlaceJSONImpl(placeJSONObject);
-            }
-            createdTime = getISO8601Datetime("created_time", json);
-            updatedTime = getISO8601Datetime("updated_time", json);
-            if (!json.isNull("position")) {
-                position = getPrimitiveInt("position", json);
-            }
-            if (!json.isNull("comments")) {
-                JSONObject commentsJSONObject = json.getJSONObject("comments");
-                JSONArray list = commentsJSONObject.getJSONArray("data");
-                int size = list.length();
-                comments = new PagableListImpl<Comment>(size, commentsJSONObject);
-                for (int i = 0; i < size; i++) {
-                    CommentJSONImpl comment = new CommentJSONImpl(list.getJSONObject(i));
-                    comments.add(comment);
+                break;
+            case ICON:
+                icon = LazyURL.of("icon", json);
+                break;
+            case PICTURE:
+                picture = LazyURL.of("picture", json);
+                break;
+            case SOURCE:
+                source = LazyURL.of("source", json);
+                break;
+            case IMAGES:
+                if (!json.isNull("images")) {
+                    images = new ArrayList<Photo.Image>();
+                    JSONArray imagesJSONArray = json.getJSONArray("images");
+                    for (int i = 0; i < imagesJSONArray.length(); i++) {
+                        JSONObject image = imagesJSONArray.getJSONObject(i);
+                        images.add(new PhotoJSONImpl.ImageJSONImpl(image));
+                    }
                 }
-            }
-            if (!json.isNull("likes")) {
-                JSONObject likesJSONObject = json.getJSONObject("likes");
-                JSONArray list = likesJSONObject.getJSONArray("data");
-                int size = list.length();
-                likes = new PagableListImpl<Like>(size, likesJSONObject);
-                for (int i = 0; i < size; i++) {
-                    LikeJSONImpl like = new LikeJSONImpl(list.getJSONObject(i));
-                    likes.add(like);
+                break;
+            case LINK:
+                link = LazyURL.of("link", json);
+                break;
+            case PLACE:
+                if (!json.isNull("place")) {
+                    JSONObject placeJSONObject = json.getJSONObject("place");
+                    place = new PlaceJSONImpl(placeJSONObject);
                 }
-            }
-        } catch (JSONException jsone) {
-            throw new FacebookException(jsone.getMessage(), jsone);
+                break;
+            case CREATED_TIME:
+                createdTime = getISO8601Datetime("created_time", json);
+                break;
+            case UPDATED_TIME:
+                updatedTime = getISO8601Datetime("updated_time", json);
+                break;
+            case COMMENTS:
+                if (!json.isNull("comments")) {
+                    JSONObject commentsJSONObject = json.getJSONObject("comments");
+                    JSONArray list = commentsJSONObject.getJSONArray("data");
+                    int size = list.length();
+                    comments = new PagableListImpl<Comment>(size, commentsJSONObject);
+                    for (int i = 0; i < size; i++) {
+                        CommentJSONImpl comment = new CommentJSONImpl(list.getJSONObject(i));
+                        comments.add(comment);
+                    }
+                }
+                break;
+            case LIKES:
+                if (!json.isNull("likes")) {
+                    JSONObject likesJSONObject = json.getJSONObject("likes");
+                    JSONArray list = likesJSONObject.getJSONArray("data");
+                    int size = list.length();
+                    likes = new PagableListImpl<Like>(size, likesJSONObject);
+                    for (int i = 0; i < size; i++) {
+                        LikeJSONImpl like = new LikeJSONImpl(list.getJSONObject(i));
+                        likes.add(like);
+                    }
+                }
+                break;
+        }
+    }
+
+    private void decode(int fields) {
+        LazyFields lazyFields = this.lazyFields;
+        if (lazyFields != null && lazyFields.decode(fields)) {
+            this.lazyFields = null;
         }
     }
 
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        decode(ALL_FIELDS);
+        out.defaultWriteObject();
+    }
+
     public String getId() {
         return id;
     }
 
     public IdNameEntity getFrom() {
+        decode(FROM);
         return from;
     }
 
     public List<Tag> getTags() {
+        decode(TAGS);
         return tags;
     }
 
@@ -164,15 +236,18 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public URL getIcon() {
-        return icon;
+        decode(ICON);
+        return LazyURL.get(icon);
     }
 
     public URL getPicture() {
-        return picture;
+        decode(PICTURE);
+        return LazyURL.get(picture);
     }
 
     public URL getSource() {
-        return source;
+        decode(SOURCE);
+        return LazyURL.get(source);
     }
 
     public Integer getHeight() {
@@ -184,22 +259,27 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public List<Photo.Image> getImages() {
+        decode(IMAGES);
         return images;
     }
 
     public URL getLink() {
-        return link;
+        decode(LINK);
+        return LazyURL.get(link);
     }
 
     public Place getPlace() {
+        decode(PLACE);
         return place;
     }
 
     public Date getCreatedTime() {
+        decode(CREATED_TIME);
         return createdTime;
     }
 
     public Date getUpdatedTime() {
+        decode(UPDATED_TIME);
         return updatedTime;
     }
 
@@ -208,25 +288,24 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public PagableList<Comment> getComments() {
+        decode(COMMENTS);
         return comments;
     }
 
     public PagableList<Like> getLikes() {
+        decode(LIKES);
         return likes;
     }
 
     /*package*/
     static ResponseList<Photo> createPhotoList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
-            if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
             int size = list.length();
             ResponseList<Photo> photos = new ResponseListImpl<Photo>(size, json);
             for (int i = 0; i < size; i++) {
-                Photo photo = new PhotoJSONImpl(list.getJSONObject(i));
+                Photo photo = new PhotoJSONImpl(list.getJSONObject(i), conf.isLazyDecodingEnabled());
                 photos.add(photo);
             }
             if (conf.isJSONStoreEnabled()) {
@@ -265,6 +344,7 @@ import facebook4j.internal.org.json.JSONObject;
 
     @Override
     public String toString() {
+        decode(ALL_FIELDS);
         return "PhotoJSONImpl [id=" + id + ", from=" + from + ", tags=" + tags
                 + ", name=" + name + ", icon=" + icon + ", picture=" + picture
                 + ", source=" + source + ", height=" + height + ", width="
@@ -279,7 +359,7 @@ import facebook4j.internal.org.json.JSONObject;
 
         private Integer height;
         private Integer width;
-        private URL source;
+        private LazyURL source;
 
         /*package*/ImageJSONImpl(JSONObject json) {
             if (!json.isNull("height")) {
@@ -288,7 +368,7 @@ import facebook4j.internal.org.json.JSONObject;
             if (!json.isNull("width")) {
                 width = getPrimitiveInt("width", json);
             }
-            source = getURL("source", json);
+            source = LazyURL.of("source", json);
         }
 
         public Integer getHeight() {
@@ -300,7 +380,7 @@ import facebook4j.internal.org.json.JSONObject;
         }
 
         public URL getSource() {
-            return source;
+            return LazyURL.get(source);
         }
 
         @Override
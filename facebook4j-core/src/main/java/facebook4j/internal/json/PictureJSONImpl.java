@@ -30,25 +30,25 @@ import facebook4j.internal.util.z_F4JInternalParseUtil;
 /*package*/ final class PictureJSONImpl implements Picture, java.io.Serializable {
     private static final long serialVersionUID = 3087810796439324798L;
 
-    private final URL url;
+    private final LazyURL url;
     private final Boolean isSilhouette;
 
     /*package*/PictureJSONImpl(JSONObject json) throws FacebookException {
         try {
             JSONObject pictureJSONObject = json.getJSONObject("data");
-            url = z_F4JInternalParseUtil.getURL("url", pictureJSONObject);
+            url = LazyURL.of("url", pictureJSONObject);
             isSilhouette = z_F4JInternalParseUtil.getBoolean("is_silhouette", pictureJSONObject);
         } catch (JSONException jsone) {
             throw new FacebookException(jsone);
         }
     }
-    /*package*/PictureJSONImpl(URL url) {
+    /*package*/PictureJSONImpl(LazyURL url) {
         this.url = url;
         isSilhouette = true;
     }
 
     public URL getURL() {
-        return url;
+        return LazyURL.get(url);
     }
 
     public Boolean isSilhouette() {
@@ -16,7 +16,6 @@
 
 package facebook4j.internal.json;
 
-import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
 import facebook4j.FacebookException;
 import facebook4j.Place;
 import facebook4j.ResponseList;
@@ -25,15 +24,20 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.processor.JSONDecoder;
+import facebook4j.internal.processor.JSONField;
 
 /**
  * @author Ryuji Yamashita - roundrop at gmail.com
  */
+@JSONDecoder(Place.class)
 /*package*/ final class PlaceJSONImpl extends FacebookResponseImpl implements Place, java.io.Serializable {
     private static final long serialVersionUID = -4977957628922020910L;
 
-    private String id;
-    private String name;
+    @JSONField("id")
+    /*package*/ String id;
+    @JSONField("name")
+    /*package*/ String name;
     private Place.Location location;
 
     /*package*/PlaceJSONImpl(HttpResponse res, Configuration conf) throws FacebookException {
@@ -41,7 +45,6 @@ import facebook4j.internal.org.json.JSONObject;
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -53,10 +56,9 @@ import facebook4j.internal.org.json.JSONObject;
 
     private void init(JSONObject json) throws FacebookException {
         try {
-            id = getRawString("id", json);
-            name = getRawString("name", json);
+            PlaceJSONImplDecoder.bind(this, json);
             JSONObject locationJSONObject = json.getJSONObject("location");
-            location = new PlaceJSONImpl.LocationJSONImpl(locationJSONObject);
+            location = PlaceJSONImpl_LocationJSONImplDecoder.decode(locationJSONObject);
         } catch (JSONException jsone) {
             throw new FacebookException(jsone.getMessage(), jsone);
         }
@@ -77,9 +79,6 @@ import facebook4j.internal.org.json.JSONObject;
     /*package*/
     static ResponseList<Place> createPlaceList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
-            if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
             int size = list.length();
@@ -128,25 +127,27 @@ import facebook4j.internal.org.json.JSONObject;
                 + location + "]";
     }
 
+    @JSONDecoder(Place.Location.class)
     /*package*/ static final class LocationJSONImpl implements Location, java.io.Serializable {
         private static final long serialVersionUID = -9144378506897014902L;
         
-        private String street;
-        private String city;
-        private String state;
-        private String country;
-        private String zip;
-        private Double latitude;
-        private Double longitude;
+        @JSONField("street")
+        /*package*/ String street;
+        @JSONField("city")
+        /*package*/ String city;
+        @JSONField("state")
+        /*package*/ String state;
+        @JSONField("country")
+        /*package*/ String country;
+        @JSONField("zip")
+        /*package*/ String zip;
+        @JSONField("latitude")
+        /*package*/ Double latitude;
+        @JSONField("longitude")
+        /*package*/ Double longitude;
 
         /*package*/LocationJSONImpl(JSONObject json) throws FacebookException {
-            street = getRawString("street", json);
-            city = getRawString("city", json);
-            state = getRawString("state", json);
-            country = getRawString("country", json);
-            zip = getRawString("zip", json);
-            latitude = getDouble("latitude", json);
-            longitude = getDouble("longitude", json);
+            PlaceJSONImpl_LocationJSONImplDecoder.bind(this, json);
         }
 
         public String getStreet() {
@@ -18,6 +18,8 @@ package facebook4j.internal.json;
 
 import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Date;
@@ -25,6 +27,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import facebook4j.Application;
 import facebook4j.Comment;
@@ -41,24 +44,51 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.org.json.JSONPullParser;
+import facebook4j.internal.processor.JSONDecoder;
 
 /**
  * @author Ryuji Yamashita - roundrop at gmail.com
  */
-final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.Serializable {
+@JSONDecoder(Post.class)
+final class PostJSONImpl extends FacebookResponseImpl implements Post, LazyFields.Decoder, java.io.Serializable {
     private static final long serialVersionUID = 1303895381110118187L;
 
+    // fields decoded on first access in lazy mode
+    private static final int FROM = 1 << 0;
+    private static final int TO = 1 << 1;
+    private static final int MESSAGE_TAGS = 1 << 2;
+    private static final int PICTURE = 1 << 3;
+    private static final int LINK = 1 << 4;
+    private static final int SOURCE = 1 << 5;
+    private static final int PROPERTIES = 1 << 6;
+    private static final int ACTIONS = 1 << 7;
+    private static final int PRIVACY = 1 << 8;
+    private static final int LIKES = 1 << 9;
+    private static final int PLACE = 1 << 10;
+    private static final int STORY_TAGS = 1 << 11;
+    private static final int WITH_TAGS = 1 << 12;
+    private static final int COMMENTS = 1 << 13;
+    private static final int APPLICATION = 1 << 14;
+    private static final int CREATED_TIME = 1 << 15;
+    private static final int UPDATED_TIME = 1 << 16;
+    private static final int ALL_FIELDS = (1 << 17) - 1;
+    // their names in the JSON, in bit order
+    private static final String[] FIELD_NAMES = {"from", "to", "message_tags", "picture", "link", "source",
+            "properties", "actions", "privacy", "likes", "place", "story_tags", "with_tags", "comments",
+            "application", "created_time", "updated_time"};
+
     private String id;
     private IdNameEntity from;
     private List<IdNameEntity> to;
     private String message;
     private List<Tag> messageTags;
-    private URL picture;
-    private URL link;
+    private LazyURL picture;
+    private LazyURL link;
     private String name;
     private String caption;
     private String description;
-    private URL source;
+    private LazyURL source;
     private List<Post.Property> properties;
     private String icon;
     private List<Post.Action> actions;
@@ -75,164 +105,299 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
     private Date createdTime;
     private Date updatedTime;
 
-    /*package*/PostJSONImpl(HttpResponse res, Configuration conf) throws FacebookException {
+    private transient volatile LazyFields lazyFields;
+
+    /*package*/PostJSONImpl(HttpResponse res, Configuration conf, Set<String> projection) throws FacebookException {
         super(res);
         JSONObject json = res.asJSONObject();
-        init(json);
+        init(json, conf.isLazyDecodingEnabled(), LazyFields.project(FIELD_NAMES, projection));
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
 
     /*package*/PostJSONImpl(JSONObject json) throws FacebookException {
+        this(json, false, ALL_FIELDS);
+    }
+
+    /*package*/PostJSONImpl(JSONObject json, boolean lazy) throws FacebookException {
+        this(json, lazy, ALL_FIELDS);
+    }
+
+    private PostJSONImpl(JSONObject json, boolean lazy, int fields) throws FacebookException {
         super();
-        init(json);
+        init(json, lazy, fields);
     }
 
-    private void init(JSONObject json) throws FacebookException {
-        try {
-            id = getRawString("id", json);
-            if (!json.isNull("from")) {
-                JSONObject fromJSONObject = json.getJSONObject("from");
-                from = new IdNameEntityJSONImpl(fromJSONObject);
+    private PostJSONImpl(JSONPullParser parser, boolean lazy, Set<String> projection) throws JSONException, FacebookException {
+        super();
+        bind(parser, lazy, projection, false);
+    }
+
+    /*package*/
+    static Post createPost(HttpResponse res, Configuration conf) throws FacebookException {
+        return createPost(res, conf, null);
+    }
+
+    /**
+     * @param projection the names of the fields requested by Reading, or null for all of them
+     */
+    /*package*/
+    static Post createPost(HttpResponse res, final Configuration conf, final Set<String> projection) throws FacebookException {
+        if (!StreamingDecoder.isEnabled(conf)) {
+            return new PostJSONImpl(res, conf, projection);
+        }
+        return StreamingDecoder.decode(res, new StreamingDecoder.Binder<Post>() {
+            public Post bind(JSONPullParser parser) throws JSONException, FacebookException {
+                PostJSONImpl post = new PostJSONImpl();
+                post.bind(parser, conf.isLazyDecodingEnabled(), projection, true);
+                return post;
             }
-            if (!json.isNull("to")) {
-                JSONArray toJSONArray = json.getJSONObject("to").getJSONArray("data");
-                to = new ArrayList<IdNameEntity>();
-                for (int i = 0; i < toJSONArray.length(); i++) {
-                    JSONObject toJSONObject = toJSONArray.getJSONObject(i);
-                    to.add(new IdNameEntityJSONImpl(toJSONObject));
-                }
+        });
+    }
+
+    private PostJSONImpl() {
+        super();
+    }
+
+    private void init(JSONObject json, boolean lazy, int fields) throws FacebookException {
+        id = getRawString("id", json);
+        message = getRawString("message", json);
+        name = getRawString("name", json);
+        caption = getRawString("caption", json);
+        description = getRawString("description", json);
+        icon = getRawString("icon", json);
+        type = getRawString("type", json);
+        story = getRawString("story", json);
+        if (!json.isNull("object_id")) {
+            objectId = getLong("object_id", json);
+        }
+        initLazyFields(json, lazy, fields);
+    }
+
+    // binds the scalar fields as they come, leaves the others to initLazyFields() and skips the unrequested ones
+    private void bind(JSONPullParser parser, boolean lazy, Set<String> projection, boolean withMetadata)
+            throws JSONException, FacebookException {
+        JSONObject objects = new JSONObject();
+        while (parser.next() == JSONPullParser.Token.FIELD_NAME) {
+            String field = parser.getText();
+            parser.next();
+            if (field.equals("id")) {
+                id = parser.getValueAsString();
+            } else if (field.equals("message")) {
+                message = parser.getValueAsString();
+            } else if (field.equals("name")) {
+                name = parser.getValueAsString();
+            } else if (field.equals("caption")) {
+                caption = parser.getValueAsString();
+            } else if (field.equals("description")) {
+                description = parser.getValueAsString();
+            } else if (field.equals("icon")) {
+                icon = parser.getValueAsString();
+            } else if (field.equals("type")) {
+                type = parser.getValueAsString();
+            } else if (field.equals("story")) {
+                story = parser.getValueAsString();
+            } else if (field.equals("object_id")) {
+                objectId = getLong(parser.getValueAsString());
+            } else if (projection == null || projection.contains(field) || (withMetadata && field.equals("metadata"))) {
+                objects.put(field, parser.readValue());
+            } else {
+                parser.skipValue();
             }
-            message = getRawString("message", json);
-            if (!json.isNull("message_tags")) {
-                String raw = json.get("message_tags").toString();
-                if (raw.startsWith("[")) {
-                    JSONArray tagsJSONArray = json.getJSONArray("message_tags");
-                    messageTags = new ArrayList<Tag>();
-                    for (int i = 0; i < tagsJSONArray.length(); i++) {
-                        JSONObject tagJSONObject = tagsJSONArray.getJSONObject(i);
-                        messageTags.add(new TagJSONImpl(tagJSONObject));
+        }
+        initLazyFields(objects, lazy, LazyFields.project(FIELD_NAMES, projection));
+        if (withMetadata) {
+            initMetadata(objects);
+        }
+    }
+
+    private void initLazyFields(JSONObject json, boolean lazy, int fields) throws FacebookException {
+        if (lazy) {
+            lazyFields = new LazyFields(json, this, fields);
+        } else {
+            LazyFields.decodeAll(this, json, fields);
+        }
+    }
+
+    public void decodeField(int field, JSONObject json) throws JSONException, FacebookException {
+        switch (field) {
+            case FROM:
+                if (!json.isNull("from")) {
+                    JSONObject fromJSONObject = json.getJSONObject("from");
+                    from = new IdNameEntityJSONImpl(fromJSONObject);
+                }
+                break;
+            case TO:
+                if (!json.isNull("to")) {
+                    JSONArray toJSONArray = json.getJSONObject("to").getJSONArray("data");
+                    to = new ArrayList<IdNameEntity>();
+                    for (int i = 0; i < toJSONArray.length(); i++) {
+                        JSONObject toJSONObject = toJSONArray.getJSONObject(i);
+                        to.add(new IdNameEntityJSONImpl(toJSONObject));
                     }
-                } else {
-                    JSONObject tagsJSONObject = json.getJSONObject("message_tags");
-                    Iterator ids = tagsJSONObject.keys();
-                    while (ids.hasNext()) {
-                        String id = (String) ids.next();
-                        JSONArray tagsJSONArray = tagsJSONObject.getJSONArray(id);
+                }
+                break;
+            case MESSAGE_TAGS:
+                if (!json.isNull("message_tags")) {
+                    String raw = json.get("message_tags").toString();
+                    if (raw.startsWith("[")) {
+                        JSONArray tagsJSONArray = json.getJSONArray("message_tags");
                         messageTags = new ArrayList<Tag>();
                         for (int i = 0; i < tagsJSONArray.length(); i++) {
                             JSONObject tagJSONObject = tagsJSONArray.getJSONObject(i);
                             messageTags.add(new TagJSONImpl(tagJSONObject));
                         }
+                    } else {
+                        JSONObject tagsJSONObject = json.getJSONObject("message_tags");
+                        Iterator ids = tagsJSONObject.keys();
+                        while (ids.hasNext()) {
+                            String id = (String) ids.next();
+                            JSONArray tagsJSONArray = tagsJSONObject.getJSONArray(id);
+                            messageTags = new ArrayList<Tag>();
+                            for (int i = 0; i < tagsJSONArray.length(); i++) {
+                                JSONObject tagJSONObject = tagsJSONArray.getJSONObject(i);
+                                messageTags.add(new TagJSONImpl(tagJSONObject));
+                            }
+                        }
                     }
                 }
-            }
-            picture = getURL("picture", json);
-            link = getURL("link", json);
-            name = getRawString("name", json);
-            caption = getRawString("caption", json);
-            description = getRawString("description", json);
-            source = getURL("source", json);
-            if (!json.isNull("properties")) {
-                JSONArray propertyJSONArray = json.getJSONArray("properties");
-                properties = new ArrayList<Post.Property>();
-                for (int i = 0; i < propertyJSONArray.length(); i++) {
-                    JSONObject propertyJSONObject = propertyJSONArray.getJSONObject(i);
-                    properties.add(this.new PropertyJSONImpl(propertyJSONObject));
+                break;
+            case PICTURE:
+                picture = LazyURL.of("picture", json);
+                break;
+            case LINK:
+                link = LazyURL.of("link", json);
+                break;
+            case SOURCE:
+                source = LazyURL.of("source", json);
+                break;
+            case PROPERTIES:
+                if (!json.isNull("properties")) {
+                    JSONArray propertyJSONArray = json.getJSONArray("properties");
+                    properties = new ArrayList<Post.Property>();
+                    for (int i = 0; i < propertyJSONArray.length(); i++) {
+                        JSONObject propertyJSONObject = propertyJSONArray.getJSONObject(i);
+                        properties.add(this.new PropertyJSONImpl(propertyJSONObject));
+                    }
                 }
-            }
-            icon = getRawString("icon", json);
-            if (!json.isNull("actions")) {
-                JSONArray actionJSONArray = json.getJSONArray("actions");
-                actions = new ArrayList<Post.Action>();
-                for (int i = 0; i < actionJSONArray.length(); i++) {
-                    JSONObject actionJSONObject = actionJSONArray.getJSONObject(i);
-                    actions.add(this.new ActionJSONImpl(actionJSONObject));
+                break;
+            case ACTIONS:
+                if (!json.isNull("actions")) {
+                    JSONArray actionJSONArray = json.getJSONArray("actions");
+                    actions = new ArrayList<Post.Action>();
+                    for (int i = 0; i < actionJSONArray.length(); i++) {
+                        JSONObject actionJSONObject = actionJSONArray.getJSONObject(i);
+                        actions.add(this.new ActionJSONImpl(actionJSONObject));
+                    }
                 }
-            }
-            if (!json.isNull("privacy")) {
-                JSONObject privacyJSONObject = json.getJSONObject("privacy");
-                privacy = new PrivacyJSONImpl(privacyJSONObject);
-            }
-            type = getRawString("type", json);
-            if (!json.isNull("likes")) {
-                JSONObject likesJSONObject = json.getJSONObject("likes");
-                if (!likesJSONObject.isNull("data")) {
-                    JSONArray list = likesJSONObject.getJSONArray("data");
-                    int size = list.length();
-                    likes = new PagableListImpl<IdNameEntity>(size, likesJSONObject);
-                    for (int i = 0; i < size; i++) {
-                        IdNameEntityJSONImpl like = new IdNameEntityJSONImpl(list.getJSONObject(i));
-                        likes.add(like);
+                break;
+            case PRIVACY:
+                if (!json.isNull("privacy")) {
+                    JSONObject privacyJSONObject = json.getJSONObject("privacy");
+                    privacy = new PrivacyJSONImpl(privacyJSONObject);
+                }
+                break;
+            case LIKES:
+                if (!json.isNull("likes")) {
+                    JSONObject likesJSONObject = json.getJSONObject("likes");
+                    if (!likesJSONObject.isNull("data")) {
+                        JSONArray list = likesJSONObject.getJSONArray("data");
+                        int size = list.length();
+                        likes = new PagableListImpl<IdNameEntity>(size, likesJSONObject);
+                        for (int i = 0; i < size; i++) {
+                            IdNameEntityJSONImpl like = new IdNameEntityJSONImpl(list.getJSONObject(i));
+                            likes.add(like);
+                        }
                     }
                 }
-            }
-            if (!json.isNull("place")) {
-                JSONObject placeJSONObject = json.getJSONObject("place");
-                place = new PlaceJSONImpl(placeJSONObject);
-            }
-            story = getRawString("story", json);
-            if (!json.isNull("story_tags")) {
-                JSONObject storyTagsJSONObject = json.getJSONObject("story_tags");
-                storyTags = new HashMap<String, Tag[]>();
-                @SuppressWarnings("unchecked")
-                Iterator<String> keys = storyTagsJSONObject.keys();
-                while (keys.hasNext()) {
-                    String key = (String) keys.next();
-                    JSONArray storyTagsJSONArray = storyTagsJSONObject.getJSONArray(key);
-                    Tag[] tags = new Tag[storyTagsJSONArray.length()];
-                    for (int i = 0; i < storyTagsJSONArray.length(); i++) {
-                        JSONObject tag = storyTagsJSONArray.getJSONObject(i);
-                        tags[i] = new TagJSONImpl(tag);
+                break;
+            case PLACE:
+                if (!json.isNull("place")) {
+                    JSONObject placeJSONObject = json.getJSONObject("place");
+                    place = new PlaceJSONImpl(placeJSONObject);
+                }
+                break;
+            case STORY_TAGS:
+                if (!json.isNull("story_tags")) {
+                    JSONObject storyTagsJSONObject = json.getJSONObject("story_tags");
+                    storyTags = new HashMap<String, Tag[]>();
+                    @SuppressWarnings("unchecked")
+                    Iterator<String> keys = storyTagsJSONObject.keys();
+                    while (keys.hasNext()) {
+                        String key = (String) keys.next();
+                        JSONArray storyTagsJSONArray = storyTagsJSONObject.getJSONArray(key);
+                        Tag[] tags = new Tag[storyTagsJSONArray.length()];
+                        for (int i = 0; i < storyTagsJSONArray.length(); i++) {
+                            JSONObject tag = storyTagsJSONArray.getJSONObject(i);
+                            tags[i] = new TagJSONImpl(tag);
+                        }
+                        storyTags.put(key, tags);
                     }
-                    storyTags.put(key, tags);
                 }
-            }
-            if (!json.isNull("with_tags")) {
-                JSONArray withTagsJSONArray = json.getJSONObject("with_tags").getJSONArray("data");
-                withTags = new ArrayList<IdNameEntity>();
-                for (int i = 0; i < withTagsJSONArray.length(); i++) {
-                    JSONObject withTagJSONObject = withTagsJSONArray.getJSONObject(i);
-                    withTags.add(new IdNameEntityJSONImpl(withTagJSONObject));
+                break;
+            case WITH_TAGS:
+                if (!json.isNull("with_tags")) {
+                    JSONArray withTagsJSONArray = json.getJSONObject("with_tags").getJSONArray("data");
+                    withTags = new ArrayList<IdNameEntity>();
+                    for (int i = 0; i < withTagsJSONArray.length(); i++) {
+                        JSONObject withTagJSONObject = withTagsJSONArray.getJSONObject(i);
+                        withTags.add(new IdNameEntityJSONImpl(withTagJSONObject));
+                    }
                 }
-            }
-            if (!json.isNull("comments")) {
-                JSONObject commentsJSONObject = json.getJSONObject("comments");
-                if (!commentsJSONObject.isNull("data")) {
-                    JSONArray list = commentsJSONObject.getJSONArray("data");
-                    int size = list.length();
-                    comments = new PagableListImpl<Comment>(size, commentsJSONObject);
-                    for (int i = 0; i < size; i++) {
-                        CommentJSONImpl comment = new CommentJSONImpl(list.getJSONObject(i));
-                        comments.add(comment);
+                break;
+            case COMMENTS:
+                if (!json.isNull("comments")) {
+                    JSONObject commentsJSONObject = json.getJSONObject("comments");
+                    if (!commentsJSONObject.isNull("data")) {
+                        JSONArray list = commentsJSONObject.getJSONArray("data");
+                        int size = list.length();
+                        comments = new PagableListImpl<Comment>(size, commentsJSONObject);
+                        for (int i = 0; i < size; i++) {
+                            CommentJSONImpl comment = new CommentJSONImpl(list.getJSONObject(i));
+                            comments.add(comment);
+                        }
                     }
                 }
-            }
-            if (!json.isNull("object_id")) {
-                objectId = getLong("object_id", json);
-            }
-            if (!json.isNull("application")) {
-                JSONObject applicationJSONObject = json.getJSONObject("application");
-                application = new ApplicationJSONImpl(applicationJSONObject);
-            }
-            createdTime = getISO8601Datetime("created_time", json);
-            updatedTime = getISO8601Datetime("updated_time", json);
-        } catch (JSONException jsone) {
-            throw new FacebookException(jsone.getMessage(), jsone);
+                break;
+            case APPLICATION:
+                if (!json.isNull("application")) {
+                    JSONObject applicationJSONObject = json.getJSONObject("application");
+                    application = new ApplicationJSONImpl(applicationJSONObject);
+                }
+                break;
+            case CREATED_TIME:
+                createdTime = getISO8601Datetime("created_time", json);
+                break;
+            case UPDATED_TIME:
+                updatedTime = getISO8601Datetime("updated_time", json);
+                break;
         }
     }
-    
+
+    private void decode(int fields) {
+        LazyFields lazyFields = this.lazyFields;
+        if (lazyFields != null && lazyFields.decode(fields)) {
+            this.lazyFields = null;
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        decode(ALL_FIELDS);
+        out.defaultWriteObject();
+    }
+
     public String getId() {
         return id;
     }
 
     public IdNameEntity getFrom() {
+        decode(FROM);
         return from;
     }
 
     public List<IdNameEntity> getTo() {
+        decode(TO);
         return to;
     }
 
@@ -241,15 +406,18 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
     }
 
     public List<Tag> getMessageTags() {
+        decode(MESSAGE_TAGS);
         return messageTags;
     }
 
     public URL getPicture() {
-        return picture;
+        decode(PICTURE);
+        return LazyURL.get(picture);
     }
 
     public URL getLink() {
-        return link;
+        decode(LINK);
+        return LazyURL.get(link);
     }
 
     public String getName() {
@@ -265,10 +433,12 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
     }
 
     public URL getSource() {
-        return source;
+        decode(SOURCE);
+        return LazyURL.get(source);
     }
 
     public List<Post.Property> getProperties() {
+        decode(PROPERTIES);
         return properties;
     }
 
@@ -277,10 +447,12 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
     }
 
     public List<Post.Action> getActions() {
+        decode(ACTIONS);
         return actions;
     }
 
     public Privacy getPrivacy() {
+        decode(PRIVACY);
         return privacy;
     }
 
@@ -289,10 +461,12 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
     }
 
     public PagableList<IdNameEntity> getLikes() {
+        decode(LIKES);
         return likes;
     }
 
     public Place getPlace() {
+        decode(PLACE);
         return place;
     }
 
@@ -301,14 +475,17 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
     }
 
     public Map<String, Tag[]> getStoryTags() {
+        decode(STORY_TAGS);
         return storyTags;
     }
 
     public List<IdNameEntity> getWithTags() {
+        decode(WITH_TAGS);
         return withTags;
     }
 
     public PagableList<Comment> getComments() {
+        decode(COMMENTS);
         return comments;
     }
 
@@ -317,29 +494,50 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
     }
 
     public Application getApplication() {
+        decode(APPLICATION);
         return application;
     }
 
     public Date getCreatedTime() {
+        decode(CREATED_TIME);
         return createdTime;
     }
 
     public Date getUpdatedTime() {
+        decode(UPDATED_TIME);
         return updatedTime;
     }
 
     /*package*/
     static ResponseList<Post> createPostList(HttpResponse res, Configuration conf) throws FacebookException {
+        return createPostList(res, conf, null);
+    }
+
+    /**
+     * @param projection the names of the fields requested by Reading, or null for all of them
+     */
+    /*package*/
+    static ResponseList<Post> createPostList(HttpResponse res, final Configuration conf, final Set<String> projection)
+            throws FacebookException {
+        if (StreamingDecoder.isEnabled(conf)) {
+            List<Post> items = new ArrayList<Post>();
+            JSONObject rest = StreamingDecoder.decodeList(res, new StreamingDecoder.Binder<Post>() {
+                public Post bind(JSONPullParser parser) throws JSONException, FacebookException {
+                    return new PostJSONImpl(parser, conf.isLazyDecodingEnabled(), projection);
+                }
+            }, items);
+            ResponseList<Post> posts = new ResponseListImpl<Post>(items.size(), rest);
+            posts.addAll(items);
+            return posts;
+        }
         try {
-            if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
             int size = list.length();
             ResponseList<Post> posts = new ResponseListImpl<Post>(size, json);
+            int fields = LazyFields.project(FIELD_NAMES, projection);
             for (int i = 0; i < size; i++) {
-                Post post = new PostJSONImpl(list.getJSONObject(i));
+                Post post = new PostJSONImpl(list.getJSONObject(i), conf.isLazyDecodingEnabled(), fields);
                 posts.add(post);
             }
             if (conf.isJSONStoreEnabled()) {
@@ -378,6 +576,7 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
 
     @Override
     public String toString() {
+        decode(ALL_FIELDS);
         return "PostJSONImpl [id=" + id + ", from=" + from + ", to=" + to
                 + ", message=" + message + ", messageTags=" + messageTags
                 + ", picture=" + picture + ", link=" + link + ", name=" + name
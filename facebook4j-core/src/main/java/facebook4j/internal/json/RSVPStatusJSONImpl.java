@@ -16,7 +16,9 @@
 
 package facebook4j.internal.json;
 
-import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
+import java.util.ArrayList;
+import java.util.List;
+
 import facebook4j.FacebookException;
 import facebook4j.RSVPStatus;
 import facebook4j.ResponseList;
@@ -25,23 +27,29 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.org.json.JSONPullParser;
+import facebook4j.internal.processor.JSONDecoder;
+import facebook4j.internal.processor.JSONField;
 
  /**
  * @author Ryuji Yamashita - roundrop at gmail.com
  */
+@JSONDecoder(RSVPStatus.class)
 /*package*/ final class RSVPStatusJSONImpl extends FacebookResponseImpl implements RSVPStatus, java.io.Serializable {
     private static final long serialVersionUID = 716299001399262503L;
 
-    private String id;
-    private String name;
-    private String rsvpStatus;
+    @JSONField("id")
+    /*package*/ String id;
+    @JSONField("name")
+    /*package*/ String name;
+    @JSONField("rsvp_status")
+    /*package*/ String rsvpStatus;
 
     /*package*/RSVPStatusJSONImpl(HttpResponse res, Configuration conf) throws FacebookException {
         super(res);
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -51,10 +59,12 @@ import facebook4j.internal.org.json.JSONObject;
         init(json);
     }
 
+    private RSVPStatusJSONImpl() {
+        super();
+    }
+
     private void init(JSONObject json) throws FacebookException {
-        id = getRawString("id", json);
-        name = getRawString("name", json);
-        rsvpStatus = getRawString("rsvp_status", json);
+        RSVPStatusJSONImplDecoder.bind(this, json);
     }
 
     public String getId() {
@@ -71,10 +81,20 @@ import facebook4j.internal.org.json.JSONObject;
 
     /*package*/
     static ResponseList<RSVPStatus> createRSVPStatusList(HttpResponse res, Configuration conf) throws FacebookException {
+        if (StreamingDecoder.isEnabled(conf)) {
+            List<RSVPStatus> items = new ArrayList<RSVPStatus>();
+            JSONObject rest = StreamingDecoder.decodeList(res, new StreamingDecoder.Binder<RSVPStatus>() {
+                public RSVPStatus bind(JSONPullParser parser) throws JSONException, FacebookException {
+                    RSVPStatusJSONImpl rsvpStatus = new RSVPStatusJSONImpl();
+                    RSVPStatusJSONImplDecoder.bind(rsvpStatus, parser);
+                    return rsvpStatus;
+                }
+            }, items);
+            ResponseList<RSVPStatus> rsvpStatuses = new ResponseListImpl<RSVPStatus>(items.size(), rest);
+            rsvpStatuses.addAll(items);
+            return rsvpStatuses;
+        }
         try {
-            if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
             int size = list.length();
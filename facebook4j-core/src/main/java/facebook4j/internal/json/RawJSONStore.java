@@ -0,0 +1,102 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import java.io.UnsupportedEncodingException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the raw JSON of the objects created in JSON store mode, as UTF-8 bytes rather than as the JSONObject
+ * tree they were decoded from.<br>
+ * The objects are weakly referenced and compared by identity, so an entry lives exactly as long as its object
+ * and two equal entities, e.g. the same user in two responses, keep their own JSON.
+ */
+/*package*/ final class RawJSONStore {
+
+    private final ConcurrentMap<Key, byte[]> entries = new ConcurrentHashMap<Key, byte[]>();
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<Object>();
+
+    /*package*/ void put(Object object, String json) {
+        expunge();
+        entries.put(new Key(object, queue), encode(json));
+    }
+
+    /**
+     * @return the raw JSON of the object, or null if none was stored or the object was created in another mode
+     */
+    /*package*/ String get(Object object) {
+        expunge();
+        byte[] json = entries.get(new Key(object, null));
+        return json == null ? null : decode(json);
+    }
+
+    /*package*/ int size() {
+        expunge();
+        return entries.size();
+    }
+
+    private void expunge() {
+        Reference<?> key;
+        while ((key = queue.poll()) != null) {
+            entries.remove(key);
+        }
+    }
+
+    private static byte[] encode(String json) {
+        try {
+            return json.getBytes("UTF-8");
+        } catch (UnsupportedEncodingException neverHappen) {
+            throw new AssertionError("will never happen");
+        }
+    }
+
+    private static String decode(byte[] json) {
+        try {
+            return new String(json, "UTF-8");
+        } catch (UnsupportedEncodingException neverHappen) {
+            throw new AssertionError("will never happen");
+        }
+    }
+
+    private static final class Key extends WeakReference<Object> {
+        private final int hash;
+
+        private Key(Object object, ReferenceQueue<Object> queue) {
+            super(object, queue);
+            this.hash = System.identityHashCode(object);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            // a cleared key is only equal to itself, which is how expunge() removes it
+            Object object = get();
+            return object != null && obj instanceof Key && ((Key) obj).get() == object;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import java.io.IOException;
+import java.util.List;
+
+import facebook4j.FacebookException;
+import facebook4j.conf.Configuration;
+import facebook4j.internal.http.HttpResponse;
+import facebook4j.internal.org.json.JSONException;
+import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.org.json.JSONPullParser;
+import facebook4j.internal.org.json.JSONPullParser.Token;
+
+/**
+ * Decodes responses with a {@link JSONPullParser}, letting each entity bind the fields it knows in a single pass
+ * instead of building a JSONObject tree and then looking every field up in it.<br>
+ * Used only when {@link Configuration#isJSONStreamingEnabled()} is true and the JSON store is disabled,
+ * since the JSON store needs the tree.
+ */
+/*package*/ final class StreamingDecoder {
+
+    /*package*/ interface Binder<T> {
+        /**
+         * @param parser positioned on the START_OBJECT of the entity
+         * @return the entity, the parser being left on its END_OBJECT
+         */
+        T bind(JSONPullParser parser) throws JSONException, FacebookException;
+    }
+
+    private StreamingDecoder() {
+        throw new AssertionError();
+    }
+
+    /*package*/ static boolean isEnabled(Configuration conf) {
+        return conf.isJSONStreamingEnabled() && !conf.isJSONStoreEnabled();
+    }
+
+    /*package*/ static <T> T decode(HttpResponse res, Binder<T> binder) throws FacebookException {
+        JSONPullParser parser = res.asJSONPullParser();
+        try {
+            expectObject(parser);
+            return binder.bind(parser);
+        } catch (JSONException jsone) {
+            throw new FacebookException(jsone.getMessage(), jsone);
+        } finally {
+            close(res, parser);
+        }
+    }
+
+    /**
+     * Decodes a <code>{"data": [...], "paging": {...}}</code> list.
+     *
+     * @param res    the response
+     * @param binder binds each element of data
+     * @param items  receives the elements
+     * @return the other fields of the response, e.g. paging
+     * @throws FacebookException when the response is not such a list
+     */
+    /*package*/ static <T> JSONObject decodeList(HttpResponse res, Binder<T> binder, List<T> items) throws FacebookException {
+        JSONPullParser parser = res.asJSONPullParser();
+        try {
+            expectObject(parser);
+            JSONObject rest = new JSONObject();
+            boolean hasData = false;
+            while (parser.next() == Token.FIELD_NAME) {
+                String name = parser.getText();
+                Token token = parser.next();
+                if (name.equals("data") && token == Token.START_ARRAY) {
+                    hasData = true;
+                    while (parser.next() == Token.START_OBJECT) {
+                        items.add(binder.bind(parser));
+                    }
+                    if (parser.getToken() != Token.END_ARRAY) {
+                        throw new JSONException("JSONArray[" + items.size() + "] is not a JSONObject.");
+                    }
+                } else {
+                    rest.put(name, parser.readValue());
+                }
+            }
+            if (!hasData) {
+                throw new JSONException("JSONObject[\"data\"] not found.");
+            }
+            return rest;
+        } catch (JSONException jsone) {
+            throw new FacebookException(jsone);
+        } finally {
+            close(res, parser);
+        }
+    }
+
+    private static void expectObject(JSONPullParser parser) throws JSONException {
+        if (parser.next() != Token.START_OBJECT) {
+            throw new JSONException("A JSONObject text must begin with '{'");
+        }
+    }
+
+    private static void close(HttpResponse res, JSONPullParser parser) {
+        parser.close();
+        try {
+            res.disconnect();
+        } catch (IOException ignore) {
+        }
+    }
+}
@@ -16,9 +16,9 @@
 
 package facebook4j.internal.json;
 
-import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
-
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 import facebook4j.FacebookException;
 import facebook4j.ResponseList;
@@ -28,29 +28,40 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.org.json.JSONPullParser;
+import facebook4j.internal.processor.JSONDecoder;
+import facebook4j.internal.processor.JSONField;
 
 /**
  * @author Ryuji Yamashita - roundrop at gmail.com
  */
+@JSONDecoder(Tag.class)
 /*package*/ final class TagJSONImpl extends FacebookResponseImpl implements Tag, java.io.Serializable {
     private static final long serialVersionUID = -947248601368391860L;
     
-    private String id;
-    private String name;
-    private Integer offset;
-    private Integer length;
-    private String type;
+    @JSONField("id")
+    /*package*/ String id;
+    @JSONField("name")
+    /*package*/ String name;
+    @JSONField("offset")
+    /*package*/ Integer offset;
+    @JSONField("length")
+    /*package*/ Integer length;
+    @JSONField("type")
+    /*package*/ String type;
     
-    private Integer x;
-    private Integer y;
-    private Date createdTime;
+    @JSONField("x")
+    /*package*/ Integer x;
+    @JSONField("y")
+    /*package*/ Integer y;
+    @JSONField("created_time")
+    /*package*/ Date createdTime;
 
     /*package*/TagJSONImpl(HttpResponse res, Configuration conf) throws FacebookException {
         super(res);
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -60,32 +71,12 @@ import facebook4j.internal.org.json.JSONObject;
         init(json);
     }
 
+    private TagJSONImpl() {
+        super();
+    }
+
     private void init(JSONObject json) throws FacebookException {
-        id = getRawString("id", json);
-        name = getRawString("name", json);
-        if (!json.isNull("offset")) {
-            offset = getPrimitiveInt("offset");
-        } else {
-            offset = null;
-        }
-        if (!json.isNull("length")) {
-            length = getPrimitiveInt("length", json);
-        } else {
-            length = null;
-        }
-        type = getRawString("type", json);
-        
-        if (!json.isNull("x")) {
-            x = getPrimitiveInt("x", json);
-        } else {
-            x = null;
-        }
-        if (!json.isNull("y")) {
-            y = getPrimitiveInt("y", json);
-        } else {
-            y = null;
-        }
-        createdTime = getISO8601Datetime("created_time", json);
+        TagJSONImplDecoder.bind(this, json);
     }
     
     public String getId() {
@@ -122,10 +113,20 @@ import facebook4j.internal.org.json.JSONObject;
 
     /*package*/
     static ResponseList<Tag> createTagList(HttpResponse res, Configuration conf) throws FacebookException {
+        if (StreamingDecoder.isEnabled(conf)) {
+            List<Tag> items = new ArrayList<Tag>();
+            JSONObject rest = StreamingDecoder.decodeList(res, new StreamingDecoder.Binder<Tag>() {
+                public Tag bind(JSONPullParser parser) throws JSONException, FacebookException {
+                    TagJSONImpl tag = new TagJSONImpl();
+                    TagJSONImplDecoder.bind(tag, parser);
+                    return tag;
+                }
+            }, items);
+            ResponseList<Tag> tags = new ResponseListImpl<Tag>(items.size(), rest);
+            tags.addAll(items);
+            return tags;
+        }
         try {
-            if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
             int size = list.length();
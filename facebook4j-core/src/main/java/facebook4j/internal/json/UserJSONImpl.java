@@ -18,12 +18,15 @@ package facebook4j.internal.json;
 
 import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import facebook4j.Cover;
 import facebook4j.FacebookException;
@@ -36,15 +39,40 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.org.json.JSONPullParser;
+import facebook4j.internal.processor.JSONDecoder;
 
 /**
  * A data class representing Basic user information element
  *
  * @author Ryuji Yamashita - roundrop at gmail.com
  */
-/*package*/ final class UserJSONImpl implements User, Comparable<User>, java.io.Serializable {
+@JSONDecoder(User.class)
+/*package*/ final class UserJSONImpl implements User, Comparable<User>, LazyFields.Decoder, java.io.Serializable {
     private static final long serialVersionUID = 3839339196757459703L;
 
+    // fields decoded on first access in lazy mode
+    private static final int LANGUAGES = 1 << 0;
+    private static final int LINK = 1 << 1;
+    private static final int UPDATED_TIME = 1 << 2;
+    private static final int COVER = 1 << 3;
+    private static final int EDUCATION = 1 << 4;
+    private static final int HOMETOWN = 1 << 5;
+    private static final int INTERESTED_IN = 1 << 6;
+    private static final int LOCATION = 1 << 7;
+    private static final int FAVORITE_ATHLETES = 1 << 8;
+    private static final int FAVORITE_TEAMS = 1 << 9;
+    private static final int PICTURE = 1 << 10;
+    private static final int SIGNIFICANT_OTHER = 1 << 11;
+    private static final int VIDEO_UPLOAD_LIMITS = 1 << 12;
+    private static final int WEBSITE = 1 << 13;
+    private static final int WORK = 1 << 14;
+    private static final int ALL_FIELDS = (1 << 15) - 1;
+    // their names in the JSON, in bit order
+    private static final String[] FIELD_NAMES = {"languages", "link", "updated_time", "cover", "education",
+            "hometown", "interested_in", "location", "favorite_athletes", "favorite_teams", "picture",
+            "significant_other", "video_upload_limits", "website", "work"};
+
     private String id;
     private String name;
     private String firstName;
@@ -53,7 +81,7 @@ import facebook4j.internal.org.json.JSONObject;
     private String gender;
     private Locale locale;
     private List<IdNameEntity> languages = new ArrayList<IdNameEntity>();
-    private URL link;
+    private LazyURL link;
     private String username;
     private String thirdPartyId;
     private Boolean installed;
@@ -77,121 +105,265 @@ import facebook4j.internal.org.json.JSONObject;
     private String religion;
     private IdNameEntity significantOther;
     private User.VideoUploadLimits videoUploadLimits;
-    private URL website;
+    private LazyURL website;
     private List<User.Work> work = new ArrayList<User.Work>();
 
-    /*package*/UserJSONImpl(HttpResponse res, Configuration conf) throws FacebookException {
-        if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
-        }
+    private transient volatile LazyFields lazyFields;
+
+    /*package*/UserJSONImpl(HttpResponse res, Configuration conf, Set<String> projection) throws FacebookException {
         JSONObject json = res.asJSONObject();
-        init(json);
+        init(json, conf.isLazyDecodingEnabled(), LazyFields.project(FIELD_NAMES, projection));
         if (conf.isJSONStoreEnabled()) {
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
 
     /*package*/UserJSONImpl(JSONObject json) throws FacebookException {
+        this(json, false, ALL_FIELDS);
+    }
+
+    /*package*/UserJSONImpl(JSONObject json, boolean lazy) throws FacebookException {
+        this(json, lazy, ALL_FIELDS);
+    }
+
+    private UserJSONImpl(JSONObject json, boolean lazy, int fields) throws FacebookException {
         super();
-        init(json);
+        init(json, lazy, fields);
     }
 
-    private void init(JSONObject json) throws FacebookException {
-        try {
-            id = getRawString("id", json);
-            name = getRawString("name", json);
-            firstName = getRawString("first_name", json);
-            middleName = getRawString("middle_name", json);
-            lastName = getRawString("last_name", json);
-            gender = getRawString("gender", json);
-            if (!json.isNull("locale")) {
-                locale = new Locale(getRawString("locale", json));
+    private UserJSONImpl(JSONPullParser parser, boolean lazy, Set<String> projection) throws JSONException, FacebookException {
+        super();
+        bind(parser, lazy, projection);
+    }
+
+    /*package*/
+    static User createUser(HttpResponse res, Configuration conf) throws FacebookException {
+        return createUser(res, conf, null);
+    }
+
+    /**
+     * @param projection the names of the fields requested by Reading, or null for all of them
+     */
+    /*package*/
+    static User createUser(HttpResponse res, final Configuration conf, final Set<String> projection) throws FacebookException {
+        if (!StreamingDecoder.isEnabled(conf)) {
+            return new UserJSONImpl(res, conf, projection);
+        }
+        return StreamingDecoder.decode(res, new StreamingDecoder.Binder<User>() {
+            public User bind(JSONPullParser parser) throws JSONException, FacebookException {
+                return new UserJSONImpl(parser, conf.isLazyDecodingEnabled(), projection);
             }
-            if (!json.isNull("languages")) {
-                JSONArray languagesJSONArray = json.getJSONArray("languages");
-                for (int i = 0; i < languagesJSONArray.length(); i++) {
-                    languages.add(new IdNameEntityJSONImpl(languagesJSONArray.getJSONObject(i)));
+        });
+    }
+
+    private void init(JSONObject json, boolean lazy, int fields) throws FacebookException {
+        id = getRawString("id", json);
+        name = getRawString("name", json);
+        firstName = getRawString("first_name", json);
+        middleName = getRawString("middle_name", json);
+        lastName = getRawString("last_name", json);
+        gender = getRawString("gender", json);
+        if (!json.isNull("locale")) {
+            locale = new Locale(getRawString("locale", json));
+        }
+        username = getRawString("username", json);
+        thirdPartyId = getRawString("third_party_id", json);
+        installed = getBoolean("installed", json);
+        timezone = getDouble("timezone", json);
+        verified = getBoolean("verified", json);
+        bio = getRawString("bio", json);
+        birthday = getRawString("birthday", json);
+        email = getRawString("email", json);
+        political = getRawString("political", json);
+        quotes = getRawString("quotes", json);
+        relationshipStatus = getRawString("relationship_status", json);
+        religion = getRawString("religion", json);
+        initLazyFields(json, lazy, fields);
+    }
+
+    // binds the scalar fields as they come, leaves the others to initLazyFields() and skips the unrequested ones
+    private void bind(JSONPullParser parser, boolean lazy, Set<String> projection) throws JSONException, FacebookException {
+        // as if missing from the JSON
+        installed = false;
+        timezone = -1d;
+        verified = false;
+        JSONObject objects = new JSONObject();
+        while (parser.next() == JSONPullParser.Token.FIELD_NAME) {
+            String field = parser.getText();
+            parser.next();
+            if (field.equals("id")) {
+                id = parser.getValueAsString();
+            } else if (field.equals("name")) {
+                name = parser.getValueAsString();
+            } else if (field.equals("first_name")) {
+                firstName = parser.getValueAsString();
+            } else if (field.equals("middle_name")) {
+                middleName = parser.getValueAsString();
+            } else if (field.equals("last_name")) {
+                lastName = parser.getValueAsString();
+            } else if (field.equals("gender")) {
+                gender = parser.getValueAsString();
+            } else if (field.equals("locale")) {
+                String localeString = parser.getValueAsString();
+                if (localeString != null) {
+                    locale = new Locale(localeString);
                 }
+            } else if (field.equals("username")) {
+                username = parser.getValueAsString();
+            } else if (field.equals("third_party_id")) {
+                thirdPartyId = parser.getValueAsString();
+            } else if (field.equals("installed")) {
+                installed = getBoolean(parser.getValueAsString());
+            } else if (field.equals("timezone")) {
+                timezone = getDouble(parser.getValueAsString());
+            } else if (field.equals("verified")) {
+                verified = getBoolean(parser.getValueAsString());
+            } else if (field.equals("bio")) {
+                bio = parser.getValueAsString();
+            } else if (field.equals("birthday")) {
+                birthday = parser.getValueAsString();
+            } else if (field.equals("email")) {
+                email = parser.getValueAsString();
+            } else if (field.equals("political")) {
+                political = parser.getValueAsString();
+            } else if (field.equals("quotes")) {
+                quotes = parser.getValueAsString();
+            } else if (field.equals("relationship_status")) {
+                relationshipStatus = parser.getValueAsString();
+            } else if (field.equals("religion")) {
+                religion = parser.getValueAsString();
+            } else if (projection == null || projection.contains(field)) {
+                objects.put(field, parser.readValue());
+            } else {
+                parser.skipValue();
             }
-            link = getURL("link", json);
-            username = getRawString("username", json);
-            thirdPartyId = getRawString("third_party_id", json);
-            installed = getBoolean("installed", json);
-            timezone = getDouble("timezone", json);
-            updatedTime = getISO8601Datetime("updated_time", json);
-            verified = getBoolean("verified", json);
-            bio = getRawString("bio", json);
-            birthday = getRawString("birthday", json);
-            if (!json.isNull("cover")) {
-                JSONObject coverJSON = json.getJSONObject("cover");
-                cover = new CoverJSONImpl(coverJSON);
-            }
-            if (!json.isNull("education")) {
-                JSONArray educationJSONArray = json.getJSONArray("education");
-                for (int i = 0; i < educationJSONArray.length(); i++) {
-                    education.add(new EducationJSONImpl(educationJSONArray.getJSONObject(i)));
+        }
+        initLazyFields(objects, lazy, LazyFields.project(FIELD_NAMES, projection));
+    }
+
+    private void initLazyFields(JSONObject json, boolean lazy, int fields) throws FacebookException {
+        if (lazy) {
+            lazyFields = new LazyFields(json, this, fields);
+        } else {
+            LazyFields.decodeAll(this, json, fields);
+        }
+    }
+
+    public void decodeField(int field, JSONObject json) throws JSONException, FacebookException {
+        switch (field) {
+            case LANGUAGES:
+                if (!json.isNull("languages")) {
+                    JSONArray languagesJSONArray = json.getJSONArray("languages");
+                    for (int i = 0; i < languagesJSONArray.length(); i++) {
+                        languages.add(new IdNameEntityJSONImpl(languagesJSONArray.getJSONObject(i)));
+                    }
                 }
-            }
-            email = getRawString("email", json);
-            if (!json.isNull("hometown")) {
-                JSONObject hometownJSON = json.getJSONObject("hometown");
-                hometown = new IdNameEntityJSONImpl(hometownJSON);
-            }
-            if (!json.isNull("interestedIn")) {
-                JSONArray interestedInJSONArray = json.getJSONArray("interested_in");
-                for (int i = 0; i < interestedInJSONArray.length(); i++) {
-                    interestedIn.add(interestedInJSONArray.getString(i));
+                break;
+            case LINK:
+                link = LazyURL.of("link", json);
+                break;
+            case UPDATED_TIME:
+                updatedTime = getISO8601Datetime("updated_time", json);
+                break;
+            case COVER:
+                if (!json.isNull("cover")) {
+                    JSONObject coverJSON = json.getJSONObject("cover");
+                    cover = new CoverJSONImpl(coverJSON);
                 }
-            }
-            if (!json.isNull("location")) {
-                JSONObject locationJSON = json.getJSONObject("location");
-                location = new IdNameEntityJSONImpl(locationJSON);
-            }
-            political = getRawString("political", json);
-            if (!json.isNull("favorite_athletes")) {
-                JSONArray favoriteAthletesJSONArray = json.getJSONArray("favorite_athletes");
-                for (int i = 0; i < favoriteAthletesJSONArray.length(); i++) {
-                    favoriteAthletes.add(new IdNameEntityJSONImpl(favoriteAthletesJSONArray.getJSONObject(i)));
+                break;
+            case EDUCATION:
+                if (!json.isNull("education")) {
+                    JSONArray educationJSONArray = json.getJSONArray("education");
+                    for (int i = 0; i < educationJSONArray.length(); i++) {
+                        education.add(new EducationJSONImpl(educationJSONArray.getJSONObject(i)));
+                    }
                 }
-            }
-            if (!json.isNull("favorite_teams")) {
-                JSONArray favoriteTeamsJSONArray = json.getJSONArray("favorite_teams");
-                for (int i = 0; i < favoriteTeamsJSONArray.length(); i++) {
-                    favoriteTeams.add(new IdNameEntityJSONImpl(favoriteTeamsJSONArray.getJSONObject(i)));
+                break;
+            case HOMETOWN:
+                if (!json.isNull("hometown")) {
+                    JSONObject hometownJSON = json.getJSONObject("hometown");
+                    hometown = new IdNameEntityJSONImpl(hometownJSON);
                 }
-            }
-            if (!json.isNull("picture")) {
-                String pictureRawString = getRawString("picture", json);
-                if (pictureRawString.startsWith("{")) {
-                    JSONObject pictureJSONObject = json.getJSONObject("picture");
-                    picture = new PictureJSONImpl(pictureJSONObject);
-                } else {
-                    picture = new PictureJSONImpl(getURL("picture", json));
+                break;
+            case INTERESTED_IN:
+                if (!json.isNull("interestedIn")) {
+                    JSONArray interestedInJSONArray = json.getJSONArray("interested_in");
+                    for (int i = 0; i < interestedInJSONArray.length(); i++) {
+                        interestedIn.add(interestedInJSONArray.getString(i));
+                    }
                 }
-            }
-            quotes = getRawString("quotes", json);
-            relationshipStatus = getRawString("relationship_status", json);
-            religion = getRawString("religion", json);
-            if (!json.isNull("significant_other")) {
-                JSONObject significantOtherJSONObject = json.getJSONObject("significant_other");
-                significantOther = new IdNameEntityJSONImpl(significantOtherJSONObject);
-            }
-            if (!json.isNull("video_upload_limits")) {
-                JSONObject videoUploadLimitsJSONObject = json.getJSONObject("video_upload_limits");
-                videoUploadLimits = new VideoUploadLimitsJSONImpl(videoUploadLimitsJSONObject);
-            }
-            website = getURL("website", json);
-            if (!json.isNull("work")) {
-                JSONArray workJSONArray = json.getJSONArray("work");
-                for (int i = 0; i < workJSONArray.length(); i++) {
-                    work.add(new WorkJSONImpl(workJSONArray.getJSONObject(i)));
+                break;
+            case LOCATION:
+                if (!json.isNull("location")) {
+                    JSONObject locationJSON = json.getJSONObject("location");
+                    location = new IdNameEntityJSONImpl(locationJSON);
                 }
-            }
-        } catch (JSONException jsone) {
-            throw new FacebookException(jsone.getMessage() + ":" + json.toString(), jsone);
+                break;
+            case FAVORITE_ATHLETES:
+                if (!json.isNull("favorite_athletes")) {
+                    JSONArray favoriteAthletesJSONArray = json.getJSONArray("favorite_athletes");
+                    for (int i = 0; i < favoriteAthletesJSONArray.length(); i++) {
+                        favoriteAthletes.add(new IdNameEntityJSONImpl(favoriteAthletesJSONArray.getJSONObject(i)));
+                    }
+                }
+                break;
+            case FAVORITE_TEAMS:
+                if (!json.isNull("favorite_teams")) {
+                    JSONArray favoriteTeamsJSONArray = json.getJSONArray("favorite_teams");
+                    for (int i = 0; i < favoriteTeamsJSONArray.length(); i++) {
+                        favoriteTeams.add(new IdNameEntityJSONImpl(favoriteTeamsJSONArray.getJSONObject(i)));
+                    }
+                }
+                break;
+            case PICTURE:
+                if (!json.isNull("picture")) {
+                    String pictureRawString = getRawString("picture", json);
+                    if (pictureRawString.startsWith("{")) {
+                        JSONObject pictureJSONObject = json.getJSONObject("picture");
+                        picture = new PictureJSONImpl(pictureJSONObject);
+                    } else {
+                        picture = new PictureJSONImpl(LazyURL.of("picture", json));
+                    }
+                }
+                break;
+            case SIGNIFICANT_OTHER:
+                if (!json.isNull("significant_other")) {
+                    JSONObject significantOtherJSONObject = json.getJSONObject("significant_other");
+                    significantOther = new IdNameEntityJSONImpl(significantOtherJSONObject);
+                }
+                break;
+            case VIDEO_UPLOAD_LIMITS:
+                if (!json.isNull("video_upload_limits")) {
+                    JSONObject videoUploadLimitsJSONObject = json.getJSONObject("video_upload_limits");
+                    videoUploadLimits = new VideoUploadLimitsJSONImpl(videoUploadLimitsJSONObject);
+                }
+                break;
+            case WEBSITE:
+                website = LazyURL.of("website", json);
+                break;
+            case WORK:
+                if (!json.isNull("work")) {
+                    JSONArray workJSONArray = json.getJSONArray("work");
+                    for (int i = 0; i < workJSONArray.length(); i++) {
+                        work.add(new WorkJSONImpl(workJSONArray.getJSONObject(i)));
+                    }
+                }
+                break;
+        }
+    }
+
+    private void decode(int fields) {
+        LazyFields lazyFields = this.lazyFields;
+        if (lazyFields != null && lazyFields.decode(fields)) {
+            this.lazyFields = null;
         }
     }
 
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        decode(ALL_FIELDS);
+        out.defaultWriteObject();
+    }
+
     public String getId() {
         return id;
     }
@@ -221,11 +393,13 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public List<IdNameEntity> getLanguages() {
+        decode(LANGUAGES);
         return languages;
     }
 
     public URL getLink() {
-        return link;
+        decode(LINK);
+        return LazyURL.get(link);
     }
 
     public String getUsername() {
@@ -245,6 +419,7 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public Date getUpdatedTime() {
+        decode(UPDATED_TIME);
         return updatedTime;
     }
 
@@ -261,10 +436,12 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public Cover getCover() {
+        decode(COVER);
         return cover;
     }
 
     public List<Education> getEducation() {
+        decode(EDUCATION);
         return education;
     }
 
@@ -273,14 +450,17 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public IdNameEntity getHometown() {
+        decode(HOMETOWN);
         return hometown;
     }
 
     public List<String> getInterestedIn() {
+        decode(INTERESTED_IN);
         return interestedIn;
     }
 
     public IdNameEntity getLocation() {
+        decode(LOCATION);
         return location;
     }
 
@@ -289,14 +469,17 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public List<IdNameEntity> getFavoriteAthletes() {
+        decode(FAVORITE_ATHLETES);
         return favoriteAthletes;
     }
 
     public List<IdNameEntity> getFavoriteTeams() {
+        decode(FAVORITE_TEAMS);
         return favoriteTeams;
     }
 
     public Picture getPicture() {
+        decode(PICTURE);
         return picture;
     }
 
@@ -313,33 +496,55 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public IdNameEntity getSignificantOther() {
+        decode(SIGNIFICANT_OTHER);
         return significantOther;
     }
 
     public User.VideoUploadLimits getVideoUploadLimits() {
+        decode(VIDEO_UPLOAD_LIMITS);
         return videoUploadLimits;
     }
 
     public URL getWebsite() {
-        return website;
+        decode(WEBSITE);
+        return LazyURL.get(website);
     }
 
     public List<Work> getWork() {
+        decode(WORK);
         return work;
     }
 
     /*package*/
     static ResponseList<User> createUserList(HttpResponse res, Configuration conf) throws FacebookException {
+        return createUserList(res, conf, null);
+    }
+
+    /**
+     * @param projection the names of the fields requested by Reading, or null for all of them
+     */
+    /*package*/
+    static ResponseList<User> createUserList(HttpResponse res, final Configuration conf, final Set<String> projection)
+            throws FacebookException {
+        if (StreamingDecoder.isEnabled(conf)) {
+            List<User> items = new ArrayList<User>();
+            JSONObject rest = StreamingDecoder.decodeList(res, new StreamingDecoder.Binder<User>() {
+                public User bind(JSONPullParser parser) throws JSONException, FacebookException {
+                    return new UserJSONImpl(parser, conf.isLazyDecodingEnabled(), projection);
+                }
+            }, items);
+            ResponseList<User> users = new ResponseListImpl<User>(items.size(), rest);
+            users.addAll(items);
+            return users;
+        }
         try {
-            if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
             int size = list.length();
             ResponseList<User> users = new ResponseListImpl<User>(size, json);
+            int fields = LazyFields.project(FIELD_NAMES, projection);
             for (int i = 0; i < size; i++) {
-                User user = new UserJSONImpl(list.getJSONObject(i));
+                User user = new UserJSONImpl(list.getJSONObject(i), conf.isLazyDecodingEnabled(), fields);
                 users.add(user);
             }
             if (conf.isJSONStoreEnabled()) {
@@ -354,9 +559,6 @@ import facebook4j.internal.org.json.JSONObject;
     /*package*/
     static List<User> createUserArray(HttpResponse res, Configuration conf) throws FacebookException {
         try {
-            if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             List<User> users = new ArrayList<User>();
             Iterator ids = json.keys();
@@ -399,6 +601,7 @@ import facebook4j.internal.org.json.JSONObject;
 
     @Override
     public String toString() {
+        decode(ALL_FIELDS);
         return "UserJSONImpl [id=" + id + ", name=" + name + ", firstName="
                 + firstName + ", middleName=" + middleName + ", lastName="
                 + lastName + ", gender=" + gender + ", locale=" + locale
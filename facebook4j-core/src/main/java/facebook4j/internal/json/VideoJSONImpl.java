@@ -33,10 +33,12 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.processor.JSONDecoder;
 
 /**
  * @author Ryuji Yamashita - roundrop at gmail.com
  */
+@JSONDecoder(Video.class)
 /*package*/ final class VideoJSONImpl extends FacebookResponseImpl implements Video, java.io.Serializable {
     private static final long serialVersionUID = -7490753250841393087L;
     
@@ -45,10 +47,10 @@ import facebook4j.internal.org.json.JSONObject;
     private List<IdNameEntity> tags;
     private String name;
     private String description;
-    private URL picture;
+    private LazyURL picture;
     private String embedHtml;
-    private URL icon;
-    private URL source;
+    private LazyURL icon;
+    private LazyURL source;
     private Date createdTime;
     private Date updatedTime;
     private PagableList<Comment> comments;
@@ -58,7 +60,6 @@ import facebook4j.internal.org.json.JSONObject;
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -83,10 +84,10 @@ import facebook4j.internal.org.json.JSONObject;
             }
             name = getRawString("name", json);
             description = getRawString("description", json);
-            picture = getURL("picture", json);
+            picture = LazyURL.of("picture", json);
             embedHtml = getRawString("embed_html", json);
-            icon = getURL("icon", json);
-            source = getURL("source", json);
+            icon = LazyURL.of("icon", json);
+            source = LazyURL.of("source", json);
             createdTime = getISO8601Datetime("created_time", json);
             updatedTime = getISO8601Datetime("updated_time", json);
             if (!json.isNull("comments")) {
@@ -124,7 +125,7 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public URL getPicture() {
-        return picture;
+        return LazyURL.get(picture);
     }
 
     public String getEmbedHtml() {
@@ -132,11 +133,11 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     public URL getIcon() {
-        return icon;
+        return LazyURL.get(icon);
     }
 
     public URL getSource() {
-        return source;
+        return LazyURL.get(source);
     }
 
     public Date getCreatedTime() {
@@ -154,9 +155,6 @@ import facebook4j.internal.org.json.JSONObject;
     /*package*/
     static ResponseList<Video> createVideoList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
-            if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
             int size = list.length();
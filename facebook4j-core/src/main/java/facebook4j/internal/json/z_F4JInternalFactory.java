@@ -23,6 +23,7 @@ import facebook4j.Achievement;
 import facebook4j.Activity;
 import facebook4j.Album;
 import facebook4j.Application;
+import facebook4j.BatchResponse;
 import facebook4j.Book;
 import facebook4j.Checkin;
 import facebook4j.Comment;
@@ -58,6 +59,7 @@ import facebook4j.Post;
 import facebook4j.Question;
 import facebook4j.QuestionVotes;
 import facebook4j.RSVPStatus;
+import facebook4j.Reading;
 import facebook4j.ResponseList;
 import facebook4j.Score;
 import facebook4j.Subscribedto;
@@ -77,7 +79,9 @@ public interface z_F4JInternalFactory extends java.io.Serializable {
 
     User createUser(JSONObject json) throws FacebookException;
     User createUser(HttpResponse res) throws FacebookException;
+    User createUser(HttpResponse res, Reading reading) throws FacebookException;
     ResponseList<User> createUserList(HttpResponse res) throws FacebookException;
+    ResponseList<User> createUserList(HttpResponse res, Reading reading) throws FacebookException;
     List<User> createUserArray(HttpResponse res) throws FacebookException;
 
     IdNameEntity createIdNameEntity(HttpResponse res) throws FacebookException;
@@ -110,7 +114,9 @@ public interface z_F4JInternalFactory extends java.io.Serializable {
     ResponseList<Family> createFamilyList(HttpResponse res) throws FacebookException;
     
     ResponseList<Post> createPostList(HttpResponse res) throws FacebookException;
+    ResponseList<Post> createPostList(HttpResponse res, Reading reading) throws FacebookException;
     Post createPost(HttpResponse res) throws FacebookException;
+    Post createPost(HttpResponse res, Reading reading) throws FacebookException;
     
     Friendlist createFriendlist(HttpResponse res) throws FacebookException;
     ResponseList<Friendlist> createFriendlistList(HttpResponse res) throws FacebookException;
@@ -190,4 +196,8 @@ public interface z_F4JInternalFactory extends java.io.Serializable {
     
     <T> ResponseList<T> createResponseList(HttpResponse res, Class<T> jsonObjectType) throws FacebookException;
 
+    <T> T createObject(HttpResponse res, Class<T> jsonObjectType) throws FacebookException;
+
+    List<BatchResponse> createBatchResponseList(HttpResponse res) throws FacebookException;
+
 }
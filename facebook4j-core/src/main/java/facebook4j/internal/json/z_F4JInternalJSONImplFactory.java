@@ -17,12 +17,14 @@
 package facebook4j.internal.json;
 
 import java.util.List;
+import java.util.Set;
 
 import facebook4j.Account;
 import facebook4j.Achievement;
 import facebook4j.Activity;
 import facebook4j.Album;
 import facebook4j.Application;
+import facebook4j.BatchResponse;
 import facebook4j.Book;
 import facebook4j.Checkin;
 import facebook4j.Comment;
@@ -58,6 +60,7 @@ import facebook4j.Post;
 import facebook4j.Question;
 import facebook4j.QuestionVotes;
 import facebook4j.RSVPStatus;
+import facebook4j.Reading;
 import facebook4j.ResponseList;
 import facebook4j.Score;
 import facebook4j.Subscribedto;
@@ -84,7 +87,11 @@ public class z_F4JInternalJSONImplFactory implements z_F4JInternalFactory {
     }
 
     public User createUser(HttpResponse res) throws FacebookException {
-        return new UserJSONImpl(res, conf);
+        return UserJSONImpl.createUser(res, conf);
+    }
+
+    public User createUser(HttpResponse res, Reading reading) throws FacebookException {
+        return UserJSONImpl.createUser(res, conf, getFields(reading));
     }
 
     public User createUser(JSONObject json) throws FacebookException {
@@ -94,6 +101,10 @@ public class z_F4JInternalJSONImplFactory implements z_F4JInternalFactory {
     public ResponseList<User> createUserList(HttpResponse res) throws FacebookException {
         return UserJSONImpl.createUserList(res, conf);
     }
+
+    public ResponseList<User> createUserList(HttpResponse res, Reading reading) throws FacebookException {
+        return UserJSONImpl.createUserList(res, conf, getFields(reading));
+    }
     
     public List<User> createUserArray(HttpResponse res) throws FacebookException {
         return UserJSONImpl.createUserArray(res, conf);
@@ -171,12 +182,20 @@ public class z_F4JInternalJSONImplFactory implements z_F4JInternalFactory {
     }
 
     public Post createPost(HttpResponse res) throws FacebookException {
-        return new PostJSONImpl(res, conf);
+        return PostJSONImpl.createPost(res, conf);
+    }
+
+    public Post createPost(HttpResponse res, Reading reading) throws FacebookException {
+        return PostJSONImpl.createPost(res, conf, getFields(reading));
     }
 
     public ResponseList<Post> createPostList(HttpResponse res) throws FacebookException {
         return PostJSONImpl.createPostList(res, conf);
     }
+
+    public ResponseList<Post> createPostList(HttpResponse res, Reading reading) throws FacebookException {
+        return PostJSONImpl.createPostList(res, conf, getFields(reading));
+    }
     
     public Friendlist createFriendlist(HttpResponse res) throws FacebookException {
         return new FriendlistJSONImpl(res, conf);
@@ -507,4 +526,74 @@ public class z_F4JInternalJSONImplFactory implements z_F4JInternalFactory {
         throw new FacebookException("The json object type: '" + jsonObjectType + "' is unrecognized.");
     }
 
+    @SuppressWarnings("unchecked")
+    public <T> T createObject(HttpResponse res, Class<T> jsonObjectType) throws FacebookException {
+        if (jsonObjectType == User.class) {
+            return (T) createUser(res);
+        }
+        if (jsonObjectType == IdNameEntity.class) {
+            return (T) createIdNameEntity(res);
+        }
+        if (jsonObjectType == Album.class) {
+            return (T) createAlbum(res);
+        }
+        if (jsonObjectType == Checkin.class) {
+            return (T) createCheckin(res);
+        }
+        if (jsonObjectType == Comment.class) {
+            return (T) createComment(res);
+        }
+        if (jsonObjectType == Domain.class) {
+            return (T) createDomain(res);
+        }
+        if (jsonObjectType == Event.class) {
+            return (T) createEvent(res);
+        }
+        if (jsonObjectType == Post.class) {
+            return (T) createPost(res);
+        }
+        if (jsonObjectType == Friendlist.class) {
+            return (T) createFriendlist(res);
+        }
+        if (jsonObjectType == Group.class) {
+            return (T) createGroup(res);
+        }
+        if (jsonObjectType == Link.class) {
+            return (T) createLink(res);
+        }
+        if (jsonObjectType == Message.class) {
+            return (T) createMessage(res);
+        }
+        if (jsonObjectType == Note.class) {
+            return (T) createNote(res);
+        }
+        if (jsonObjectType == Photo.class) {
+            return (T) createPhoto(res);
+        }
+        if (jsonObjectType == Question.class) {
+            return (T) createQuestion(res);
+        }
+        if (jsonObjectType == Video.class) {
+            return (T) createVideo(res);
+        }
+        if (jsonObjectType == Application.class) {
+            return (T) createApplication(res);
+        }
+        if (jsonObjectType == TestUser.class) {
+            return (T) createTestUser(res);
+        }
+        if (jsonObjectType == JSONObject.class) {
+            return (T) res.asJSONObject();
+        }
+        throw new FacebookException("The json object type: '" + jsonObjectType + "' is unrecognized.");
+    }
+
+    public List<BatchResponse> createBatchResponseList(HttpResponse res) throws FacebookException {
+        return BatchResponseImpl.createBatchResponseList(res, this, conf);
+    }
+
+    // the fields requested by the reading; the entities skip decoding the others
+    private static Set<String> getFields(Reading reading) {
+        return reading == null ? null : reading.getFields();
+    }
 }
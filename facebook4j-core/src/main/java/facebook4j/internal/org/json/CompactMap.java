@@ -0,0 +1,277 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package facebook4j.internal.org.json;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * The map where a JSONObject keeps its properties.<br>
+ * Most objects in Graph API responses are small, e.g. from, paging or privacy, so up to {@value #THRESHOLD}
+ * entries are kept in arrays and looked up linearly, in insertion order; a bigger object moves to a HashMap.<br>
+ * Numbers read by JSONTokener are kept unboxed until they are first read.
+ */
+/*package*/ final class CompactMap extends AbstractMap {
+
+    /*package*/ static final int THRESHOLD = 8;
+
+    // markers of the unboxed values in the numbers array
+    private static final Object INTEGRAL = new Object();
+    private static final Object DECIMAL = new Object();
+
+    private Object[] keys;
+    private Object[] values;
+    private long[] numbers;
+    private int size;
+    private HashMap map;
+
+    public int size() {
+        return map != null ? map.size() : size;
+    }
+
+    public boolean containsKey(Object key) {
+        return map != null ? map.containsKey(key) : indexOf(key) >= 0;
+    }
+
+    public Object get(Object key) {
+        if (map != null) {
+            return map.get(key);
+        }
+        int i = indexOf(key);
+        return i < 0 ? null : valueAt(i);
+    }
+
+    public Object put(Object key, Object value) {
+        if (map != null) {
+            return map.put(key, value);
+        }
+        int i = indexOf(key);
+        if (i >= 0) {
+            Object old = valueAt(i);
+            values[i] = value;
+            return old;
+        }
+        if (size == THRESHOLD) {
+            toHashMap();
+            return map.put(key, value);
+        }
+        i = add(key);
+        values[i] = value;
+        return null;
+    }
+
+    /**
+     * Puts a number that fits in a long, boxed as an Integer or a Long on first read as
+     * JSONObject.stringToValue() would.
+     */
+    /*package*/ void putLong(Object key, long value) {
+        putNumber(key, INTEGRAL, value);
+    }
+
+    /*package*/ void putDouble(Object key, double value) {
+        putNumber(key, DECIMAL, Double.doubleToRawLongBits(value));
+    }
+
+    private void putNumber(Object key, Object type, long bits) {
+        int i = map != null ? -1 : indexOf(key);
+        if (i < 0) {
+            if (map != null || size == THRESHOLD) {
+                put(key, box(type, bits));
+                return;
+            }
+            i = add(key);
+        }
+        if (numbers == null) {
+            numbers = new long[keys.length];
+        }
+        values[i] = type;
+        numbers[i] = bits;
+    }
+
+    public Object remove(Object key) {
+        if (map != null) {
+            return map.remove(key);
+        }
+        int i = indexOf(key);
+        if (i < 0) {
+            return null;
+        }
+        Object old = valueAt(i);
+        removeAt(i);
+        return old;
+    }
+
+    public void clear() {
+        map = null;
+        keys = null;
+        values = null;
+        numbers = null;
+        size = 0;
+    }
+
+    public Set entrySet() {
+        if (map != null) {
+            return map.entrySet();
+        }
+        return new AbstractSet() {
+            public Iterator iterator() {
+                return new EntryIterator();
+            }
+
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int add(Object key) {
+        if (keys == null) {
+            keys = new Object[4];
+            values = new Object[4];
+        } else if (size == keys.length) {
+            keys = Arrays.copyOf(keys, THRESHOLD);
+            values = Arrays.copyOf(values, THRESHOLD);
+            if (numbers != null) {
+                numbers = Arrays.copyOf(numbers, THRESHOLD);
+            }
+        }
+        keys[size] = key;
+        return size++;
+    }
+
+    private Object valueAt(int i) {
+        Object value = values[i];
+        if (value == INTEGRAL || value == DECIMAL) {
+            // boxes once, and keeps the box
+            value = box(value, numbers[i]);
+            values[i] = value;
+        }
+        return value;
+    }
+
+    private static Object box(Object type, long bits) {
+        if (type == DECIMAL) {
+            return Double.valueOf(Double.longBitsToDouble(bits));
+        }
+        if (bits == (int) bits) {
+            return Integer.valueOf((int) bits);
+        }
+        return Long.valueOf(bits);
+    }
+
+    private void removeAt(int i) {
+        int moved = size - i - 1;
+        System.arraycopy(keys, i + 1, keys, i, moved);
+        System.arraycopy(values, i + 1, values, i, moved);
+        if (numbers != null) {
+            System.arraycopy(numbers, i + 1, numbers, i, moved);
+        }
+        size--;
+        keys[size] = null;
+        values[size] = null;
+    }
+
+    private void toHashMap() {
+        HashMap hashMap = new HashMap();
+        for (int i = 0; i < size; i++) {
+            hashMap.put(keys[i], valueAt(i));
+        }
+        clear();
+        map = hashMap;
+    }
+
+    private final class EntryIterator implements Iterator {
+        private int next;
+        private int last = -1;
+
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        public Object next() {
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new Entry(keys[last]);
+        }
+
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            removeAt(last);
+            next = last;
+            last = -1;
+        }
+    }
+
+    private final class Entry implements Map.Entry {
+        private final Object key;
+
+        Entry(Object key) {
+            this.key = key;
+        }
+
+        public Object getKey() {
+            return key;
+        }
+
+        public Object getValue() {
+            return get(key);
+        }
+
+        public Object setValue(Object value) {
+            return put(key, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry that = (Map.Entry) o;
+            Object value = getValue();
+            return key.equals(that.getKey()) && (value == null ? that.getValue() == null : value.equals(that.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            Object value = getValue();
+            return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
@@ -31,7 +31,6 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
@@ -137,7 +136,7 @@ public class JSONObject {
     /**
      * The map where the JSONObject's properties are kept.
      */
-    private Map map;
+    private CompactMap map;
 
 
     /**
@@ -153,7 +152,7 @@ public class JSONObject {
      * Construct an empty JSONObject.
      */
     public JSONObject() {
-        this.map = new HashMap();
+        this.map = new CompactMap();
     }
 
 
@@ -202,7 +201,7 @@ public class JSONObject {
                     return;
                 default:
                     x.back();
-                    key = x.nextValue().toString();
+                    key = x.nextKey();
             }
 
 // The key is followed by ':'. We will also tolerate '=' or '=>'.
@@ -215,7 +214,20 @@ public class JSONObject {
             } else if (c != ':') {
                 throw x.syntaxError("Expected a ':' after a key");
             }
-            putOnce(key, x.nextValue());
+            Object value = x.nextValue(true);
+            if (value == JSONTokener.INTEGRAL) {
+                if (has(key)) {
+                    throw new JSONException("Duplicate key \"" + key + "\"");
+                }
+                this.map.putLong(key, x.integral);
+            } else if (value == JSONTokener.DECIMAL) {
+                if (has(key)) {
+                    throw new JSONException("Duplicate key \"" + key + "\"");
+                }
+                this.map.putDouble(key, x.decimal);
+            } else {
+                putOnce(key, value);
+            }
 
 // Pairs are separated by ','. We will also tolerate ';'.
 
@@ -244,7 +256,7 @@ public class JSONObject {
      * @throws JSONException
      */
     public JSONObject(Map map) {
-        this.map = new HashMap();
+        this.map = new CompactMap();
         if (map != null) {
             Iterator i = map.entrySet().iterator();
             while (i.hasNext()) {
@@ -0,0 +1,486 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package facebook4j.internal.org.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+
+/**
+ * A pull parser reading JSON straight from its UTF-8 bytes.<br>
+ * Unlike {@link JSONTokener}, it does not build a tree: the caller pulls one token at a time with {@link #next()}
+ * and binds the values it needs, materializing a sub-tree with {@link #readValue()} only where it wants one.
+ * <pre>
+ * parser.next();                                     // START_OBJECT
+ * while (parser.next() == Token.FIELD_NAME) {
+ *     String name = parser.getText();
+ *     parser.next();                                 // the value
+ *     if (name.equals("id")) {
+ *         id = parser.getValueAsString();
+ *     } else {
+ *         parser.skipValue();
+ *     }
+ * }
+ * </pre>
+ */
+public final class JSONPullParser {
+
+    public enum Token {
+        START_OBJECT, END_OBJECT, START_ARRAY, END_ARRAY, FIELD_NAME, STRING, NUMBER, TRUE, FALSE, NULL, END_DOCUMENT
+    }
+
+    private static final int IN_OBJECT = 1;
+    private static final int IN_ARRAY = 2;
+    // states of a container
+    private static final int EMPTY = 0;
+    private static final int AFTER_NAME = 1;
+    private static final int AFTER_VALUE = 2;
+
+    private final InputStream in;
+    private final byte[] buf;
+    private int pos;
+    private int limit;
+    private long consumed;
+
+    private int[] kinds = new int[16];
+    private int[] states = new int[16];
+    private int depth;
+    private boolean started;
+
+    private Token token;
+    private char[] text = new char[64];
+    private int textLength;
+
+    private StringTable strings;
+    private int maxSharedValueLength;
+
+    /**
+     * @param in the UTF-8 encoded JSON, closed by {@link #close()}
+     */
+    public JSONPullParser(InputStream in) {
+        this.in = in;
+        this.buf = new byte[8192];
+    }
+
+    public JSONPullParser(String json) {
+        this.in = null;
+        try {
+            this.buf = json.getBytes("UTF-8");
+        } catch (UnsupportedEncodingException neverHappen) {
+            throw new AssertionError("will never happen");
+        }
+        this.limit = buf.length;
+    }
+
+    /**
+     * Moves to the next token.
+     *
+     * @return the token
+     * @throws JSONException if the JSON is malformed or cannot be read
+     */
+    public Token next() throws JSONException {
+        int c = skipWhitespace();
+        if (depth == 0) {
+            if (started) {
+                return token = Token.END_DOCUMENT;
+            }
+            started = true;
+            return value(c);
+        }
+        int top = depth - 1;
+        if (kinds[top] == IN_OBJECT) {
+            switch (states[top]) {
+                case EMPTY:
+                    if (c == '}') {
+                        return pop(Token.END_OBJECT);
+                    }
+                    return name(c);
+                case AFTER_NAME:
+                    return value(c);
+                default:
+                    if (c == ',') {
+                        return name(skipWhitespace());
+                    }
+                    if (c == '}') {
+                        return pop(Token.END_OBJECT);
+                    }
+                    throw syntaxError("Expected a ',' or '}'");
+            }
+        }
+        if (states[top] == EMPTY) {
+            if (c == ']') {
+                return pop(Token.END_ARRAY);
+            }
+            return value(c);
+        }
+        if (c == ',') {
+            return value(skipWhitespace());
+        }
+        if (c == ']') {
+            return pop(Token.END_ARRAY);
+        }
+        throw syntaxError("Expected a ',' or ']'");
+    }
+
+    /**
+     * @return the current token, or null before the first call to {@link #next()}
+     */
+    public Token getToken() {
+        return token;
+    }
+
+    /**
+     * @return the field name, the string, or the number as it is written
+     */
+    public String getText() {
+        if (strings != null
+                && (token == Token.FIELD_NAME || token == Token.STRING && textLength <= maxSharedValueLength)) {
+            return strings.get(text, 0, textLength);
+        }
+        return new String(text, 0, textLength);
+    }
+
+    /**
+     * Makes {@link #getText()} take the field names, and the string values no longer than the given length,
+     * from the table instead of allocating a new String for each of them.
+     *
+     * @param strings        the table, or null to stop sharing
+     * @param maxValueLength the maximum length of the shared values, 0 to share the field names only
+     */
+    public void setStringTable(StringTable strings, int maxValueLength) {
+        this.strings = strings;
+        this.maxSharedValueLength = maxValueLength;
+    }
+
+    /**
+     * Returns the current value the way {@link JSONObject#getString(String)} would:
+     * null for JSON null, and the JSON text of a number, a boolean, an object or an array.
+     * An object or an array is consumed.
+     *
+     * @return the value as a string
+     * @throws JSONException if the JSON is malformed
+     */
+    public String getValueAsString() throws JSONException {
+        switch (token) {
+            case STRING:
+                return getText();
+            case NUMBER:
+                return JSONObject.stringToValue(getText()).toString();
+            case TRUE:
+                return "true";
+            case FALSE:
+                return "false";
+            case NULL:
+                return null;
+            case START_OBJECT:
+            case START_ARRAY:
+                return readValue().toString();
+            default:
+                throw syntaxError("Expected a value but was " + token);
+        }
+    }
+
+    /**
+     * Materializes the current value, consuming it if it is an object or an array.
+     *
+     * @return a {@link JSONObject}, a {@link JSONArray}, a String, a Number, a Boolean or {@link JSONObject#NULL}
+     * @throws JSONException if the JSON is malformed
+     */
+    public Object readValue() throws JSONException {
+        switch (token) {
+            case START_OBJECT:
+                JSONObject object = new JSONObject();
+                while (next() == Token.FIELD_NAME) {
+                    String name = getText();
+                    next();
+                    object.put(name, readValue());
+                }
+                return object;
+            case START_ARRAY:
+                JSONArray array = new JSONArray();
+                while (next() != Token.END_ARRAY) {
+                    array.put(readValue());
+                }
+                return array;
+            case STRING:
+                return getText();
+            case NUMBER:
+                return JSONObject.stringToValue(getText());
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case NULL:
+                return JSONObject.NULL;
+            default:
+                throw syntaxError("Expected a value but was " + token);
+        }
+    }
+
+    /**
+     * Skips the current value, and everything inside it if it is an object or an array.
+     *
+     * @throws JSONException if the JSON is malformed
+     */
+    public void skipValue() throws JSONException {
+        if (token != Token.START_OBJECT && token != Token.START_ARRAY) {
+            return;
+        }
+        int target = depth - 1;
+        while (depth > target) {
+            if (next() == Token.END_DOCUMENT) {
+                throw syntaxError("Unterminated value");
+            }
+        }
+    }
+
+    public void close() {
+        if (in != null) {
+            try {
+                in.close();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+
+    private Token value(int c) throws JSONException {
+        if (depth > 0) {
+            states[depth - 1] = AFTER_VALUE;
+        }
+        switch (c) {
+            case '{':
+                push(IN_OBJECT);
+                return token = Token.START_OBJECT;
+            case '[':
+                push(IN_ARRAY);
+                return token = Token.START_ARRAY;
+            case '"':
+                readString();
+                return token = Token.STRING;
+            case 't':
+                expect("rue");
+                return token = Token.TRUE;
+            case 'f':
+                expect("alse");
+                return token = Token.FALSE;
+            case 'n':
+                expect("ull");
+                return token = Token.NULL;
+            case -1:
+                throw syntaxError("Unexpected end of JSON");
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    readNumber(c);
+                    return token = Token.NUMBER;
+                }
+                throw syntaxError("Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    private Token name(int c) throws JSONException {
+        if (c != '"') {
+            throw syntaxError("Expected a field name");
+        }
+        readString();
+        if (skipWhitespace() != ':') {
+            throw syntaxError("Expected a ':' after a key");
+        }
+        states[depth - 1] = AFTER_NAME;
+        return token = Token.FIELD_NAME;
+    }
+
+    private void push(int kind) {
+        if (depth == kinds.length) {
+            int[] newKinds = new int[depth * 2];
+            int[] newStates = new int[depth * 2];
+            System.arraycopy(kinds, 0, newKinds, 0, depth);
+            System.arraycopy(states, 0, newStates, 0, depth);
+            kinds = newKinds;
+            states = newStates;
+        }
+        kinds[depth] = kind;
+        states[depth] = EMPTY;
+        depth++;
+    }
+
+    private Token pop(Token end) {
+        depth--;
+        return token = end;
+    }
+
+    private void expect(String rest) throws JSONException {
+        for (int i = 0; i < rest.length(); i++) {
+            if (read() != rest.charAt(i)) {
+                throw syntaxError("Expected '" + rest.charAt(i) + "'");
+            }
+        }
+    }
+
+    private void readNumber(int c) throws JSONException {
+        textLength = 0;
+        append((char) c);
+        while (true) {
+            if (pos == limit && !fill()) {
+                return;
+            }
+            c = buf[pos];
+            if ((c >= '0' && c <= '9') || c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+                append((char) c);
+                pos++;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void readString() throws JSONException {
+        textLength = 0;
+        while (true) {
+            int c = read();
+            if (c == '"') {
+                return;
+            }
+            if (c == '\\') {
+                readEscape();
+            } else if (c < 0x80) {
+                if (c < 0) {
+                    throw syntaxError("Unterminated string");
+                }
+                append((char) c);
+            } else {
+                readMultiByte(c);
+            }
+        }
+    }
+
+    private void readEscape() throws JSONException {
+        int c = read();
+        switch (c) {
+            case 'b':
+                append('\b');
+                break;
+            case 't':
+                append('\t');
+                break;
+            case 'n':
+                append('\n');
+                break;
+            case 'f':
+                append('\f');
+                break;
+            case 'r':
+                append('\r');
+                break;
+            case 'u':
+                int code = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw syntaxError("Illegal escape.");
+                    }
+                    code = (code << 4) | digit;
+                }
+                append((char) code);
+                break;
+            case '"':
+            case '\'':
+            case '\\':
+            case '/':
+                append((char) c);
+                break;
+            default:
+                throw syntaxError("Illegal escape.");
+        }
+    }
+
+    private void readMultiByte(int c) throws JSONException {
+        int count;
+        int codePoint;
+        if ((c & 0xE0) == 0xC0) {
+            count = 1;
+            codePoint = c & 0x1F;
+        } else if ((c & 0xF0) == 0xE0) {
+            count = 2;
+            codePoint = c & 0x0F;
+        } else if ((c & 0xF8) == 0xF0) {
+            count = 3;
+            codePoint = c & 0x07;
+        } else {
+            throw syntaxError("Malformed UTF-8");
+        }
+        for (int i = 0; i < count; i++) {
+            int next = read();
+            if ((next & 0xC0) != 0x80) {
+                throw syntaxError("Malformed UTF-8");
+            }
+            codePoint = (codePoint << 6) | (next & 0x3F);
+        }
+        if (codePoint < 0x10000) {
+            append((char) codePoint);
+        } else {
+            for (char surrogate : Character.toChars(codePoint)) {
+                append(surrogate);
+            }
+        }
+    }
+
+    private void append(char c) {
+        if (textLength == text.length) {
+            char[] newText = new char[textLength * 2];
+            System.arraycopy(text, 0, newText, 0, textLength);
+            text = newText;
+        }
+        text[textLength++] = c;
+    }
+
+    private int skipWhitespace() throws JSONException {
+        int c;
+        do {
+            c = read();
+        } while (c == ' ' || c == '\n' || c == '\r' || c == '\t');
+        return c;
+    }
+
+    private int read() throws JSONException {
+        if (pos == limit && !fill()) {
+            return -1;
+        }
+        return buf[pos++] & 0xFF;
+    }
+
+    private boolean fill() throws JSONException {
+        if (in == null) {
+            return false;
+        }
+        try {
+            consumed += limit;
+            pos = 0;
+            limit = 0;
+            int n = in.read(buf);
+            if (n <= 0) {
+                return false;
+            }
+            limit = n;
+            return true;
+        } catch (IOException ioe) {
+            throw new JSONException(ioe);
+        }
+    }
+
+    private JSONException syntaxError(String message) {
+        return new JSONException(message + " at " + (consumed + pos));
+    }
+}
@@ -1,11 +1,10 @@
 package facebook4j.internal.org.json;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
-import java.io.StringReader;
+import java.util.Arrays;
 
 /*
 Copyright (c) 2002 JSON.org
@@ -35,18 +34,47 @@ SOFTWARE.
  * A JSONTokener takes a source string and extracts characters and tokens from
  * it. It is used by the JSONObject and JSONArray constructors to parse
  * JSON source strings.
+ * <p>
+ * The source is read into a window of characters, and strings, numbers and
+ * whitespace are scanned in runs over that window rather than one character
+ * at a time.
  * @author JSON.org
  * @version 2010-12-24
  */
 public class JSONTokener {
 
-    private int 	character;
-	private boolean eof;
-    private int 	index;
-    private int 	line;
-    private char 	previous;
-    private Reader 	reader;
-    private boolean usePrevious;
+    private static final int BUFFER_SIZE = 8192;
+
+    /** The characters, besides controls, that end an unquoted value. */
+    private static final boolean[] DELIMITERS = new boolean[128];
+
+    static {
+        String delimiters = ",:]}/\\\"[{;=#";
+        for (int i = 0; i < delimiters.length(); i++) {
+            DELIMITERS[delimiters.charAt(i)] = true;
+        }
+    }
+
+    /** Returned by nextValue(true) for a plain integer, whose value is left in {@link #integral}. */
+    /*package*/ static final Object INTEGRAL = new Object();
+
+    /*package*/ long integral;
+
+    /** Returned by nextValue(true) for a decimal number, whose value is left in {@link #decimal}. */
+    /*package*/ static final Object DECIMAL = new Object();
+
+    /*package*/ double decimal;
+
+    private char[]  buffer;
+    private int     pos;
+    private int     limit;
+    private int     offset;
+    private boolean eof;
+    private int     line;
+    private int     lineStart;
+    private Reader  reader;
+    private StringTable strings;
+    private int     maxSharedValueLength;
 
 
     /**
@@ -55,22 +83,18 @@ public class JSONTokener {
      * @param reader     A reader.
      */
     public JSONTokener(Reader reader) {
-        this.reader = reader.markSupported() ? 
-        		reader : new BufferedReader(reader);
-        this.eof = false;
-        this.usePrevious = false;
-        this.previous = 0;
-        this.index = 0;
-        this.character = 1;
+        this.reader = reader;
+        this.buffer = new char[BUFFER_SIZE];
         this.line = 1;
+        this.lineStart = -1;
     }
-    
-    
+
+
     /**
      * Construct a JSONTokener from an InputStream.
      */
     public JSONTokener(InputStream inputStream) throws JSONException {
-        this(new InputStreamReader(inputStream));    	
+        this(new InputStreamReader(inputStream));
     }
 
 
@@ -80,7 +104,23 @@ public class JSONTokener {
      * @param s     A source string.
      */
     public JSONTokener(String s) {
-        this(new StringReader(s));
+        this.buffer = s.toCharArray();
+        this.limit = buffer.length;
+        this.line = 1;
+        this.lineStart = -1;
+    }
+
+
+    /**
+     * Makes the tokener take the field names, and the string values no longer than the given length,
+     * from the table instead of allocating a new String for each of them.
+     *
+     * @param strings        the table, or null to stop sharing
+     * @param maxValueLength the maximum length of the shared values, 0 to share the field names only
+     */
+    public void setStringTable(StringTable strings, int maxValueLength) {
+        this.strings = strings;
+        this.maxSharedValueLength = maxValueLength;
     }
 
 
@@ -90,13 +130,15 @@ public class JSONTokener {
      * the next number or identifier.
      */
     public void back() throws JSONException {
-        if (usePrevious || index <= 0) {
+        if (eof) {
+            // next() returns the end of the source again
+            eof = false;
+            return;
+        }
+        if (pos <= 0) {
             throw new JSONException("Stepping back two steps is not supported");
         }
-        this.index -= 1;
-        this.character -= 1;
-        this.usePrevious = true;
-        this.eof = false;
+        pos -= 1;
     }
 
 
@@ -118,9 +160,9 @@ public class JSONTokener {
         }
         return -1;
     }
-    
+
     public boolean end() {
-    	return eof && !usePrevious;    	
+        return eof;
     }
 
 
@@ -133,7 +175,7 @@ public class JSONTokener {
         next();
         if (end()) {
             return false;
-        } 
+        }
         back();
         return true;
     }
@@ -145,34 +187,15 @@ public class JSONTokener {
      * @return The next character, or 0 if past the end of the source string.
      */
     public char next() throws JSONException {
-        int c;
-        if (this.usePrevious) {
-        	this.usePrevious = false;
-            c = this.previous;
-        } else {
-	        try {
-	            c = this.reader.read();
-	        } catch (IOException exception) {
-	            throw new JSONException(exception);
-	        }
-	
-	        if (c <= 0) { // End of stream
-	        	this.eof = true;
-	        	c = 0;
-	        } 
-        }
-    	this.index += 1;
-    	if (this.previous == '\r') {
-    		this.line += 1;
-    		this.character = c == '\n' ? 0 : 1;
-    	} else if (c == '\n') {
-    		this.line += 1;
-    		this.character = 0;
-    	} else {
-    		this.character += 1;
-    	}
-    	this.previous = (char) c;
-        return this.previous;
+        if (pos == limit && !fill()) {
+            eof = true;
+            return 0;
+        }
+        char c = buffer[pos++];
+        if (c == '\n' || c == '\r') {
+            newLine(c);
+        }
+        return c;
     }
 
 
@@ -213,7 +236,7 @@ public class JSONTokener {
          while (pos < n) {
              chars[pos] = next();
              if (end()) {
-                 throw syntaxError("Substring bounds error");                 
+                 throw syntaxError("Substring bounds error");
              }
              pos += 1;
          }
@@ -228,10 +251,17 @@ public class JSONTokener {
      */
     public char nextClean() throws JSONException {
         for (;;) {
-            char c = next();
-            if (c == 0 || c > ' ') {
+            if (pos == limit && !fill()) {
+                eof = true;
+                return 0;
+            }
+            char c = buffer[pos++];
+            if (c > ' ' || c == 0) {
                 return c;
             }
+            if (c == '\n' || c == '\r') {
+                newLine(c);
+            }
         }
     }
 
@@ -248,10 +278,54 @@ public class JSONTokener {
      * @throws JSONException Unterminated string.
      */
     public String nextString(char quote) throws JSONException {
-        char c;
-        StringBuffer sb = new StringBuffer();
+        return nextString(quote, false);
+    }
+
+
+    /**
+     * Get the next key of an object, a quoted string or, as tolerated, an unquoted value.
+     *
+     * @return the key
+     */
+    /*package*/ String nextKey() throws JSONException {
+        char c = nextClean();
+        if (c == '"' || c == '\'') {
+            return nextString(c, true);
+        }
+        back();
+        return nextValue().toString();
+    }
+
+
+    private String nextString(char quote, boolean key) throws JSONException {
+        StringBuilder sb = null;
         for (;;) {
-            c = next();
+            // copies the run up to the quote, an escape or the end of the window at once
+            int start = pos;
+            while (pos < limit) {
+                char c = buffer[pos];
+                if (c == quote) {
+                    int length = pos - start;
+                    pos += 1;
+                    if (sb != null) {
+                        return sb.append(buffer, start, length).toString();
+                    }
+                    if (strings != null && (key || length <= maxSharedValueLength)) {
+                        // only strings read in one go, without escapes, are shared
+                        return strings.get(buffer, start, length);
+                    }
+                    return new String(buffer, start, length);
+                }
+                if (c == '\\' || c == '\n' || c == '\r' || c == 0) {
+                    break;
+                }
+                pos += 1;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(pos - start + 16);
+            }
+            sb.append(buffer, start, pos - start);
+            char c = next();
             switch (c) {
             case 0:
             case '\n':
@@ -282,13 +356,14 @@ public class JSONTokener {
                 case '\'':
                 case '\\':
                 case '/':
-                	sb.append(c);
-                	break;
+                    sb.append(c);
+                    break;
                 default:
                     throw syntaxError("Illegal escape.");
                 }
                 break;
             default:
+                // the window ended in the middle of the string
                 if (c == quote) {
                     return sb.toString();
                 }
@@ -305,7 +380,7 @@ public class JSONTokener {
      * @return   A string.
      */
     public String nextTo(char delimiter) throws JSONException {
-        StringBuffer sb = new StringBuffer();
+        StringBuilder sb = new StringBuilder();
         for (;;) {
             char c = next();
             if (c == delimiter || c == 0 || c == '\n' || c == '\r') {
@@ -327,7 +402,7 @@ public class JSONTokener {
      */
     public String nextTo(String delimiters) throws JSONException {
         char c;
-        StringBuffer sb = new StringBuffer();
+        StringBuilder sb = new StringBuilder();
         for (;;) {
             c = next();
             if (delimiters.indexOf(c) >= 0 || c == 0 ||
@@ -350,8 +425,18 @@ public class JSONTokener {
      * @return An object.
      */
     public Object nextValue() throws JSONException {
+        return nextValue(false);
+    }
+
+
+    /**
+     * Get the next value, leaving a plain integer unboxed if asked to.
+     *
+     * @param unboxed true to return {@link #INTEGRAL} for a plain integer and {@link #DECIMAL} for a decimal number
+     * @return An object.
+     */
+    /*package*/ Object nextValue(boolean unboxed) throws JSONException {
         char c = nextClean();
-        String string;
 
         switch (c) {
             case '"':
@@ -374,18 +459,32 @@ public class JSONTokener {
          * formatting character.
          */
 
-        StringBuffer sb = new StringBuffer();
-        while (c >= ' ' && ",:]}/\\\"[{;=#".indexOf(c) < 0) {
-            sb.append(c);
-            c = next();
-        }
-        back();
-
-        string = sb.toString().trim();
-        if (string.equals("")) {
+        if (isDelimiter(c)) {
+            back();
             throw syntaxError("Missing value");
         }
-        return JSONObject.stringToValue(string);
+        int start = pos - 1;
+        StringBuilder sb = null;
+        for (;;) {
+            while (pos < limit && !isDelimiter(buffer[pos])) {
+                pos += 1;
+            }
+            if (pos < limit || reader == null) {
+                break;
+            }
+            // the window ended in the middle of the value
+            if (sb == null) {
+                sb = new StringBuilder();
+            }
+            sb.append(buffer, start, pos - start);
+            fill();
+            start = pos;
+        }
+        if (sb == null) {
+            return toValue(buffer, start, pos - start, unboxed);
+        }
+        sb.append(buffer, start, pos - start);
+        return JSONObject.stringToValue(sb.toString().trim());
     }
 
 
@@ -397,30 +496,28 @@ public class JSONTokener {
      * is not found.
      */
     public char skipTo(char to) throws JSONException {
-        char c;
-        try {
-            int startIndex = this.index;
-            int startCharacter = this.character;
-            int startLine = this.line;
-            reader.mark(Integer.MAX_VALUE);
-            do {
-                c = next();
-                if (c == 0) {
-                    reader.reset();
-                    this.index = startIndex;
-                    this.character = startCharacter;
-                    this.line = startLine;
-                    return c;
+        int i = pos;
+        for (;;) {
+            for (; i < limit; i++) {
+                if (buffer[i] == to) {
+                    while (pos < i) {
+                        char c = buffer[pos++];
+                        if (c == '\n' || c == '\r') {
+                            newLine(c);
+                        }
+                    }
+                    return to;
                 }
-            } while (c != to);
-        } catch (IOException exc) {
-            throw new JSONException(exc);
+            }
+            // keeps the skipped characters in the window, in case it is not found
+            int shift = offset;
+            if (!fill()) {
+                return 0;
+            }
+            i -= offset - shift;
         }
-
-        back();
-        return c;
     }
-    
+
 
     /**
      * Make a JSONException to signal a syntax error.
@@ -440,7 +537,128 @@ public class JSONTokener {
      */
     @Override
     public String toString() {
-        return " at " + index + " [character " + this.character + " line " + 
-        	this.line + "]";
+        int index = offset + pos;
+        return " at " + index + " [character " + (index - lineStart) + " line " +
+            this.line + "]";
+    }
+
+
+    /**
+     * Read more of the source into the window. The characters from the one
+     * before the current position on are kept, so that back() works across
+     * windows; the window grows if they fill it.
+     *
+     * @return false if the end of the source has been reached.
+     */
+    private boolean fill() throws JSONException {
+        if (reader == null) {
+            return false;
+        }
+        int from = pos > 0 ? pos - 1 : 0;
+        if (from > 0) {
+            System.arraycopy(buffer, from, buffer, 0, limit - from);
+            offset += from;
+            pos -= from;
+            limit -= from;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int n;
+        try {
+            n = reader.read(buffer, limit, buffer.length - limit);
+        } catch (IOException exception) {
+            throw new JSONException(exception);
+        }
+        if (n <= 0) {
+            reader = null;
+            return false;
+        }
+        limit += n;
+        return true;
+    }
+
+
+    /**
+     * Count a line for the '\n' or '\r' just read, "\r\n" being one line.
+     */
+    private void newLine(char c) {
+        if (c != '\n' || pos < 2 || buffer[pos - 2] != '\r') {
+            line += 1;
+        }
+        lineStart = offset + pos;
+    }
+
+
+    private static boolean isDelimiter(char c) {
+        return c < ' ' || (c < 128 && DELIMITERS[c]);
+    }
+
+
+    /**
+     * Convert unquoted text to a value as JSONObject.stringToValue() does,
+     * parsing the plain integers and literals straight from the window.
+     */
+    private Object toValue(char[] chars, int start, int length, boolean unboxed) {
+        char b = chars[start];
+        if (length == 4 && b == 't' && chars[start + 1] == 'r' && chars[start + 2] == 'u' && chars[start + 3] == 'e') {
+            return Boolean.TRUE;
+        }
+        if (length == 4 && b == 'n' && chars[start + 1] == 'u' && chars[start + 2] == 'l' && chars[start + 3] == 'l') {
+            return JSONObject.NULL;
+        }
+        int i = b == '-' ? 1 : 0;
+        // up to 18 digits always fit in a long
+        if (length > i && length - i <= 18) {
+            long value = 0;
+            for (; i < length; i++) {
+                char c = chars[start + i];
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                value = value * 10 + (c - '0');
+            }
+            if (i == length) {
+                if (b == '-') {
+                    value = -value;
+                }
+                if (unboxed) {
+                    integral = value;
+                    return INTEGRAL;
+                }
+                if (value == (int) value) {
+                    return Integer.valueOf((int) value);
+                }
+                return Long.valueOf(value);
+            }
+        }
+        String string = new String(chars, start, length).trim();
+        if (unboxed && isDecimal(string)) {
+            try {
+                decimal = Double.parseDouble(string);
+                return DECIMAL;
+            } catch (NumberFormatException ignore) {
+                // left to stringToValue()
+            }
+        }
+        return JSONObject.stringToValue(string);
+    }
+
+
+    /**
+     * Whether JSONObject.stringToValue() would try the text as a Double.
+     */
+    private static boolean isDecimal(String string) {
+        if (string.length() == 0) {
+            return false;
+        }
+        char b = string.charAt(0);
+        if (!((b >= '0' && b <= '9') || b == '.' || b == '-' || b == '+')) {
+            return false;
+        }
+        if (b == '0' && string.length() > 2 && (string.charAt(1) == 'x' || string.charAt(1) == 'X')) {
+            return false;
+        }
+        return string.indexOf('.') > -1 || string.indexOf('e') > -1 || string.indexOf('E') > -1;
     }
-}
\ No newline at end of file
+}
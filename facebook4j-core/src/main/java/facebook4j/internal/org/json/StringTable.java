@@ -0,0 +1,92 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.org.json;
+
+/**
+ * A bounded table of canonical strings, used while parsing to share one String among the repeated
+ * field names (and, optionally, the short values) of the responses instead of allocating one per occurrence.<br>
+ * The table is a fixed array of slots indexed by the hash of the characters; a new string simply replaces
+ * the one in its slot, so the table never grows and a collision only costs a fresh String.<br>
+ * It is safe for concurrent use without locking: a slot holds an immutable String, so a reader either sees
+ * a complete string or another one, and the characters are always compared before a string is shared.
+ */
+public final class StringTable {
+
+    private static final int DEFAULT_SIZE = 8192;
+
+    private static final StringTable SHARED = new StringTable(DEFAULT_SIZE);
+
+    private final String[] slots;
+    private final int mask;
+
+    /**
+     * @param size the number of slots, rounded up to a power of two
+     */
+    public StringTable(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        int capacity = Integer.highestOneBit(size);
+        if (capacity < size) {
+            capacity <<= 1;
+        }
+        this.slots = new String[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @return the table shared by every parser of this VM
+     */
+    public static StringTable getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the canonical string for the given characters, storing a new one if the table does not have it.
+     *
+     * @param chars  the characters
+     * @param start  the index of the first character
+     * @param length the number of characters
+     * @return a string equal to the characters
+     */
+    public String get(char[] chars, int start, int length) {
+        int hash = 0;
+        for (int i = start, end = start + length; i < end; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int index = (hash ^ (hash >>> 16)) & mask;
+        String candidate = slots[index];
+        if (candidate != null && matches(candidate, chars, start, length)) {
+            return candidate;
+        }
+        String string = new String(chars, start, length);
+        slots[index] = string;
+        return string;
+    }
+
+    private static boolean matches(String candidate, char[] chars, int start, int length) {
+        if (candidate.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (candidate.charAt(i) != chars[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -22,6 +22,7 @@ import java.net.URL;
 import java.net.URLDecoder;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
@@ -53,6 +54,7 @@ import facebook4j.internal.org.json.JSONObject;
  * <li>Added getStringMap() method</li>
  * <li>Added getBooleanMap() method</li>
  * <li>Added getStringList() method</li>
+ * <li>Added getISO8601Instant() methods</li>
  * </ul>
  */
 public final class z_F4JInternalParseUtil {
@@ -60,6 +62,9 @@ public final class z_F4JInternalParseUtil {
     private static final String ISO8601_DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ssZ";
     private static final String ISO8601_DATE_FORMAT_WITHOUT_TZ = "yyyy-MM-dd'T'HH:mm:ss";
 
+    /** Returned by parseISO8601Millis() for a string not in the form Facebook returns. */
+    private static final long NOT_PARSED = Long.MIN_VALUE;
+
     private z_F4JInternalParseUtil() {
         // should never be instantiated
         throw new AssertionError();
@@ -180,7 +185,9 @@ public final class z_F4JInternalParseUtil {
     }
 
     public static double getDouble(String name, JSONObject json) {
-        String str2 = getRawString(name, json);
+        return getDouble(getRawString(name, json));
+    }
+    public static double getDouble(String str2) {
         if (null == str2 || "".equals(str2) || "null".equals(str2)) {
             return -1;
         } else {
@@ -189,7 +196,9 @@ public final class z_F4JInternalParseUtil {
     }
 
     public static boolean getBoolean(String name, JSONObject json) {
-        String str = getRawString(name, json);
+        return getBoolean(getRawString(name, json));
+    }
+    public static boolean getBoolean(String str) {
         if (null == str || "null".equals(str)) {
             return false;
         }
@@ -209,7 +218,103 @@ public final class z_F4JInternalParseUtil {
         return parseISO8601Date(dateString);
     }
 
+    public static Date getISO8601Datetime(String dateString) {
+        if (dateString == null) {
+            return null;
+        }
+        return parseISO8601Date(dateString);
+    }
+
+    public static Instant getISO8601Instant(String name, JSONObject json) throws FacebookException {
+        String dateString = getRawString(name, json);
+        if (dateString == null) {
+            return null;
+        }
+        return getISO8601Instant(dateString);
+    }
+
+    public static Instant getISO8601Instant(String dateString) {
+        if (dateString == null) {
+            return null;
+        }
+        long millis = parseISO8601Millis(dateString);
+        if (millis != NOT_PARSED) {
+            return Instant.ofEpochMilli(millis);
+        }
+        Date date = parseISO8601DateWithFormat(dateString);
+        return date == null ? null : Instant.ofEpochMilli(date.getTime());
+    }
+
     private static Date parseISO8601Date(String dateString) {
+        long millis = parseISO8601Millis(dateString);
+        if (millis != NOT_PARSED) {
+            return new Date(millis);
+        }
+        return parseISO8601DateWithFormat(dateString);
+    }
+
+    /**
+     * Parses a date-time in the form Facebook returns, e.g. 2012-06-21T16:56:49+0000, without creating any object.<br>
+     * Out of range fields roll over as with a lenient SimpleDateFormat.
+     *
+     * @param dateString the date-time
+     * @return the milliseconds since the epoch, or NOT_PARSED if the string is in any other form
+     */
+    /*package*/ static long parseISO8601Millis(String dateString) {
+        if (dateString.length() != 24
+                || dateString.charAt(4) != '-' || dateString.charAt(7) != '-' || dateString.charAt(10) != 'T'
+                || dateString.charAt(13) != ':' || dateString.charAt(16) != ':') {
+            return NOT_PARSED;
+        }
+        int year = digits(dateString, 0, 4);
+        int month = digits(dateString, 5, 2);
+        int day = digits(dateString, 8, 2);
+        int hour = digits(dateString, 11, 2);
+        int minute = digits(dateString, 14, 2);
+        int second = digits(dateString, 17, 2);
+        int offsetHours = digits(dateString, 20, 2);
+        int offsetMinutes = digits(dateString, 22, 2);
+        // the proleptic arithmetic below is only right after the Gregorian cutover
+        if ((year | day | hour | minute | second | offsetHours | offsetMinutes) < 0
+                || year < 1583 || month < 1 || month > 12) {
+            return NOT_PARSED;
+        }
+        int offset = offsetHours * 60 + offsetMinutes;
+        char sign = dateString.charAt(19);
+        if (sign == '-') {
+            offset = -offset;
+        } else if (sign != '+') {
+            return NOT_PARSED;
+        }
+        long seconds = daysSinceEpoch(year, month, day) * 86400L
+                + hour * 3600 + (minute - offset) * 60 + second;
+        return seconds * 1000L;
+    }
+
+    private static int digits(String str, int start, int length) {
+        int value = 0;
+        for (int i = start; i < start + length; i++) {
+            int digit = str.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static long daysSinceEpoch(int year, int month, int day) {
+        // counts from March so that the leap day ends the year
+        int y = month <= 2 ? year - 1 : year;
+        int era = y / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
+    }
+
+    private static Date parseISO8601DateWithFormat(String dateString) {
+        // the other forms, e.g. without an offset which is read in the default time zone
         try {
             return new SimpleDateFormat(ISO8601_DATE_FORMAT).parse(dateString);
         } catch (ParseException e1) {
@@ -232,6 +337,17 @@ public final class z_F4JInternalParseUtil {
         }
     }
     
+    public static URL getURL(String str) {
+        if (str == null) {
+            return null;
+        }
+        try {
+            return new URL(str);
+        } catch (MalformedURLException urle) {
+            return null;
+        }
+    }
+
     public static Map<String, String> getStringMap(String name, JSONObject json) throws FacebookException {
         if (json.isNull(name)) {
             return null;
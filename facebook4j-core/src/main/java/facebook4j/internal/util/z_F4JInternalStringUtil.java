@@ -16,6 +16,9 @@ package facebook4j.internal.util;
  * limitations under the License.
  */
 
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
@@ -44,6 +47,29 @@ public class z_F4JInternalStringUtil {
         return buf.toString();
     }
 
+    /**
+     * Returns a short SHA-256 digest of the string, so that secrets such as access tokens can be used as keys
+     * without being kept in memory or exposed through JMX.
+     *
+     * @param str the string
+     * @return the first 16 hex digits of the SHA-256 digest
+     */
+    public static String digest(String str) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(str.getBytes("UTF-8"));
+            StringBuilder buf = new StringBuilder(16);
+            for (int i = 0; i < 8; i++) {
+                buf.append(Character.forDigit((hash[i] >> 4) & 0xF, 16));
+                buf.append(Character.forDigit(hash[i] & 0xF, 16));
+            }
+            return buf.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError(e);
+        } catch (UnsupportedEncodingException e) {
+            throw new AssertionError(e);
+        }
+    }
+
     public static String join(int[] follows) {
         StringBuilder buf = new StringBuilder(11 * follows.length);
         for (int follow : follows) {
@@ -16,11 +16,6 @@
 
 package facebook4j.json;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
-import java.util.Map;
-
 import facebook4j.Album;
 import facebook4j.Checkin;
 import facebook4j.Comment;
@@ -40,6 +35,25 @@ import facebook4j.RSVPStatus;
 import facebook4j.Tag;
 import facebook4j.User;
 import facebook4j.Video;
+import facebook4j.internal.json.AlbumJSONImplDecoder;
+import facebook4j.internal.json.CheckinJSONImplDecoder;
+import facebook4j.internal.json.CommentJSONImplDecoder;
+import facebook4j.internal.json.DataObjectFactoryUtil;
+import facebook4j.internal.json.EventJSONImplDecoder;
+import facebook4j.internal.json.FriendlistJSONImplDecoder;
+import facebook4j.internal.json.GroupDocJSONImplDecoder;
+import facebook4j.internal.json.GroupJSONImplDecoder;
+import facebook4j.internal.json.LinkJSONImplDecoder;
+import facebook4j.internal.json.MessageJSONImplDecoder;
+import facebook4j.internal.json.NoteJSONImplDecoder;
+import facebook4j.internal.json.PhotoJSONImplDecoder;
+import facebook4j.internal.json.PlaceJSONImplDecoder;
+import facebook4j.internal.json.PostJSONImplDecoder;
+import facebook4j.internal.json.QuestionJSONImplDecoder;
+import facebook4j.internal.json.RSVPStatusJSONImplDecoder;
+import facebook4j.internal.json.TagJSONImplDecoder;
+import facebook4j.internal.json.UserJSONImplDecoder;
+import facebook4j.internal.json.VideoJSONImplDecoder;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
 
@@ -51,112 +65,16 @@ public final class DataObjectFactory {
         throw new AssertionError("not intended to be instantiated.");
     }
 
-    private static final Constructor<Album> albumConstructor;
-    private static final Constructor<Checkin> checkinConstructor;
-    private static final Constructor<Comment> commentConstructor;
-    private static final Constructor<Event> eventConstructor;
-    private static final Constructor<Friendlist> friendlistConstructor;
-    private static final Constructor<GroupDoc> groupDocConstructor;
-    private static final Constructor<Group> groupConstructor;
-    private static final Constructor<Link> linkConstructor;
-    private static final Constructor<Message> messageConstructor;
-    private static final Constructor<Note> noteConstructor;
-    private static final Constructor<Photo> photoConstructor;
-    private static final Constructor<Place> placeConstructor;
-    private static final Constructor<Post> postConstructor;
-    private static final Constructor<Question> questionConstructor;
-    private static final Constructor<RSVPStatus> rsvpStatusConstructor;
-    private static final Constructor<Tag> tagConstructor;
-    private static final Constructor<User> userConstructor;
-    private static final Constructor<Video> videoConstructor;
-
-    static {
-        try {
-            albumConstructor = (Constructor<Album>) Class.forName("facebook4j.internal.json.AlbumJSONImpl").getDeclaredConstructor(JSONObject.class);
-            albumConstructor.setAccessible(true);
-
-            checkinConstructor = (Constructor<Checkin>) Class.forName("facebook4j.internal.json.CheckinJSONImpl").getDeclaredConstructor(JSONObject.class);
-            checkinConstructor.setAccessible(true);
-
-            commentConstructor = (Constructor<Comment>) Class.forName("facebook4j.internal.json.CommentJSONImpl").getDeclaredConstructor(JSONObject.class);
-            commentConstructor.setAccessible(true);
-            
-            eventConstructor = (Constructor<Event>) Class.forName("facebook4j.internal.json.EventJSONImpl").getDeclaredConstructor(JSONObject.class);
-            eventConstructor.setAccessible(true);
-            
-            friendlistConstructor = (Constructor<Friendlist>) Class.forName("facebook4j.internal.json.FriendlistJSONImpl").getDeclaredConstructor(JSONObject.class);
-            friendlistConstructor.setAccessible(true);
-            
-            groupDocConstructor = (Constructor<GroupDoc>) Class.forName("facebook4j.internal.json.GroupDocJSONImpl").getDeclaredConstructor(JSONObject.class);
-            groupDocConstructor.setAccessible(true);
-            
-            groupConstructor = (Constructor<Group>) Class.forName("facebook4j.internal.json.GroupJSONImpl").getDeclaredConstructor(JSONObject.class);
-            groupConstructor.setAccessible(true);
-            
-            linkConstructor = (Constructor<Link>) Class.forName("facebook4j.internal.json.LinkJSONImpl").getDeclaredConstructor(JSONObject.class);
-            linkConstructor.setAccessible(true);
-            
-            messageConstructor = (Constructor<Message>) Class.forName("facebook4j.internal.json.MessageJSONImpl").getDeclaredConstructor(JSONObject.class);
-            messageConstructor.setAccessible(true);
-            
-            noteConstructor = (Constructor<Note>) Class.forName("facebook4j.internal.json.NoteJSONImpl").getDeclaredConstructor(JSONObject.class);
-            noteConstructor.setAccessible(true);
-            
-            photoConstructor = (Constructor<Photo>) Class.forName("facebook4j.internal.json.PhotoJSONImpl").getDeclaredConstructor(JSONObject.class);
-            photoConstructor.setAccessible(true);
-            
-            placeConstructor = (Constructor<Place>) Class.forName("facebook4j.internal.json.PlaceJSONImpl").getDeclaredConstructor(JSONObject.class);
-            placeConstructor.setAccessible(true);
-            
-            postConstructor = (Constructor<Post>) Class.forName("facebook4j.internal.json.PostJSONImpl").getDeclaredConstructor(JSONObject.class);
-            postConstructor.setAccessible(true);
-            
-            questionConstructor = (Constructor<Question>) Class.forName("facebook4j.internal.json.QuestionJSONImpl").getDeclaredConstructor(JSONObject.class);
-            questionConstructor.setAccessible(true);
-            
-            rsvpStatusConstructor = (Constructor<RSVPStatus>) Class.forName("facebook4j.internal.json.RSVPStatusJSONImpl").getDeclaredConstructor(JSONObject.class);
-            rsvpStatusConstructor.setAccessible(true);
-            
-            tagConstructor = (Constructor<Tag>) Class.forName("facebook4j.internal.json.TagJSONImpl").getDeclaredConstructor(JSONObject.class);
-            tagConstructor.setAccessible(true);
-            
-            userConstructor = (Constructor<User>) Class.forName("facebook4j.internal.json.UserJSONImpl").getDeclaredConstructor(JSONObject.class);
-            userConstructor.setAccessible(true);
-
-            videoConstructor = (Constructor<Video>) Class.forName("facebook4j.internal.json.VideoJSONImpl").getDeclaredConstructor(JSONObject.class);
-            videoConstructor.setAccessible(true);
-            
-        } catch (NoSuchMethodException e) {
-            throw new ExceptionInInitializerError(e);
-        } catch (ClassNotFoundException e) {
-            throw new ExceptionInInitializerError(e);
-        }
-    }
-
-    private static final ThreadLocal<Map> rawJsonMap = new ThreadLocal<Map>() {
-        @Override
-        protected Map initialValue() {
-            return new HashMap();
-        }
-    };
-
     /**
      * Returns a raw JSON form of the provided object.<br>
-     * Note that raw JSON forms can be retrieved only from the same thread invoked the last method call and will become inaccessible once another method call
+     * Raw JSON forms are kept only when {@link facebook4j.conf.Configuration#isJSONStoreEnabled()} is true,
+     * and as long as the object is reachable.
      *
      * @param obj
      * @return raw JSON
      */
     public static String getRawJSON(Object obj) {
-        Object json = rawJsonMap.get().get(obj);
-        if (json instanceof String) {
-            return (String) json;
-        } else if (json != null) {
-            // object must be instance of JSONObject
-            return json.toString();
-        } else {
-            return null;
-        }
+        return DataObjectFactoryUtil.getRawJSON(obj);
     }
 
     /**
@@ -169,13 +87,7 @@ public final class DataObjectFactory {
     public static Album createAlbum(String rawJSON) throws FacebookException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return albumConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new FacebookException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new FacebookException(e);
+            return AlbumJSONImplDecoder.decode(json);
         } catch (JSONException e) {
             throw new FacebookException(e);
         }
@@ -191,13 +103,7 @@ public final class DataObjectFactory {
     public static Checkin createCheckin(String rawJSON) throws FacebookException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return checkinConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new FacebookException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new FacebookException(e);
+            return CheckinJSONImplDecoder.decode(json);
         } catch (JSONException e) {
             throw new FacebookException(e);
         }
@@ -213,13 +119,7 @@ public final class DataObjectFactory {
     public static Comment createComment(String rawJSON) throws FacebookException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return commentConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new FacebookException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new FacebookException(e);
+            return CommentJSONImplDecoder.decode(json);
         } catch (JSONException e) {
             throw new FacebookException(e);
         }
@@ -235,13 +135,7 @@ public final class DataObjectFactory {
     public static Event createEvent(String rawJSON) throws FacebookException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return eventConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new FacebookException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new FacebookException(e);
+            return EventJSONImplDecoder.decode(json);
         } catch (JSONException e) {
             throw new FacebookException(e);
         }
@@ -257,13 +151,7 @@ public final class DataObjectFactory {
     public static Friendlist createFriendlist(String rawJSON) throws FacebookException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return friendlistConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new FacebookException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new FacebookException(e);
+            return FriendlistJSONImplDecoder.decode(json);
         } catch (JSONException e) {
             throw new FacebookException(e);
         }
@@ -279,13 +167,7 @@ public final class DataObjectFactory {
     public static GroupDoc createGroupDoc(String rawJSON) throws FacebookException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return groupDocConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new FacebookException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new FacebookException(e);
+            return GroupDocJSONImplDecoder.decode(json);
         } catch (JSONException e) {
             throw new FacebookException(e);
         }
@@ -301,13 +183,7 @@ public final class DataObjectFactory {
     public static Group createGroup(String rawJSON) throws FacebookException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return groupConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new FacebookException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new FacebookException(e);
+            return GroupJSONImplDecoder.decode(json);
         } catch (JSONException e) {
             throw new FacebookException(e);
         }
@@ -323,13 +199,7 @@ public final class DataObjectFactory {
     public static Link createLink(String rawJSON) throws FacebookException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return linkConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new FacebookException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new FacebookException(e);
+            return LinkJSONImplDecoder.decode(json);
         } catch (JSONException e) {
             throw new FacebookException(e);
         }
@@ -345,13 +215,7 @@ public final class DataObjectFactory {
     public static Message createMessage(String rawJSON) throws FacebookException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return messageConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new FacebookException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new FacebookException(e);
+            return MessageJSONImplDecoder.decode(json);
         } catch (JSONException e) {
             throw new FacebookException(e);
         }
@@ -367,13 +231,7 @@ public final class DataObjectFactory {
     public static Note createNote(String rawJSON) throws FacebookException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return noteConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new FacebookException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new FacebookException(e);
+            return NoteJSONImplDecoder.decode(json);
         } catch (JSONException e) {
             throw new FacebookException(e);
         }
@@ -389,13 +247,7 @@ public final class DataObjectFactory {
     public static Photo createPhoto(String rawJSON) throws FacebookException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return photoConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new FacebookException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new FacebookException(e);
+            return PhotoJSONImplDecoder.decode(json);
         } catch (JSONException e) {
             throw new FacebookException(e);
         }
@@ -411,13 +263,7 @@ public final class DataObjectFactory {
     public static Place createPlace(String rawJSON) throws FacebookException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return placeConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new FacebookException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new FacebookException(e);
+            return PlaceJSONImplDecoder.decode(json);
         } catch (JSONException e) {
             throw new FacebookException(e);
         }
@@ -433,13 +279,7 @@ public final class DataObjectFactory {
     public static Post createPost(String rawJSON) throws FacebookException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return postConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new FacebookException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new FacebookException(e);
+            return PostJSONImplDecoder.decode(json);
         } catch (JSONException e) {
             throw new FacebookException(e);
         }
@@ -455,13 +295,7 @@ public final class DataObjectFactory {
     public static Question createQuestion(String rawJSON) throws FacebookException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return questionConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new FacebookException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new FacebookException(e);
+            return QuestionJSONImplDecoder.decode(json);
         } catch (JSONException e) {
             throw new FacebookException(e);
         }
@@ -477,13 +311,7 @@ public final class DataObjectFactory {
     public static RSVPStatus createRSVPStatus(String rawJSON) throws FacebookException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return rsvpStatusConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new FacebookException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new FacebookException(e);
+            return RSVPStatusJSONImplDecoder.decode(json);
         } catch (JSONException e) {
             throw new FacebookException(e);
         }
@@ -499,13 +327,7 @@ public final class DataObjectFactory {
     public static Tag createTag(String rawJSON) throws FacebookException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return tagConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new FacebookException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new FacebookException(e);
+            return TagJSONImplDecoder.decode(json);
         } catch (JSONException e) {
             throw new FacebookException(e);
         }
@@ -521,13 +343,7 @@ public final class DataObjectFactory {
     public static User createUser(String rawJSON) throws FacebookException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return userConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new FacebookException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new FacebookException(e);
+            return UserJSONImplDecoder.decode(json);
         } catch (JSONException e) {
             throw new FacebookException(e);
         }
@@ -543,32 +359,9 @@ public final class DataObjectFactory {
     public static Video createVideo(String rawJSON) throws FacebookException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return videoConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new FacebookException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new FacebookException(e);
+            return VideoJSONImplDecoder.decode(json);
         } catch (JSONException e) {
             throw new FacebookException(e);
         }
     }
-    
-    /**
-     * clear raw JSON forms associated with the current thread.<br>
-     * Currently this method is called indirectly by facebook4j.internal.util.DataObjectFactoryUtil, and should be called directly once *JSONImpl classes are migrated to facebook4j.json.* package.
-     */
-    static void clearThreadLocalMap() {
-        rawJsonMap.get().clear();
-    }
-
-    /**
-     * associate a raw JSON form to the current thread<br>
-     * Currently this method is called indirectly by facebook4j.internal.util.DataObjectFactoryUtil, and should be called directly once *JSONImpl classes are migrated to facebook4j.json.* package.
-     */
-    static <T> T registerJSONObject(T key, Object json) {
-        rawJsonMap.get().put(key, json);
-        return key;
-    }
-}
\ No newline at end of file
+}
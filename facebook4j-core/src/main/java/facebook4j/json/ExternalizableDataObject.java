@@ -0,0 +1,87 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
+
+import facebook4j.internal.json.BinaryCodec;
+
+/**
+ * Holds an entity or a list of entities for Java serialization, which then writes the binary form of
+ * {@link DataObjectCodec} instead of the class descriptors and fields of every object.<br>
+ * Wrap the objects handed to a cache or a session store that relies on Java serialization:
+ * <pre>
+ * cache.put(key, new ExternalizableDataObject&lt;ResponseList&lt;Post&gt;&gt;(feed));
+ * ResponseList&lt;Post&gt; feed = ((ExternalizableDataObject&lt;ResponseList&lt;Post&gt;&gt;) cache.get(key)).get();
+ * </pre>
+ */
+public final class ExternalizableDataObject<T> implements Externalizable {
+    private static final long serialVersionUID = 7127823370532963245L;
+
+    private T object;
+
+    /**
+     * for Java serialization only
+     */
+    public ExternalizableDataObject() {
+    }
+
+    public ExternalizableDataObject(T object) {
+        this.object = object;
+    }
+
+    public T get() {
+        return object;
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+        byte[] bytes = BinaryCodec.encode(object);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void readExternal(ObjectInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new StreamCorruptedException("invalid length: " + length);
+        }
+        // grows with the bytes actually read, so that a forged length cannot allocate more than the stream holds
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.min(length, 8192));
+        byte[] buf = new byte[Math.min(length, 8192)];
+        for (int remaining = length; remaining > 0; ) {
+            int count = in.read(buf, 0, Math.min(remaining, buf.length));
+            if (count < 0) {
+                throw new EOFException();
+            }
+            bytes.write(buf, 0, count);
+            remaining -= count;
+        }
+        object = (T) BinaryCodec.decode(bytes.toByteArray());
+    }
+
+    @Override
+    public String toString() {
+        return "ExternalizableDataObject [object=" + object + "]";
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.management;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Counters for the per endpoint circuit breakers.
+ */
+public class CircuitBreakerStatistics implements CircuitBreakerStatisticsMBean {
+    private static final String CLOSED = "CLOSED";
+    private static final String OPEN = "OPEN";
+
+    private final Map<String, String> states = new TreeMap<String, String>();
+    private long openedCount;
+    private long rejectedCount;
+
+    public synchronized void stateChanged(String endpoint, String state) {
+        if (state.equals(OPEN) && !OPEN.equals(states.get(endpoint))) {
+            openedCount++;
+        }
+        states.put(endpoint, state);
+    }
+
+    public synchronized void rejected() {
+        rejectedCount++;
+    }
+
+    public synchronized Map<String, String> getStates() {
+        return new TreeMap<String, String>(states);
+    }
+
+    public synchronized String[] getOpenEndpoints() {
+        List<String> endpoints = new ArrayList<String>();
+        for (Map.Entry<String, String> state : states.entrySet()) {
+            if (!state.getValue().equals(CLOSED)) {
+                endpoints.add(state.getKey());
+            }
+        }
+        return endpoints.toArray(new String[endpoints.size()]);
+    }
+
+    public synchronized long getOpenedCount() {
+        return openedCount;
+    }
+
+    public synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public synchronized void reset() {
+        openedCount = 0;
+        rejectedCount = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "CircuitBreakerStatistics{" +
+                "states=" + states +
+                ", openedCount=" + openedCount +
+                ", rejectedCount=" + rejectedCount +
+                '}';
+    }
+}
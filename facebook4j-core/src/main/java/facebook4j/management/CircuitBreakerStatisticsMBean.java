@@ -0,0 +1,48 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.management;
+
+import java.util.Map;
+
+/**
+ * Exposes the state of the per endpoint circuit breakers.
+ *
+ * @see CircuitBreakerStatistics
+ */
+public interface CircuitBreakerStatisticsMBean {
+    /**
+     * @return CLOSED, OPEN or HALF_OPEN per endpoint
+     */
+    Map<String, String> getStates();
+
+    /**
+     * @return the endpoints whose circuit is not closed
+     */
+    String[] getOpenEndpoints();
+
+    /**
+     * @return the number of times a circuit opened
+     */
+    long getOpenedCount();
+
+    /**
+     * @return the number of requests that failed fast because their circuit was open
+     */
+    long getRejectedCount();
+
+    void reset();
+}
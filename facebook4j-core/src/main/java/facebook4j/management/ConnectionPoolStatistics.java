@@ -0,0 +1,89 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package facebook4j.management;
+
+/**
+ * Counters for the HTTP keep-alive pool.
+ */
+public class ConnectionPoolStatistics implements ConnectionPoolStatisticsMBean {
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private int idleConnectionCount;
+    private int leasedConnectionCount;
+
+    public synchronized void hit() {
+        hitCount++;
+    }
+
+    public synchronized void miss() {
+        missCount++;
+    }
+
+    public synchronized void evicted() {
+        evictionCount++;
+    }
+
+    public synchronized void setIdleConnectionCount(int idleConnectionCount) {
+        this.idleConnectionCount = idleConnectionCount;
+    }
+
+    public synchronized void setLeasedConnectionCount(int leasedConnectionCount) {
+        this.leasedConnectionCount = leasedConnectionCount;
+    }
+
+    public synchronized long getEstimatedHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getEstimatedMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized int getEstimatedIdleConnectionCount() {
+        return idleConnectionCount;
+    }
+
+    public synchronized int getLeasedConnectionCount() {
+        return leasedConnectionCount;
+    }
+
+    public synchronized double getEstimatedHitRatio() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0d : (double) hitCount / total;
+    }
+
+    public synchronized void reset() {
+        hitCount = 0;
+        missCount = 0;
+        evictionCount = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ConnectionPoolStatistics{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                ", idleConnectionCount=" + idleConnectionCount +
+                ", leasedConnectionCount=" + leasedConnectionCount +
+                '}';
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package facebook4j.management;
+
+/**
+ * Exposes the connection reuse counters of the HTTP keep-alive pool.<br>
+ * HttpURLConnection does not tell whether a request went over a kept-alive socket, so the hits, misses and
+ * idle connections are estimates: they follow the connections Facebook4J handed back to the JDK keep-alive cache,
+ * which also drops sockets on its own, e.g. beyond <code>http.maxConnections</code> per route or when the server
+ * closes them first.
+ *
+ * @see ConnectionPoolStatistics
+ */
+public interface ConnectionPoolStatisticsMBean {
+    /**
+     * @return the estimated number of requests that were sent over an idle keep-alive connection
+     */
+    long getEstimatedHitCount();
+
+    /**
+     * @return the estimated number of requests that had to open a new connection
+     */
+    long getEstimatedMissCount();
+
+    /**
+     * @return the number of connections that were closed instead of being kept alive,
+     *         either because the pool was full, because the request failed or because they had been idle for too long
+     */
+    long getEvictionCount();
+
+    /**
+     * @return the estimated number of connections currently kept alive
+     */
+    int getEstimatedIdleConnectionCount();
+
+    /**
+     * @return the number of connections whose response has not been released yet
+     */
+    int getLeasedConnectionCount();
+
+    /**
+     * @return hits / (hits + misses), or 0 if no request has been made yet
+     */
+    double getEstimatedHitRatio();
+
+    void reset();
+}
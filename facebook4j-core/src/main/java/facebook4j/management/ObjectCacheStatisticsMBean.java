@@ -0,0 +1,50 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package facebook4j.management;
+
+/**
+ * Exposes the counters of the decoded object cache in front of getUser, getPost, getEvent and getGroup.
+ *
+ * @see ObjectCacheStatistics
+ */
+public interface ObjectCacheStatisticsMBean {
+    /**
+     * @return the number of calls answered from the cache
+     */
+    long getHitCount();
+
+    /**
+     * @return the number of calls that had to ask the Graph API, including those whose entry had expired
+     */
+    long getMissCount();
+
+    /**
+     * @return the number of entries dropped because the cache went over its maximum size
+     */
+    long getEvictionCount();
+
+    /**
+     * @return the number of entries dropped because the client wrote to their object
+     */
+    long getInvalidationCount();
+
+    /**
+     * @return hits / (hits + misses), or 0 if no call has been made yet
+     */
+    double getHitRatio();
+
+    void reset();
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.management;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Counters for the client-side rate limiter.
+ */
+public class RateLimitStatistics implements RateLimitStatisticsMBean {
+    private final Map<String, Integer> headroom = new TreeMap<String, Integer>();
+    private long delayedCount;
+    private long rejectedCount;
+
+    public synchronized void delayed() {
+        delayedCount++;
+    }
+
+    public synchronized void rejected() {
+        rejectedCount++;
+    }
+
+    public synchronized void setHeadroom(String bucket, int percent) {
+        headroom.put(bucket, percent);
+    }
+
+    public synchronized void removeHeadroom(String bucket) {
+        headroom.remove(bucket);
+    }
+
+    public synchronized Map<String, Integer> getHeadroom() {
+        return new TreeMap<String, Integer>(headroom);
+    }
+
+    public synchronized int getMinimumHeadroom() {
+        int min = 100;
+        for (int percent : headroom.values()) {
+            min = Math.min(min, percent);
+        }
+        return min;
+    }
+
+    public synchronized long getDelayedCount() {
+        return delayedCount;
+    }
+
+    public synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public synchronized void reset() {
+        delayedCount = 0;
+        rejectedCount = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "RateLimitStatistics{" +
+                "headroom=" + headroom +
+                ", delayedCount=" + delayedCount +
+                ", rejectedCount=" + rejectedCount +
+                '}';
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.management;
+
+import java.util.Map;
+
+/**
+ * Exposes the usage headroom the client-side rate limiter has learned from Facebook.
+ *
+ * @see RateLimitStatistics
+ */
+public interface RateLimitStatisticsMBean {
+    /**
+     * @return percentage of the limit still available per bucket, keyed by <code>app:</code>, <code>token:</code>
+     *         (hashed access token, which carries the page limit for page tokens) or <code>adaccount:</code>
+     */
+    Map<String, Integer> getHeadroom();
+
+    /**
+     * @return the lowest headroom among all buckets, or 100 if Facebook has not reported any usage yet
+     */
+    int getMinimumHeadroom();
+
+    /**
+     * @return the number of requests that waited for the rate limiter
+     */
+    long getDelayedCount();
+
+    /**
+     * @return the number of requests that were refused by the rate limiter
+     */
+    long getRejectedCount();
+
+    void reset();
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import facebook4j.conf.ConfigurationBuilder;
+
+public class AsyncFacebookTest {
+
+    private CountDownLatch release;
+    private AtomicBoolean shutdownCalled;
+    private Facebook facebook;
+
+    @Before
+    public void setUp() throws Exception {
+        release = new CountDownLatch(1);
+        shutdownCalled = new AtomicBoolean(false);
+        facebook = (Facebook) Proxy.newProxyInstance(Facebook.class.getClassLoader(), new Class[]{Facebook.class},
+                new InvocationHandler() {
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        String name = method.getName();
+                        if (name.equals("getConfiguration")) {
+                            return new ConfigurationBuilder().setAsyncNumThreads(2).build();
+                        }
+                        if (name.equals("getPost")) {
+                            throw new FacebookException("no such post");
+                        }
+                        if (name.equals("getFeed")) {
+                            release.await();
+                            return null;
+                        }
+                        if (name.equals("shutdown")) {
+                            shutdownCalled.set(true);
+                            return null;
+                        }
+                        if (name.equals("likePost")) {
+                            return true;
+                        }
+                        throw new UnsupportedOperationException(name);
+                    }
+                });
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        release.countDown();
+    }
+
+    @Test
+    public void complete() throws Exception {
+        AsyncFacebook async = new AsyncFacebookImpl(facebook, null);
+        CompletableFuture<Boolean> future = async.likePost("1_2");
+        assertThat(future.get(5, TimeUnit.SECONDS), is(true));
+        async.shutdown();
+        assertThat(shutdownCalled.get(), is(true));
+    }
+
+    @Test
+    public void completeExceptionally() throws Exception {
+        AsyncFacebook async = new AsyncFacebookImpl(facebook, null);
+        try {
+            async.getPost("1_2").get(5, TimeUnit.SECONDS);
+            fail("should complete exceptionally");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(FacebookException.class)));
+        }
+        async.shutdown();
+    }
+
+    @Test
+    public void shutdownDrainsInFlightCalls() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        final AsyncFacebook async = new AsyncFacebookImpl(facebook, executor);
+        CompletableFuture<ResponseList<Post>> first = async.getFeed("1");
+        CompletableFuture<ResponseList<Post>> second = async.getFeed("2");
+
+        Thread shutdown = new Thread(new Runnable() {
+            public void run() {
+                async.shutdown();
+            }
+        });
+        shutdown.start();
+        shutdown.join(200);
+        assertThat(shutdown.isAlive(), is(true));
+        assertThat(shutdownCalled.get(), is(false));
+
+        release.countDown();
+        shutdown.join(5000);
+        assertThat(shutdown.isAlive(), is(false));
+        assertThat(first.isDone() && second.isDone(), is(true));
+        assertThat(shutdownCalled.get(), is(true));
+
+        // the executor was supplied by the caller and is left running
+        assertThat(executor.isShutdown(), is(false));
+        executor.shutdown();
+
+        try {
+            async.getFeed("3").get(5, TimeUnit.SECONDS);
+            fail("should reject calls after shutdown");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(IllegalStateException.class)));
+        }
+    }
+}
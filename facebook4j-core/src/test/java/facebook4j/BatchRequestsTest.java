@@ -0,0 +1,70 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import facebook4j.internal.http.RequestMethod;
+import facebook4j.internal.org.json.JSONArray;
+import facebook4j.internal.org.json.JSONObject;
+
+public class BatchRequestsTest {
+
+    @Test
+    public void asJSONArray() throws Exception {
+        BatchRequests batch = new BatchRequests();
+        batch.get("me", "friends", new Reading().limit(5)).name("get-friends").omitResponseOnSuccess(false);
+        batch.add(new BatchRequest(RequestMethod.GET, "?ids=" + BatchRequest.result("get-friends", "$.data.*.id"))
+                .dependsOn("get-friends"));
+        batch.post("me", "feed", new PostUpdate("hello world"));
+        batch.delete("1234");
+
+        JSONArray array = new JSONArray(batch.asJSONArray());
+        assertThat(array.length(), is(4));
+
+        JSONObject first = array.getJSONObject(0);
+        assertThat(first.getString("method"), is("GET"));
+        assertThat(first.getString("relative_url"), is("me/friends?limit=5"));
+        assertThat(first.getString("name"), is("get-friends"));
+        assertThat(first.getBoolean("omit_response_on_success"), is(false));
+
+        JSONObject second = array.getJSONObject(1);
+        assertThat(second.getString("relative_url"), is("?ids={result=get-friends:$.data.*.id}"));
+        assertThat(second.getString("depends_on"), is("get-friends"));
+        assertThat(second.has("omit_response_on_success"), is(false));
+
+        JSONObject third = array.getJSONObject(2);
+        assertThat(third.getString("method"), is("POST"));
+        assertThat(third.getString("relative_url"), is("me/feed"));
+        assertThat(third.getString("body"), is("message=hello%20world"));
+
+        JSONObject fourth = array.getJSONObject(3);
+        assertThat(fourth.getString("method"), is("DELETE"));
+        assertThat(fourth.getString("relative_url"), is("1234"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void tooManyRequests() {
+        BatchRequests batch = new BatchRequests();
+        for (int i = 0; i <= BatchRequests.MAX_REQUESTS; i++) {
+            batch.get(String.valueOf(i));
+        }
+    }
+}
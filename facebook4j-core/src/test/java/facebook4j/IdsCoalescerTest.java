@@ -0,0 +1,187 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import facebook4j.conf.Configuration;
+import facebook4j.conf.ConfigurationBuilder;
+import facebook4j.internal.http.BufferedHttpResponse;
+import facebook4j.internal.http.HttpResponse;
+
+public class IdsCoalescerTest {
+
+    private static final String BASE = "https://graph.facebook.com/";
+
+    private final List<String> urls = Collections.synchronizedList(new ArrayList<String>());
+    private ExecutorService executor;
+    private boolean failMultiRequests;
+    private volatile RuntimeException multiRequestBug;
+    // holds the request of id 0, so that the requests made meanwhile are coalesced
+    private final CountDownLatch inFlight = new CountDownLatch(1);
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        failMultiRequests = false;
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private IdsCoalescer createCoalescer(int windowMillis, int maxIds) {
+        final Configuration conf = new ConfigurationBuilder()
+                .setIdsCoalescingEnabled(true)
+                .setIdsCoalescingWindowMillis(windowMillis)
+                .setIdsCoalescingMaxIds(maxIds)
+                .build();
+        return new IdsCoalescer(conf, new IdsCoalescer.Fetcher() {
+            public HttpResponse get(String url) throws FacebookException {
+                urls.add(url);
+                String path = url.substring(BASE.length());
+                if (path.startsWith("?ids=")) {
+                    if (multiRequestBug != null) {
+                        throw multiRequestBug;
+                    }
+                    if (failMultiRequests) {
+                        throw new FacebookException("{\"error\":{\"message\":\"bad id\",\"type\":\"OAuthException\",\"code\":100}}");
+                    }
+                    String ids = path.substring("?ids=".length()).split("&")[0].replace("%2C", ",");
+                    StringBuilder body = new StringBuilder("{");
+                    for (String id : ids.split(",")) {
+                        if (body.length() > 1) {
+                            body.append(",");
+                        }
+                        body.append("\"").append(id).append("\":{\"id\":\"").append(id).append("\"}");
+                    }
+                    return new BufferedHttpResponse(conf, 200, body.append("}").toString(), null);
+                }
+                String id = path.split("\\?")[0];
+                if (id.equals("0")) {
+                    try {
+                        inFlight.await();
+                    } catch (InterruptedException ie) {
+                        throw new FacebookException(ie);
+                    }
+                }
+                return new BufferedHttpResponse(conf, 200, "{\"id\":\"" + id + "\"}", null);
+            }
+        });
+    }
+
+    private List<Future<String>> fetchConcurrently(final IdsCoalescer coalescer, final Reading reading, String... ids) {
+        List<Future<String>> futures = new ArrayList<Future<String>>();
+        for (final String id : ids) {
+            futures.add(executor.submit(new Callable<String>() {
+                public String call() throws Exception {
+                    return coalescer.get(id, reading).asJSONObject().getString("id");
+                }
+            }));
+        }
+        return futures;
+    }
+
+    private Future<String> startInFlight(IdsCoalescer coalescer) throws InterruptedException {
+        Future<String> future = fetchConcurrently(coalescer, null, "0").get(0);
+        while (urls.isEmpty()) {
+            Thread.sleep(1);
+        }
+        return future;
+    }
+
+    @Test
+    public void coalesce() throws Exception {
+        IdsCoalescer coalescer = createCoalescer(5000, 3);
+        Future<String> first = startInFlight(coalescer);
+        List<Future<String>> futures = fetchConcurrently(coalescer, new Reading().fields("id"), "1", "2", "3");
+        assertThat(futures.get(0).get(), is("1"));
+        assertThat(futures.get(1).get(), is("2"));
+        assertThat(futures.get(2).get(), is("3"));
+        inFlight.countDown();
+        assertThat(first.get(), is("0"));
+        assertThat(urls.size(), is(2));
+        assertTrue(urls.get(1).contains("?ids="));
+        assertTrue(urls.get(1).contains("&fields=id"));
+    }
+
+    @Test
+    public void single() throws Exception {
+        IdsCoalescer coalescer = createCoalescer(0, 50);
+        assertThat(coalescer.get("4", null).asJSONObject().getString("id"), is("4"));
+        assertThat(urls, is(Collections.singletonList(BASE + "4")));
+    }
+
+    @Test(timeout = 2000)
+    public void singleDoesNotWaitForTheWindow() throws Exception {
+        IdsCoalescer coalescer = createCoalescer(60000, 50);
+        assertThat(coalescer.get("4", null).asJSONObject().getString("id"), is("4"));
+        assertThat(coalescer.get("5", null).asJSONObject().getString("id"), is("5"));
+        assertThat(urls.size(), is(2));
+    }
+
+    @Test
+    public void fallbackWhenMultiRequestFails() throws Exception {
+        failMultiRequests = true;
+        IdsCoalescer coalescer = createCoalescer(5000, 2);
+        Future<String> first = startInFlight(coalescer);
+        List<Future<String>> futures = fetchConcurrently(coalescer, null, "1", "2");
+        assertThat(futures.get(0).get(), is("1"));
+        assertThat(futures.get(1).get(), is("2"));
+        inFlight.countDown();
+        assertThat(first.get(), is("0"));
+        assertThat(urls.size(), is(4));
+    }
+
+    @Test(timeout = 5000)
+    public void fallbackWhenMultiRequestDies() throws Exception {
+        multiRequestBug = new IllegalStateException("bug");
+        IdsCoalescer coalescer = createCoalescer(5000, 2);
+        Future<String> first = startInFlight(coalescer);
+        List<Future<String>> futures = fetchConcurrently(coalescer, null, "1", "2");
+        int failed = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                assertThat(futures.get(i).get(), is(String.valueOf(i + 1)));
+            } catch (ExecutionException e) {
+                // the thread that sent the request sees the exception, the others send their own
+                assertThat(e.getCause(), is(sameInstance((Throwable) multiRequestBug)));
+                failed++;
+            }
+        }
+        assertThat(failed, is(1));
+        inFlight.countDown();
+        assertThat(first.get(), is("0"));
+        assertThat(urls.size(), is(3));
+    }
+}
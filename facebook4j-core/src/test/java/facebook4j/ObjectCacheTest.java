@@ -0,0 +1,252 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import facebook4j.auth.AccessToken;
+import facebook4j.conf.ConfigurationBuilder;
+import facebook4j.internal.http.HttpParameter;
+
+public class ObjectCacheTest {
+
+    private ObjectCache createCache(int maxBytes, int ttlSeconds) {
+        return new ObjectCache(new ConfigurationBuilder()
+                .setObjectCacheEnabled(true)
+                .setObjectCacheMaxBytes(maxBytes)
+                .setObjectCacheUserTtlSeconds(ttlSeconds)
+                .setObjectCachePostTtlSeconds(ttlSeconds)
+                .setObjectCacheEventTtlSeconds(0)
+                .build());
+    }
+
+    @Test
+    public void hitWithEquivalentReading() throws Exception {
+        ObjectCache cache = createCache(1000, 60);
+        Object user = new Object();
+        cache.put(User.class, "1", new Reading().fields("name", "id").limit(5), user, 10, cache.getVersion());
+
+        assertThat(cache.get(User.class, "1", new Reading().limit(5).fields("id,name")), is(sameInstance(user)));
+        assertThat(cache.get(User.class, "1", new Reading().fields("id")), is(nullValue()));
+        assertThat(cache.get(User.class, "1", null), is(nullValue()));
+        assertThat(cache.get(Post.class, "1", new Reading().fields("id,name").limit(5)), is(nullValue()));
+    }
+
+    @Test
+    public void canonicalQuery() throws Exception {
+        assertThat(new Reading().fields("name,id").limit(5).getCanonicalQuery(), is("fields=id,name&limit=5"));
+        assertThat(new Reading().fields("comments.limit(5){from,message}", "id").getCanonicalQuery(),
+                is("fields=comments.limit(5){from,message},id"));
+    }
+
+    @Test
+    public void expiry() throws Exception {
+        ObjectCache cache = createCache(1000, 1);
+        cache.put(User.class, "1", null, "user", 10, cache.getVersion());
+        assertThat(cache.get(User.class, "1", null), is("user"));
+        Thread.sleep(1100);
+        assertThat(cache.get(User.class, "1", null), is(nullValue()));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void disabledType() throws Exception {
+        ObjectCache cache = createCache(1000, 60);
+        cache.put(Event.class, "1", null, "event", 10, cache.getVersion());
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed() throws Exception {
+        ObjectCache cache = createCache(100, 60);
+        cache.put(User.class, "1", null, "user1", 40, cache.getVersion());
+        cache.put(User.class, "2", null, "user2", 40, cache.getVersion());
+        cache.get(User.class, "1", null);
+        cache.put(User.class, "3", null, "user3", 40, cache.getVersion());
+
+        assertThat(cache.get(User.class, "1", null), is("user1"));
+        assertThat(cache.get(User.class, "2", null), is(nullValue()));
+        assertThat(cache.get(User.class, "3", null), is("user3"));
+
+        cache.put(User.class, "4", null, "too large", 101, cache.getVersion());
+        assertThat(cache.get(User.class, "4", null), is(nullValue()));
+    }
+
+    @Test
+    public void invalidate() throws Exception {
+        ObjectCache cache = createCache(1000, 60);
+        cache.put(Post.class, "1_2", null, "post", 10, cache.getVersion());
+        cache.put(Post.class, "1_2", new Reading().fields("id"), "post", 10, cache.getVersion());
+        cache.put(Post.class, "1_3", null, "other post", 10, cache.getVersion());
+        cache.invalidate("1_2");
+
+        assertThat(cache.size(), is(1));
+        assertThat(cache.get(Post.class, "1_3", null), is("other post"));
+    }
+
+    @Test
+    public void ownerChange() throws Exception {
+        ObjectCache cache = createCache(1000, 60);
+        cache.setOwner("token1");
+        cache.put(User.class, "me", null, "user1", 10, cache.getVersion());
+        cache.setOwner("token1");
+        assertThat(cache.size(), is(1));
+        cache.setOwner("token2");
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void readDuringWriteNotCached() throws Exception {
+        ObjectCache cache = createCache(1000, 60);
+        long version = cache.getVersion();
+        // the object was requested before the write was over and returned after its entries were dropped
+        cache.invalidate("1");
+        cache.put(User.class, "1", null, "old user", 10, version);
+        assertThat(cache.get(User.class, "1", null), is(nullValue()));
+        cache.put(User.class, "1", null, "new user", 10, cache.getVersion());
+        assertThat(cache.get(User.class, "1", null), is((Object) "new user"));
+    }
+
+    @Test(timeout = 10000)
+    public void readOverlappingWrite() throws Exception {
+        final CountDownLatch writeStarted = new CountDownLatch(1);
+        final CountDownLatch applyWrite = new CountDownLatch(1);
+        final AtomicReference<String> message = new AtomicReference<String>("old");
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                String response;
+                if (exchange.getRequestMethod().equals("POST")) {
+                    writeStarted.countDown();
+                    try {
+                        applyWrite.await();
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                    boolean batch = exchange.getRequestURI().getPath().equals("/");
+                    message.set(batch ? "batch" : "liked");
+                    response = batch ? "[{\"code\":200,\"body\":\"true\"}]" : "true";
+                } else {
+                    response = "{\"id\":\"2\",\"message\":\"" + message.get() + "\"}";
+                }
+                byte[] bytes = response.getBytes("UTF-8");
+                exchange.sendResponseHeaders(200, bytes.length);
+                exchange.getResponseBody().write(bytes);
+                exchange.close();
+            }
+        });
+        server.start();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Facebook facebook = new FacebookFactory(new ConfigurationBuilder()
+                    .setRestBaseURL("http://127.0.0.1:" + server.getAddress().getPort() + "/")
+                    .setOAuthAppId("appId").setOAuthAppSecret("appSecret")
+                    .setObjectCacheEnabled(true)
+                    .setObjectCachePostTtlSeconds(60)
+                    .build()).getInstance(new AccessToken("token"));
+
+            Future<Boolean> like = executor.submit(new Callable<Boolean>() {
+                public Boolean call() throws Exception {
+                    return facebook.likePost("2");
+                }
+            });
+            writeStarted.await();
+            // read while the write is in flight
+            assertThat(facebook.getPost("2").getMessage(), is("old"));
+            applyWrite.countDown();
+            assertThat(like.get(), is(true));
+            assertThat(facebook.getPost("2").getMessage(), is("liked"));
+
+            // the writes of a batch drop the objects of their relative urls
+            BatchRequests batch = new BatchRequests();
+            batch.post("2", "likes", new HttpParameter[0]);
+            facebook.executeBatch(batch);
+            assertThat(facebook.getPost("2").getMessage(), is("batch"));
+        } finally {
+            executor.shutdownNow();
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void cacheReadObjects() throws Exception {
+        readObjects(false);
+    }
+
+    @Test
+    public void cacheStreamedObjects() throws Exception {
+        readObjects(true);
+    }
+
+    // the objects are decoded from the network response, then weighed by the length of the body
+    private void readObjects(boolean streaming) throws Exception {
+        final AtomicInteger requestCount = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                requestCount.incrementAndGet();
+                String id = exchange.getRequestURI().getPath().substring(1);
+                byte[] bytes = ("{\"id\":\"" + id + "\",\"name\":\"name\",\"message\":\"message\"}").getBytes("UTF-8");
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, bytes.length);
+                exchange.getResponseBody().write(bytes);
+                exchange.close();
+            }
+        });
+        server.start();
+        try {
+            Facebook facebook = new FacebookFactory(new ConfigurationBuilder()
+                    .setRestBaseURL("http://127.0.0.1:" + server.getAddress().getPort() + "/")
+                    .setOAuthAppId("appId").setOAuthAppSecret("appSecret")
+                    .setJSONStreamingEnabled(streaming)
+                    .setObjectCacheEnabled(true)
+                    .setObjectCacheUserTtlSeconds(60)
+                    .setObjectCachePostTtlSeconds(60)
+                    .setObjectCacheEventTtlSeconds(60)
+                    .setObjectCacheGroupTtlSeconds(60)
+                    .build()).getInstance(new AccessToken("token"));
+
+            for (int i = 0; i < 2; i++) {
+                assertThat(facebook.getUser("1").getName(), is("name"));
+                assertThat(facebook.getPost("2").getMessage(), is("message"));
+                assertThat(facebook.getGroup("3").getName(), is("name"));
+                assertThat(facebook.getEvent("4").getName(), is("name"));
+            }
+            assertThat(requestCount.get(), is(4));
+        } finally {
+            server.stop(0);
+        }
+    }
+}
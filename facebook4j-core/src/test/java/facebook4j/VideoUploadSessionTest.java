@@ -0,0 +1,182 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import facebook4j.auth.AccessToken;
+import facebook4j.conf.Configuration;
+import facebook4j.conf.ConfigurationBuilder;
+import facebook4j.internal.http.FixedIntervalRetryPolicy;
+import facebook4j.internal.http.HttpClientConfiguration;
+import facebook4j.internal.http.HttpRequest;
+
+public class VideoUploadSessionTest {
+
+    private File video;
+    private File checkpoint;
+
+    @Before
+    public void setUp() throws Exception {
+        video = File.createTempFile("video", ".mp4").getAbsoluteFile();
+        checkpoint = File.createTempFile("video", ".checkpoint");
+        FileOutputStream out = new FileOutputStream(video);
+        try {
+            for (int i = 0; i < 100; i++) {
+                out.write(i);
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    @After
+    public void tearDown() {
+        video.delete();
+        checkpoint.delete();
+    }
+
+    @Test
+    public void getChunk() throws Exception {
+        VideoUploadSession session = new VideoUploadSession("me", video, 100, null, null, "1", "2", 10, 20);
+        byte[] chunk = read(session.getChunk("video_file_chunk").openFileBody());
+        assertThat(chunk.length, is(10));
+        assertThat((int) chunk[0], is(10));
+        assertThat((int) chunk[9], is(19));
+        assertThat(session.isTransferred(), is(false));
+
+        session.setOffsets(100, 100);
+        assertThat(session.isTransferred(), is(true));
+    }
+
+    @Test
+    public void storeAndLoad() throws Exception {
+        VideoUploadSession session = new VideoUploadSession("me", video, 100, "title", null, "1", "2", 10, 20);
+        session.store(checkpoint);
+
+        VideoUploadSession loaded = VideoUploadSession.load(checkpoint);
+        assertThat(loaded, is(session));
+        assertThat(loaded.getTitle(), is("title"));
+        assertThat(loaded.getDescription(), is(nullValue()));
+        assertThat(loaded.getStartOffset(), is(10L));
+    }
+
+    /**
+     * Counts the retries decided by the retry policy, which is given by its class name in the configuration.
+     */
+    public static final class CountingRetryPolicy extends FixedIntervalRetryPolicy {
+        private static final AtomicInteger retries = new AtomicInteger();
+
+        public CountingRetryPolicy(HttpClientConfiguration conf) {
+            super(conf);
+        }
+
+        @Override
+        public long getRetryDelayMillis(HttpRequest req, int retriedCount, long previousDelayMillis, FacebookException cause) {
+            long delay = super.getRetryDelayMillis(req, retriedCount, previousDelayMillis, cause);
+            if (delay >= 0) {
+                retries.incrementAndGet();
+            }
+            return delay;
+        }
+    }
+
+    @Test
+    public void chunkRetriedByRetryPolicy() throws Exception {
+        final List<String> transfers = Collections.synchronizedList(new ArrayList<String>());
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/me/videos", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                String body = new String(read(exchange.getRequestBody()), "ISO-8859-1");
+                String response;
+                int status = 200;
+                if (body.contains("transfer")) {
+                    transfers.add(body);
+                    if (transfers.size() == 1) {
+                        status = 503;
+                        response = "{\"error\":{\"message\":\"unavailable\",\"code\":2}}";
+                    } else {
+                        response = "{\"start_offset\":\"100\",\"end_offset\":\"100\"}";
+                    }
+                } else {
+                    response = "{\"success\":true}";
+                }
+                byte[] bytes = response.getBytes("UTF-8");
+                exchange.sendResponseHeaders(status, bytes.length);
+                exchange.getResponseBody().write(bytes);
+                exchange.close();
+            }
+        });
+        server.start();
+        try {
+            Configuration conf = new ConfigurationBuilder()
+                    .setVideoBaseURL("http://127.0.0.1:" + server.getAddress().getPort() + "/")
+                    .setOAuthAppId("appId").setOAuthAppSecret("appSecret")
+                    .setHttpRetryCount(2).setHttpRetryIntervalSeconds(0)
+                    .setHttpRetryPolicy(CountingRetryPolicy.class.getName())
+                    .build();
+            Facebook facebook = new FacebookFactory(conf).getInstance(new AccessToken("token"));
+            VideoUploadSession session = new VideoUploadSession("me", video, 100, null, null, "1", "2", 10, 20);
+
+            assertThat(facebook.resumeVideoUpload(session, null), is("2"));
+            assertThat(transfers.size(), is(2));
+            assertThat(CountingRetryPolicy.retries.get(), is(1));
+            byte[] chunk = new byte[10];
+            for (int i = 0; i < chunk.length; i++) {
+                chunk[i] = (byte) (10 + i);
+            }
+            // the whole chunk is sent again
+            assertTrue(transfers.get(1).contains("\r\n\r\n" + new String(chunk, "ISO-8859-1") + "\r\n"));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static byte[] read(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            byte[] buf = new byte[7];
+            int n;
+            while ((n = in.read(buf)) != -1) {
+                out.write(buf, 0, n);
+            }
+        } finally {
+            in.close();
+        }
+        return out.toByteArray();
+    }
+}
@@ -171,6 +171,21 @@ public class ConfigurationTest {
         assertThat(conf.getHttpReadTimeout(), is(10));
         System.getProperties().remove("facebook4j.http.readTimeout");
 
+        System.getProperties().remove("facebook4j.http.connectionReuse");
+        conf = new PropertyConfiguration();
+        assertFalse(conf.isHttpConnectionReuseEnabled());
+        System.setProperty("facebook4j.http.connectionReuse", "true");
+        conf = new PropertyConfiguration();
+        assertTrue(conf.isHttpConnectionReuseEnabled());
+        System.getProperties().remove("facebook4j.http.connectionReuse");
+
+        conf = new PropertyConfiguration();
+        assertEquals(5, conf.getAsyncNumThreads());
+        System.setProperty("facebook4j.async.numThreads", "10");
+        conf = new PropertyConfiguration();
+        assertEquals(10, conf.getAsyncNumThreads());
+        System.getProperties().remove("facebook4j.async.numThreads");
+
         assertFalse(conf.isDalvik());
 
         writeFile("./facebook4j.properties", "facebook4j.http.readTimeout=1234");
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+import facebook4j.CircuitBreakerOpenException;
+import facebook4j.FacebookException;
+import facebook4j.conf.Configuration;
+import facebook4j.conf.ConfigurationBuilder;
+import facebook4j.management.CircuitBreakerStatistics;
+
+public class CircuitBreakerTest {
+
+    private static final Configuration conf = new ConfigurationBuilder()
+            .setCircuitBreakerEnabled(true)
+            .setCircuitBreakerWindowSize(4)
+            .setCircuitBreakerFailureRateThreshold(50)
+            .setCircuitBreakerSlowCallRateThreshold(100)
+            .setCircuitBreakerSlowCallDurationMillis(1000)
+            .setCircuitBreakerOpenMillis(500)
+            .build();
+
+    private static final HttpRequest insights = new HttpRequest(RequestMethod.GET,
+            "https://graph.facebook.com/123/insights?access_token=token", null, null, null);
+
+    private static final FacebookException timeout = new FacebookException("timeout", new IOException("timeout"), -1);
+
+    @Test
+    public void endpoint() throws Exception {
+        assertThat(HttpRequest.getEndpoint("https://graph.facebook.com/123/insights"), is("insights"));
+        assertThat(HttpRequest.getEndpoint("https://graph.facebook.com/me/feed?limit=5"), is("feed"));
+        assertThat(HttpRequest.getEndpoint("https://graph.facebook.com/v2.0/me/feed"), is("feed"));
+        assertThat(HttpRequest.getEndpoint("https://graph.facebook.com/123_456"), is("object"));
+        assertThat(HttpRequest.getEndpoint("https://graph.facebook.com/fql?q=SELECT"), is("fql"));
+        assertThat(HttpRequest.getEndpoint("https://graph-video.facebook.com/me/videos"), is("graph-video.facebook.com/videos"));
+        assertThat(HttpRequest.getEndpoint("not a url"), is(nullValue()));
+    }
+
+    @Test
+    public void openOnFailures() throws Exception {
+        CircuitBreakerStatistics statistics = new CircuitBreakerStatistics();
+        CircuitBreaker breaker = new CircuitBreaker(statistics);
+        breaker.acquire(insights, conf);
+        breaker.record(insights, 10, null, conf);
+        // the endpoint is responding
+        breaker.record(insights, 10, new FacebookException("bad request", null, 400), conf);
+        breaker.record(insights, 10, timeout, conf);
+        assertThat(breaker.getState("insights"), is(CircuitBreaker.State.CLOSED));
+        breaker.record(insights, 10, timeout, conf);
+        assertThat(breaker.getState("insights"), is(CircuitBreaker.State.OPEN));
+        assertThat(statistics.getOpenEndpoints(), is(new String[]{"insights"}));
+
+        try {
+            breaker.acquire(insights, conf);
+            fail("should fail fast");
+        } catch (CircuitBreakerOpenException e) {
+            assertThat(e.getEndpoint(), is("insights"));
+        }
+        assertThat(statistics.getRejectedCount(), is(1L));
+
+        // other endpoints are not affected
+        breaker.acquire(new HttpRequest(RequestMethod.GET, "https://graph.facebook.com/me/feed", null, null, null), conf);
+
+        Thread.sleep(550);
+        breaker.acquire(insights, conf);
+        assertThat(breaker.getState("insights"), is(CircuitBreaker.State.HALF_OPEN));
+        try {
+            breaker.acquire(insights, conf);
+            fail("only one trial call is let through");
+        } catch (CircuitBreakerOpenException expected) {
+        }
+        breaker.record(insights, 10, null, conf);
+        assertThat(breaker.getState("insights"), is(CircuitBreaker.State.CLOSED));
+        breaker.acquire(insights, conf);
+    }
+
+    @Test
+    public void openOnSlowCalls() throws Exception {
+        CircuitBreakerStatistics statistics = new CircuitBreakerStatistics();
+        CircuitBreaker breaker = new CircuitBreaker(statistics);
+        for (int i = 0; i < 4; i++) {
+            breaker.record(insights, 1500, null, conf);
+        }
+        assertThat(breaker.getState("insights"), is(CircuitBreaker.State.OPEN));
+
+        Thread.sleep(550);
+        breaker.acquire(insights, conf);
+        breaker.record(insights, 1500, null, conf);
+        assertThat(breaker.getState("insights"), is(CircuitBreaker.State.OPEN));
+        assertThat(statistics.getOpenedCount(), is(2L));
+    }
+
+    @Test
+    public void instancePerConfiguration() throws Exception {
+        Configuration other = new ConfigurationBuilder()
+                .setCircuitBreakerEnabled(true)
+                .setCircuitBreakerWindowSize(100)
+                .build();
+        assertThat(CircuitBreaker.getInstance(conf), is(sameInstance(CircuitBreaker.getInstance(conf))));
+        assertThat(CircuitBreaker.getInstance(other), is(not(sameInstance(CircuitBreaker.getInstance(conf)))));
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.UnsupportedEncodingException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import facebook4j.FacebookException;
+import facebook4j.conf.Configuration;
+import facebook4j.conf.ConfigurationBuilder;
+import facebook4j.internal.org.json.JSONPullParser;
+
+public class ETagCacheTest {
+
+    private static final Configuration conf = new ConfigurationBuilder().build();
+
+    private static HttpRequest get(String url) {
+        return new HttpRequest(RequestMethod.GET, url, null, null, null);
+    }
+
+    // answers 304 to a matching If-None-Match, 200 with the ETag otherwise
+    private static class Server implements ETagCache.Fetcher {
+        String etag;
+        String body;
+        String usage;
+        boolean raw;
+        int requestCount;
+
+        public HttpResponse fetch(HttpRequest req) throws FacebookException {
+            requestCount++;
+            Map<String, List<String>> headers = new HashMap<String, List<String>>();
+            headers.put("ETag", Collections.singletonList(etag));
+            if (usage != null) {
+                // lower case like HTTP/2 headers
+                headers.put("x-app-usage", Collections.singletonList(usage));
+            }
+            Map<String, String> requestHeaders = req.getRequestHeaders();
+            if (requestHeaders != null && etag.equals(requestHeaders.get("If-None-Match"))) {
+                return new BufferedHttpResponse(conf, 304, "", headers);
+            }
+            if (raw) {
+                // like a response read from the network
+                try {
+                    return new BufferedHttpResponse(conf, 200, body.getBytes("UTF-8"), headers);
+                } catch (UnsupportedEncodingException neverHappen) {
+                    throw new AssertionError("will never happen");
+                }
+            }
+            return new BufferedHttpResponse(conf, 200, body, headers);
+        }
+    }
+
+    @Test
+    public void revalidate() throws Exception {
+        ETagCache cache = new ETagCache(conf, 1024);
+        Server server = new Server();
+        server.etag = "\"1\"";
+        server.body = "{\"id\":\"1\"}";
+
+        HttpRequest req = get("https://graph.facebook.com/1?access_token=token");
+        assertThat(cache.get(req, server).asString(), is("{\"id\":\"1\"}"));
+        assertThat(cache.getMissCount(), is(1L));
+
+        server.body = "changed, but not seen because of the same ETag";
+        HttpResponse res = cache.get(req, server);
+        assertThat(res.getStatusCode(), is(200));
+        assertThat(res.asString(), is("{\"id\":\"1\"}"));
+        assertThat(res.getResponseHeader("ETag"), is("\"1\""));
+        assertThat(cache.getHitCount(), is(1L));
+
+        server.etag = "\"2\"";
+        server.body = "{\"id\":\"2\"}";
+        assertThat(cache.get(req, server).asString(), is("{\"id\":\"2\"}"));
+        assertThat(cache.size(), is(1));
+        assertThat(server.requestCount, is(3));
+    }
+
+    @Test
+    public void notModifiedHeadersTakePrecedence() throws Exception {
+        ETagCache cache = new ETagCache(conf, 1024);
+        Server server = new Server();
+        server.etag = "\"1\"";
+        server.body = "{\"id\":\"1\"}";
+        server.usage = "{\"call_count\":10}";
+        HttpRequest req = get("https://graph.facebook.com/1");
+        cache.get(req, server);
+
+        server.usage = "{\"call_count\":90}";
+        HttpResponse res = cache.get(req, server);
+        assertThat(res.getStatusCode(), is(200));
+        assertThat(res.getResponseHeader("X-App-Usage"), is("{\"call_count\":90}"));
+        assertThat(res.getResponseHeaderFields().size(), is(2));
+    }
+
+    @Test
+    public void replayRawBody() throws Exception {
+        ETagCache cache = new ETagCache(conf, 1024);
+        Server server = new Server();
+        server.etag = "\"1\"";
+        server.body = "{\"id\":\"1\"}";
+        server.raw = true;
+        HttpRequest req = get("https://graph.facebook.com/1");
+
+        // the body stays a stream for the streaming decoder, on a miss and on a hit
+        for (int i = 0; i < 2; i++) {
+            JSONPullParser parser = cache.get(req, server).asJSONPullParser();
+            try {
+                assertThat(parser.next(), is(JSONPullParser.Token.START_OBJECT));
+            } finally {
+                parser.close();
+            }
+        }
+        assertThat(cache.getHitCount(), is(1L));
+        assertThat(cache.getBytes(), is(10L));
+    }
+
+    @Test
+    public void key() throws Exception {
+        String key1 = ETagCache.getKey(get("https://graph.facebook.com/1?access_token=token1&fields=id"));
+        String key2 = ETagCache.getKey(get("https://graph.facebook.com/1?access_token=token2&fields=id"));
+        assertThat(key1.startsWith("https://graph.facebook.com/1?access_token=&fields=id "), is(true));
+        assertThat(key1.contains("token1"), is(false));
+        assertThat(key1.equals(key2), is(false));
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed() throws Exception {
+        ETagCache cache = new ETagCache(conf, 10);
+        Server server = new Server();
+        server.etag = "\"1\"";
+        server.body = "123456";
+        cache.get(get("https://graph.facebook.com/1"), server);
+        cache.get(get("https://graph.facebook.com/2"), server);
+        assertThat(cache.size(), is(1));
+        assertThat(cache.getBytes(), is(6L));
+
+        // too large to be cached at all
+        server.body = "12345678901";
+        cache.get(get("https://graph.facebook.com/3"), server);
+        assertThat(cache.size(), is(1));
+    }
+}
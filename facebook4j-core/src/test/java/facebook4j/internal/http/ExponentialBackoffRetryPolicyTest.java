@@ -0,0 +1,109 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import facebook4j.FacebookException;
+import facebook4j.conf.Configuration;
+import facebook4j.conf.ConfigurationBuilder;
+
+public class ExponentialBackoffRetryPolicyTest {
+
+    private static Configuration conf(int budgetPercent) {
+        return new ConfigurationBuilder()
+                .setHttpRetryCount(3)
+                .setHttpRetryIntervalSeconds(1)
+                .setHttpRetryMaxIntervalSeconds(60)
+                .setHttpRetryBudgetPercent(budgetPercent)
+                .build();
+    }
+
+    private static FacebookException error(Configuration conf, int statusCode, int errorCode, String retryAfter) {
+        String body = "{\"error\":{\"message\":\"error\",\"type\":\"OAuthException\",\"code\":" + errorCode + "}}";
+        Map<String, List<String>> headers = new HashMap<String, List<String>>();
+        if (retryAfter != null) {
+            headers.put("Retry-After", Collections.singletonList(retryAfter));
+        }
+        return new FacebookException(body, new BufferedHttpResponse(conf, statusCode, body, headers));
+    }
+
+    @Test
+    public void classification() throws Exception {
+        Configuration conf = conf(-1);
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(conf);
+        assertThat(policy.getRetryDelayMillis(null, 0, 0, error(conf, 400, 190, null)), is(-1L));
+        assertThat(policy.getRetryDelayMillis(null, 0, 0, error(conf, 403, 10, null)), is(-1L));
+        assertThat(policy.getRetryDelayMillis(null, 0, 0, error(conf, 400, 613, null)), is(1000L));
+        assertThat(policy.getRetryDelayMillis(null, 0, 0, error(conf, 500, 2, null)), is(1000L));
+        assertThat(policy.getRetryDelayMillis(null, 0, 0, error(conf, 503, -1, null)), is(1000L));
+        assertThat(policy.getRetryDelayMillis(null, 0, 0, new FacebookException("timeout", new IOException("timeout"), -1)), is(1000L));
+
+        // retry count exhausted
+        assertThat(policy.getRetryDelayMillis(null, 3, 0, error(conf, 503, -1, null)), is(-1L));
+    }
+
+    @Test
+    public void decorrelatedJitter() throws Exception {
+        Configuration conf = conf(-1);
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(conf);
+        for (int i = 0; i < 100; i++) {
+            long delay = policy.getRetryDelayMillis(null, 1, 2000, error(conf, 500, -1, null));
+            assertTrue(delay >= 1000 && delay <= 6000);
+        }
+        assertThat(policy.getRetryDelayMillis(null, 1, 50000, error(conf, 500, -1, null)) <= 60000, is(true));
+    }
+
+    @Test
+    public void retryAfter() throws Exception {
+        Configuration conf = conf(-1);
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(conf);
+        assertThat(policy.getRetryDelayMillis(null, 0, 0, error(conf, 503, -1, "30")), is(30000L));
+        assertThat(policy.getRetryDelayMillis(null, 0, 0, error(conf, 503, -1, "120")), is(-1L));
+    }
+
+    @Test
+    public void budget() throws Exception {
+        Configuration conf = conf(0);
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(conf);
+        for (int i = 0; i < 10; i++) {
+            policy.requestStarted(null);
+            assertThat(policy.getRetryDelayMillis(null, 0, 0, error(conf, 500, -1, null)), is(1000L));
+        }
+        policy.requestStarted(null);
+        assertThat(policy.getRetryDelayMillis(null, 0, 0, error(conf, 500, -1, null)), is(-1L));
+
+        RetryBudget budget = new RetryBudget(50);
+        for (int i = 0; i < 10; i++) {
+            assertThat(budget.tryWithdraw(), is(true));
+        }
+        assertThat(budget.tryWithdraw(), is(false));
+        budget.deposit();
+        assertThat(budget.tryWithdraw(), is(false));
+        budget.deposit();
+        assertThat(budget.tryWithdraw(), is(true));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class HTMLEntityTest {
+
+    @Test
+    public void unescape() throws Exception {
+        assertThat(HTMLEntity.unescape("&lt;b&gt;Tom &amp; Jerry&lt;/b&gt;"), is("<b>Tom & Jerry</b>"));
+        assertThat(HTMLEntity.unescape("&eacute;t&eacute; &euro;5 &thetasym;"), is("été €5 ϑ"));
+        // replaced text is not read again
+        assertThat(HTMLEntity.unescape("&amp;lt;"), is("&lt;"));
+        assertThat(HTMLEntity.unescape((String) null), is(nullValue()));
+    }
+
+    @Test
+    public void unescapeNumeric() throws Exception {
+        assertThat(HTMLEntity.unescape("&#38;&#x26;&#X26;&#0038;"), is("&&&&"));
+        assertThat(HTMLEntity.unescape("&#128512;"), is("😀"));
+        assertThat(HTMLEntity.unescape("&#;&#x;&#0;&#xD800;&#1114112;&#12a;"), is("&#;&#x;&#0;&#xD800;&#1114112;&#12a;"));
+    }
+
+    @Test
+    public void unescapeLeavesUnknown() throws Exception {
+        String text = "AT&T & friends; &unknown; &amp &";
+        assertThat(HTMLEntity.unescape(text), is(sameInstance(text)));
+        assertThat(HTMLEntity.unescape("&amp &amp;"), is("&amp &"));
+
+        String plain = "no references here";
+        assertThat(HTMLEntity.unescape(plain), is(sameInstance(plain)));
+    }
+
+    @Test
+    public void escape() throws Exception {
+        String text = "<a href=\"x\">é & €</a>";
+        assertThat(HTMLEntity.escape(text), is("&lt;a href=&quot;x&quot;&gt;&eacute; &amp; &euro;&lt;/a&gt;"));
+        assertThat(HTMLEntity.unescape(HTMLEntity.escape(text)), is(text));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.net.URL;
+
+import org.junit.Test;
+
+public class HttpConnectionPoolTest {
+
+    private static final String ROUTE = "https://graph.facebook.com:443";
+
+    @Test
+    public void getRoute() throws Exception {
+        assertThat(HttpConnectionPool.getRoute(new URL("https://graph.facebook.com/me?fields=id")), is(ROUTE));
+        assertThat(HttpConnectionPool.getRoute(new URL("http://graph.facebook.com:8080/me")), is("http://graph.facebook.com:8080"));
+    }
+
+    @Test
+    public void parseKeepAliveMillis() {
+        assertThat(HttpConnectionPool.parseKeepAliveMillis("timeout=15, max=100"), is(15000L));
+        assertThat(HttpConnectionPool.parseKeepAliveMillis("max=100"), is(HttpConnectionPool.DEFAULT_KEEP_ALIVE_MILLIS));
+        assertThat(HttpConnectionPool.parseKeepAliveMillis(null), is(HttpConnectionPool.DEFAULT_KEEP_ALIVE_MILLIS));
+    }
+
+    @Test
+    public void hitAndMiss() {
+        HttpConnectionPool pool = new HttpConnectionPool();
+        assertFalse(pool.lease(ROUTE));
+        assertTrue(pool.release(ROUTE, 5000, 2, 20));
+        assertTrue(pool.lease(ROUTE));
+        assertFalse(pool.lease(ROUTE));
+        assertThat(pool.getStatistics().getEstimatedHitCount(), is(1L));
+        assertThat(pool.getStatistics().getEstimatedMissCount(), is(2L));
+        assertThat(pool.getIdleConnectionCount(), is(0));
+        assertThat(pool.getLeasedConnectionCount(), is(2));
+    }
+
+    @Test
+    public void discard() {
+        HttpConnectionPool pool = new HttpConnectionPool();
+        assertFalse(pool.lease(ROUTE));
+        assertThat(pool.getStatistics().getLeasedConnectionCount(), is(1));
+        pool.discard(ROUTE);
+        assertThat(pool.getStatistics().getLeasedConnectionCount(), is(0));
+        assertThat(pool.getStatistics().getEvictionCount(), is(1L));
+        assertThat(pool.getIdleConnectionCount(), is(0));
+    }
+
+    @Test
+    public void maxPerRoute() {
+        HttpConnectionPool pool = new HttpConnectionPool();
+        assertTrue(pool.release(ROUTE, 5000, 2, 20));
+        assertTrue(pool.release(ROUTE, 5000, 2, 20));
+        assertFalse(pool.release(ROUTE, 5000, 2, 20));
+        assertTrue(pool.release("https://graph-video.facebook.com:443", 5000, 2, 20));
+        assertThat(pool.getIdleConnectionCount(), is(3));
+        assertThat(pool.getStatistics().getEvictionCount(), is(1L));
+    }
+
+    @Test
+    public void maxTotal() {
+        HttpConnectionPool pool = new HttpConnectionPool();
+        assertTrue(pool.release(ROUTE, 5000, 2, 2));
+        assertTrue(pool.release("https://graph-video.facebook.com:443", 5000, 2, 2));
+        assertFalse(pool.release(ROUTE, 5000, 2, 2));
+        assertThat(pool.getStatistics().getEvictionCount(), is(1L));
+    }
+
+    @Test
+    public void expiration() {
+        HttpConnectionPool pool = new HttpConnectionPool();
+        assertTrue(pool.release(ROUTE, -1, 2, 20));
+        assertFalse(pool.lease(ROUTE));
+        assertThat(pool.getStatistics().getEvictionCount(), is(1L));
+        assertThat(pool.getIdleConnectionCount(), is(0));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class MultipartEntityTest {
+
+    @Test
+    public void fixedLength() throws Exception {
+        File file = File.createTempFile("facebook4j", ".png");
+        file.deleteOnExit();
+        byte[] content = new byte[200 * 1024];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        FileOutputStream fos = new FileOutputStream(file);
+        fos.write(content);
+        fos.close();
+
+        MultipartEntity entity = new MultipartEntity(new HttpParameter[]{
+                new HttpParameter("message", "héllo"),
+                new HttpParameter("source", file)
+        }, "boundary");
+        assertThat(entity.getContentType(), is("multipart/form-data; boundary=boundary"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+        byte[] body = out.toByteArray();
+        assertThat((long) body.length, is(entity.getContentLength()));
+
+        String str = new String(body, "ISO-8859-1");
+        assertTrue(str.startsWith("--boundary\r\nContent-Disposition: form-data; name=\"message\"\r\n"));
+        assertTrue(str.endsWith("\r\n--boundary--\r\n\r\n"));
+        assertTrue(str.contains("filename=\"" + file.getName() + "\"\r\nContent-Type: image/png\r\n\r\n"));
+        int start = str.indexOf("image/png\r\n\r\n") + "image/png\r\n\r\n".length();
+        for (int i = 0; i < content.length; i++) {
+            assertThat(body[start + i], is(content[i]));
+        }
+    }
+
+    @Test
+    public void fileRange() throws Exception {
+        File file = File.createTempFile("facebook4j", ".mp4");
+        file.deleteOnExit();
+        FileOutputStream fos = new FileOutputStream(file);
+        fos.write("0123456789".getBytes("UTF-8"));
+        fos.close();
+        MultipartEntity entity = new MultipartEntity(new HttpParameter[]{new HttpParameter("source", file, 3, 4)}, "boundary");
+
+        // written twice, as for a retry
+        for (int i = 0; i < 2; i++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            entity.writeTo(out);
+            assertThat((long) out.size(), is(entity.getContentLength()));
+            assertTrue(out.toString("ISO-8859-1").contains("\r\n\r\n3456\r\n--boundary--"));
+        }
+    }
+
+    @Test
+    public void fileShrunk() throws Exception {
+        File file = File.createTempFile("facebook4j", ".mp4");
+        file.deleteOnExit();
+        FileOutputStream fos = new FileOutputStream(file);
+        fos.write(new byte[1024]);
+        fos.close();
+        MultipartEntity entity = new MultipartEntity(new HttpParameter[]{new HttpParameter("source", file)}, "boundary");
+
+        fos = new FileOutputStream(file);
+        fos.write(new byte[10]);
+        fos.close();
+        try {
+            entity.writeTo(new ByteArrayOutputStream());
+            fail("should throw IOException");
+        } catch (IOException expected) {
+            assertTrue(expected.getMessage().contains("10 of the 1024 bytes"));
+        }
+    }
+
+    @Test
+    public void unknownLength() throws Exception {
+        MultipartEntity entity = new MultipartEntity(new HttpParameter[]{
+                new HttpParameter("source", "video.mp4", new ByteArrayInputStream(new byte[]{1, 2, 3}))
+        }, "boundary");
+        assertThat(entity.getContentLength(), is(-1L));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+        String str = new String(out.toByteArray(), "ISO-8859-1");
+        assertTrue(str.contains("\r\n\r\n\u0001\u0002\u0003\r\n--boundary--"));
+    }
+}
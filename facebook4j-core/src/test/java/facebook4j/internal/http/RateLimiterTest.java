@@ -0,0 +1,174 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import facebook4j.FacebookException;
+import facebook4j.RateLimitExceededException;
+import facebook4j.auth.NullAuthorization;
+import facebook4j.auth.OAuthAuthorization;
+import facebook4j.conf.Configuration;
+import facebook4j.conf.ConfigurationBuilder;
+
+public class RateLimiterTest {
+
+    private static final Configuration conf = new ConfigurationBuilder()
+            .setOAuthAppId("123")
+            .setOAuthAppSecret("secret")
+            .setOAuthAccessToken("token")
+            .setRateLimitEnabled(true)
+            .setRateLimitMaxWaitMillis(1000)
+            .build();
+
+    private static HttpRequest request(String url) {
+        return new HttpRequest(RequestMethod.GET, url, null, new OAuthAuthorization(conf), null);
+    }
+
+    private static HttpResponse response(String name, String value) {
+        Map<String, List<String>> headers = new HashMap<String, List<String>>();
+        headers.put(name, Collections.singletonList(value));
+        return new BufferedHttpResponse(conf, 200, "{}", headers);
+    }
+
+    @Test
+    public void parseUsage() throws Exception {
+        assertThat(RateLimiter.parseUsage("{\"call_count\":28,\"total_time\":25,\"total_cputime\":25}"), is(28));
+        assertThat(RateLimiter.parseUsage("{\"acc_id_util_pct\":9.67,\"reset_time_duration\":0}"), is(10));
+        assertThat(RateLimiter.parseUsage("broken"), is(-1));
+    }
+
+    @Test
+    public void belowThreshold() throws Exception {
+        RateLimiter limiter = new RateLimiter();
+        HttpRequest req = request("https://graph.facebook.com/me");
+        limiter.update(req, response("X-App-Usage", "{\"call_count\":50}"), conf);
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire(req, conf);
+        }
+        assertThat(limiter.getStatistics().getHeadroom().get("app:123"), is(50));
+        assertThat(limiter.getStatistics().getDelayedCount(), is(0L));
+    }
+
+    @Test
+    public void firstUsageAboveThreshold() throws Exception {
+        RateLimiter limiter = new RateLimiter();
+        HttpRequest req = request("https://graph.facebook.com/me");
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire(req, conf);
+        }
+        // the rate is scaled down from the requests made so far, not from one request a minute
+        limiter.update(req, response("X-App-Usage", "{\"call_count\":90}"), conf);
+        limiter.acquire(req, conf);
+        limiter.acquire(req, conf);
+        assertThat(limiter.getStatistics().getHeadroom().get("app:123"), is(10));
+        assertThat(limiter.getStatistics().getRejectedCount(), is(0L));
+    }
+
+    @Test(timeout = 10000)
+    public void concurrentRequestsQueueUp() throws Exception {
+        final RateLimiter limiter = new RateLimiter();
+        final HttpRequest req = request("https://graph.facebook.com/me");
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire(req, conf);
+        }
+        // about 4 requests a second from now on
+        limiter.update(req, response("X-App-Usage", "{\"call_count\":95}"), conf);
+
+        int threads = 16;
+        final CyclicBarrier start = new CyclicBarrier(threads);
+        final AtomicInteger sent = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(new Callable<Void>() {
+                public Void call() throws Exception {
+                    start.await();
+                    try {
+                        limiter.acquire(req, conf);
+                        sent.incrementAndGet();
+                    } catch (RateLimitExceededException ignore) {
+                    }
+                    return null;
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        // one permit now, and about four more within the maximum wait of one second
+        assertTrue(sent.get() + " requests sent", sent.get() <= 6);
+        assertThat(limiter.getStatistics().getRejectedCount(), is((long) (threads - sent.get())));
+        assertTrue(limiter.getStatistics().getDelayedCount() >= 3);
+    }
+
+    @Test
+    public void appKeyWithoutOAuthAuthorization() throws Exception {
+        Configuration noApp = new ConfigurationBuilder().setRateLimitEnabled(true).build();
+        RateLimiter limiter = new RateLimiter();
+        HttpRequest appToken = new HttpRequest(RequestMethod.GET, "https://graph.facebook.com/me?access_token=456%7Csecret",
+                null, NullAuthorization.getInstance(), null);
+        limiter.update(appToken, response("X-App-Usage", "{\"call_count\":30}"), noApp);
+        HttpRequest unknown = new HttpRequest(RequestMethod.GET, "https://graph.facebook.com/me",
+                null, NullAuthorization.getInstance(), null);
+        limiter.update(unknown, response("X-App-Usage", "{\"call_count\":100}"), noApp);
+
+        assertThat(limiter.getStatistics().getHeadroom().get("app:456"), is(70));
+        assertThat(limiter.getStatistics().getHeadroom().containsKey("app:"), is(false));
+        limiter.acquire(appToken, noApp);
+    }
+
+    @Test
+    public void failFastAtTheLimit() throws Exception {
+        RateLimiter limiter = new RateLimiter();
+        HttpRequest req = request("https://graph.facebook.com/act_42/campaigns");
+        String body = "{\"error\":{\"message\":\"limit\",\"type\":\"OAuthException\",\"code\":4}}";
+        limiter.update(req, new FacebookException(body, new BufferedHttpResponse(conf, 400, body,
+                new HashMap<String, List<String>>())), conf);
+        assertThat(limiter.getStatistics().getMinimumHeadroom(), is(0));
+
+        // one request a minute is let through to learn the new usage
+        limiter.acquire(req, conf);
+        try {
+            limiter.acquire(req, conf);
+            fail("should fail fast");
+        } catch (RateLimitExceededException e) {
+            assertTrue(e.getWaitMillis() > 1000);
+        }
+        assertThat(limiter.getStatistics().getRejectedCount(), is(1L));
+
+        // the ad account usage is tracked in a bucket of its own
+        limiter.update(req, response("X-Ad-Account-Usage", "{\"acc_id_util_pct\":10}"), conf);
+        assertThat(limiter.getStatistics().getHeadroom().get("adaccount:42"), is(90));
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package facebook4j.internal.http;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import facebook4j.FacebookException;
+import facebook4j.conf.Configuration;
+import facebook4j.conf.ConfigurationBuilder;
+
+public class SingleFlightTest {
+
+    private static final Configuration conf = new ConfigurationBuilder().build();
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static HttpRequest get(String url) {
+        return new HttpRequest(RequestMethod.GET, url, null, null, null);
+    }
+
+    // holds every request until released
+    private static class Server implements SingleFlight.Fetcher {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger requestCount = new AtomicInteger();
+        final List<String> urls = Collections.synchronizedList(new ArrayList<String>());
+        boolean fail;
+
+        public HttpResponse fetch(HttpRequest req) throws FacebookException {
+            requestCount.incrementAndGet();
+            urls.add(req.getURL());
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new FacebookException(e);
+            }
+            if (fail) {
+                throw new FacebookException("{\"error\":{\"message\":\"unknown error\",\"type\":\"OAuthException\",\"code\":1}}");
+            }
+            return new BufferedHttpResponse(conf, 200, "{\"id\":\"1\"}", Collections.<String, List<String>>emptyMap());
+        }
+    }
+
+    private List<Future<HttpResponse>> submit(final SingleFlight singleFlight, final Server server, String... urls) {
+        List<Future<HttpResponse>> futures = new ArrayList<Future<HttpResponse>>();
+        for (final String url : urls) {
+            futures.add(executor.submit(new Callable<HttpResponse>() {
+                public HttpResponse call() throws Exception {
+                    return singleFlight.get(get(url), server);
+                }
+            }));
+        }
+        return futures;
+    }
+
+    private static void awaitSharedCount(SingleFlight singleFlight, long count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (singleFlight.getSharedCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    public void share() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(conf);
+        Server server = new Server();
+        String url = "https://graph.facebook.com/1?access_token=token";
+        List<Future<HttpResponse>> futures = submit(singleFlight, server, url, url, url, url);
+        awaitSharedCount(singleFlight, 3);
+        server.release.countDown();
+
+        List<HttpResponse> responses = new ArrayList<HttpResponse>();
+        for (Future<HttpResponse> future : futures) {
+            HttpResponse res = future.get();
+            assertThat(res.getStatusCode(), is(200));
+            assertThat(res.asJSONObject().getString("id"), is("1"));
+            assertThat(responses.contains(res), is(false));
+            responses.add(res);
+        }
+        assertThat(server.requestCount.get(), is(1));
+        assertThat(singleFlight.getSharedCount(), is(3L));
+    }
+
+    @Test
+    public void differentTokens() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(conf);
+        Server server = new Server();
+        List<Future<HttpResponse>> futures = submit(singleFlight, server,
+                "https://graph.facebook.com/1?access_token=token1",
+                "https://graph.facebook.com/1?access_token=token2");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (server.requestCount.get() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        server.release.countDown();
+        for (Future<HttpResponse> future : futures) {
+            future.get();
+        }
+        assertThat(server.requestCount.get(), is(2));
+        assertThat(singleFlight.getSharedCount(), is(0L));
+    }
+
+    @Test
+    public void shareError() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(conf);
+        Server server = new Server();
+        server.fail = true;
+        String url = "https://graph.facebook.com/1?access_token=token";
+        List<Future<HttpResponse>> futures = submit(singleFlight, server, url, url);
+        awaitSharedCount(singleFlight, 1);
+        server.release.countDown();
+        for (Future<HttpResponse> future : futures) {
+            try {
+                future.get();
+                fail("should have failed");
+            } catch (ExecutionException e) {
+                assertThat(((FacebookException) e.getCause()).getErrorCode(), is(1));
+            }
+        }
+        assertThat(server.requestCount.get(), is(1));
+    }
+
+    @Test
+    public void notSharedAfterCompletion() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(conf);
+        Server server = new Server();
+        server.release.countDown();
+        HttpRequest req = get("https://graph.facebook.com/1?access_token=token");
+        singleFlight.get(req, server);
+        singleFlight.get(req, server);
+        assertThat(server.requestCount.get(), is(2));
+        assertThat(singleFlight.getSharedCount(), is(0L));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import facebook4j.BatchResponse;
+import facebook4j.FacebookException;
+import facebook4j.Post;
+import facebook4j.ResponseList;
+import facebook4j.User;
+import facebook4j.conf.Configuration;
+import facebook4j.conf.ConfigurationBuilder;
+import facebook4j.internal.http.BufferedHttpResponse;
+
+public class BatchResponseImplTest {
+
+    private static final String BATCH_RESPONSE = "["
+            + "{\"code\":200,\"headers\":[{\"name\":\"Content-Type\",\"value\":\"text/javascript; charset=UTF-8\"}],"
+            + "\"body\":\"{\\\"id\\\":\\\"4\\\",\\\"name\\\":\\\"Mark Zuckerberg\\\"}\"},"
+            + "null,"
+            + "{\"code\":200,\"headers\":[],"
+            + "\"body\":\"{\\\"data\\\":[{\\\"id\\\":\\\"4_1\\\",\\\"message\\\":\\\"hello\\\"}]}\"},"
+            + "{\"code\":400,\"headers\":[],"
+            + "\"body\":\"{\\\"error\\\":{\\\"message\\\":\\\"Unsupported get request.\\\",\\\"type\\\":\\\"GraphMethodException\\\",\\\"code\\\":100}}\"}"
+            + "]";
+
+    @Test
+    public void createBatchResponseList() throws Exception {
+        Configuration conf = new ConfigurationBuilder().build();
+        List<BatchResponse> responses = new z_F4JInternalJSONImplFactory(conf).createBatchResponseList(new BufferedHttpResponse(conf, 200, BATCH_RESPONSE.getBytes("UTF-8"), null));
+        assertThat(responses.size(), is(4));
+
+        BatchResponse user = responses.get(0);
+        assertThat(user.getStatusCode(), is(200));
+        assertThat(user.getResponseHeader("content-type"), is("text/javascript; charset=UTF-8"));
+        assertThat(user.getException(), is(nullValue()));
+        User me = user.asObject(User.class);
+        assertThat(me.getId(), is("4"));
+        assertThat(me.getName(), is("Mark Zuckerberg"));
+
+        assertThat(responses.get(1), is(nullValue()));
+
+        ResponseList<Post> posts = responses.get(2).asResponseList(Post.class);
+        assertThat(posts.size(), is(1));
+        assertThat(posts.get(0).getMessage(), is("hello"));
+
+        BatchResponse error = responses.get(3);
+        assertThat(error.getStatusCode(), is(400));
+        assertThat(error.getException().getErrorCode(), is(100));
+        assertThat(error.getException().getStatusCode(), is(400));
+        try {
+            error.asObject(User.class);
+            fail("should throw FacebookException");
+        } catch (FacebookException e) {
+            assertThat(e.getErrorType(), is("GraphMethodException"));
+        }
+    }
+}
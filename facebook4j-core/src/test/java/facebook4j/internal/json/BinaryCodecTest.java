@@ -0,0 +1,282 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import facebook4j.FacebookException;
+import facebook4j.PagableList;
+import facebook4j.Post;
+import facebook4j.ResponseList;
+import facebook4j.User;
+import facebook4j.auth.NullAuthorization;
+import facebook4j.conf.Configuration;
+import facebook4j.conf.ConfigurationBuilder;
+import facebook4j.internal.http.BufferedHttpResponse;
+import facebook4j.internal.http.RequestMethod;
+import facebook4j.json.DataObjectCodec;
+import facebook4j.json.ExternalizableDataObject;
+
+public class BinaryCodecTest {
+
+    private static final String POST = "{\"id\":\"4_1\",\"from\":{\"id\":\"4\",\"name\":\"Mark\"},"
+            + "\"to\":{\"data\":[{\"id\":\"5\",\"name\":\"Chris\"}]},\"message\":\"hello\","
+            + "\"link\":\"http://example.com/\",\"type\":\"status\",\"object_id\":12345678901,"
+            + "\"likes\":{\"data\":[{\"id\":\"6\",\"name\":\"Dustin\"}],\"count\":1},"
+            + "\"comments\":{\"data\":[{\"id\":\"4_1_1\",\"message\":\"hi\",\"from\":{\"id\":\"5\",\"name\":\"Chris\"}}]},"
+            + "\"created_time\":\"2012-01-02T03:04:05+0000\"}";
+    private static final String POSTS = "{\"data\":[" + POST + "," + POST.replace("4_1", "4_2") + "],"
+            + "\"paging\":{\"previous\":\"https://graph.facebook.com/4/feed?since=1\","
+            + "\"next\":\"https://graph.facebook.com/4/feed?until=1\"}}";
+    private static final String USER = "{\"id\":\"4\",\"name\":\"Mark\",\"locale\":\"en_US\",\"timezone\":-7.5,"
+            + "\"hometown\":{\"id\":\"7\",\"name\":\"Dobbs Ferry\"},\"website\":\"http://example.com/\","
+            + "\"work\":[{\"employer\":{\"id\":\"8\",\"name\":\"Facebook\"}}],\"updated_time\":\"2012-01-02T03:04:05+0000\"}";
+
+    private static final Configuration eager = new ConfigurationBuilder().build();
+    private static final Configuration lazy = new ConfigurationBuilder().setLazyDecodingEnabled(true).build();
+
+    @Test
+    public void responseList() throws Exception {
+        ResponseList<Post> posts = PostJSONImpl.createPostList(new BufferedHttpResponse(eager, 200, POSTS.getBytes("UTF-8"), null), eager);
+        @SuppressWarnings("unchecked")
+        ResponseList<Post> decoded = (ResponseList<Post>) BinaryCodec.decode(BinaryCodec.encode(posts));
+
+        assertThat(decoded.getClass().getName(), is(posts.getClass().getName()));
+        assertThat(decoded.size(), is(2));
+        assertThat(decoded.get(1).getId(), is("4_2"));
+        assertThat(decoded.toString(), is(posts.toString()));
+        assertThat(decoded.getPaging().getNext(), is(posts.getPaging().getNext()));
+        assertThat(decoded.getPaging().getPrevious(), is(posts.getPaging().getPrevious()));
+        assertThat(decoded.getPaging().getJSONObjectType(), equalTo((Object) posts.getPaging().getJSONObjectType()));
+
+        PagableList<?> likes = decoded.get(0).getLikes();
+        assertThat(likes.get(0).toString(), is(posts.get(0).getLikes().get(0).toString()));
+        assertThat(decoded.get(0).getCreatedTime(), is(posts.get(0).getCreatedTime()));
+    }
+
+    @Test
+    public void repeatedStrings() throws Exception {
+        ResponseList<Post> posts = PostJSONImpl.createPostList(new BufferedHttpResponse(eager, 200, POSTS.getBytes("UTF-8"), null), eager);
+        int both = BinaryCodec.encode(posts).length;
+        posts.remove(1);
+        int one = BinaryCodec.encode(posts).length;
+        // the class and field names, the users and the link of the second post are written as indexes
+        assertTrue(one + ", " + both + " bytes", both - one < one / 4);
+    }
+
+    @Test
+    public void lazyDecoding() throws Exception {
+        Post expected = PostJSONImpl.createPost(new BufferedHttpResponse(eager, 200, POST.getBytes("UTF-8"), null), eager);
+        Post post = PostJSONImpl.createPost(new BufferedHttpResponse(lazy, 200, POST.getBytes("UTF-8"), null), lazy);
+        Post decoded = (Post) BinaryCodec.decode(BinaryCodec.encode(post));
+        assertThat(decoded.toString(), is(expected.toString()));
+        assertThat(decoded.getFrom().getName(), is("Mark"));
+    }
+
+    @Test
+    public void user() throws Exception {
+        User user = UserJSONImpl.createUser(new BufferedHttpResponse(eager, 200, USER.getBytes("UTF-8"), null), eager);
+        User decoded = (User) BinaryCodec.decode(BinaryCodec.encode(user));
+        assertThat(decoded.toString(), is(user.toString()));
+        assertThat(decoded.getLocale(), is(user.getLocale()));
+        assertThat(decoded.getTimezone(), is(-7.5d));
+        assertThat(decoded.getWebsite(), is(user.getWebsite()));
+    }
+
+    @Test
+    public void externalizable() throws Exception {
+        ResponseList<Post> posts = PostJSONImpl.createPostList(new BufferedHttpResponse(lazy, 200, POSTS.getBytes("UTF-8"), null), lazy);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(new ExternalizableDataObject<ResponseList<Post>>(posts));
+        out.close();
+
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        @SuppressWarnings("unchecked")
+        ExternalizableDataObject<ResponseList<Post>> deserialized = (ExternalizableDataObject<ResponseList<Post>>) in.readObject();
+        assertThat(deserialized.get().toString(), is(posts.toString()));
+    }
+
+    @Test
+    public void nullAndShared() throws Exception {
+        assertThat(BinaryCodec.decode(BinaryCodec.encode(null)), is(nullValue()));
+        User user = UserJSONImpl.createUser(new BufferedHttpResponse(eager, 200, USER.getBytes("UTF-8"), null), eager);
+        Object[] pair = (Object[]) BinaryCodec.decode(BinaryCodec.encode(new Object[]{user, user}));
+        assertThat(pair[0], is(sameInstance(pair[1])));
+    }
+
+    @Test(expected = IOException.class)
+    public void invalidHeader() throws Exception {
+        BinaryCodec.decode(new byte[]{'{', '}', 1, 0});
+    }
+
+    @Test
+    public void readResolve() throws Exception {
+        assertThat(BinaryCodec.decode(BinaryCodec.encode(NullAuthorization.getInstance())),
+                is(sameInstance((Object) NullAuthorization.getInstance())));
+        Object[] pair = (Object[]) BinaryCodec.decode(BinaryCodec.encode(new Object[]{RequestMethod.GET, RequestMethod.GET}));
+        assertThat(pair[0], is(sameInstance((Object) RequestMethod.GET)));
+        assertThat(pair[1], is(sameInstance((Object) RequestMethod.GET)));
+    }
+
+    private static class WithReadObject implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+        }
+    }
+
+    @Test(expected = InvalidClassException.class)
+    public void refuseReadObject() throws Exception {
+        BinaryCodec.encode(new WithReadObject());
+    }
+
+    @Test
+    public void refuseOtherClasses() throws Exception {
+        ByteArrayOutputStream object = stream(BinaryCodec.OBJECT);
+        object.write(0);
+        writeString(object, "java.io.File");
+        object.write(0);
+        try {
+            BinaryCodec.decode(object.toByteArray());
+            fail("java.io.File is not allowed");
+        } catch (InvalidClassException expected) {
+            assertThat(expected.classname, is("java.io.File"));
+        }
+
+        // the classes Java serialization reads are checked at any depth
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(serialized);
+        out.writeObject(new ArrayList<Object>(Arrays.asList(new BigDecimal("1.5"), new File("file"))));
+        out.close();
+        ByteArrayOutputStream stream = stream(BinaryCodec.SERIALIZED);
+        writeVarInt(stream, serialized.size());
+        stream.write(serialized.toByteArray());
+        try {
+            BinaryCodec.decode(stream.toByteArray());
+            fail("java.io.File is not allowed");
+        } catch (InvalidClassException expected) {
+            assertThat(expected.classname, is("java.io.File"));
+        }
+    }
+
+    @Test
+    public void refuseOtherClassValues() throws Exception {
+        for (int tag : new int[]{BinaryCodec.CLASS, BinaryCodec.ARRAY}) {
+            ByteArrayOutputStream stream = stream(tag);
+            writeString(stream, "java.io.File");
+            stream.write(0);
+            try {
+                BinaryCodec.decode(stream.toByteArray());
+                fail("java.io.File is not allowed");
+            } catch (InvalidClassException expected) {
+                assertThat(expected.classname, is("java.io.File"));
+            }
+        }
+    }
+
+    @Test
+    public void forgedLengths() throws Exception {
+        ByteArrayOutputStream array = stream(BinaryCodec.ARRAY);
+        writeString(array, "java.lang.Object");
+        writeVarInt(array, 0x7FFFFFF0);
+        try {
+            DataObjectCodec.fromBytes(array.toByteArray());
+            fail("the array is longer than the stream");
+        } catch (FacebookException expected) {
+            assertThat(expected.getCause(), is(instanceOf(StreamCorruptedException.class)));
+        }
+
+        ByteArrayOutputStream nested = stream(BinaryCodec.ARRAY);
+        for (int i = 0; i < 100000; i++) {
+            writeString(nested, "java.lang.Object");
+            nested.write(1);
+            nested.write(BinaryCodec.ARRAY);
+        }
+        try {
+            BinaryCodec.decode(nested.toByteArray());
+            fail("nested too deeply");
+        } catch (StreamCorruptedException expected) {
+        }
+
+        for (int length : new int[]{-1, Integer.MAX_VALUE}) {
+            ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+            ObjectOutputStream out = new ObjectOutputStream(serialized);
+            out.writeObject(new ExternalizableDataObject<String>("value"));
+            out.close();
+            byte[] bytes = serialized.toByteArray();
+            // the block data of writeExternal: the length, then the encoded value
+            int index = indexOf(bytes, BinaryCodec.encode("value"));
+            ByteBuffer.wrap(bytes, index - 4, 4).putInt(length);
+            try {
+                new ObjectInputStream(new ByteArrayInputStream(bytes)).readObject();
+                fail("invalid length " + length);
+            } catch (IOException expected) {
+            }
+        }
+    }
+
+    private static int indexOf(byte[] bytes, byte[] part) {
+        for (int i = 0; i <= bytes.length - part.length; i++) {
+            if (Arrays.equals(Arrays.copyOfRange(bytes, i, i + part.length), part)) {
+                return i;
+            }
+        }
+        throw new AssertionError("not found");
+    }
+
+    private static void writeString(ByteArrayOutputStream bytes, String value) throws IOException {
+        byte[] utf8 = value.getBytes("UTF-8");
+        writeVarInt(bytes, utf8.length << 1);
+        bytes.write(utf8);
+    }
+
+    private static ByteArrayOutputStream stream(int tag) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(BinaryCodec.MAGIC >>> 8);
+        bytes.write(BinaryCodec.MAGIC & 0xFF);
+        bytes.write(BinaryCodec.VERSION);
+        bytes.write(tag);
+        return bytes;
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream bytes, int value) {
+        while ((value & ~0x7F) != 0) {
+            bytes.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes.write(value);
+    }
+}
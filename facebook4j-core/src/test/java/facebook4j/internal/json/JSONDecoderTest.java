@@ -0,0 +1,101 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import facebook4j.Friendlist;
+import facebook4j.GroupMember;
+import facebook4j.IdNameEntity;
+import facebook4j.Place;
+import facebook4j.Post;
+import facebook4j.ResponseList;
+import facebook4j.Tag;
+import facebook4j.conf.Configuration;
+import facebook4j.conf.ConfigurationBuilder;
+import facebook4j.internal.http.BufferedHttpResponse;
+import facebook4j.json.DataObjectFactory;
+
+public class JSONDecoderTest {
+
+    private static final String MEMBERS = "{\"data\":[{\"id\":\"1\",\"name\":\"Ann\",\"administrator\":true,"
+            + "\"extra\":{\"nested\":[1,2]}},{\"name\":\"Bob\",\"id\":2}],\"paging\":{\"next\":\"http://example.com/\"}}";
+
+    private static final Configuration[] confs = {
+            new ConfigurationBuilder().build(),
+            new ConfigurationBuilder().setJSONStreamingEnabled(true).build(),
+    };
+
+    @Test
+    public void bind() throws Exception {
+        for (Configuration conf : confs) {
+            ResponseList<GroupMember> members = GroupMemberJSONImpl.createGroupMemberList(new BufferedHttpResponse(conf, 200, MEMBERS.getBytes("UTF-8"), null), conf);
+            assertThat(members.size(), is(2));
+            assertThat(members.get(0).getId(), is("1"));
+            assertThat(members.get(0).getName(), is("Ann"));
+            assertThat(members.get(0).isAdministrator(), is(true));
+            assertThat(members.get(1).getId(), is("2"));
+            assertThat(members.get(1).getName(), is("Bob"));
+            // missing, as with getBoolean()
+            assertThat(members.get(1).isAdministrator(), is(false));
+            assertThat(members.getPaging().getNext().toString(), is("http://example.com/"));
+        }
+    }
+
+    @Test
+    public void bindScalarEntities() throws Exception {
+        String tags = "{\"data\":[{\"id\":\"1\",\"name\":\"Ann\",\"offset\":3,\"length\":null,\"x\":12,"
+                + "\"created_time\":\"2012-11-02T03:04:05+0000\"},{\"id\":\"2\"}]}";
+        String entities = "{\"data\":[{\"id\":\"1\",\"name\":\"Ann\"},{\"name\":\"Bob\",\"id\":2}]}";
+        for (Configuration conf : confs) {
+            ResponseList<Tag> tagList = TagJSONImpl.createTagList(new BufferedHttpResponse(conf, 200, tags.getBytes("UTF-8"), null), conf);
+            assertThat(tagList.get(0).getName(), is("Ann"));
+            assertThat(tagList.get(0).getOffset(), is(3));
+            assertThat(tagList.get(0).getLength(), is(nullValue()));
+            assertThat(tagList.get(0).getX(), is(12));
+            assertThat(tagList.get(0).getY(), is(nullValue()));
+            assertThat(tagList.get(0).getCreatedTime().getTime(), is(1351825445000L));
+            assertThat(tagList.get(1).getId(), is("2"));
+
+            ResponseList<IdNameEntity> entityList = IdNameEntityJSONImpl.createIdNameEntityList(
+                    new BufferedHttpResponse(conf, 200, entities.getBytes("UTF-8"), null), conf);
+            assertThat(entityList.get(0).getName(), is("Ann"));
+            assertThat(entityList.get(1).getId(), is("2"));
+        }
+
+        Place place = DataObjectFactory.createPlace("{\"id\":\"3\",\"name\":\"Cafe\","
+                + "\"location\":{\"city\":\"Tokyo\",\"zip\":\"100\",\"latitude\":35.68,\"longitude\":139.76}}");
+        assertThat(place.getName(), is("Cafe"));
+        assertThat(place.getLocation().getCity(), is("Tokyo"));
+        assertThat(place.getLocation().getStreet(), is(nullValue()));
+        assertThat(place.getLocation().getLatitude(), is(35.68));
+    }
+
+    @Test
+    public void dataObjectFactory() throws Exception {
+        Friendlist friendlist = DataObjectFactory.createFriendlist("{\"id\":\"9\",\"name\":\"Close\",\"list_type\":\"close_friends\"}");
+        assertThat(friendlist.getId(), is("9"));
+        assertThat(friendlist.getListType(), is("close_friends"));
+
+        Post post = DataObjectFactory.createPost("{\"id\":\"4_1\",\"message\":\"hello\"}");
+        assertThat(post, is(instanceOf(PostJSONImpl.class)));
+        assertThat(post.getMessage(), is("hello"));
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package facebook4j.internal.json;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import facebook4j.Event;
+import facebook4j.FacebookException;
+import facebook4j.Photo;
+import facebook4j.Post;
+import facebook4j.ResponseList;
+import facebook4j.User;
+import facebook4j.conf.Configuration;
+import facebook4j.conf.ConfigurationBuilder;
+import facebook4j.internal.http.BufferedHttpResponse;
+import facebook4j.internal.org.json.JSONObject;
+
+public class LazyFieldsTest {
+
+    private static final String POST = "{\"id\":\"4_1\",\"from\":{\"id\":\"4\",\"name\":\"Mark\"},"
+            + "\"to\":{\"data\":[{\"id\":\"5\",\"name\":\"Chris\"}]},\"message\":\"hello\","
+            + "\"link\":\"http://example.com/\",\"type\":\"status\",\"object_id\":12345678901,"
+            + "\"likes\":{\"data\":[{\"id\":\"6\",\"name\":\"Dustin\"}],\"count\":1},"
+            + "\"comments\":{\"data\":[{\"id\":\"4_1_1\",\"message\":\"hi\",\"from\":{\"id\":\"5\",\"name\":\"Chris\"}}]},"
+            + "\"created_time\":\"2012-01-02T03:04:05+0000\"}";
+    private static final String USER = "{\"id\":\"4\",\"name\":\"Mark\",\"locale\":\"en_US\",\"timezone\":-7.5,"
+            + "\"hometown\":{\"id\":\"7\",\"name\":\"Dobbs Ferry\"},\"website\":\"http://example.com/\","
+            + "\"work\":[{\"employer\":{\"id\":\"8\",\"name\":\"Facebook\"}}],\"updated_time\":\"2012-01-02T03:04:05+0000\"}";
+    private static final String PHOTO = "{\"id\":\"9\",\"name\":\"photo\",\"height\":720,\"width\":960,"
+            + "\"from\":{\"id\":\"4\",\"name\":\"Mark\"},\"source\":\"http://example.com/s.jpg\","
+            + "\"images\":[{\"height\":720,\"width\":960,\"source\":\"http://example.com/s.jpg\"}],"
+            + "\"created_time\":\"2012-01-02T03:04:05+0000\"}";
+    private static final String EVENT = "{\"id\":\"10\",\"name\":\"party\",\"owner\":{\"id\":\"4\",\"name\":\"Mark\"},"
+            + "\"start_time\":\"2012-01-02T03:04:05+0000\",\"privacy\":\"OPEN\","
+            + "\"venue\":{\"city\":\"Palo Alto\"}}";
+
+    private static final Configuration eager = new ConfigurationBuilder().build();
+    private static final Configuration lazy = new ConfigurationBuilder().setLazyDecodingEnabled(true).build();
+    private static final Configuration lazyStreaming = new ConfigurationBuilder()
+            .setLazyDecodingEnabled(true).setJSONStreamingEnabled(true).build();
+
+    @Test
+    public void post() throws Exception {
+        Post expected = PostJSONImpl.createPost(new BufferedHttpResponse(eager, 200, POST.getBytes("UTF-8"), null), eager);
+        assertSamePost(PostJSONImpl.createPost(new BufferedHttpResponse(lazy, 200, POST.getBytes("UTF-8"), null), lazy), expected);
+        assertSamePost(PostJSONImpl.createPost(new BufferedHttpResponse(lazyStreaming, 200, POST.getBytes("UTF-8"), null), lazyStreaming), expected);
+        String list = "{\"data\":[" + POST + "]}";
+        ResponseList<Post> posts = PostJSONImpl.createPostList(new BufferedHttpResponse(lazyStreaming, 200, list.getBytes("UTF-8"), null), lazyStreaming);
+        assertSamePost(posts.get(0), expected);
+    }
+
+    @Test
+    public void user() throws Exception {
+        User expected = UserJSONImpl.createUser(new BufferedHttpResponse(eager, 200, USER.getBytes("UTF-8"), null), eager);
+        for (Configuration conf : new Configuration[]{lazy, lazyStreaming}) {
+            User user = UserJSONImpl.createUser(new BufferedHttpResponse(conf, 200, USER.getBytes("UTF-8"), null), conf);
+            assertThat(user.getName(), is("Mark"));
+            assertThat(user.getHometown().getName(), is("Dobbs Ferry"));
+            assertThat(user.getWork().get(0).getEmployer().getName(), is("Facebook"));
+            assertThat(user.getWebsite().toString(), is(expected.getWebsite().toString()));
+            assertThat(user.getUpdatedTime(), is(expected.getUpdatedTime()));
+            assertThat(user.getLanguages().size(), is(0));
+            assertThat(user.toString(), is(expected.toString()));
+        }
+    }
+
+    @Test
+    public void photoAndEvent() throws Exception {
+        Photo photo = new PhotoJSONImpl(new JSONObject(PHOTO), true);
+        Photo expectedPhoto = new PhotoJSONImpl(new JSONObject(PHOTO));
+        assertThat(photo.getHeight(), is(720));
+        assertThat(photo.getImages().get(0).getSource().toString(), is("http://example.com/s.jpg"));
+        assertThat(photo.getCreatedTime(), is(expectedPhoto.getCreatedTime()));
+        assertThat(photo.toString(), is(expectedPhoto.toString()));
+
+        Event event = new EventJSONImpl(new JSONObject(EVENT), true);
+        Event expectedEvent = new EventJSONImpl(new JSONObject(EVENT));
+        assertThat(event.getOwner().getName(), is("Mark"));
+        assertThat(event.getStartTime(), is(expectedEvent.getStartTime()));
+        assertThat(event.getVenue().getCity(), is("Palo Alto"));
+        assertThat(event.toString(), is(expectedEvent.toString()));
+    }
+
+    @Test
+    public void serializable() throws Exception {
+        Post post = new PostJSONImpl(new JSONObject(POST), true);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(post);
+        out.close();
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        Post deserialized = (Post) in.readObject();
+        assertThat(deserialized.toString(), is(new PostJSONImpl(new JSONObject(POST)).toString()));
+    }
+
+    @Test
+    public void malformedField() throws Exception {
+        String json = "{\"id\":\"4_1\",\"message\":\"hello\",\"from\":\"not an object\"}";
+        try {
+            new PostJSONImpl(new JSONObject(json));
+            fail("should throw FacebookException");
+        } catch (FacebookException expected) {
+        }
+        Post post = new PostJSONImpl(new JSONObject(json), true);
+        assertThat(post.getMessage(), is("hello"));
+        try {
+            post.getFrom();
+            fail("should throw IllegalStateException");
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test
+    public void concurrentAccess() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int n = 0; n < 50; n++) {
+                final Post post = new PostJSONImpl(new JSONObject(POST), true);
+                List<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+                for (int i = 0; i < 8; i++) {
+                    futures.add(executor.submit(new Callable<Integer>() {
+                        public Integer call() throws Exception {
+                            return post.getComments().size() + post.getTo().size() + post.getLikes().size();
+                        }
+                    }));
+                }
+                for (Future<Integer> future : futures) {
+                    assertThat(future.get(), is(3));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void assertSamePost(Post post, Post expected) {
+        assertThat(post.getId(), is(expected.getId()));
+        assertThat(post.getMessage(), is(expected.getMessage()));
+        assertThat(post.getObjectId(), is(12345678901L));
+        assertThat(post.getFrom().getName(), is(expected.getFrom().getName()));
+        assertThat(post.getLink().toString(), is(expected.getLink().toString()));
+        assertThat(post.getComments().get(0).getMessage(), is("hi"));
+        assertThat(post.getCreatedTime(), is(expected.getCreatedTime()));
+        assertThat(post.toString(), is(expected.toString()));
+    }
+}
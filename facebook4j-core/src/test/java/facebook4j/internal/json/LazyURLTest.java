@@ -0,0 +1,59 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URL;
+
+import org.junit.Test;
+
+import facebook4j.internal.org.json.JSONObject;
+
+public class LazyURLTest {
+
+    @Test
+    public void of() throws Exception {
+        JSONObject json = new JSONObject("{\"link\":\"http://www.facebook.com/4\",\"bad\":\"no scheme\",\"none\":null}");
+        LazyURL link = LazyURL.of("link", json);
+        assertThat(LazyURL.get(link), is(new URL("http://www.facebook.com/4")));
+        assertThat(LazyURL.get(link), is(sameInstance(LazyURL.get(link))));
+        assertThat(link.toString(), is("http://www.facebook.com/4"));
+
+        assertThat(LazyURL.get(LazyURL.of("bad", json)), is(nullValue()));
+        assertThat(LazyURL.of("none", json), is(nullValue()));
+        assertThat(LazyURL.of("missing", json), is(nullValue()));
+    }
+
+    @Test
+    public void serialize() throws Exception {
+        LazyURL link = new LazyURL("http://www.facebook.com/4");
+        LazyURL.get(link);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(link);
+        out.close();
+        LazyURL read = (LazyURL) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+        assertThat(read, is(link));
+        assertThat(LazyURL.get(read), is(new URL("http://www.facebook.com/4")));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package facebook4j.internal.json;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import facebook4j.Post;
+import facebook4j.Reading;
+import facebook4j.ResponseList;
+import facebook4j.User;
+import facebook4j.conf.Configuration;
+import facebook4j.conf.ConfigurationBuilder;
+import facebook4j.internal.http.BufferedHttpResponse;
+
+public class ProjectionTest {
+
+    private static final String POST = "{\"id\":\"4_1\",\"from\":{\"id\":\"4\",\"name\":\"Mark\"},"
+            + "\"message\":\"hello\",\"link\":\"http://example.com/\",\"created_time\":\"2012-01-02T03:04:05+0000\","
+            + "\"comments\":{\"data\":[{\"id\":\"4_1_1\",\"message\":\"hi\"}]}}";
+    private static final String USER = "{\"id\":\"4\",\"name\":\"Mark\",\"hometown\":{\"id\":\"7\",\"name\":\"Dobbs Ferry\"},"
+            + "\"work\":[{\"employer\":{\"id\":\"8\",\"name\":\"Facebook\"}}],\"website\":\"http://example.com/\"}";
+
+    private static final Configuration[] confs = {
+            new ConfigurationBuilder().build(),
+            new ConfigurationBuilder().setLazyDecodingEnabled(true).build(),
+            new ConfigurationBuilder().setJSONStreamingEnabled(true).build(),
+    };
+
+    @Test
+    public void readingFields() throws Exception {
+        assertThat(new Reading().limit(5).getFields(), is(nullValue()));
+        assertThat(new Reading().fields("id", "created_time").getFields(), is(set("id", "created_time")));
+        assertThat(new Reading().fields("id").fields(" comments.limit(5){message,from{name}}", "likes.summary(true)")
+                .getFields(), is(set("id", "comments", "likes")));
+        assertThat(new Reading().fields("picture{url,width}", "from").getFields(), is(set("picture", "from")));
+    }
+
+    @Test
+    public void post() throws Exception {
+        Set<String> fields = new Reading().fields("id", "created_time", "comments.limit(5){message}").getFields();
+        for (Configuration conf : confs) {
+            Post post = PostJSONImpl.createPost(new BufferedHttpResponse(conf, 200, POST.getBytes("UTF-8"), null), conf, fields);
+            assertThat(post.getId(), is("4_1"));
+            assertThat(post.getCreatedTime(), is(notNullValue()));
+            assertThat(post.getComments().get(0).getMessage(), is("hi"));
+            assertThat(post.getFrom(), is(nullValue()));
+            assertThat(post.getLink(), is(nullValue()));
+
+            Post full = PostJSONImpl.createPost(new BufferedHttpResponse(conf, 200, POST.getBytes("UTF-8"), null), conf, null);
+            assertThat(full.getFrom().getName(), is("Mark"));
+            assertThat(full.getLink().toString(), is("http://example.com/"));
+        }
+    }
+
+    @Test
+    public void postList() throws Exception {
+        String list = "{\"data\":[" + POST + "],\"paging\":{\"next\":\"https://graph.facebook.com/4/feed?until=1\"}}";
+        Set<String> fields = new Reading().fields("id", "from").getFields();
+        for (Configuration conf : confs) {
+            ResponseList<Post> posts = PostJSONImpl.createPostList(new BufferedHttpResponse(conf, 200, list.getBytes("UTF-8"), null), conf, fields);
+            assertThat(posts.get(0).getFrom().getName(), is("Mark"));
+            assertThat(posts.get(0).getComments(), is(nullValue()));
+            assertThat(posts.getPaging().getNext().toString(), is("https://graph.facebook.com/4/feed?until=1"));
+        }
+    }
+
+    @Test
+    public void user() throws Exception {
+        Set<String> fields = new Reading().fields("id", "name", "hometown").getFields();
+        for (Configuration conf : confs) {
+            User user = UserJSONImpl.createUser(new BufferedHttpResponse(conf, 200, USER.getBytes("UTF-8"), null), conf, fields);
+            assertThat(user.getName(), is("Mark"));
+            assertThat(user.getHometown().getName(), is("Dobbs Ferry"));
+            assertThat(user.getWork().size(), is(0));
+            assertThat(user.getWebsite(), is(nullValue()));
+
+            ResponseList<User> users = UserJSONImpl.createUserList(
+                    new BufferedHttpResponse(conf, 200, ("{\"data\":[" + USER + "]}").getBytes("UTF-8"), null), conf, fields);
+            assertThat(users.get(0).getHometown().getName(), is("Dobbs Ferry"));
+            assertThat(users.get(0).getWork().size(), is(0));
+        }
+    }
+
+    private static Set<String> set(String... values) {
+        Set<String> set = new HashSet<String>();
+        for (String value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import facebook4j.Friendlist;
+import facebook4j.conf.Configuration;
+import facebook4j.conf.ConfigurationBuilder;
+import facebook4j.internal.http.BufferedHttpResponse;
+import facebook4j.json.DataObjectFactory;
+
+public class RawJSONStoreTest {
+
+    @Test
+    public void identity() throws Exception {
+        RawJSONStore store = new RawJSONStore();
+        String first = new String("same");
+        String second = new String("same");
+        store.put(first, "{\"n\":1}");
+        store.put(second, "{\"n\":\"é\"}");
+        assertThat(store.get(first), is("{\"n\":1}"));
+        assertThat(store.get(second), is("{\"n\":\"é\"}"));
+        assertThat(store.get("same"), is(nullValue()));
+    }
+
+    @Test
+    public void weak() throws Exception {
+        RawJSONStore store = new RawJSONStore();
+        Object kept = new Object();
+        store.put(kept, "{}");
+        for (int i = 0; i < 100; i++) {
+            store.put(new Object(), "{}");
+        }
+        for (int i = 0; i < 50 && store.size() > 1; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertThat(store.size(), is(1));
+        assertThat(store.get(kept), is("{}"));
+    }
+
+    @Test
+    public void jsonStore() throws Exception {
+        Configuration conf = new ConfigurationBuilder().setJSONStoreEnabled(true).build();
+        String json = "{\"id\":\"9\",\"name\":\"Close\"}";
+        Friendlist friendlist = new FriendlistJSONImpl(new BufferedHttpResponse(conf, 200, json.getBytes("UTF-8"), null), conf);
+        Friendlist other = new FriendlistJSONImpl(new BufferedHttpResponse(conf, 200, "{\"id\":\"10\"}".getBytes("UTF-8"), null), conf);
+        // no longer cleared by the next response
+        assertThat(DataObjectFactory.getRawJSON(friendlist), is(json));
+        assertThat(DataObjectFactory.getRawJSON(other), is("{\"id\":\"10\"}"));
+
+        conf = new ConfigurationBuilder().build();
+        Friendlist unstored = new FriendlistJSONImpl(new BufferedHttpResponse(conf, 200, json.getBytes("UTF-8"), null), conf);
+        assertThat(DataObjectFactory.getRawJSON(unstored), is(nullValue()));
+    }
+}
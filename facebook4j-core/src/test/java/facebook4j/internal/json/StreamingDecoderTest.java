@@ -0,0 +1,109 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package facebook4j.internal.json;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import facebook4j.FacebookException;
+import facebook4j.Post;
+import facebook4j.ResponseList;
+import facebook4j.User;
+import facebook4j.conf.Configuration;
+import facebook4j.conf.ConfigurationBuilder;
+import facebook4j.internal.http.BufferedHttpResponse;
+
+public class StreamingDecoderTest {
+
+    private static final String POST = "{\"id\":\"4_1\",\"from\":{\"id\":\"4\",\"name\":\"Mark\"},"
+            + "\"to\":{\"data\":[{\"id\":\"5\",\"name\":\"Chris\"}]},\"message\":\"hello \\u3042\","
+            + "\"link\":\"http://example.com/\",\"type\":\"status\",\"object_id\":12345678901,"
+            + "\"likes\":{\"data\":[{\"id\":\"6\",\"name\":\"Dustin\"}],\"count\":1},"
+            + "\"comments\":{\"data\":[{\"id\":\"4_1_1\",\"message\":\"hi\",\"from\":{\"id\":\"5\",\"name\":\"Chris\"}}]},"
+            + "\"created_time\":\"2012-01-02T03:04:05+0000\",\"picture\":null,\"unknown\":[1,{\"a\":2}]}";
+    private static final String USER = "{\"id\":\"4\",\"name\":\"Mark\",\"locale\":\"en_US\",\"timezone\":-7.5,"
+            + "\"verified\":true,\"hometown\":{\"id\":\"7\",\"name\":\"Dobbs Ferry\"},\"website\":\"http://example.com/\","
+            + "\"picture\":{\"data\":{\"url\":\"http://example.com/p.jpg\",\"is_silhouette\":false}}}";
+
+    private static final Configuration tree = new ConfigurationBuilder().build();
+    private static final Configuration streaming = new ConfigurationBuilder().setJSONStreamingEnabled(true).build();
+
+    @Test
+    public void post() throws Exception {
+        assertSamePost(PostJSONImpl.createPost(new BufferedHttpResponse(streaming, 200, POST.getBytes("UTF-8"), null), streaming),
+                PostJSONImpl.createPost(new BufferedHttpResponse(tree, 200, POST.getBytes("UTF-8"), null), tree));
+    }
+
+    @Test
+    public void postList() throws Exception {
+        String list = "{\"data\":[" + POST + "," + POST.replace("4_1", "4_2") + "],"
+                + "\"paging\":{\"next\":\"https://graph.facebook.com/4/feed?until=1\"}}";
+        ResponseList<Post> streamed = PostJSONImpl.createPostList(new BufferedHttpResponse(streaming, 200, list.getBytes("UTF-8"), null), streaming);
+        ResponseList<Post> expected = PostJSONImpl.createPostList(new BufferedHttpResponse(tree, 200, list.getBytes("UTF-8"), null), tree);
+        assertThat(streamed.size(), is(2));
+        assertThat(streamed.get(1).getId(), is("4_2"));
+        for (int i = 0; i < 2; i++) {
+            assertSamePost(streamed.get(i), expected.get(i));
+        }
+        assertThat(streamed.getPaging().getNext().toString(), is(expected.getPaging().getNext().toString()));
+        assertThat(streamed.getPaging().getJSONObjectType().getName(), is(Post.class.getName()));
+    }
+
+    @Test
+    public void user() throws Exception {
+        User streamed = UserJSONImpl.createUser(new BufferedHttpResponse(streaming, 200, USER.getBytes("UTF-8"), null), streaming);
+        User expected = UserJSONImpl.createUser(new BufferedHttpResponse(tree, 200, USER.getBytes("UTF-8"), null), tree);
+        assertThat(streamed.getName(), is(expected.getName()));
+        assertThat(streamed.getLocale(), is(expected.getLocale()));
+        assertThat(streamed.getTimezone(), is(expected.getTimezone()));
+        assertThat(streamed.isVerified(), is(true));
+        assertThat(streamed.isInstalled(), is(expected.isInstalled()));
+        assertThat(streamed.getHometown().getName(), is("Dobbs Ferry"));
+        assertThat(streamed.getWebsite().toString(), is(expected.getWebsite().toString()));
+        assertThat(streamed.getPicture().getURL().toString(), is(expected.getPicture().getURL().toString()));
+        assertThat(streamed.toString(), is(expected.toString()));
+    }
+
+    @Test
+    public void notAnObject() throws Exception {
+        try {
+            PostJSONImpl.createPost(new BufferedHttpResponse(streaming, 200, "false".getBytes("UTF-8"), null), streaming);
+            fail("should throw FacebookException");
+        } catch (FacebookException expected) {
+        }
+        try {
+            PostJSONImpl.createPostList(new BufferedHttpResponse(streaming, 200, "{\"paging\":{}}".getBytes("UTF-8"), null), streaming);
+            fail("should throw FacebookException");
+        } catch (FacebookException expected) {
+        }
+    }
+
+    private static void assertSamePost(Post streamed, Post expected) {
+        assertThat(streamed.getId(), is(expected.getId()));
+        assertThat(streamed.getMessage(), is("hello \u3042"));
+        assertThat(streamed.getFrom().getName(), is(expected.getFrom().getName()));
+        assertThat(streamed.getTo().get(0).getId(), is(expected.getTo().get(0).getId()));
+        assertThat(streamed.getLink().toString(), is(expected.getLink().toString()));
+        assertThat(streamed.getPicture(), is(nullValue()));
+        assertThat(streamed.getObjectId(), is(12345678901L));
+        assertThat(streamed.getLikes().size(), is(1));
+        assertThat(streamed.getComments().get(0).getMessage(), is(expected.getComments().get(0).getMessage()));
+        assertThat(streamed.getCreatedTime(), is(expected.getCreatedTime()));
+        assertThat(streamed.toString(), is(expected.toString()));
+    }
+}
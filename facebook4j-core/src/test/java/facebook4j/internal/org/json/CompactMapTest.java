@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package facebook4j.internal.org.json;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class CompactMapTest {
+
+    @Test
+    public void smallAndLarge() throws Exception {
+        CompactMap map = new CompactMap();
+        Map<Object, Object> expected = new HashMap<Object, Object>();
+        for (int i = 0; i < CompactMap.THRESHOLD + 3; i++) {
+            map.put("k" + i, "v" + i);
+            expected.put("k" + i, "v" + i);
+            assertThat(map.equals(expected), is(true));
+            assertThat(map.hashCode(), is(expected.hashCode()));
+        }
+        assertThat(map.put("k0", "w"), is((Object) "v0"));
+        assertThat(map.remove("k1"), is((Object) "v1"));
+        assertThat(map.size(), is(CompactMap.THRESHOLD + 2));
+    }
+
+    @Test
+    public void unboxedNumbers() throws Exception {
+        CompactMap map = new CompactMap();
+        map.putLong("int", 42L);
+        map.putLong("long", 12345678901L);
+        map.putDouble("double", -2.5);
+        map.put("string", "s");
+        assertThat(map.get("int"), is((Object) Integer.valueOf(42)));
+        assertThat(map.get("long"), is((Object) Long.valueOf(12345678901L)));
+        assertThat(map.get("double"), is((Object) Double.valueOf(-2.5)));
+        // boxed once
+        assertThat(map.get("long") == map.get("long"), is(true));
+        map.putLong("int", 7L);
+        assertThat(map.get("int"), is((Object) Integer.valueOf(7)));
+
+        Iterator i = map.keySet().iterator();
+        assertThat(i.next(), is((Object) "int"));
+        i.remove();
+        assertThat(map.containsKey("int"), is(false));
+        assertThat(map.get("long"), is((Object) Long.valueOf(12345678901L)));
+        assertThat(map.size(), is(3));
+
+        for (int n = 0; n < CompactMap.THRESHOLD; n++) {
+            map.putLong("n" + n, n);
+        }
+        assertThat(map.get("n7"), is((Object) Integer.valueOf(7)));
+        assertThat(map.get("double"), is((Object) Double.valueOf(-2.5)));
+    }
+
+    @Test
+    public void parsed() throws Exception {
+        JSONObject json = new JSONObject("{\"id\":\"4\",\"count\":3,\"big\":12345678901,\"lat\":37.4,\"n\":null,"
+                + "\"from\":{\"id\":\"5\",\"name\":\"Chris\"}}");
+        assertThat(json.get("count"), is((Object) Integer.valueOf(3)));
+        assertThat(json.getLong("big"), is(12345678901L));
+        assertThat(json.getDouble("lat"), is(37.4));
+        assertThat(json.isNull("n"), is(true));
+        assertThat(json.getJSONObject("from").getString("name"), is("Chris"));
+        assertThat(json.length(), is(6));
+        assertThat(new JSONObject(json.toString()).toString(), is(json.toString()));
+        try {
+            new JSONObject("{\"a\":1,\"a\":2}");
+            fail("should throw JSONException");
+        } catch (JSONException expected) {
+        }
+        try {
+            new JSONObject("{\"a\":1.5,\"a\":2.5}");
+            fail("should throw JSONException");
+        } catch (JSONException expected) {
+        }
+    }
+
+    @Test
+    public void decimals() throws Exception {
+        JSONObject json = new JSONObject("{\"lat\":-37.25,\"e\":1e3,\"hex\":0x1e,\"word\":1.2.3}");
+        assertThat(json.get("lat"), is((Object) Double.valueOf(-37.25)));
+        assertThat(json.get("e"), is((Object) Double.valueOf(1000)));
+        // stringToValue() semantics are kept for the non-standard forms
+        assertThat(json.get("hex"), is((Object) Integer.valueOf(30)));
+        assertThat(json.get("word"), is((Object) "1.2.3"));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package facebook4j.internal.org.json;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.junit.Test;
+
+import facebook4j.internal.org.json.JSONPullParser.Token;
+
+public class JSONPullParserTest {
+
+    // hands out one byte per read, so that every token crosses a buffer boundary
+    private static InputStream trickle(String json) throws Exception {
+        return new ByteArrayInputStream(json.getBytes("UTF-8")) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+    }
+
+    @Test
+    public void tokens() throws Exception {
+        JSONPullParser parser = new JSONPullParser(" {\"a\" : [1, -2.5e3, true, false, null, \"x\"], \"b\":{}, \"c\":[]} ");
+        assertThat(parser.next(), is(Token.START_OBJECT));
+        assertThat(parser.next(), is(Token.FIELD_NAME));
+        assertThat(parser.getText(), is("a"));
+        assertThat(parser.next(), is(Token.START_ARRAY));
+        assertThat(parser.next(), is(Token.NUMBER));
+        assertThat(parser.getText(), is("1"));
+        assertThat(parser.next(), is(Token.NUMBER));
+        assertThat(parser.getText(), is("-2.5e3"));
+        assertThat(parser.next(), is(Token.TRUE));
+        assertThat(parser.next(), is(Token.FALSE));
+        assertThat(parser.next(), is(Token.NULL));
+        assertThat(parser.next(), is(Token.STRING));
+        assertThat(parser.getText(), is("x"));
+        assertThat(parser.next(), is(Token.END_ARRAY));
+        assertThat(parser.next(), is(Token.FIELD_NAME));
+        assertThat(parser.next(), is(Token.START_OBJECT));
+        assertThat(parser.next(), is(Token.END_OBJECT));
+        assertThat(parser.next(), is(Token.FIELD_NAME));
+        assertThat(parser.next(), is(Token.START_ARRAY));
+        assertThat(parser.next(), is(Token.END_ARRAY));
+        assertThat(parser.next(), is(Token.END_OBJECT));
+        assertThat(parser.next(), is(Token.END_DOCUMENT));
+    }
+
+    @Test
+    public void strings() throws Exception {
+        String json = "[\"caf\u00e9 \u3042 \ud83d\ude00\", \"\\\"\\\\\\/\\b\\f\\n\\r\\t\\u3042\"]";
+        JSONPullParser parser = new JSONPullParser(trickle(json));
+        parser.next();
+        parser.next();
+        assertThat(parser.getText(), is("caf\u00e9 \u3042 \ud83d\ude00"));
+        parser.next();
+        assertThat(parser.getText(), is("\"\\/\b\f\n\r\t\u3042"));
+    }
+
+    @Test
+    public void readValueMatchesTree() throws Exception {
+        String json = "{\"id\":\"1\",\"count\":12,\"ratio\":0.5,\"big\":12345678901,\"ok\":true,\"none\":null,"
+                + "\"list\":[{\"id\":\"2\"},[1,2],\"s\"],\"nested\":{\"a\":{\"b\":\"c\"}}}";
+        JSONPullParser parser = new JSONPullParser(trickle(json));
+        parser.next();
+        JSONObject streamed = (JSONObject) parser.readValue();
+        assertThat(streamed.toString(), is(new JSONObject(json).toString()));
+        assertThat(parser.next(), is(Token.END_DOCUMENT));
+    }
+
+    @Test
+    public void valueAsString() throws Exception {
+        JSONPullParser parser = new JSONPullParser("[\"s\", 10, 1.50, true, null, {\"a\":1}]");
+        parser.next();
+        parser.next();
+        assertThat(parser.getValueAsString(), is("s"));
+        parser.next();
+        assertThat(parser.getValueAsString(), is("10"));
+        parser.next();
+        assertThat(parser.getValueAsString(), is("1.5"));
+        parser.next();
+        assertThat(parser.getValueAsString(), is("true"));
+        parser.next();
+        assertThat(parser.getValueAsString(), is(nullValue()));
+        parser.next();
+        assertThat(parser.getValueAsString(), is("{\"a\":1}"));
+        assertThat(parser.next(), is(Token.END_ARRAY));
+    }
+
+    @Test
+    public void skipValue() throws Exception {
+        JSONPullParser parser = new JSONPullParser("{\"skip\":{\"a\":[1,{\"b\":[]}]},\"id\":\"1\"}");
+        parser.next();
+        parser.next();
+        parser.next();
+        parser.skipValue();
+        assertThat(parser.next(), is(Token.FIELD_NAME));
+        assertThat(parser.getText(), is("id"));
+    }
+
+    @Test
+    public void malformed() throws Exception {
+        String[] malformed = {"{\"a\" 1}", "{\"a\":1,}", "[1 2]", "{\"a\":\"unterminated", "[tru]", "{a:1}"};
+        for (String json : malformed) {
+            JSONPullParser parser = new JSONPullParser(json);
+            try {
+                while (parser.next() != Token.END_DOCUMENT) {
+                }
+                fail(json + " should be rejected");
+            } catch (JSONException expected) {
+            }
+        }
+    }
+}
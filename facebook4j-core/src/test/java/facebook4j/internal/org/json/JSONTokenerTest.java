@@ -0,0 +1,115 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package facebook4j.internal.org.json;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.Reader;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+public class JSONTokenerTest {
+
+    private static final String JSON = "{\"s\":\"plain\",\"e\":\"tab\\tquote\\\"slash\\/u\\u3042\",\"i\":-42,"
+            + "\"l\":12345678901,\"big\":123456789012345678901,\"d\":-2.5e3,\"h\":0x1F,"
+            + "\"t\":true,\"f\":FALSE,\"n\":null,\"bare\":word,\"a\":[1,,\"x\",{}],\r\n\"o\":{'q':'single'}}";
+
+    // hands out one char per read, so that every token crosses a window boundary
+    private static Reader trickle(String json) {
+        return new StringReader(json) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws java.io.IOException {
+                return super.read(cbuf, off, Math.min(len, 1));
+            }
+        };
+    }
+
+    @Test
+    public void values() throws Exception {
+        for (JSONTokener x : new JSONTokener[]{new JSONTokener(JSON), new JSONTokener(trickle(JSON))}) {
+            JSONObject json = new JSONObject(x);
+            assertThat(json.getString("s"), is("plain"));
+            assertThat(json.getString("e"), is("tab\tquote\"slash/u\u3042"));
+            assertThat(json.get("i"), is((Object) Integer.valueOf(-42)));
+            assertThat(json.get("l"), is((Object) Long.valueOf(12345678901L)));
+            assertThat(json.get("big"), is((Object) "123456789012345678901"));
+            assertThat(json.get("d"), is((Object) Double.valueOf(-2500)));
+            assertThat(json.get("h"), is((Object) Integer.valueOf(31)));
+            assertThat(json.get("t"), is((Object) Boolean.TRUE));
+            assertThat(json.get("f"), is((Object) Boolean.FALSE));
+            assertThat(json.isNull("n"), is(true));
+            assertThat(json.getString("bare"), is("word"));
+            JSONArray a = json.getJSONArray("a");
+            assertThat(a.length(), is(4));
+            assertThat(a.isNull(1), is(true));
+            assertThat(json.getJSONObject("o").getString("q"), is("single"));
+        }
+    }
+
+    @Test
+    public void longValuesAcrossWindows() throws Exception {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            text.append((char) ('a' + i % 26));
+        }
+        StringBuilder number = new StringBuilder("1.");
+        for (int i = 0; i < 10000; i++) {
+            number.append('5');
+        }
+        String json = "[\"" + text + "\",\"" + text + "\\n" + text + "\"," + number + "]";
+        JSONArray array = new JSONArray(new JSONTokener(new StringReader(json)));
+        assertThat(array.getString(0), is(text.toString()));
+        assertThat(array.getString(1), is(text + "\n" + text));
+        assertThat(array.getDouble(2), is(1.5555555555555556));
+    }
+
+    @Test
+    public void backAndMore() throws Exception {
+        JSONTokener x = new JSONTokener(trickle("ab"));
+        assertThat(x.next(), is('a'));
+        x.back();
+        assertThat(x.next(), is('a'));
+        assertThat(x.more(), is(true));
+        assertThat(x.next(), is('b'));
+        assertThat(x.more(), is(false));
+        assertThat(x.end(), is(true));
+        assertThat(x.next(), is((char) 0));
+    }
+
+    @Test
+    public void skipTo() throws Exception {
+        JSONTokener x = new JSONTokener(trickle("abc\ndef"));
+        assertThat(x.skipTo('z'), is((char) 0));
+        assertThat(x.next(), is('a'));
+        assertThat(x.skipTo('e'), is('e'));
+        assertThat(x.next(), is('e'));
+        assertThat(x.toString(), is(" at 6 [character 2 line 2]"));
+    }
+
+    @Test
+    public void syntaxErrors() throws Exception {
+        String[] invalid = {"{\"a\":\"unterminated", "{\"a\":\"line\nbreak\"}", "{\"a\":}", "{\"a\":\"\\x\"}", "[1,2"};
+        for (String json : invalid) {
+            try {
+                new JSONTokener(trickle(json)).nextValue();
+                fail("should throw JSONException: " + json);
+            } catch (JSONException expected) {
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.org.json;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+
+import org.junit.Test;
+
+public class StringTableTest {
+
+    @Test
+    public void table() throws Exception {
+        StringTable table = new StringTable(3);
+        char[] chars = "xidx".toCharArray();
+        String id = table.get(chars, 1, 2);
+        assertThat(id, is("id"));
+        assertThat(table.get("id".toCharArray(), 0, 2), is(sameInstance(id)));
+        assertThat(table.get(chars, 0, 0), is(""));
+    }
+
+    @Test
+    public void tokener() throws Exception {
+        StringTable table = new StringTable(64);
+        JSONObject first = parse("{\"id\":\"ab\",\"name\":\"abc\"}", table);
+        JSONObject second = parse("{\"id\":\"ab\",\"name\":\"abc\"}", table);
+        assertThat(key(first, "name"), is(sameInstance(key(second, "name"))));
+        assertThat(first.getString("id"), is(sameInstance(second.getString("id"))));
+        assertThat(first.getString("name"), is(not(sameInstance(second.getString("name")))));
+        assertThat(first.getString("name"), is(second.getString("name")));
+    }
+
+    @Test
+    public void pullParser() throws Exception {
+        StringTable table = new StringTable(64);
+        JSONPullParser first = new JSONPullParser("{\"id\":\"ab\"}");
+        JSONPullParser second = new JSONPullParser("{\"id\":\"ab\"}");
+        first.setStringTable(table, 0);
+        second.setStringTable(table, 0);
+        first.next();
+        second.next();
+        assertThat(first.next(), is(JSONPullParser.Token.FIELD_NAME));
+        assertThat(second.next(), is(JSONPullParser.Token.FIELD_NAME));
+        assertThat(first.getText(), is(sameInstance(second.getText())));
+        first.next();
+        second.next();
+        assertThat(first.getText(), is(not(sameInstance(second.getText()))));
+    }
+
+    private static JSONObject parse(String json, StringTable table) throws JSONException {
+        JSONTokener tokener = new JSONTokener(json);
+        tokener.setStringTable(table, 2);
+        return new JSONObject(tokener);
+    }
+
+    private static String key(JSONObject json, String name) {
+        for (Iterator keys = json.keys(); keys.hasNext(); ) {
+            String key = (String) keys.next();
+            if (key.equals(name)) {
+                return key;
+            }
+        }
+        return null;
+    }
+}
@@ -21,6 +21,7 @@ import static org.junit.Assert.*;
 
 import java.net.URL;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -95,6 +96,31 @@ public class z_F4JInternalParseUtilTest {
         df.setTimeZone(TimeZone.getTimeZone("JST"));
         assertThat(actual, is(df.parse("2012-08-01 05:49:44")));
     }
+
+    @Test
+    public void getISO8601Datetime_sameAsSimpleDateFormat() throws Exception {
+        String[] dateStrings = {
+                "1970-01-01T00:00:00+0000", "2000-02-29T23:59:59-0800", "2012-12-31T23:30:00-0130",
+                "2100-03-01T00:00:00+1400", "1900-02-28T12:00:00+0000", "2013-02-30T24:61:61+0000",
+        };
+        SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ");
+        for (String dateString : dateStrings) {
+            assertThat(dateString, z_F4JInternalParseUtil.getISO8601Datetime(dateString), is(df.parse(dateString)));
+        }
+
+        // without an offset, read in the default time zone
+        df = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
+        assertThat(z_F4JInternalParseUtil.getISO8601Datetime("2012-07-31T20:49:44"), is(df.parse("2012-07-31T20:49:44")));
+        assertThat(z_F4JInternalParseUtil.getISO8601Datetime("2012-07-31"), is(nullValue()));
+    }
+
+    @Test
+    public void getISO8601Instant() throws Exception {
+        JSONObject json = new JSONObject("{\"datetime\": \"2012-08-01T05:49:44+0900\"}");
+        Instant actual = z_F4JInternalParseUtil.getISO8601Instant("datetime", json);
+        assertThat(actual, is(Instant.parse("2012-07-31T20:49:44Z")));
+        assertThat(z_F4JInternalParseUtil.getISO8601Instant("none", json), is(nullValue()));
+    }
     
     @Test
     public void getURL() throws Exception {
@@ -0,0 +1,365 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http.alternative;
+
+import facebook4j.FacebookException;
+import facebook4j.internal.http.HttpClient;
+import facebook4j.internal.http.HttpClientBase;
+import facebook4j.internal.http.HttpClientConfiguration;
+import facebook4j.internal.http.HttpParameter;
+import facebook4j.internal.http.HttpRequest;
+import facebook4j.internal.http.HttpResponse;
+import facebook4j.internal.http.HttpResponseCode;
+import facebook4j.internal.http.MultipartEntity;
+import facebook4j.internal.http.RequestMethod;
+import facebook4j.internal.http.RetryPolicy;
+import facebook4j.internal.logging.Logger;
+import facebook4j.internal.util.z_F4JInternalStringUtil;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * HttpClient implementation based on <code>java.net.http</code>.<br>
+ * Requests are sent asynchronously and multiplexed over HTTP/2 connections when the server supports it,
+ * so that an in-flight request does not tie up a thread. {@link #requestAsync(HttpRequest)} exposes the future,
+ * {@link #request(HttpRequest)} waits for it to keep the {@link HttpClient} contract.<br>
+ * Instances with the same configuration share one <code>java.net.http.HttpClient</code> and its connections,
+ * which is released when the last of them is shut down.<br>
+ * HttpClientFactory picks this class up automatically when it is on the classpath.
+ */
+public class HttpClientImpl extends HttpClientBase implements HttpClient, HttpResponseCode {
+    private static final Logger logger = Logger.getLogger(HttpClientImpl.class);
+    private static final long serialVersionUID = 3946379573127613421L;
+
+    // headers java.net.http sets by itself and refuses to take from the caller
+    private static final Set<String> RESTRICTED_HEADERS = new HashSet<String>();
+
+    static {
+        Collections.addAll(RESTRICTED_HEADERS, "connection", "content-length", "expect", "host", "upgrade");
+    }
+
+    private static final int PIPE_SIZE = 64 * 1024;
+
+    private static final Map<HttpClientConfiguration, SharedClient> clients = new HashMap<HttpClientConfiguration, SharedClient>();
+
+    private transient volatile java.net.http.HttpClient client;
+
+    public HttpClientImpl(HttpClientConfiguration conf) {
+        super(conf);
+        client = acquireClient();
+    }
+
+    private static final class SharedClient {
+        private final java.net.http.HttpClient client;
+        private int references;
+
+        SharedClient(java.net.http.HttpClient client) {
+            this.client = client;
+        }
+    }
+
+    private java.net.http.HttpClient acquireClient() {
+        synchronized (clients) {
+            SharedClient shared = clients.get(CONF);
+            if (shared == null) {
+                shared = new SharedClient(createClient());
+                clients.put(CONF, shared);
+            }
+            shared.references++;
+            return shared.client;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        java.net.http.HttpClient released;
+        synchronized (clients) {
+            if (client == null) {
+                return;
+            }
+            released = client;
+            client = null;
+            SharedClient shared = clients.get(CONF);
+            if (shared == null || shared.client != released || --shared.references > 0) {
+                return;
+            }
+            clients.remove(CONF);
+        }
+        // java.net.http.HttpClient can be closed as of Java 21, before that its threads end once it is unreachable
+        if (released instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) released).close();
+            } catch (Exception e) {
+                logger.warn("Failed to close the HttpClient: " + e);
+            }
+        }
+    }
+
+    private java.net.http.HttpClient createClient() {
+        java.net.http.HttpClient.Builder builder = java.net.http.HttpClient.newBuilder()
+                .version(java.net.http.HttpClient.Version.HTTP_2)
+                .followRedirects(java.net.http.HttpClient.Redirect.NEVER);
+        if (CONF.getHttpConnectionTimeout() > 0) {
+            builder.connectTimeout(Duration.ofMillis(CONF.getHttpConnectionTimeout()));
+        }
+        if (isProxyConfigured()) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Opening proxied connection(" + CONF.getHttpProxyHost() + ":" + CONF.getHttpProxyPort() + ")");
+            }
+            builder.proxy(ProxySelector.of(new InetSocketAddress(CONF.getHttpProxyHost(), CONF.getHttpProxyPort())));
+            if (CONF.getHttpProxyUser() != null && !CONF.getHttpProxyUser().equals("")) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Proxy AuthUser: " + CONF.getHttpProxyUser());
+                    logger.debug("Proxy AuthPassword: " + z_F4JInternalStringUtil.maskString(CONF.getHttpProxyPassword()));
+                }
+                builder.authenticator(new Authenticator() {
+                    @Override
+                    protected PasswordAuthentication getPasswordAuthentication() {
+                        //respond only to proxy auth requests
+                        if (getRequestorType().equals(RequestorType.PROXY)) {
+                            return new PasswordAuthentication(CONF.getHttpProxyUser(),
+                                    CONF.getHttpProxyPassword().toCharArray());
+                        }
+                        return null;
+                    }
+                });
+            }
+        }
+        return builder.build();
+    }
+
+    public HttpResponse request(HttpRequest req) throws FacebookException {
+        try {
+            return requestAsync(req).get();
+        } catch (ExecutionException ee) {
+            throw toFacebookException(ee.getCause());
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new FacebookException(ie.getMessage(), ie);
+        }
+    }
+
+    /**
+     * Sends the request without blocking the calling thread.<br>
+     * The returned future completes with the response, or exceptionally with a {@link FacebookException}
+     * once the configured retries are exhausted.
+     *
+     * @param req the request
+     * @return future of the response
+     */
+    public CompletableFuture<HttpResponse> requestAsync(HttpRequest req) {
+        java.net.http.HttpClient client = this.client;
+        if (client == null) {
+            return CompletableFuture.failedFuture(new FacebookException("The HttpClient has been shut down."));
+        }
+        java.net.http.HttpRequest request;
+        try {
+            request = toJavaRequest(req);
+        } catch (IOException ioe) {
+            return CompletableFuture.failedFuture(new FacebookException(ioe.getMessage(), ioe));
+        }
+        RetryPolicy retryPolicy = getRetryPolicy();
+        retryPolicy.requestStarted(req);
+        return send(client, req, request, retryPolicy, 0, 0);
+    }
+
+    private CompletableFuture<HttpResponse> send(java.net.http.HttpClient client, HttpRequest req, java.net.http.HttpRequest request,
+                                                 RetryPolicy retryPolicy, int retriedCount, long retryDelay) {
+        return client.sendAsync(request, BodyHandlers.ofByteArray())
+                .handle((res, error) -> {
+                    FacebookException cause;
+                    if (error != null) {
+                        Throwable t = error instanceof CompletionException ? error.getCause() : error;
+                        // connection timeout or read timeout
+                        cause = new FacebookException(t.getMessage(), t, -1);
+                    } else {
+                        HttpResponse response;
+                        try {
+                            response = new HttpResponseImpl(res, CONF);
+                        } catch (IOException ioe) {
+                            return CompletableFuture.<HttpResponse>failedFuture(new FacebookException(ioe.getMessage(), ioe, res.statusCode()));
+                        }
+                        logResponse(res);
+                        int responseCode = res.statusCode();
+                        if (OK <= responseCode && (responseCode < MULTIPLE_CHOICES || responseCode == FOUND || responseCode == NOT_MODIFIED)) {
+                            return CompletableFuture.completedFuture(response);
+                        }
+                        try {
+                            cause = new FacebookException(response.asString(), response);
+                        } catch (FacebookException fe) {
+                            return CompletableFuture.<HttpResponse>failedFuture(fe);
+                        }
+                    }
+                    if (HttpParameter.containsFileBody(req.getParameters())) {
+                        // the stream of a part has been consumed by this attempt
+                        return CompletableFuture.<HttpResponse>failedFuture(cause);
+                    }
+                    long nextDelay = retryPolicy.getRetryDelayMillis(req, retriedCount, retryDelay, cause);
+                    if (nextDelay < 0) {
+                        return CompletableFuture.<HttpResponse>failedFuture(cause);
+                    }
+                    return retry(client, req, request, retryPolicy, retriedCount, nextDelay);
+                })
+                .thenCompose(future -> future);
+    }
+
+    private CompletableFuture<HttpResponse> retry(java.net.http.HttpClient client, HttpRequest req, java.net.http.HttpRequest request,
+                                                  RetryPolicy retryPolicy, int retriedCount, long retryDelay) {
+        logger.debug("Sleeping " + retryDelay + " milliseconds until the next retry.");
+        // waits on the shared delay scheduler instead of a sleeping thread
+        return CompletableFuture.supplyAsync(() -> request,
+                CompletableFuture.delayedExecutor(retryDelay, TimeUnit.MILLISECONDS))
+                .thenCompose(r -> send(client, req, r, retryPolicy, retriedCount + 1, retryDelay));
+    }
+
+    private java.net.http.HttpRequest toJavaRequest(HttpRequest req) throws IOException {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request: ");
+            logger.debug(req.getMethod().name() + " ", req.getURL());
+        }
+        java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder(URI.create(req.getURL()));
+        if (CONF.getHttpReadTimeout() > 0) {
+            builder.timeout(Duration.ofMillis(CONF.getHttpReadTimeout()));
+        }
+        if (req.getRequestHeaders() != null) {
+            for (Map.Entry<String, String> header : req.getRequestHeaders().entrySet()) {
+                if (!RESTRICTED_HEADERS.contains(header.getKey().toLowerCase())) {
+                    builder.header(header.getKey(), header.getValue());
+                    logger.debug(header.getKey() + ": " + header.getValue());
+                }
+            }
+        }
+        if (req.getMethod() == RequestMethod.POST) {
+            if (HttpParameter.containsFile(req.getParameters())) {
+                MultipartEntity entity = new MultipartEntity(req.getParameters(), "----Facebook4J-upload" + System.currentTimeMillis());
+                builder.header("Content-Type", entity.getContentType());
+                builder.POST(multipart(entity));
+            } else {
+                builder.header("Content-Type", "application/x-www-form-urlencoded");
+                String postParam = HttpParameter.encodeParameters(req.getParameters());
+                logger.debug("Post Params: ", postParam);
+                builder.POST(BodyPublishers.ofString(postParam, StandardCharsets.UTF_8));
+            }
+        } else {
+            builder.method(req.getMethod().name(), BodyPublishers.noBody());
+        }
+        return builder.build();
+    }
+
+    private static BodyPublisher multipart(final MultipartEntity entity) {
+        // the body is written again for each attempt, so file bodies are streamed instead of being loaded on the heap
+        // and files are opened again when the body is published again for a retry
+        BodyPublisher publisher = BodyPublishers.ofInputStream(() -> open(entity));
+        long contentLength = entity.getContentLength();
+        return contentLength >= 0 ? BodyPublishers.fromPublisher(publisher, contentLength) : publisher;
+    }
+
+    private static InputStream open(final MultipartEntity entity) {
+        final PipedInputStream in = new PipedInputStream(PIPE_SIZE);
+        final PipedOutputStream out;
+        try {
+            out = new PipedOutputStream(in);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+        final AtomicReference<IOException> failure = new AtomicReference<IOException>();
+        Thread writer = new Thread(() -> {
+            try {
+                entity.writeTo(out);
+            } catch (IOException ioe) {
+                failure.set(ioe);
+            } finally {
+                try {
+                    out.close();
+                } catch (IOException ignore) {
+                }
+            }
+        }, "Facebook4J Multipart Writer");
+        writer.setDaemon(true);
+        writer.start();
+        // a body that could not be written completely must fail the request instead of being sent truncated
+        return new FilterInputStream(in) {
+            @Override
+            public int read() throws IOException {
+                return checkFailure(super.read());
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return checkFailure(super.read(b, off, len));
+            }
+
+            private int checkFailure(int result) throws IOException {
+                if (result == -1 && failure.get() != null) {
+                    throw new IOException(failure.get().getMessage(), failure.get());
+                }
+                return result;
+            }
+        };
+    }
+
+    private void logResponse(java.net.http.HttpResponse<byte[]> res) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Response: ");
+            logger.debug(res.version() + " " + res.statusCode());
+            for (Map.Entry<String, List<String>> header : res.headers().map().entrySet()) {
+                for (String value : header.getValue()) {
+                    logger.debug(header.getKey() + ": " + value);
+                }
+            }
+        }
+    }
+
+    private static FacebookException toFacebookException(Throwable cause) {
+        if (cause instanceof FacebookException) {
+            return (FacebookException) cause;
+        }
+        return new FacebookException(cause.getMessage(), cause);
+    }
+
+    private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        client = acquireClient();
+    }
+}
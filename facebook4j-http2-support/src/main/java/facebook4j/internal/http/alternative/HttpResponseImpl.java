@@ -0,0 +1,62 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http.alternative;
+
+import facebook4j.internal.http.HttpClientConfiguration;
+import facebook4j.internal.http.HttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * A data class representing a response received through <code>java.net.http</code>.<br>
+ * The body has already been read in full, so there is no connection to release on {@link #disconnect()}.
+ */
+public class HttpResponseImpl extends HttpResponse {
+    private final java.net.http.HttpResponse<byte[]> res;
+
+    HttpResponseImpl(java.net.http.HttpResponse<byte[]> res, HttpClientConfiguration conf) throws IOException {
+        super(conf);
+        this.res = res;
+        this.statusCode = res.statusCode();
+        byte[] body = res.body();
+        if (body != null) {
+            is = new ByteArrayInputStream(body);
+            if (body.length > 0 && "gzip".equals(getResponseHeader("Content-Encoding"))) {
+                // the response is gzipped
+                is = new GZIPInputStream(is);
+            }
+        }
+    }
+
+    @Override
+    public String getResponseHeader(String name) {
+        return res.headers().firstValue(name).orElse(null);
+    }
+
+    @Override
+    public Map<String, List<String>> getResponseHeaderFields() {
+        return res.headers().map();
+    }
+
+    @Override
+    public void disconnect() {
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http.alternative;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import facebook4j.FacebookException;
+import facebook4j.conf.ConfigurationBuilder;
+import facebook4j.internal.http.HttpParameter;
+import facebook4j.internal.http.HttpRequest;
+import facebook4j.internal.http.HttpResponse;
+import facebook4j.internal.http.RequestMethod;
+
+public class HttpClientImplTest {
+
+    private HttpServer server;
+    private String baseURL;
+    private final AtomicInteger errorCount = new AtomicInteger();
+    private volatile String lastBody;
+    private volatile String lastContentLength;
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/echo", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                String body = exchange.getRequestMethod() + " " + exchange.getRequestURI().getQuery() + " " + read(exchange.getRequestBody());
+                respond(exchange, 200, body.getBytes("UTF-8"));
+            }
+        });
+        server.createContext("/gzip", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                GZIPOutputStream gzip = new GZIPOutputStream(out);
+                gzip.write("{\"id\":\"1\"}".getBytes("UTF-8"));
+                gzip.close();
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+                respond(exchange, 200, out.toByteArray());
+            }
+        });
+        server.createContext("/flaky", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                lastBody = read(exchange.getRequestBody());
+                lastContentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+                if (errorCount.getAndIncrement() == 0) {
+                    respond(exchange, 503, "unavailable".getBytes("UTF-8"));
+                } else {
+                    respond(exchange, 200, "ok".getBytes("UTF-8"));
+                }
+            }
+        });
+        server.createContext("/bad", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                errorCount.incrementAndGet();
+                respond(exchange, 400, "{\"error\":{\"message\":\"bad\",\"type\":\"OAuthException\",\"code\":100}}".getBytes("UTF-8"));
+            }
+        });
+        server.start();
+        baseURL = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    private HttpClientImpl createClient(int retryCount) {
+        ConfigurationBuilder cb = new ConfigurationBuilder();
+        cb.setHttpRetryCount(retryCount);
+        cb.setHttpRetryIntervalSeconds(0);
+        return new HttpClientImpl(cb.build());
+    }
+
+    @Test
+    public void get() throws Exception {
+        HttpClientImpl client = createClient(0);
+        HttpResponse res = client.request(new HttpRequest(RequestMethod.GET, baseURL + "/echo",
+                new HttpParameter[]{new HttpParameter("fields", "id")}, null, null));
+        assertThat(res.getStatusCode(), is(200));
+        assertThat(res.asString(), is("GET fields=id \n"));
+    }
+
+    @Test
+    public void post() throws Exception {
+        HttpClientImpl client = createClient(0);
+        HttpResponse res = client.request(new HttpRequest(RequestMethod.POST, baseURL + "/echo",
+                new HttpParameter[]{new HttpParameter("message", "hello world")}, null, null));
+        assertThat(res.asString(), is("POST null message=hello%20world\n"));
+    }
+
+    @Test
+    public void gzip() throws Exception {
+        HttpClientImpl client = createClient(0);
+        HttpResponse res = client.requestAsync(new HttpRequest(RequestMethod.GET, baseURL + "/gzip", null, null, null)).get();
+        assertThat(res.asJSONObject().getString("id"), is("1"));
+    }
+
+    @Test
+    public void retryOnServerError() throws Exception {
+        HttpClientImpl client = createClient(1);
+        HttpResponse res = client.request(new HttpRequest(RequestMethod.GET, baseURL + "/flaky", null, null, null));
+        assertThat(res.asString(), is("ok\n"));
+        assertThat(errorCount.get(), is(2));
+    }
+
+    @Test
+    public void retryFile() throws Exception {
+        File file = File.createTempFile("facebook4j", ".txt");
+        file.deleteOnExit();
+        FileOutputStream out = new FileOutputStream(file);
+        out.write("file body".getBytes("UTF-8"));
+        out.close();
+        HttpClientImpl client = createClient(1);
+        HttpResponse res = client.request(new HttpRequest(RequestMethod.POST, baseURL + "/flaky",
+                new HttpParameter[]{new HttpParameter("source", file)}, null, null));
+        assertThat(res.asString(), is("ok\n"));
+        assertThat(errorCount.get(), is(2));
+        assertThat(lastBody.contains("file body"), is(true));
+    }
+
+    @Test
+    public void multipart() throws Exception {
+        File file = File.createTempFile("facebook4j", ".txt");
+        file.deleteOnExit();
+        FileOutputStream out = new FileOutputStream(file);
+        out.write("file body".getBytes("UTF-8"));
+        out.close();
+        errorCount.set(1);
+        HttpClientImpl client = createClient(0);
+        client.request(new HttpRequest(RequestMethod.POST, baseURL + "/flaky",
+                new HttpParameter[]{new HttpParameter("message", "hello"), new HttpParameter("source", file)}, null, null));
+        assertThat(lastBody.contains("Content-Disposition: form-data; name=\"message\"\r\n"
+                + "Content-Type: text/plain; charset=UTF-8\r\n\r\nhello\r\n"), is(true));
+        assertThat(lastBody.contains("filename=\"" + file.getName() + "\"\r\n"), is(true));
+        assertThat(lastBody.contains("\r\n\r\nfile body\r\n"), is(true));
+        // the length of a body made of files and values is known up front
+        assertThat(lastContentLength, is(String.valueOf(lastBody.getBytes("UTF-8").length)));
+    }
+
+    @Test
+    public void multipartFailure() throws Exception {
+        File file = File.createTempFile("facebook4j", ".txt");
+        file.delete();
+        HttpClientImpl client = createClient(0);
+        try {
+            client.request(new HttpRequest(RequestMethod.POST, baseURL + "/flaky",
+                    new HttpParameter[]{new HttpParameter("source", file)}, null, null));
+            fail("should throw FacebookException");
+        } catch (FacebookException e) {
+            assertThat(e.getStatusCode(), is(-1));
+        }
+        assertThat(errorCount.get(), is(0));
+    }
+
+    @Test
+    public void sharedClient() throws Exception {
+        HttpClientImpl first = createClient(0);
+        HttpClientImpl second = createClient(0);
+        first.shutdown();
+        first.shutdown();
+        try {
+            first.request(new HttpRequest(RequestMethod.GET, baseURL + "/echo", null, null, null));
+            fail("should throw FacebookException");
+        } catch (FacebookException expected) {
+        }
+        // the client is still in use by the other instance with the same configuration
+        assertThat(second.request(new HttpRequest(RequestMethod.GET, baseURL + "/echo", null, null, null)).getStatusCode(), is(200));
+        second.shutdown();
+        HttpClientImpl third = createClient(0);
+        assertThat(third.request(new HttpRequest(RequestMethod.GET, baseURL + "/echo", null, null, null)).getStatusCode(), is(200));
+        third.shutdown();
+    }
+
+    @Test
+    public void noRetryOfStream() throws Exception {
+        HttpClientImpl client = createClient(1);
+        try {
+            client.request(new HttpRequest(RequestMethod.POST, baseURL + "/flaky",
+                    new HttpParameter[]{new HttpParameter("source", "a.txt", new ByteArrayInputStream("stream".getBytes("UTF-8")))},
+                    null, null));
+            fail("should throw FacebookException");
+        } catch (FacebookException e) {
+            assertThat(e.getStatusCode(), is(503));
+        }
+        assertThat(errorCount.get(), is(1));
+    }
+
+    @Test
+    public void noRetryOnBadRequest() throws Exception {
+        HttpClientImpl client = createClient(3);
+        try {
+            client.request(new HttpRequest(RequestMethod.GET, baseURL + "/bad", null, null, null));
+            fail("should throw FacebookException");
+        } catch (FacebookException e) {
+            assertThat(e.getStatusCode(), is(400));
+            assertThat(e.getErrorCode(), is(100));
+        }
+        assertThat(errorCount.get(), is(1));
+    }
+
+    private static String read(InputStream is) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[1024];
+        int count;
+        while ((count = is.read(buf)) != -1) {
+            out.write(buf, 0, count);
+        }
+        return out.toString("UTF-8");
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length);
+        OutputStream os = exchange.getResponseBody();
+        os.write(body);
+        os.close();
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an entity implementation for which a decoder class, named after it with a "Decoder" suffix,
+ * is generated in the same package at build time, e.g. Outer_InnerDecoder for a static member class.<br>
+ * The decoder has a public <code>decode(JSONObject)</code> method calling the JSONObject constructor
+ * of the implementation, and, if some fields are annotated with {@link JSONField}, two
+ * <code>bind()</code> methods setting those fields from a JSONObject or from a JSONPullParser.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface JSONDecoder {
+    /**
+     * @return the public interface of the entity, returned by <code>decode(JSONObject)</code>
+     */
+    Class<?> value();
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates a decoder for each class annotated with {@link JSONDecoder}.<br>
+ * The decoders only use static calls and field stores on the concrete class, so the JIT can inline them
+ * and a new entity needs no reflective constructor lookup. Each decoder depends on its own class only,
+ * which keeps incremental compilation right.<br>
+ * The decoder of a static member class is named after its enclosing classes as well,
+ * e.g. Outer_InnerDecoder.
+ */
+public final class JSONDecoderProcessor extends AbstractProcessor {
+
+    private static final String JSON_OBJECT = "facebook4j.internal.org.json.JSONObject";
+    private static final String LAZY_URL = "facebook4j.internal.json.LazyURL";
+
+    /** The conversion of the raw string of a field, by the type of the field. */
+    private static final Map<String, String> CONVERSIONS = new HashMap<String, String>();
+    /** The conversion of a JSON field, by the type of the field. */
+    private static final Map<String, String> GETTERS = new HashMap<String, String>();
+
+    static {
+        conversion("java.lang.String", "", "getRawString");
+        conversion("int", "getPrimitiveInt", "getPrimitiveInt");
+        conversion("java.lang.Integer", "getInt", "getInt");
+        conversion("long", "getPrimitiveLong", "getPrimitiveLong");
+        conversion("java.lang.Long", "getLong", "getLong");
+        conversion("boolean", "getBoolean", "getBoolean");
+        conversion("java.lang.Boolean", "getBoolean", "getBoolean");
+        conversion("double", "getDouble", "getDouble");
+        conversion("java.lang.Double", "getDouble", "getDouble");
+        conversion("java.util.Date", "getISO8601Datetime", "getISO8601Datetime");
+        conversion(LAZY_URL, "LazyURL.valueOf", "LazyURL.of");
+    }
+
+    private static void conversion(String type, String fromString, String fromJSON) {
+        CONVERSIONS.put(type, fromString);
+        GETTERS.put(type, fromJSON);
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(JSONDecoder.class.getName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(JSONDecoder.class)) {
+            TypeElement type = (TypeElement) element;
+            try {
+                generate(type);
+            } catch (IOException ioe) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "cannot write the decoder: " + ioe.getMessage(), type);
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+            error("a nested JSONDecoder class must be static", type);
+            return;
+        }
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL && type.getNestingKind() != NestingKind.MEMBER) {
+            error("a JSONDecoder class must be a top level or a static member class", type);
+            return;
+        }
+        // Outer.Inner, as it is referred to from the package
+        String implName = type.getQualifiedName().toString();
+        if (packageName.length() > 0) {
+            implName = implName.substring(packageName.length() + 1);
+        }
+        String decoderName = implName.replace('.', '_') + "Decoder";
+        String interfaceName = getInterfaceName(type);
+        if (!hasJSONObjectConstructor(type)) {
+            error("needs a non-private constructor taking a JSONObject", type);
+            return;
+        }
+        List<VariableElement> fields = new ArrayList<VariableElement>();
+        Map<String, VariableElement> names = new HashMap<String, VariableElement>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            JSONField jsonField = field.getAnnotation(JSONField.class);
+            if (jsonField == null) {
+                continue;
+            }
+            Set<Modifier> modifiers = field.getModifiers();
+            VariableElement other = names.get(jsonField.value());
+            if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL)
+                    || modifiers.contains(Modifier.STATIC)) {
+                error("a JSONField must be a non-private, non-final instance field", field);
+            } else if (!CONVERSIONS.containsKey(field.asType().toString())) {
+                error("unsupported type of JSONField: " + field.asType(), field);
+            } else if (other != null) {
+                // the streaming binder would get duplicate case labels
+                error("duplicate JSONField \"" + jsonField.value() + "\", already bound to " + other.getSimpleName(), field);
+            } else {
+                names.put(jsonField.value(), field);
+                fields.add(field);
+            }
+        }
+
+        PrintWriter out = new PrintWriter(processingEnv.getFiler()
+                .createSourceFile(packageName + "." + decoderName, type).openWriter());
+        try {
+            out.println("// generated by " + JSONDecoderProcessor.class.getName() + " from " + implName
+                    + ", do not edit");
+            out.println("package " + packageName + ";");
+            out.println();
+            if (!fields.isEmpty()) {
+                out.println("import static facebook4j.internal.util.z_F4JInternalParseUtil.*;");
+                out.println();
+            }
+            out.println("import facebook4j.FacebookException;");
+            if (!fields.isEmpty()) {
+                out.println("import facebook4j.internal.org.json.JSONException;");
+            }
+            out.println("import " + JSON_OBJECT + ";");
+            if (!fields.isEmpty()) {
+                out.println("import facebook4j.internal.org.json.JSONPullParser;");
+            }
+            out.println();
+            out.println("public final class " + decoderName + " {");
+            out.println();
+            out.println("    private " + decoderName + "() {");
+            out.println("        throw new AssertionError();");
+            out.println("    }");
+            out.println();
+            out.println("    public static " + interfaceName + " decode(JSONObject json) throws FacebookException {");
+            out.println("        return new " + implName + "(json);");
+            out.println("    }");
+            if (!fields.isEmpty()) {
+                printBind(out, implName, fields);
+                printStreamingBind(out, implName, fields);
+            }
+            out.println("}");
+        } finally {
+            out.close();
+        }
+    }
+
+    private static void printBind(PrintWriter out, String implName, List<VariableElement> fields) {
+        out.println();
+        out.println("    /*package*/ static void bind(" + implName + " target, JSONObject json) throws FacebookException {");
+        for (VariableElement field : fields) {
+            out.println("        target." + field.getSimpleName() + " = " + GETTERS.get(field.asType().toString())
+                    + "(\"" + field.getAnnotation(JSONField.class).value() + "\", json);");
+        }
+        out.println("    }");
+    }
+
+    private static void printStreamingBind(PrintWriter out, String implName, List<VariableElement> fields) {
+        out.println();
+        out.println("    /**");
+        out.println("     * @param parser positioned on the START_OBJECT of the entity, left on its END_OBJECT");
+        out.println("     */");
+        out.println("    /*package*/ static void bind(" + implName + " target, JSONPullParser parser)");
+        out.println("            throws JSONException, FacebookException {");
+        // a missing field reads as in bind(target, json)
+        for (VariableElement field : fields) {
+            String type = field.asType().toString();
+            if (field.asType().getKind().isPrimitive() || type.equals("java.lang.Boolean")) {
+                out.println("        target." + field.getSimpleName() + " = " + convert(type, "null") + ";");
+            }
+        }
+        out.println("        while (parser.next() == JSONPullParser.Token.FIELD_NAME) {");
+        out.println("            String name = parser.getText();");
+        out.println("            parser.next();");
+        out.println("            switch (name) {");
+        for (VariableElement field : fields) {
+            out.println("                case \"" + field.getAnnotation(JSONField.class).value() + "\":");
+            out.println("                    target." + field.getSimpleName() + " = "
+                    + convert(field.asType().toString(), "parser.getValueAsString()") + ";");
+            out.println("                    break;");
+        }
+        out.println("                default:");
+        out.println("                    parser.skipValue();");
+        out.println("            }");
+        out.println("        }");
+        out.println("    }");
+    }
+
+    private static String convert(String type, String rawString) {
+        String conversion = CONVERSIONS.get(type);
+        return conversion.length() == 0 ? rawString : conversion + "(" + rawString + ")";
+    }
+
+    private String getInterfaceName(TypeElement type) {
+        TypeMirror mirror;
+        try {
+            type.getAnnotation(JSONDecoder.class).value();
+            throw new AssertionError("the class of a source being compiled is never loaded");
+        } catch (MirroredTypeException mte) {
+            mirror = mte.getTypeMirror();
+        }
+        return mirror.toString();
+    }
+
+    private static boolean hasJSONObjectConstructor(TypeElement type) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (!constructor.getModifiers().contains(Modifier.PRIVATE)
+                    && constructor.getParameters().size() == 1
+                    && constructor.getParameters().get(0).asType().toString().equals(JSON_OBJECT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void error(String message, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}